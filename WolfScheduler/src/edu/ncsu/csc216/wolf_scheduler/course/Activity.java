@@ -65,12 +65,22 @@ public abstract class Activity implements Conflict {
 	 * @throws IllegalArgumentException if title is invalid.
 	 */
 	public void setTitle(String title) {
-		if (title == null || title.length() == 0) {
+		if (!isValidTitle(title)) {
 			throw new IllegalArgumentException("Invalid title.");
 		}
 		this.title = title;
 	}
 
+	/**
+	 * Returns true if a title is not null or empty.
+	 * 
+	 * @param title the title to check.
+	 * @return true if the title is valid.
+	 */
+	public static boolean isValidTitle(String title) {
+		return title != null && title.length() != 0;
+	}
+
 	/**
 	 * Sets the meeting days and times for the course. If the course is arranged,
 	 * "A", the times are not displayed. Verifies the meeting days and times.
@@ -81,25 +91,7 @@ public abstract class Activity implements Conflict {
 	 * @throws IllegalArgumentException if any of the times or dates are invalid.
 	 */
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
-		if (endTime < startTime) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
-		}
-
-		int startHour = startTime / 100;
-		int startMin = startTime % 100;
-		int endHour = endTime / 100;
-		int endMin = endTime % 100;
-
-		if (startHour < 0 || startHour >= UPPER_HOUR) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
-		}
-		if (startMin < 0 || startMin >= UPPER_MINUTE) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
-		}
-		if (endHour < 0 || endHour >= UPPER_HOUR) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
-		}
-		if (endMin < 0 || endMin >= UPPER_MINUTE) {
+		if (!isValidTime(startTime) || !isValidTime(endTime) || endTime < startTime) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
 
@@ -108,6 +100,18 @@ public abstract class Activity implements Conflict {
 		this.endTime = endTime;
 	}
 
+	/**
+	 * Returns true if a time is a 24-hour time from 0000 to 2359.
+	 * 
+	 * @param time the time to check.
+	 * @return true if the time is valid.
+	 */
+	public static boolean isValidTime(int time) {
+		int hour = time / 100;
+		int min = time % 100;
+		return hour >= 0 && hour < UPPER_HOUR && min >= 0 && min < UPPER_MINUTE;
+	}
+
 	/**
 	 * Returns the Course's meeting days.
 	 * 
@@ -135,6 +139,17 @@ public abstract class Activity implements Conflict {
 		return endTime;
 	}
 
+	/**
+	 * Converts a military time to the number of minutes past midnight, so that
+	 * durations can be found by subtraction.
+	 * 
+	 * @param time the military time.
+	 * @return the minutes past midnight.
+	 */
+	public static int toMinutes(int time) {
+		return time / 100 * 60 + time % 100;
+	}
+
 	/**
 	 * Returns the meeting days and times in string format.
 	 * 
@@ -157,7 +172,7 @@ public abstract class Activity implements Conflict {
 	 * @return a string representing the time in 12-hour time, with an appended AM
 	 *         or PM.
 	 */
-	private String getTimeString(int time) {
+	public static String getTimeString(int time) {
 		String day = "";
 		if (time < 1200) {
 			day = "AM";
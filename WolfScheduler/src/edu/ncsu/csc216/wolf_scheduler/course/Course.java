@@ -2,7 +2,7 @@ package edu.ncsu.csc216.wolf_scheduler.course;
 
 /**
  * The Course class handles an Object Course and its name, title, section,
- * credits, instructor id, and meeting days/times.
+ * credits, instructor id, meeting days/times, and optional room.
  * 
  * @author Anoushka Piduru
  */
@@ -24,6 +24,8 @@ public class Course extends Activity {
 	private static final int MAX_CREDITS = 5;
 	/** Course's minimum number of credits. */
 	private static final int MIN_CREDITS = 1;
+	/** Maximum length of each of a room's building and number. */
+	private static final int MAX_ROOM_PART_LENGTH = 6;
 	/** Course's name. */
 	private String name;
 	/** Course's section. */
@@ -32,6 +34,8 @@ public class Course extends Activity {
 	private int credits;
 	/** Course's instructor */
 	private String instructorId;
+	/** Course's room, or null if it has none */
+	private String room;
 
 	/**
 	 * Constructs a Course object with values for all fields.
@@ -47,11 +51,30 @@ public class Course extends Activity {
 	 */
 	public Course(String name, String title, String section, int credits, String instructorId, String meetingDays,
 			int startTime, int endTime) {
+		this(name, title, section, credits, instructorId, meetingDays, startTime, endTime, null);
+	}
+
+	/**
+	 * Constructs a Course object with values for all fields and a room.
+	 * 
+	 * @param name         name of Course.
+	 * @param title        title of Course.
+	 * @param section      section of Course.
+	 * @param credits      credit hours for Course.
+	 * @param instructorId instructor's unity id.
+	 * @param meetingDays  meeting days for Course as series of chars.
+	 * @param startTime    start time for Course.
+	 * @param endTime      end time of Course.
+	 * @param room         room the Course meets in, or null if it has none.
+	 */
+	public Course(String name, String title, String section, int credits, String instructorId, String meetingDays,
+			int startTime, int endTime, String room) {
 		super(title, meetingDays, startTime, endTime);
 		setName(name);
 		setSection(section);
 		setCredits(credits);
 		setInstructorId(instructorId);
+		setRoom(room);
 	}
 
 	/**
@@ -88,11 +111,22 @@ public class Course extends Activity {
 	 * @throws IllegalArgumentException if the name parameter is invalid.
 	 */
 	private void setName(String name) {
-		if (name == null || name.length() == 0) {
+		if (!isValidName(name)) {
 			throw new IllegalArgumentException("Invalid course name.");
 		}
-		if (name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
-			throw new IllegalArgumentException("Invalid course name.");
+		this.name = name;
+	}
+
+	/**
+	 * Returns true if a name is 5 to 8 characters long and is 1 to 4 letters, a
+	 * space, and 3 digits.
+	 * 
+	 * @param name the name to check.
+	 * @return true if the name is valid.
+	 */
+	public static boolean isValidName(String name) {
+		if (name == null || name.length() < MIN_NAME_LENGTH || name.length() > MAX_NAME_LENGTH) {
+			return false;
 		}
 
 		int numLetters = 0;
@@ -108,26 +142,18 @@ public class Course extends Activity {
 				} else if (c == ' ') {
 					foundSpace = true;
 				} else {
-					throw new IllegalArgumentException("Invalid course name.");
+					return false;
 				}
 			} else {
 				if (Character.isDigit(c)) {
 					numDigits++;
 				} else {
-					throw new IllegalArgumentException("Invalid course name.");
+					return false;
 				}
 			}
 		}
 
-		if (numLetters < MIN_LETTER_COUNT || numLetters > MAX_LETTER_COUNT) {
-			throw new IllegalArgumentException("Invalid course name.");
-		}
-
-		if (numDigits != DIGIT_COUNT) {
-			throw new IllegalArgumentException("Invalid course name.");
-		}
-
-		this.name = name;
+		return numLetters >= MIN_LETTER_COUNT && numLetters <= MAX_LETTER_COUNT && numDigits == DIGIT_COUNT;
 	}
 
 	/**
@@ -146,17 +172,28 @@ public class Course extends Activity {
 	 * @throws IllegalArgumentException if section is invalid.
 	 */
 	public void setSection(String section) {
-		if (section == null || section.length() != SECTION_LENGTH) {
+		if (!isValidSection(section)) {
 			throw new IllegalArgumentException("Invalid section.");
 		}
+		this.section = section;
+	}
 
+	/**
+	 * Returns true if a section is exactly 3 digits.
+	 * 
+	 * @param section the section to check.
+	 * @return true if the section is valid.
+	 */
+	public static boolean isValidSection(String section) {
+		if (section == null || section.length() != SECTION_LENGTH) {
+			return false;
+		}
 		for (int i = 0; i < section.length(); i++) {
-			char c = section.charAt(i);
-			if (!Character.isDigit(c)) {
-				throw new IllegalArgumentException("Invalid section.");
+			if (!Character.isDigit(section.charAt(i))) {
+				return false;
 			}
 		}
-		this.section = section;
+		return true;
 	}
 
 	/**
@@ -175,12 +212,22 @@ public class Course extends Activity {
 	 * @throws IllegalArgumentException if credits are invalid.
 	 */
 	public void setCredits(int credits) {
-		if (credits < MIN_CREDITS || credits > MAX_CREDITS) {
+		if (!isValidCredits(credits)) {
 			throw new IllegalArgumentException("Invalid credits.");
 		}
 		this.credits = credits;
 	}
 
+	/**
+	 * Returns true if credits are between 1 and 5.
+	 * 
+	 * @param credits the credits to check.
+	 * @return true if the credits are valid.
+	 */
+	public static boolean isValidCredits(int credits) {
+		return credits >= MIN_CREDITS && credits <= MAX_CREDITS;
+	}
+
 	/**
 	 * Returns the Course's instructor id.
 	 * 
@@ -197,13 +244,98 @@ public class Course extends Activity {
 	 * @throws IllegalArgumentException if instructor id is invalid.
 	 */
 	public void setInstructorId(String instructorId) {
-		if (instructorId == null || instructorId.length() == 0) {
+		if (!isValidInstructorId(instructorId)) {
 			throw new IllegalArgumentException("Invalid instructor id.");
 		}
 
 		this.instructorId = instructorId;
 	}
 
+	/**
+	 * Returns true if an instructor id is not null or empty.
+	 * 
+	 * @param instructorId the instructor id to check.
+	 * @return true if the instructor id is valid.
+	 */
+	public static boolean isValidInstructorId(String instructorId) {
+		return instructorId != null && instructorId.length() != 0;
+	}
+
+	/**
+	 * Returns the Course's room.
+	 * 
+	 * @return the room of the course, or null if it has none.
+	 */
+	public String getRoom() {
+		return room;
+	}
+
+	/**
+	 * Sets the Course's room. A room is a building code of up to six letters and
+	 * digits starting with a letter, a space, and a room number of up to six
+	 * letters and digits starting with a digit, such as "EB2 1011". Arranged
+	 * courses have no room.
+	 * 
+	 * @param room the room to set, or null or empty for none.
+	 * @throws IllegalArgumentException if room is invalid or the course is
+	 *                                  arranged.
+	 */
+	public void setRoom(String room) {
+		if (room == null || room.length() == 0) {
+			this.room = null;
+			return;
+		}
+		if ("A".equals(getMeetingDays())) {
+			throw new IllegalArgumentException("Invalid room.");
+		}
+		if (!isValidRoom(room)) {
+			throw new IllegalArgumentException("Invalid room.");
+		}
+		this.room = room;
+	}
+
+	/**
+	 * Returns true if a room is a building code of up to six letters and digits
+	 * starting with a letter, a space, and a room number of up to six letters and
+	 * digits starting with a digit.
+	 * 
+	 * @param room the room to check.
+	 * @return true if the room is valid.
+	 */
+	public static boolean isValidRoom(String room) {
+		if (room == null) {
+			return false;
+		}
+		int space = room.indexOf(' ');
+		return isRoomPart(room, 0, space, true) && isRoomPart(room, space + 1, room.length(), false);
+	}
+
+	/**
+	 * Checks one part of a room: a building code starting with a letter or a room
+	 * number starting with a digit, made of letters and digits.
+	 * 
+	 * @param room     the room.
+	 * @param start    the index of the first character of the part.
+	 * @param end      the index after the last character of the part.
+	 * @param building true for the building code, false for the room number.
+	 * @return true if the part is valid.
+	 */
+	private static boolean isRoomPart(String room, int start, int end, boolean building) {
+		if (start < 0 || end <= start || end - start > MAX_ROOM_PART_LENGTH) {
+			return false;
+		}
+		char first = room.charAt(start);
+		if (building ? !Character.isLetter(first) : !Character.isDigit(first)) {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if (!Character.isLetterOrDigit(room.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Returns a comma separated value String of all Course fields.
 	 * 
@@ -215,8 +347,9 @@ public class Course extends Activity {
 			return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + ","
 					+ getMeetingDays();
 		}
-		return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays()
-				+ "," + getStartTime() + "," + getEndTime();
+		String record = name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + ","
+				+ getMeetingDays() + "," + getStartTime() + "," + getEndTime();
+		return room == null ? record : record + "," + room;
 	}
 
 	/**
@@ -232,6 +365,7 @@ public class Course extends Activity {
 		result = prime * result + credits;
 		result = prime * result + ((instructorId == null) ? 0 : instructorId.hashCode());
 		result = prime * result + ((name == null) ? 0 : name.hashCode());
+		result = prime * result + ((room == null) ? 0 : room.hashCode());
 		result = prime * result + ((section == null) ? 0 : section.hashCode());
 		return result;
 	}
@@ -264,6 +398,11 @@ public class Course extends Activity {
 				return false;
 		} else if (!name.equals(other.name))
 			return false;
+		if (room == null) {
+			if (other.room != null)
+				return false;
+		} else if (!room.equals(other.room))
+			return false;
 		if (section == null) {
 			if (other.section != null)
 				return false;
@@ -326,38 +465,30 @@ public class Course extends Activity {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
 		if ("A".equals(meetingDays)) {
-			if (startTime != 0 || endTime != 0) {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-		} else {
-			int monCount = 0;
-			int tueCount = 0;
-			int wedCount = 0;
-			int thuCount = 0;
-			int friCount = 0;
-			for (int i = 0; i < meetingDays.length(); i++) {
-				char c = meetingDays.charAt(i);
-				if (c == 'M') {
-					monCount++;
-				} else if (c == 'T') {
-					tueCount++;
-				} else if (c == 'W') {
-					wedCount++;
-				} else if (c == 'H') {
-					thuCount++;
-				} else if (c == 'F') {
-					friCount++;
-				} else {
-					throw new IllegalArgumentException("Invalid meeting days and times.");
-				}
-			}
-			if (monCount > 1 || tueCount > 1 || wedCount > 1 || thuCount > 1 || friCount > 1) {
+			if (startTime != 0 || endTime != 0 || room != null) {
 				throw new IllegalArgumentException("Invalid meeting days and times.");
 			}
+		} else if (!isValidMeetingDays(meetingDays)) {
+			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
 		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
 	}
 
+	/**
+	 * Returns true if meeting days are "A" for arranged or one or more of M, T, W,
+	 * H, and F with no day repeated.
+	 * 
+	 * @param meetingDays the meeting days to check.
+	 * @return true if the meeting days are valid for a course.
+	 */
+	public static boolean isValidMeetingDays(String meetingDays) {
+		if (MeetingDays.ARRANGED.equals(meetingDays)) {
+			return true;
+		}
+		int mask = MeetingDays.toMask(meetingDays);
+		return mask > 0 && (mask & ~MeetingDays.WEEKDAYS) == 0;
+	}
+
 	/**
 	 * Determines if the course is a duplicate of an existing activity.
 	 * 
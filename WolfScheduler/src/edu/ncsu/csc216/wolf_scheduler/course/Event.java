@@ -106,39 +106,7 @@ public class Event extends Activity {
 	 */
 	@Override
 	public void setMeetingDaysAndTime(String meetingDays, int startTime, int endTime) {
-		if (meetingDays == null || meetingDays.length() == 0) {
-			throw new IllegalArgumentException("Invalid meeting days and times.");
-		}
-
-		int monCount = 0;
-		int tueCount = 0;
-		int wedCount = 0;
-		int thuCount = 0;
-		int friCount = 0;
-		int satCount = 0;
-		int sunCount = 0;
-		for (int i = 0; i < meetingDays.length(); i++) {
-			char c = meetingDays.charAt(i);
-			if (c == 'M') {
-				monCount++;
-			} else if (c == 'T') {
-				tueCount++;
-			} else if (c == 'W') {
-				wedCount++;
-			} else if (c == 'H') {
-				thuCount++;
-			} else if (c == 'F') {
-				friCount++;
-			} else if (c == 'S') {
-				satCount++;
-			} else if (c == 'U') {
-				sunCount++;
-			} else {
-				throw new IllegalArgumentException("Invalid meeting days and times.");
-			}
-		}
-		if (monCount > 1 || tueCount > 1 || wedCount > 1 || thuCount > 1 || friCount > 1 || satCount > 1
-				|| sunCount > 1) {
+		if (MeetingDays.toMask(meetingDays) <= 0) {
 			throw new IllegalArgumentException("Invalid meeting days and times.");
 		}
 		super.setMeetingDaysAndTime(meetingDays, startTime, endTime);
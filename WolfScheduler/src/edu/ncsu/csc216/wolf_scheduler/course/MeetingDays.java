@@ -0,0 +1,90 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+/**
+ * The MeetingDays class converts meeting day strings such as "MWF" into
+ * bitmasks with one bit per weekday, so that sets of days can be compared with
+ * bit operations instead of character searches.
+ *
+ * @author Anoushka Piduru
+ */
+public final class MeetingDays {
+
+	/** Bit for Monday. */
+	public static final int MONDAY = 1;
+	/** Bit for Tuesday. */
+	public static final int TUESDAY = 1 << 1;
+	/** Bit for Wednesday. */
+	public static final int WEDNESDAY = 1 << 2;
+	/** Bit for Thursday. */
+	public static final int THURSDAY = 1 << 3;
+	/** Bit for Friday. */
+	public static final int FRIDAY = 1 << 4;
+	/** Bit for Saturday. */
+	public static final int SATURDAY = 1 << 5;
+	/** Bit for Sunday. */
+	public static final int SUNDAY = 1 << 6;
+	/** Bits for Monday through Friday, the days a course may meet. */
+	public static final int WEEKDAYS = MONDAY | TUESDAY | WEDNESDAY | THURSDAY | FRIDAY;
+	/** Number of distinct day bits. */
+	public static final int DAY_COUNT = 7;
+	/** Value returned for a meeting day string that is not valid. */
+	public static final int INVALID = -1;
+	/** Meeting days string for arranged activities. */
+	public static final String ARRANGED = "A";
+	/** Number of characters in the day bit table. */
+	private static final int TABLE_SIZE = 128;
+	/** Bit for each ASCII meeting day character, or 0 if it is not a day. */
+	private static final byte[] DAY_BITS = new byte[TABLE_SIZE];
+
+	static {
+		DAY_BITS['M'] = MONDAY;
+		DAY_BITS['T'] = TUESDAY;
+		DAY_BITS['W'] = WEDNESDAY;
+		DAY_BITS['H'] = THURSDAY;
+		DAY_BITS['F'] = FRIDAY;
+		DAY_BITS['S'] = SATURDAY;
+		DAY_BITS['U'] = SUNDAY;
+	}
+
+	/**
+	 * MeetingDays only has static helpers.
+	 */
+	private MeetingDays() {
+	}
+
+	/**
+	 * Returns the bit for a single meeting day character.
+	 *
+	 * @param day the meeting day character.
+	 * @return the bit for the day, or 0 if the character is not a day.
+	 */
+	public static int toBit(char day) {
+		return day < TABLE_SIZE ? DAY_BITS[day] : 0;
+	}
+
+	/**
+	 * Returns the bitmask for a meeting days string. Arranged ("A") and empty
+	 * strings have no days and return 0.
+	 *
+	 * @param meetingDays the meeting days string.
+	 * @return the bitmask of the days, or INVALID if the string is null, holds a
+	 *         character that is not a day, or repeats a day.
+	 */
+	public static int toMask(String meetingDays) {
+		if (meetingDays == null) {
+			return INVALID;
+		}
+		if (ARRANGED.equals(meetingDays)) {
+			return 0;
+		}
+		int mask = 0;
+		for (int i = 0; i < meetingDays.length(); i++) {
+			int bit = toBit(meetingDays.charAt(i));
+			if (bit == 0 || (mask & bit) != 0) {
+				return INVALID;
+			}
+			mask |= bit;
+		}
+		return mask;
+	}
+}
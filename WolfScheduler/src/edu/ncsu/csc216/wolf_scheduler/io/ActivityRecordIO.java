@@ -1,14 +1,22 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
 
 /**
- * Writes activities to file.
+ * Writes activities to file and reads them back.
  * 
  * @author Anoushka Piduru
  */
@@ -31,4 +39,70 @@ public class ActivityRecordIO {
 		fileWriter.close();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Reads activity records written by writeActivityRecords() and passes each
+	 * valid Activity to the consumer as it is read, without holding the whole
+	 * file in memory. Course records are resolved against the catalog, so the
+	 * consumer receives the catalog's Course; Course records missing from the
+	 * catalog and invalid lines are skipped.
+	 * 
+	 * @param fileName file to read activity records from
+	 * @param catalog  returns the catalog Course with a name and section, or null
+	 * @param consumer receives each Activity in file order
+	 * @return the number of lines skipped
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static int readActivityRecords(String fileName, BiFunction<String, String, Course> catalog,
+			Consumer<Activity> consumer) throws FileNotFoundException {
+		int skipped = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName)))) {
+			String line = reader.readLine();
+			while (line != null) {
+				Activity activity = readActivity(line, catalog);
+				if (activity == null) {
+					skipped++;
+				} else {
+					consumer.accept(activity);
+				}
+				line = reader.readLine();
+			}
+		} catch (FileNotFoundException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new FileNotFoundException("Cannot read " + fileName);
+		}
+		return skipped;
+	}
+
+	/**
+	 * Reads a single activity record. A line is read as a Course if it is a valid
+	 * course record found in the catalog, and otherwise as an Event. Event
+	 * details may contain commas.
+	 * 
+	 * @param line    the activity record
+	 * @param catalog returns the catalog Course with a name and section, or null
+	 * @return the Activity, or null if the line is not a valid record
+	 */
+	private static Activity readActivity(String line, BiFunction<String, String, Course> catalog) {
+		try {
+			Course course = CourseRecordIO.readCourse(line);
+			Course found = catalog.apply(course.getName(), course.getSection());
+			if (found != null) {
+				return found;
+			}
+		} catch (IllegalArgumentException e) {
+			// Not a course record; try it as an event
+		}
+
+		String[] tokens = line.split(",", 5);
+		if (tokens.length != 5) {
+			return null;
+		}
+		try {
+			return new Event(tokens[0], tokens[1], Integer.parseInt(tokens[2]), Integer.parseInt(tokens[3]),
+					tokens[4]);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
@@ -3,7 +3,7 @@ package edu.ncsu.csc216.wolf_scheduler.io;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.Scanner;
-import java.io.FileInputStream;
+import java.util.stream.Stream;
 import java.util.NoSuchElementException;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
@@ -27,41 +27,71 @@ public class CourseRecordIO {
 	 * @throws FileNotFoundException if the file cannot be found or read
 	 */
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
-		Scanner fileReader = new Scanner(new FileInputStream(fileName));
-		ArrayList<Course> courses = new ArrayList<Course>();
-		while (fileReader.hasNextLine()) {
-			try {
-				Course course = readCourse(fileReader.nextLine());
+		return readCourseRecords(fileName, new StringPool());
+	}
 
-				boolean duplicate = false;
-				for (int i = 0; i < courses.size(); i++) {
-					Course current = courses.get(i);
-					if (course.getName().equals(current.getName())
-							&& course.getSection().equals(current.getSection())) {
-						duplicate = true;
-						break;
-					}
-				}
-				if (!duplicate) {
-					courses.add(course);
-				}
-			} catch (IllegalArgumentException e) {
-				// Don't do anything here
+	/**
+	 * Reads course records from a file and generates a list of valid Courses,
+	 * sharing repeated Strings through the given pool. Any invalid Courses are
+	 * ignored. If the file to read cannot be found or the permissions are
+	 * incorrect a File NotFoundException is thrown.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @param pool     pool shared by the Strings of the catalog's Courses
+	 * @return a list of valid Courses
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecords(String fileName, StringPool pool) throws FileNotFoundException {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		try (CourseRecordIterator records = new CourseRecordIterator(fileName, pool, true)) {
+			while (records.hasNext()) {
+				courses.add(records.next());
 			}
 		}
-
-		fileReader.close();
 		return courses;
 	}
 
 	/**
-	 * Reads the list of Courses
+	 * Returns a lazy stream of the valid Courses in a file, read one line at a
+	 * time. Invalid lines are skipped and, if dedupe is on, so are courses with
+	 * the same name and section as an earlier course. The stream holds the file
+	 * open until it is closed, so use it in a try-with-resources block.
+	 * 
+	 * @param fileName file to read Course records from
+	 * @param pool     pool shared by the Strings of the Courses read
+	 * @param dedupe   whether to skip duplicate courses
+	 * @return a stream of the valid Courses in file order
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static Stream<Course> streamCourseRecords(String fileName, StringPool pool, boolean dedupe)
+			throws FileNotFoundException {
+		return new CourseRecordIterator(fileName, pool, dedupe).stream();
+	}
+
+	/**
+	 * Reads a single Course record without pooling its Strings, for records that
+	 * are only checked or looked up. Lines read into a catalog, such as when it
+	 * is loaded in the background, go through readCourse(line, pool) with the
+	 * catalog's pool.
+	 * 
+	 * @param line each line in the list of Courses
+	 * @return a newly constructed Course object
+	 * @throws IllegalArgumentException if too many tokens are input
+	 */
+	public static Course readCourse(String line) {
+		return readCourse(line, StringPool.unpooled());
+	}
+
+	/**
+	 * Reads a single Course record, sharing repeated Strings through the given
+	 * pool. A course that is not arranged may end with an optional room.
 	 * 
 	 * @param line each line in the list of Courses
+	 * @param pool pool shared by the Strings of the catalog's Courses
 	 * @return a newly constructed Course object
 	 * @throws IllegalArgumentException if too many tokens are input
 	 */
-	private static Course readCourse(String line) {
+	public static Course readCourse(String line, StringPool pool) {
 		Scanner scnr = new Scanner(line);
 		scnr.useDelimiter(",");
 
@@ -69,12 +99,12 @@ public class CourseRecordIO {
 		int endTime = 0;
 
 		try {
-			String name = scnr.next();
-			String title = scnr.next();
-			String section = scnr.next();
+			String name = pool.intern(scnr.next());
+			String title = pool.intern(scnr.next());
+			String section = pool.intern(scnr.next());
 			int credits = scnr.nextInt();
-			String instructorId = scnr.next();
-			String meetingDays = scnr.next();
+			String instructorId = pool.intern(scnr.next());
+			String meetingDays = pool.intern(scnr.next());
 
 			if ("A".equals(meetingDays)) {
 				if (scnr.hasNext()) {
@@ -88,13 +118,17 @@ public class CourseRecordIO {
 				startTime = scnr.nextInt();
 				endTime = scnr.nextInt();
 			}
+			String room = null;
+			if (scnr.hasNext()) {
+				room = pool.intern(scnr.next());
+			}
 			if (scnr.hasNext()) {
 				scnr.close();
 				throw new IllegalArgumentException("Invalid token number");
 			}
 
 			scnr.close();
-			return new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime);
+			return new Course(name, title, section, credits, instructorId, meetingDays, startTime, endTime, room);
 		} catch (NoSuchElementException e) {
 			throw new IllegalArgumentException("Invalid token number");
 		}
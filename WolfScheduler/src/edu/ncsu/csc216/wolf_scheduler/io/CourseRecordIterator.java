@@ -0,0 +1,219 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.profiling.CatalogLoadEvent;
+import edu.ncsu.csc216.wolf_scheduler.profiling.ProfilingEvent;
+
+/**
+ * The CourseRecordIterator class reads the valid Courses of a course records
+ * file one at a time, so a tool that only counts or summarizes a catalog never
+ * holds more than one line in memory. Invalid lines are skipped as they are
+ * read. Duplicate courses, with the same name and section as an earlier
+ * course, are skipped if dedupe is on; the name and section of each course are
+ * then kept, which is the only memory that grows with the file. The file is
+ * closed when the last course is read, when close() is called, or when a
+ * stream() is closed, so use the iterator in a try-with-resources block.
+ *
+ * @author Anoushka Piduru
+ */
+public class CourseRecordIterator implements Iterator<Course>, AutoCloseable {
+
+	/** The file being read. */
+	private String fileName;
+	/** Reader over the file, or null once closed. */
+	private BufferedReader reader;
+	/** Pool shared by the Strings of the Courses read. */
+	private StringPool pool;
+	/** Names and sections of the courses read, or null if not deduping. */
+	private HashSet<String> seen;
+	/** The next valid course, or null if it has not been read. */
+	private Course next;
+	/** Flight Recorder event for the read. */
+	private CatalogLoadEvent event;
+	/** Whether the phases of the read are being timed. */
+	private boolean timed;
+	/** Number of characters read, counting a line break after each line. */
+	private volatile long charsRead;
+
+	/**
+	 * Opens a course records file for reading.
+	 *
+	 * @param fileName the file to read Course records from.
+	 * @param pool     pool shared by the Strings of the Courses read.
+	 * @param dedupe   whether to skip courses with the name and section of an
+	 *                 earlier course.
+	 * @throws FileNotFoundException if the file cannot be found or read.
+	 */
+	public CourseRecordIterator(String fileName, StringPool pool, boolean dedupe) throws FileNotFoundException {
+		this.fileName = fileName;
+		this.reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName)));
+		this.pool = pool;
+		this.seen = dedupe ? new HashSet<>() : null;
+		event = new CatalogLoadEvent();
+		timed = event.isEnabled();
+		event.begin();
+	}
+
+	/**
+	 * Returns true if another valid course is left in the file, reading ahead to
+	 * find it.
+	 *
+	 * @return true if next() will return a course.
+	 * @throws UncheckedIOException if the file cannot be read.
+	 */
+	@Override
+	public boolean hasNext() {
+		while (next == null && reader != null) {
+			long readStart = ProfilingEvent.mark(timed);
+			String line = readLine();
+			long parseStart = ProfilingEvent.mark(timed);
+			event.readTime += parseStart - readStart;
+			if (line == null) {
+				close();
+				break;
+			}
+			event.lines++;
+			Course course;
+			try {
+				course = CourseRecordIO.readCourse(line, pool);
+			} catch (IllegalArgumentException e) {
+				event.invalid++;
+				event.parseTime += ProfilingEvent.mark(timed) - parseStart;
+				continue;
+			}
+			long dedupeStart = ProfilingEvent.mark(timed);
+			event.parseTime += dedupeStart - parseStart;
+			if (seen == null || seen.add(course.getName() + "," + course.getSection())) {
+				next = course;
+				event.courses++;
+			} else {
+				event.duplicates++;
+			}
+			event.dedupeTime += ProfilingEvent.mark(timed) - dedupeStart;
+		}
+		return next != null;
+	}
+
+	/**
+	 * Returns the next valid course in the file.
+	 *
+	 * @return the next course.
+	 * @throws NoSuchElementException if no courses are left.
+	 * @throws UncheckedIOException   if the file cannot be read.
+	 */
+	@Override
+	public Course next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more courses.");
+		}
+		Course course = next;
+		next = null;
+		return course;
+	}
+
+	/**
+	 * Returns the number of lines read so far.
+	 *
+	 * @return the lines read.
+	 */
+	public int getLinesRead() {
+		return event.lines;
+	}
+
+	/**
+	 * Returns the number of characters read so far, counting a line break after
+	 * each line, so a caller can report progress through the file.
+	 *
+	 * @return the characters read.
+	 */
+	public long getCharsRead() {
+		return charsRead;
+	}
+
+	/**
+	 * Returns the number of lines skipped so far because they were not valid
+	 * courses.
+	 *
+	 * @return the invalid lines.
+	 */
+	public int getInvalidLines() {
+		return event.invalid;
+	}
+
+	/**
+	 * Returns the number of courses skipped so far as duplicates.
+	 *
+	 * @return the duplicate courses.
+	 */
+	public int getDuplicates() {
+		return event.duplicates;
+	}
+
+	/**
+	 * Returns the remaining courses as a sequential stream. Closing the stream
+	 * closes the file.
+	 *
+	 * @return a stream of the remaining courses.
+	 */
+	public Stream<Course> stream() {
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * Closes the file. Closing an iterator more than once has no effect.
+	 *
+	 * @throws UncheckedIOException if the file cannot be closed.
+	 */
+	@Override
+	public void close() {
+		if (reader == null) {
+			return;
+		}
+		try {
+			reader.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			reader = null;
+			if (event.shouldCommit()) {
+				event.fileName = fileName;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Reads the next line of the file.
+	 *
+	 * @return the line, or null at the end of the file.
+	 * @throws UncheckedIOException if the file cannot be read.
+	 */
+	private String readLine() {
+		try {
+			String line = reader.readLine();
+			if (line != null) {
+				charsRead += line.length() + 1;
+			}
+			return line;
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,348 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.RecordDiagnostic.Rule;
+
+/**
+ * The CourseRecordValidator class explains why lines of a course records file
+ * are not loaded. Where CourseRecordIO stops at the first problem with a line
+ * and skips it, the validator checks every rule of every field and reports each
+ * problem as a RecordDiagnostic. A line is valid exactly when CourseRecordIO
+ * would read it, and a valid course with the name and section of an earlier
+ * one is reported as a duplicate.
+ *
+ * Lines are split and checked without Scanner or exceptions, in blocks spread
+ * across a pool of threads. Duplicates are then found in one pass in file
+ * order, since the first of them is the one that is loaded.
+ *
+ * @author Anoushka Piduru
+ */
+public class CourseRecordValidator {
+
+	/** Number of lines checked together by one task. */
+	private static final int BLOCK_SIZE = 4096;
+	/** Number of fields of an arranged course. */
+	private static final int ARRANGED_FIELDS = 6;
+	/** Number of fields of a course with meeting times. */
+	private static final int TIMED_FIELDS = 8;
+	/** Number of fields of a course with meeting times and a room. */
+	private static final int ROOM_FIELDS = 9;
+	/** Value returned by parseInt() for a token that is not a whole number. */
+	private static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+	/** Number of threads used to check lines. */
+	private int parallelism;
+
+	/**
+	 * Constructs a CourseRecordValidator that uses one thread per processor.
+	 */
+	public CourseRecordValidator() {
+		parallelism = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Returns the number of threads used to check lines.
+	 *
+	 * @return the number of threads.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Sets the number of threads used to check lines.
+	 *
+	 * @param threads the number of threads.
+	 * @throws IllegalArgumentException if threads is less than 1.
+	 */
+	public void setParallelism(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Invalid parallelism.");
+		}
+		parallelism = threads;
+	}
+
+	/**
+	 * Validates every line of a course records file.
+	 *
+	 * @param fileName the file to validate.
+	 * @return the report of the file.
+	 * @throws FileNotFoundException if the file cannot be found or read.
+	 * @throws UncheckedIOException  if the file cannot be read.
+	 */
+	public ValidationReport validate(String fileName) throws FileNotFoundException {
+		long start = System.nanoTime();
+		ArrayList<String> lines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName)))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		} catch (FileNotFoundException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return validate(fileName, lines, start);
+	}
+
+	/**
+	 * Validates lines already read from a course records file.
+	 *
+	 * @param fileName the file the lines were read from.
+	 * @param lines    the lines of the file.
+	 * @return the report of the lines.
+	 */
+	public ValidationReport validate(String fileName, List<String> lines) {
+		return validate(fileName, lines, System.nanoTime());
+	}
+
+	/**
+	 * Checks the lines in parallel blocks, then finds duplicates in file order.
+	 *
+	 * @param fileName the file the lines were read from.
+	 * @param lines    the lines of the file.
+	 * @param start    when validation started, from System.nanoTime().
+	 * @return the report of the lines.
+	 */
+	private ValidationReport validate(String fileName, List<String> lines, long start) {
+		int n = lines.size();
+		String[] keys = new String[n];
+		int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		// One slot per block, each set by its own task; the join publishes them
+		List<List<RecordDiagnostic>> found = new ArrayList<>(Collections.nCopies(blocks, null));
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(b -> {
+				ArrayList<RecordDiagnostic> diagnostics = new ArrayList<>();
+				int end = Math.min(n, (b + 1) * BLOCK_SIZE);
+				for (int i = b * BLOCK_SIZE; i < end; i++) {
+					keys[i] = validateLine(lines.get(i), i + 1, diagnostics);
+				}
+				found.set(b, diagnostics);
+			})).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Validation was interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Validation failed.", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		ArrayList<RecordDiagnostic> diagnostics = new ArrayList<>();
+		for (List<RecordDiagnostic> block : found) {
+			diagnostics.addAll(block);
+		}
+		int invalidLines = 0;
+		boolean duplicates = false;
+		HashMap<String, Integer> firstLine = new HashMap<>();
+		for (int i = 0; i < n; i++) {
+			if (keys[i] == null) {
+				invalidLines++;
+			} else {
+				Integer first = firstLine.putIfAbsent(keys[i], i + 1);
+				if (first != null) {
+					diagnostics.add(new RecordDiagnostic(i + 1, Rule.DUPLICATE, "line " + first));
+					duplicates = true;
+				}
+			}
+		}
+		if (duplicates) {
+			Collections.sort(diagnostics);
+		}
+		return new ValidationReport(fileName, n, invalidLines, diagnostics, System.nanoTime() - start);
+	}
+
+	/**
+	 * Checks every rule of a single course record, the same rules that
+	 * CourseRecordIO.readCourse() applies.
+	 *
+	 * @param line        the course record.
+	 * @param lineNumber  the line number of the record, starting at 1.
+	 * @param diagnostics the list each problem found is added to.
+	 * @return the name and section of the course, separated by a comma, if the
+	 *         record is valid, or null if it is not.
+	 */
+	public static String validateLine(String line, int lineNumber, List<RecordDiagnostic> diagnostics) {
+		int before = diagnostics.size();
+		String[] tokens = split(line);
+		int count = tokens.length;
+
+		String name = token(tokens, 0);
+		if (name != null && !Course.isValidName(name)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.NAME, name));
+		}
+		String title = token(tokens, 1);
+		if (title != null && !Activity.isValidTitle(title)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.TITLE, title));
+		}
+		String section = token(tokens, 2);
+		if (section != null && !Course.isValidSection(section)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.SECTION, section));
+		}
+		String creditsToken = token(tokens, 3);
+		long credits = parseInt(creditsToken);
+		if (creditsToken != null && credits == NOT_A_NUMBER) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.CREDITS_NOT_NUMBER, creditsToken));
+		} else if (creditsToken != null && !Course.isValidCredits((int) credits)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.CREDITS, creditsToken));
+		}
+		String instructorId = token(tokens, 4);
+		if (instructorId != null && !Course.isValidInstructorId(instructorId)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.INSTRUCTOR_ID, instructorId));
+		}
+		String meetingDays = token(tokens, 5);
+		if (meetingDays != null && !Course.isValidMeetingDays(meetingDays)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.MEETING_DAYS, meetingDays));
+		}
+
+		boolean arranged = "A".equals(meetingDays);
+		if (!arranged) {
+			checkTimes(tokens, lineNumber, diagnostics);
+			String room = token(tokens, ROOM_FIELDS - 1);
+			if (room != null && room.length() != 0 && !Course.isValidRoom(room)) {
+				diagnostics.add(new RecordDiagnostic(lineNumber, Rule.ROOM, room));
+			}
+		}
+
+		// An arranged course has no times or room, so its record ends sooner
+		int maxFields = arranged ? ARRANGED_FIELDS : ROOM_FIELDS;
+		if (count < ARRANGED_FIELDS || (!arranged && count < TIMED_FIELDS)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.TOO_FEW_FIELDS, null));
+		} else if (count > maxFields) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.TOO_MANY_FIELDS, tokens[maxFields]));
+		}
+
+		if (diagnostics.size() != before) {
+			Collections.sort(diagnostics.subList(before, diagnostics.size()));
+			return null;
+		}
+		return name + "," + section;
+	}
+
+	/**
+	 * Checks the start and end times of a course that is not arranged.
+	 *
+	 * @param tokens      the fields of the record.
+	 * @param lineNumber  the line number of the record.
+	 * @param diagnostics the list each problem found is added to.
+	 */
+	private static void checkTimes(String[] tokens, int lineNumber, List<RecordDiagnostic> diagnostics) {
+		String startToken = token(tokens, ARRANGED_FIELDS);
+		String endToken = token(tokens, ARRANGED_FIELDS + 1);
+		long startTime = parseInt(startToken);
+		long endTime = parseInt(endToken);
+		boolean startValid = false;
+		boolean endValid = false;
+		if (startToken != null && startTime == NOT_A_NUMBER) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.START_TIME_NOT_NUMBER, startToken));
+		} else if (startToken != null && !Activity.isValidTime((int) startTime)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.START_TIME, startToken));
+		} else {
+			startValid = startToken != null;
+		}
+		if (endToken != null && endTime == NOT_A_NUMBER) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.END_TIME_NOT_NUMBER, endToken));
+		} else if (endToken != null && !Activity.isValidTime((int) endTime)) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.END_TIME, endToken));
+		} else {
+			endValid = endToken != null;
+		}
+		if (startValid && endValid && endTime < startTime) {
+			diagnostics.add(new RecordDiagnostic(lineNumber, Rule.TIME_ORDER, endToken));
+		}
+	}
+
+	/**
+	 * Splits a record into fields the way a Scanner delimited by commas does: a
+	 * single comma at the start or end of the record does not begin a field, but
+	 * each comma after it does.
+	 *
+	 * @param line the record.
+	 * @return the fields of the record.
+	 */
+	static String[] split(String line) {
+		ArrayList<String> tokens = new ArrayList<>(ROOM_FIELDS);
+		int pos = 0;
+		int length = line.length();
+		while (true) {
+			if (pos < length && line.charAt(pos) == ',') {
+				pos++;
+			}
+			if (pos >= length) {
+				break;
+			}
+			int end = line.indexOf(',', pos);
+			if (end < 0) {
+				end = length;
+			}
+			tokens.add(line.substring(pos, end));
+			pos = end;
+		}
+		return tokens.toArray(new String[tokens.size()]);
+	}
+
+	/**
+	 * Returns a field of a record.
+	 *
+	 * @param tokens the fields of the record.
+	 * @param index  the index of the field.
+	 * @return the field, or null if the record is too short to have it.
+	 */
+	private static String token(String[] tokens, int index) {
+		return index < tokens.length ? tokens[index] : null;
+	}
+
+	/**
+	 * Parses a field the way Scanner.nextInt() does: an optional sign followed by
+	 * decimal digits, in the range of an int.
+	 *
+	 * @param token the field.
+	 * @return the value, or NOT_A_NUMBER if the field is null or not a whole
+	 *         number.
+	 */
+	static long parseInt(String token) {
+		if (token == null || token.length() == 0) {
+			return NOT_A_NUMBER;
+		}
+		int i = 0;
+		boolean negative = false;
+		if (token.charAt(0) == '+' || token.charAt(0) == '-') {
+			negative = token.charAt(0) == '-';
+			i++;
+		}
+		if (i == token.length()) {
+			return NOT_A_NUMBER;
+		}
+		long value = 0;
+		for (; i < token.length(); i++) {
+			char c = token.charAt(i);
+			if (c < '0' || c > '9') {
+				return NOT_A_NUMBER;
+			}
+			value = value * 10 + (c - '0');
+			if (value > (long) Integer.MAX_VALUE + 1) {
+				return NOT_A_NUMBER;
+			}
+		}
+		value = negative ? -value : value;
+		return value > Integer.MAX_VALUE ? NOT_A_NUMBER : value;
+	}
+}
@@ -0,0 +1,587 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The ICalendarWriter class writes schedules as iCalendar (.ics) calendars
+ * that calendar apps can import. Each activity with meeting days becomes one
+ * VEVENT on its first meeting of the term, repeated weekly on its meeting days
+ * by an RRULE until the last day of the term. Times are written as local
+ * times, so each app shows them in its own time zone. An arranged course has
+ * no meeting times, so it becomes an all-day event on the first day of the
+ * term that does not mark the student busy.
+ *
+ * Every line is written to the underlying Writer as soon as it is formed, so
+ * no calendar is ever held in memory; activities may be written one at a time
+ * while they are still being read. Calendar files are written to a temporary
+ * file beside them and moved into place once complete, so a failed export
+ * leaves any earlier calendar untouched.
+ *
+ * @author Anoushka Piduru
+ */
+public class ICalendarWriter implements Closeable {
+
+	/** Identifies the program that wrote the calendar. */
+	public static final String PRODUCT_ID = "-//NC State University//WolfScheduler//EN";
+	/** File extension of the calendars written by writeCalendars(). */
+	public static final String EXTENSION = ".ics";
+	/** Ends every line, as iCalendar requires. */
+	private static final String LINE_END = "\r\n";
+	/** Longest line in octets before it is folded. */
+	private static final int LINE_OCTETS = 75;
+	/** Domain ending every UID. */
+	private static final String UID_DOMAIN = "@wolfscheduler";
+	/** iCalendar day of each meeting day bit, from Monday to Sunday. */
+	private static final String[] BYDAY = { "MO", "TU", "WE", "TH", "FR", "SA", "SU" };
+
+	/** Where the calendar is written. */
+	private Writer out;
+	/** First day of the term. */
+	private LocalDate firstDay;
+	/** Last day of the term. */
+	private LocalDate lastDay;
+	/** When the calendar was written, in UTC iCalendar form. */
+	private String stamp;
+	/** UID part naming the calendar being written, or null between calendars. */
+	private String calendarId;
+	/** Number of events written to the calendar being written. */
+	private int calendarEvents;
+	/** Number of calendars written. */
+	private int calendars;
+	/** Number of events written. */
+	private int events;
+	/** Octets on the line being written. */
+	private int lineOctets;
+
+	/**
+	 * Constructs an ICalendarWriter for a term.
+	 *
+	 * @param out      where the calendars are written.
+	 * @param firstDay the first day of the term.
+	 * @param lastDay  the last day of the term.
+	 * @throws IllegalArgumentException if out or either day is null, or the
+	 *                                  last day is before the first.
+	 */
+	public ICalendarWriter(Writer out, LocalDate firstDay, LocalDate lastDay) {
+		if (out == null) {
+			throw new IllegalArgumentException("Invalid writer.");
+		}
+		checkTerm(firstDay, lastDay);
+		this.out = out;
+		this.firstDay = firstDay;
+		this.lastDay = lastDay;
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+		stamp = formatDate(now.toLocalDate()) + "T" + pad(now.getHour()) + pad(now.getMinute())
+				+ pad(now.getSecond()) + "Z";
+	}
+
+	/**
+	 * Writes a whole calendar holding some activities.
+	 *
+	 * @param title      the title of the calendar.
+	 * @param activities the activities in the calendar.
+	 * @throws IOException if the calendar cannot be written.
+	 */
+	public void writeCalendar(String title, Iterable<? extends Activity> activities) throws IOException {
+		beginCalendar(title);
+		for (Activity activity : activities) {
+			writeActivity(activity);
+		}
+		endCalendar();
+	}
+
+	/**
+	 * Starts a calendar. Activities are then written with writeActivity() and
+	 * the calendar is finished with endCalendar().
+	 *
+	 * @param title the title of the calendar.
+	 * @throws IOException           if the calendar cannot be written.
+	 * @throws IllegalStateException if a calendar has been started and not
+	 *                               ended.
+	 */
+	public void beginCalendar(String title) throws IOException {
+		if (calendarId != null) {
+			throw new IllegalStateException("Calendar not ended.");
+		}
+		String name = title == null ? "" : title;
+		calendarId = toUidPart(name);
+		calendarEvents = 0;
+		writeLine("BEGIN:VCALENDAR");
+		writeLine("VERSION:2.0");
+		writeLine("PRODID:" + PRODUCT_ID);
+		writeLine("CALSCALE:GREGORIAN");
+		writeLine("METHOD:PUBLISH");
+		writeLine("X-WR-CALNAME:" + escape(name));
+	}
+
+	/**
+	 * Writes an activity to the calendar being written. An activity whose
+	 * meeting days fall on none of the days of the term is left out.
+	 *
+	 * @param activity the activity to write.
+	 * @return true if an event was written.
+	 * @throws IOException           if the event cannot be written.
+	 * @throws IllegalStateException if no calendar has been started.
+	 */
+	public boolean writeActivity(Activity activity) throws IOException {
+		if (calendarId == null) {
+			throw new IllegalStateException("Calendar not started.");
+		}
+		int mask = MeetingDays.toMask(activity.getMeetingDays());
+		if (mask < 0) {
+			return false;
+		}
+		LocalDate first = firstDay;
+		if (mask != 0) {
+			while (!first.isAfter(lastDay) && (mask & 1 << first.getDayOfWeek().ordinal()) == 0) {
+				first = first.plusDays(1);
+			}
+			if (first.isAfter(lastDay)) {
+				return false;
+			}
+		}
+
+		writeLine("BEGIN:VEVENT");
+		writeLine("UID:" + uid(activity) + UID_DOMAIN);
+		writeLine("DTSTAMP:" + stamp);
+		if (mask == 0) {
+			writeLine("DTSTART;VALUE=DATE:" + formatDate(firstDay));
+			writeLine("DTEND;VALUE=DATE:" + formatDate(firstDay.plusDays(1)));
+			writeLine("TRANSP:TRANSPARENT");
+		} else {
+			String date = formatDate(first);
+			writeLine("DTSTART:" + date + "T" + formatTime(activity.getStartTime()));
+			writeLine("DTEND:" + date + "T" + formatTime(activity.getEndTime()));
+			writeLine("RRULE:FREQ=WEEKLY;BYDAY=" + byDay(mask) + ";UNTIL=" + formatDate(lastDay) + "T235959");
+		}
+		writeLine("SUMMARY:" + escape(summary(activity, mask == 0)));
+		if (activity instanceof Course) {
+			Course course = (Course) activity;
+			if (course.getRoom() != null) {
+				writeLine("LOCATION:" + escape(course.getRoom()));
+			}
+			writeLine("DESCRIPTION:" + escape("Section " + course.getSection() + ", " + course.getCredits()
+					+ " credits, " + course.getInstructorId()));
+		} else if (activity instanceof Event && ((Event) activity).getEventDetails().length() > 0) {
+			writeLine("DESCRIPTION:" + escape(((Event) activity).getEventDetails()));
+		}
+		writeLine("END:VEVENT");
+		calendarEvents++;
+		events++;
+		return true;
+	}
+
+	/**
+	 * Finishes the calendar being written.
+	 *
+	 * @throws IOException           if the calendar cannot be written.
+	 * @throws IllegalStateException if no calendar has been started.
+	 */
+	public void endCalendar() throws IOException {
+		if (calendarId == null) {
+			throw new IllegalStateException("Calendar not started.");
+		}
+		writeLine("END:VCALENDAR");
+		calendarId = null;
+		calendars++;
+	}
+
+	/**
+	 * Returns the number of calendars written.
+	 *
+	 * @return the number of calendars.
+	 */
+	public int getCalendarsWritten() {
+		return calendars;
+	}
+
+	/**
+	 * Returns the number of events written to every calendar.
+	 *
+	 * @return the number of events.
+	 */
+	public int getEventsWritten() {
+		return events;
+	}
+
+	/**
+	 * Flushes and closes the underlying Writer.
+	 *
+	 * @throws IOException if the Writer cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	/**
+	 * Writes a calendar holding some activities to a file. The term is checked
+	 * before the file is touched, and the file is only replaced once the
+	 * calendar is complete.
+	 *
+	 * @param fileName   the file to write.
+	 * @param title      the title of the calendar.
+	 * @param activities the activities in the calendar.
+	 * @param firstDay   the first day of the term.
+	 * @param lastDay    the last day of the term.
+	 * @throws IOException              if the file cannot be written.
+	 * @throws IllegalArgumentException if the term is invalid.
+	 */
+	public static void writeCalendar(String fileName, String title, Iterable<? extends Activity> activities,
+			LocalDate firstDay, LocalDate lastDay) throws IOException {
+		checkTerm(firstDay, lastDay);
+		writeFile(new File(fileName), firstDay, lastDay, writer -> {
+			writer.writeCalendar(title, activities);
+			return true;
+		});
+	}
+
+	/**
+	 * Converts schedules exported by WolfScheduler.exportSchedule() into
+	 * calendars, for example for every student in a nightly job. The files are
+	 * converted in parallel, each activity being written as soon as it is read.
+	 * Each calendar is written to the output directory under the schedule file's
+	 * name with the extension changed to .ics, and is titled with that name.
+	 * Schedule files that cannot be found or read are skipped, leaving any
+	 * earlier calendar of the same name in place.
+	 *
+	 * @param scheduleFiles the exported schedule files.
+	 * @param directory     the directory the calendars are written to.
+	 * @param catalog       returns the catalog Course with a name and section, or
+	 *                      null.
+	 * @param firstDay      the first day of the term.
+	 * @param lastDay       the last day of the term.
+	 * @return the number of calendars written.
+	 * @throws IOException              if a calendar cannot be written.
+	 * @throws IllegalArgumentException if the directory does not exist, the
+	 *                                  term is invalid, or two schedule files
+	 *                                  would be written to the same calendar.
+	 */
+	public static int writeCalendars(List<String> scheduleFiles, String directory,
+			BiFunction<String, String, Course> catalog, LocalDate firstDay, LocalDate lastDay) throws IOException {
+		if (directory == null || !new File(directory).isDirectory()) {
+			throw new IllegalArgumentException("Invalid directory.");
+		}
+		checkTerm(firstDay, lastDay);
+		String[] titles = new String[scheduleFiles.size()];
+		HashSet<String> seen = new HashSet<>();
+		for (int i = 0; i < titles.length; i++) {
+			File scheduleFile = new File(scheduleFiles.get(i));
+			if (scheduleFile.isFile()) {
+				titles[i] = toTitle(scheduleFile);
+				// Compared ignoring case, as some file systems do
+				if (!seen.add(titles[i].toLowerCase())) {
+					throw new IllegalArgumentException("Duplicate calendar " + titles[i] + EXTENSION + ".");
+				}
+			}
+		}
+		try {
+			return (int) IntStream.range(0, titles.length).parallel()
+					.filter(i -> titles[i] != null
+							&& convert(scheduleFiles.get(i), titles[i], directory, catalog, firstDay, lastDay))
+					.count();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Converts one exported schedule file into a calendar, streaming each
+	 * activity from the schedule into the calendar.
+	 *
+	 * @param scheduleFile the exported schedule file.
+	 * @param title        the title and file name of the calendar.
+	 * @param directory    the directory the calendar is written to.
+	 * @param catalog      returns the catalog Course with a name and section, or
+	 *                     null.
+	 * @param firstDay     the first day of the term.
+	 * @param lastDay      the last day of the term.
+	 * @return true if the calendar was written, or false if the schedule file
+	 *         cannot be found or read.
+	 * @throws UncheckedIOException if the calendar cannot be written.
+	 */
+	private static boolean convert(String scheduleFile, String title, String directory,
+			BiFunction<String, String, Course> catalog, LocalDate firstDay, LocalDate lastDay) {
+		try {
+			return writeFile(new File(directory, title + EXTENSION), firstDay, lastDay, writer -> {
+				writer.beginCalendar(title);
+				try {
+					ActivityRecordIO.readActivityRecords(scheduleFile, catalog, activity -> {
+						try {
+							writer.writeActivity(activity);
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					});
+				} catch (FileNotFoundException e) {
+					return false;
+				}
+				writer.endCalendar();
+				return true;
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns the title of the calendar for a schedule file: its name without
+	 * the extension.
+	 *
+	 * @param scheduleFile the exported schedule file.
+	 * @return the title.
+	 */
+	private static String toTitle(File scheduleFile) {
+		String title = scheduleFile.getName();
+		int dot = title.lastIndexOf('.');
+		return dot > 0 ? title.substring(0, dot) : title;
+	}
+
+	/**
+	 * Writes a calendar file through a temporary file in the same directory. The
+	 * temporary file is moved over the calendar only if the body finishes the
+	 * calendar, and is deleted otherwise, so a failed or abandoned write leaves
+	 * any earlier calendar in place.
+	 *
+	 * @param file     the calendar file.
+	 * @param firstDay the first day of the term.
+	 * @param lastDay  the last day of the term.
+	 * @param body     writes the calendar.
+	 * @return true if the calendar was written, or false if the body abandoned
+	 *         it.
+	 * @throws IOException if the calendar cannot be written.
+	 */
+	private static boolean writeFile(File file, LocalDate firstDay, LocalDate lastDay, CalendarBody body)
+			throws IOException {
+		File temp = File.createTempFile(file.getName() + ".", ".tmp", file.getAbsoluteFile().getParentFile());
+		boolean moved = false;
+		try {
+			boolean written;
+			try (ICalendarWriter writer = new ICalendarWriter(openFile(temp.getPath()), firstDay, lastDay)) {
+				written = body.write(writer);
+			}
+			if (written) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+				moved = true;
+			}
+			return written;
+		} finally {
+			if (!moved) {
+				Files.deleteIfExists(temp.toPath());
+			}
+		}
+	}
+
+	/**
+	 * Checks that a term has both days and does not end before it starts.
+	 *
+	 * @param firstDay the first day of the term.
+	 * @param lastDay  the last day of the term.
+	 * @throws IllegalArgumentException if the term is invalid.
+	 */
+	private static void checkTerm(LocalDate firstDay, LocalDate lastDay) {
+		if (firstDay == null || lastDay == null || lastDay.isBefore(firstDay)) {
+			throw new IllegalArgumentException("Invalid term.");
+		}
+	}
+
+	/**
+	 * Opens a buffered UTF-8 Writer on a file.
+	 *
+	 * @param fileName the file to write.
+	 * @return the Writer.
+	 * @throws FileNotFoundException if the file cannot be opened.
+	 */
+	private static Writer openFile(String fileName) throws FileNotFoundException {
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileName), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes a content line, folding it so no physical line is longer than 75
+	 * octets. Folds fall between characters, never inside one.
+	 *
+	 * @param line the content line.
+	 * @throws IOException if the line cannot be written.
+	 */
+	private void writeLine(String line) throws IOException {
+		lineOctets = 0;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			int octets;
+			if (c < 0x80) {
+				octets = 1;
+			} else if (c < 0x800) {
+				octets = 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < line.length()) {
+				octets = 4;
+			} else {
+				octets = 3;
+			}
+			if (lineOctets + octets > LINE_OCTETS) {
+				out.write(LINE_END);
+				out.write(' ');
+				lineOctets = 1;
+			}
+			out.write(c);
+			if (octets == 4) {
+				out.write(line.charAt(++i));
+			}
+			lineOctets += octets;
+		}
+		out.write(LINE_END);
+	}
+
+	/**
+	 * Returns the UID of an activity in the calendar being written. A course is
+	 * named by its name and section, and an event by its place in the calendar.
+	 *
+	 * @param activity the activity.
+	 * @return the UID, without its domain.
+	 */
+	private String uid(Activity activity) {
+		if (activity instanceof Course) {
+			Course course = (Course) activity;
+			return toUidPart(course.getName() + "-" + course.getSection()) + "." + calendarId;
+		}
+		return "event-" + calendarEvents + "." + calendarId;
+	}
+
+	/**
+	 * Returns the summary of an activity.
+	 *
+	 * @param activity the activity.
+	 * @param arranged true if the activity has no meeting times.
+	 * @return the summary.
+	 */
+	private static String summary(Activity activity, boolean arranged) {
+		String summary = activity.getTitle();
+		if (activity instanceof Course) {
+			summary = ((Course) activity).getName() + " " + summary;
+		}
+		return arranged ? summary + " (arranged)" : summary;
+	}
+
+	/**
+	 * Returns the iCalendar days of a meeting days bitmask, Monday first.
+	 *
+	 * @param mask the meeting days bitmask.
+	 * @return the days separated by commas.
+	 */
+	private static String byDay(int mask) {
+		StringBuilder days = new StringBuilder();
+		for (int i = 0; i < BYDAY.length; i++) {
+			if ((mask & 1 << i) != 0) {
+				if (days.length() > 0) {
+					days.append(',');
+				}
+				days.append(BYDAY[i]);
+			}
+		}
+		return days.toString();
+	}
+
+	/**
+	 * Escapes backslashes, semicolons, commas, and line breaks in a text value.
+	 *
+	 * @param text the text.
+	 * @return the escaped text.
+	 */
+	static String escape(String text) {
+		StringBuilder escaped = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\' || c == ';' || c == ',') {
+				escaped.append('\\').append(c);
+			} else if (c == '\n') {
+				escaped.append("\\n");
+			} else if (c != '\r') {
+				escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * Returns text reduced to lower case letters, digits, and dashes for use in
+	 * a UID.
+	 *
+	 * @param text the text.
+	 * @return the reduced text.
+	 */
+	private static String toUidPart(String text) {
+		StringBuilder part = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = Character.toLowerCase(text.charAt(i));
+			part.append(c >= 'a' && c <= 'z' || c >= '0' && c <= '9' ? c : '-');
+		}
+		return part.toString();
+	}
+
+	/**
+	 * Formats a date as an iCalendar date, such as 20260818.
+	 *
+	 * @param date the date.
+	 * @return the formatted date.
+	 */
+	private static String formatDate(LocalDate date) {
+		return date.getYear() + pad(date.getMonthValue()) + pad(date.getDayOfMonth());
+	}
+
+	/**
+	 * Formats a military time as an iCalendar time, such as 133000.
+	 *
+	 * @param time the military time.
+	 * @return the formatted time.
+	 */
+	private static String formatTime(int time) {
+		return pad(time / 100) + pad(time % 100) + "00";
+	}
+
+	/**
+	 * Pads a number below 100 to two digits.
+	 *
+	 * @param value the number.
+	 * @return the padded number.
+	 */
+	private static String pad(int value) {
+		return value < 10 ? "0" + value : String.valueOf(value);
+	}
+
+	/**
+	 * Writes the contents of one calendar file.
+	 */
+	private interface CalendarBody {
+		/**
+		 * Writes the calendar.
+		 *
+		 * @param writer the writer of the calendar file.
+		 * @return true if the calendar was written, or false to abandon it.
+		 * @throws IOException if the calendar cannot be written.
+		 */
+		boolean write(ICalendarWriter writer) throws IOException;
+	}
+}
@@ -0,0 +1,166 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+/**
+ * The RecordDiagnostic class describes one problem found in a course records
+ * file: the line it is on, the rule that was broken, and the field and value
+ * that broke it. A line with several problems gets one diagnostic for each.
+ *
+ * @author Anoushka Piduru
+ */
+public class RecordDiagnostic implements Comparable<RecordDiagnostic> {
+
+	/**
+	 * The rules a course record is checked against, in the order of the fields
+	 * they check. Each rule belongs to one field of the record.
+	 */
+	public enum Rule {
+		/** The name is not 1 to 4 letters, a space, and 3 digits. */
+		NAME("name", "Must be 1 to 4 letters, a space, and 3 digits"),
+		/** The title is empty. */
+		TITLE("title", "Must not be empty"),
+		/** The section is not 3 digits. */
+		SECTION("section", "Must be 3 digits"),
+		/** The credits are not a whole number. */
+		CREDITS_NOT_NUMBER("credits", "Must be a whole number"),
+		/** The credits are not between 1 and 5. */
+		CREDITS("credits", "Must be 1 to 5"),
+		/** The instructor id is empty. */
+		INSTRUCTOR_ID("instructorId", "Must not be empty"),
+		/** The meeting days are not A or distinct days from MTWHF. */
+		MEETING_DAYS("meetingDays", "Must be A or distinct days from MTWHF"),
+		/** The start time is not a whole number. */
+		START_TIME_NOT_NUMBER("startTime", "Must be a whole number"),
+		/** The start time is not a 24-hour time. */
+		START_TIME("startTime", "Must be a time from 0000 to 2359"),
+		/** The end time is not a whole number. */
+		END_TIME_NOT_NUMBER("endTime", "Must be a whole number"),
+		/** The end time is not a 24-hour time. */
+		END_TIME("endTime", "Must be a time from 0000 to 2359"),
+		/** The end time is before the start time. */
+		TIME_ORDER("endTime", "Must not be before the start time"),
+		/** The room is not a building and a room number. */
+		ROOM("room", "Must be a building and a room number"),
+		/** The record ends before all of its fields. */
+		TOO_FEW_FIELDS("record", "Too few fields"),
+		/** The record has fields after its last one. */
+		TOO_MANY_FIELDS("record", "Too many fields"),
+		/** The name and section are the same as an earlier course's. */
+		DUPLICATE("section", "Duplicate of an earlier course");
+
+		/** The field the rule checks. */
+		private final String field;
+		/** What the rule requires. */
+		private final String description;
+
+		/**
+		 * Constructs a Rule.
+		 *
+		 * @param field       the field the rule checks.
+		 * @param description what the rule requires.
+		 */
+		Rule(String field, String description) {
+			this.field = field;
+			this.description = description;
+		}
+
+		/**
+		 * Returns the field the rule checks.
+		 *
+		 * @return the field.
+		 */
+		public String getField() {
+			return field;
+		}
+
+		/**
+		 * Returns what the rule requires.
+		 *
+		 * @return the description.
+		 */
+		public String getDescription() {
+			return description;
+		}
+	}
+
+	/** The line number, starting at 1. */
+	private int line;
+	/** The rule that was broken. */
+	private Rule rule;
+	/** The value that broke the rule, or null if there is none. */
+	private String value;
+
+	/**
+	 * Constructs a RecordDiagnostic.
+	 *
+	 * @param line  the line number, starting at 1.
+	 * @param rule  the rule that was broken.
+	 * @param value the value that broke the rule, or null if there is none.
+	 */
+	public RecordDiagnostic(int line, Rule rule, String value) {
+		this.line = line;
+		this.rule = rule;
+		this.value = value;
+	}
+
+	/**
+	 * Returns the line number, starting at 1.
+	 *
+	 * @return the line number.
+	 */
+	public int getLine() {
+		return line;
+	}
+
+	/**
+	 * Returns the field that broke the rule.
+	 *
+	 * @return the field.
+	 */
+	public String getField() {
+		return rule.getField();
+	}
+
+	/**
+	 * Returns the rule that was broken.
+	 *
+	 * @return the rule.
+	 */
+	public Rule getRule() {
+		return rule;
+	}
+
+	/**
+	 * Returns the value that broke the rule.
+	 *
+	 * @return the value, or null if there is none.
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Orders diagnostics by line, then by the order of the rules.
+	 *
+	 * @param other the diagnostic to compare to.
+	 * @return a negative number, zero, or a positive number as this diagnostic
+	 *         comes before, with, or after the other.
+	 */
+	@Override
+	public int compareTo(RecordDiagnostic other) {
+		if (line != other.line) {
+			return Integer.compare(line, other.line);
+		}
+		return rule.compareTo(other.rule);
+	}
+
+	/**
+	 * Returns the diagnostic as "line 3, credits: Must be 1 to 5 (7)".
+	 *
+	 * @return the diagnostic as a String.
+	 */
+	@Override
+	public String toString() {
+		String text = "line " + line + ", " + rule.getField() + ": " + rule.getDescription();
+		return value == null ? text : text + " (" + value + ")";
+	}
+}
@@ -0,0 +1,123 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The StringPool class shares one copy of each distinct String read from a
+ * catalog. Titles repeat across every section of a course and meeting days
+ * come from a handful of patterns, so pooling them while parsing lets all the
+ * Courses of a catalog point at the same Strings. Unlike String.intern() the
+ * pool belongs to a catalog and is released with it. Callers that parse a
+ * record only to look it up, and keep none of its Strings, use the shared
+ * pool from unpooled() instead. Each pooled String also has a stable id, so
+ * tables such as the columnar catalog can refer to the pool's Strings by
+ * number instead of keeping their own copy. A pool may be shared by the
+ * catalogs of several terms, which read Strings from it while another term is
+ * parsed into it, so its methods are synchronized.
+ *
+ * @author Anoushka Piduru
+ */
+public class StringPool {
+
+	/** Shared pool that keeps nothing and returns each String as given. */
+	private static final StringPool UNPOOLED = new StringPool(false);
+
+	/** Id of each pooled String, or null if nothing is kept. */
+	private HashMap<String, Integer> ids;
+	/** The pooled Strings in id order, or null if nothing is kept. */
+	private ArrayList<String> values;
+
+	/**
+	 * Constructs an empty StringPool.
+	 */
+	public StringPool() {
+		this(true);
+	}
+
+	/**
+	 * Constructs an empty StringPool.
+	 *
+	 * @param keep false for a pool that keeps nothing.
+	 */
+	private StringPool(boolean keep) {
+		if (keep) {
+			ids = new HashMap<>();
+			values = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Returns the shared pool that keeps nothing, for parsing records whose
+	 * Strings are not kept. It holds no state, so any number of threads may
+	 * use it.
+	 *
+	 * @return the shared pool.
+	 */
+	public static StringPool unpooled() {
+		return UNPOOLED;
+	}
+
+	/**
+	 * Returns the pooled copy of a String, adding it to the pool if it is new.
+	 *
+	 * @param value the String to pool.
+	 * @return the pooled String equal to value, or null if value is null.
+	 */
+	public String intern(String value) {
+		if (value == null || ids == null) {
+			return value;
+		}
+		synchronized (this) {
+			return values.get(idOf(value));
+		}
+	}
+
+	/**
+	 * Returns the id of a String, adding it to the pool if it is new. Ids start
+	 * at 0 and never change.
+	 *
+	 * @param value the String to look up.
+	 * @return the id of the pooled String equal to value.
+	 * @throws IllegalArgumentException      if value is null.
+	 * @throws UnsupportedOperationException if the pool keeps nothing.
+	 */
+	public synchronized int idOf(String value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Invalid string.");
+		}
+		if (ids == null) {
+			throw new UnsupportedOperationException("Pool keeps nothing.");
+		}
+		Integer id = ids.get(value);
+		if (id == null) {
+			id = values.size();
+			values.add(value);
+			ids.put(value, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the pooled String with an id.
+	 *
+	 * @param id the id of the String.
+	 * @return the pooled String.
+	 * @throws IndexOutOfBoundsException if no String has the id.
+	 */
+	public synchronized String get(int id) {
+		if (values == null || id < 0 || id >= values.size()) {
+			throw new IndexOutOfBoundsException("Invalid id.");
+		}
+		return values.get(id);
+	}
+
+	/**
+	 * Returns the number of distinct Strings in the pool.
+	 *
+	 * @return the size of the pool.
+	 */
+	public synchronized int size() {
+		return values == null ? 0 : values.size();
+	}
+}
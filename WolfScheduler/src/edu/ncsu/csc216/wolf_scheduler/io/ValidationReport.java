@@ -0,0 +1,165 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.io.RecordDiagnostic.Rule;
+
+/**
+ * The ValidationReport class holds the result of validating a course records
+ * file: how many lines it had, how many courses would be loaded from it, and
+ * every diagnostic found, in line order.
+ *
+ * @author Anoushka Piduru
+ */
+public class ValidationReport {
+
+	/** The file that was validated. */
+	private String fileName;
+	/** Number of lines in the file. */
+	private int lines;
+	/** Number of lines that broke at least one rule other than DUPLICATE. */
+	private int invalidLines;
+	/** Every diagnostic, in line order. */
+	private List<RecordDiagnostic> diagnostics;
+	/** Number of diagnostics for each rule, by ordinal. */
+	private int[] ruleCounts;
+	/** Time taken to validate the file, in nanoseconds. */
+	private long elapsedNanos;
+
+	/**
+	 * Constructs a ValidationReport.
+	 *
+	 * @param fileName     the file that was validated.
+	 * @param lines        the number of lines in the file.
+	 * @param invalidLines the number of invalid lines.
+	 * @param diagnostics  every diagnostic, in line order.
+	 * @param elapsedNanos the time taken to validate the file, in nanoseconds.
+	 */
+	public ValidationReport(String fileName, int lines, int invalidLines, List<RecordDiagnostic> diagnostics,
+			long elapsedNanos) {
+		this.fileName = fileName;
+		this.lines = lines;
+		this.invalidLines = invalidLines;
+		this.diagnostics = Collections.unmodifiableList(diagnostics);
+		this.elapsedNanos = elapsedNanos;
+		ruleCounts = new int[Rule.values().length];
+		for (RecordDiagnostic d : diagnostics) {
+			ruleCounts[d.getRule().ordinal()]++;
+		}
+	}
+
+	/**
+	 * Returns the file that was validated.
+	 *
+	 * @return the file name.
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	/**
+	 * Returns the number of lines in the file.
+	 *
+	 * @return the number of lines.
+	 */
+	public int getLines() {
+		return lines;
+	}
+
+	/**
+	 * Returns the number of lines that are not valid courses.
+	 *
+	 * @return the number of invalid lines.
+	 */
+	public int getInvalidLines() {
+		return invalidLines;
+	}
+
+	/**
+	 * Returns the number of valid courses skipped as duplicates.
+	 *
+	 * @return the number of duplicates.
+	 */
+	public int getDuplicates() {
+		return getCount(Rule.DUPLICATE);
+	}
+
+	/**
+	 * Returns the number of courses that would be loaded from the file.
+	 *
+	 * @return the number of courses.
+	 */
+	public int getCourses() {
+		return lines - invalidLines - getDuplicates();
+	}
+
+	/**
+	 * Returns the number of diagnostics for a rule.
+	 *
+	 * @param rule the rule.
+	 * @return the number of diagnostics.
+	 */
+	public int getCount(Rule rule) {
+		return ruleCounts[rule.ordinal()];
+	}
+
+	/**
+	 * Returns every diagnostic, in line order.
+	 *
+	 * @return an unmodifiable list of the diagnostics.
+	 */
+	public List<RecordDiagnostic> getDiagnostics() {
+		return diagnostics;
+	}
+
+	/**
+	 * Returns the time taken to validate the file.
+	 *
+	 * @return the time in nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Returns a summary of the report: the line counts and the number of
+	 * diagnostics for each rule that was broken.
+	 *
+	 * @return the summary text.
+	 */
+	public String getSummary() {
+		StringBuilder text = new StringBuilder();
+		text.append("Validated ").append(fileName).append(" in ").append(elapsedNanos / 1000000).append(" ms\n");
+		text.append("Lines: ").append(lines).append('\n');
+		text.append("Courses: ").append(getCourses()).append('\n');
+		text.append("Invalid lines: ").append(invalidLines).append('\n');
+		text.append("Duplicates: ").append(getDuplicates()).append('\n');
+		for (Rule rule : Rule.values()) {
+			if (ruleCounts[rule.ordinal()] > 0) {
+				text.append(String.format("%8d  %-13s %s\n", ruleCounts[rule.ordinal()], rule.getField(),
+						rule.getDescription()));
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Writes the summary followed by every diagnostic to a file.
+	 *
+	 * @param reportFile the file to write the report to.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void write(String reportFile) throws IOException {
+		PrintStream fileWriter = new PrintStream(new File(reportFile));
+		fileWriter.print(getSummary());
+		fileWriter.println();
+		for (RecordDiagnostic d : diagnostics) {
+			fileWriter.println(d);
+		}
+		fileWriter.close();
+	}
+}
@@ -0,0 +1,52 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for reading a course records file. The time spent in
+ * each phase of the load is summed over the lines of the file. Timing the
+ * phases costs two clock reads per line, so it is only done while the event is
+ * being recorded.
+ *
+ * @author Anoushka Piduru
+ */
+@Name("edu.ncsu.csc216.wolf_scheduler.CatalogLoad")
+@Label("Catalog Load")
+@Category({ "Wolf Scheduler", "Catalog" })
+@Description("A course records file was read")
+@StackTrace(false)
+public class CatalogLoadEvent extends ProfilingEvent {
+
+	/** The file read. */
+	@Label("File")
+	public String fileName;
+	/** Number of lines read. */
+	@Label("Lines")
+	public int lines;
+	/** Number of courses loaded. */
+	@Label("Courses")
+	public int courses;
+	/** Number of lines that were not valid courses. */
+	@Label("Invalid Lines")
+	public int invalid;
+	/** Number of courses dropped as duplicates. */
+	@Label("Duplicates")
+	public int duplicates;
+	/** Time spent reading lines from the file. */
+	@Label("Read Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long readTime;
+	/** Time spent parsing and validating lines into courses. */
+	@Label("Parse Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long parseTime;
+	/** Time spent checking courses for duplicates. */
+	@Label("Dedupe Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long dedupeTime;
+}
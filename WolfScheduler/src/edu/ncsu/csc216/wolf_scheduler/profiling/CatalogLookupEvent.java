@@ -0,0 +1,50 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for looking up a course by name and section. Lookups
+ * are frequent and fast, so only those slower than the threshold are recorded
+ * unless a recording lowers it.
+ *
+ * @author Anoushka Piduru
+ */
+@Name("edu.ncsu.csc216.wolf_scheduler.CatalogLookup")
+@Label("Catalog Lookup")
+@Category({ "Wolf Scheduler", "Catalog" })
+@Description("A course was looked up by name and section")
+@StackTrace(false)
+@Threshold("10 us")
+public class CatalogLookupEvent extends ProfilingEvent {
+
+	/** The course name. */
+	@Label("Name")
+	public String name;
+	/** The course section. */
+	@Label("Section")
+	public String section;
+	/** Whether the course was found. */
+	@Label("Found")
+	public boolean found;
+
+	/**
+	 * Fills in and commits the event if it is being recorded.
+	 *
+	 * @param name    the course name.
+	 * @param section the course section.
+	 * @param found   whether the course was found.
+	 */
+	public void record(String name, String section, boolean found) {
+		if (shouldCommit()) {
+			this.name = name;
+			this.section = section;
+			this.found = found;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for checking an activity against the schedule for
+ * duplicates and conflicts. Only checks slower than the threshold are recorded
+ * unless a recording lowers it.
+ *
+ * @author Anoushka Piduru
+ */
+@Name("edu.ncsu.csc216.wolf_scheduler.ConflictCheck")
+@Label("Conflict Check")
+@Category({ "Wolf Scheduler", "Schedule" })
+@Description("An activity was checked against the schedule")
+@StackTrace(false)
+@Threshold("10 us")
+public class ConflictCheckEvent extends ProfilingEvent {
+
+	/** The name of the course or title of the event checked. */
+	@Label("Activity")
+	public String activity;
+	/** Number of activities in the schedule. */
+	@Label("Schedule Size")
+	public int scheduleSize;
+	/** Whether the activity duplicates one in the schedule. */
+	@Label("Duplicate")
+	public boolean duplicate;
+	/** Whether the activity conflicts with one in the schedule. */
+	@Label("Conflict")
+	public boolean conflict;
+
+	/**
+	 * Fills in and commits the event if it is being recorded.
+	 *
+	 * @param activity     the course name or event title.
+	 * @param scheduleSize the number of activities in the schedule.
+	 * @param duplicate    whether the activity is a duplicate.
+	 * @param conflict     whether the activity conflicts.
+	 */
+	public void record(String activity, int scheduleSize, boolean duplicate, boolean conflict) {
+		if (shouldCommit()) {
+			this.activity = activity;
+			this.scheduleSize = scheduleSize;
+			this.duplicate = duplicate;
+			this.conflict = conflict;
+			commit();
+		}
+	}
+}
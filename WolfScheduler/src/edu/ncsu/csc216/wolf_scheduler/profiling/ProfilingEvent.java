@@ -0,0 +1,26 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import jdk.jfr.Event;
+
+/**
+ * Base class of the scheduler's Flight Recorder events. An event is created and
+ * begun before the work it times and committed after it. While no recording
+ * has the event enabled, shouldCommit() is false and the event is never
+ * filled in, so the just-in-time compiler can remove it entirely; events cost
+ * close to nothing unless they are being recorded.
+ *
+ * @author Anoushka Piduru
+ */
+public abstract class ProfilingEvent extends Event {
+
+	/**
+	 * Returns the current time for timing a phase, or 0 if the event is not
+	 * being recorded.
+	 *
+	 * @param timed whether the event is being recorded.
+	 * @return the current time in nanoseconds, or 0.
+	 */
+	public static long mark(boolean timed) {
+		return timed ? System.nanoTime() : 0;
+	}
+}
@@ -0,0 +1,76 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for adding an activity to or removing one from the
+ * schedule, including failed attempts.
+ *
+ * @author Anoushka Piduru
+ */
+@Name("edu.ncsu.csc216.wolf_scheduler.ScheduleChange")
+@Label("Schedule Change")
+@Category({ "Wolf Scheduler", "Schedule" })
+@Description("An activity was added to or removed from the schedule")
+@StackTrace(false)
+public class ScheduleChangeEvent extends ProfilingEvent {
+
+	/** Operation for adding a course. */
+	public static final String ADD_COURSE = "add course";
+	/** Operation for adding an event. */
+	public static final String ADD_EVENT = "add event";
+	/** Operation for removing an activity. */
+	public static final String REMOVE = "remove";
+	/** Outcome of a change that was made. */
+	public static final String DONE = "done";
+	/** Outcome of adding a course missing from the catalog. */
+	public static final String NOT_FOUND = "not found";
+	/** Outcome of adding a duplicate activity. */
+	public static final String DUPLICATE = "duplicate";
+	/** Outcome of adding a conflicting activity. */
+	public static final String CONFLICT = "conflict";
+	/** Outcome of adding a course that breaks a registration rule. */
+	public static final String RULE_VIOLATION = "rule violation";
+	/** Outcome of removing at an index outside the schedule. */
+	public static final String INVALID_INDEX = "invalid index";
+
+	/** The operation. */
+	@Label("Operation")
+	public String operation;
+	/** The name of the course or title of the event added or removed. */
+	@Label("Activity")
+	public String activity;
+	/** The section of the course added or removed, or null for an event. */
+	@Label("Section")
+	public String section;
+	/** Number of activities in the schedule before the change. */
+	@Label("Schedule Size")
+	public int scheduleSize;
+	/** The outcome of the change. */
+	@Label("Outcome")
+	public String outcome;
+
+	/**
+	 * Fills in and commits the event if it is being recorded.
+	 *
+	 * @param operation    the operation.
+	 * @param activity     the course name or event title.
+	 * @param section      the course section, or null for an event.
+	 * @param scheduleSize the number of activities before the change.
+	 * @param outcome      the outcome of the change.
+	 */
+	public void record(String operation, String activity, String section, int scheduleSize, String outcome) {
+		if (shouldCommit()) {
+			this.operation = operation;
+			this.activity = activity;
+			this.section = section;
+			this.scheduleSize = scheduleSize;
+			this.outcome = outcome;
+			commit();
+		}
+	}
+}
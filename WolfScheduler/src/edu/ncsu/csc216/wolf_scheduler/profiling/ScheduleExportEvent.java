@@ -0,0 +1,53 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for exporting the schedule to a file.
+ *
+ * @author Anoushka Piduru
+ */
+@Name("edu.ncsu.csc216.wolf_scheduler.ScheduleExport")
+@Label("Schedule Export")
+@Category({ "Wolf Scheduler", "Schedule" })
+@Description("The schedule was exported to a file")
+@StackTrace(false)
+public class ScheduleExportEvent extends ProfilingEvent {
+
+	/** The file written. */
+	@Label("File")
+	public String fileName;
+	/** Number of activities written. */
+	@Label("Activities")
+	public int activities;
+	/** Size of the file written. */
+	@Label("Bytes")
+	@DataAmount
+	public long bytes;
+	/** Whether the file was written. */
+	@Label("Succeeded")
+	public boolean succeeded;
+
+	/**
+	 * Fills in and commits the event if it is being recorded.
+	 *
+	 * @param fileName   the file written.
+	 * @param activities the number of activities written.
+	 * @param bytes      the size of the file written.
+	 * @param succeeded  whether the file was written.
+	 */
+	public void record(String fileName, int activities, long bytes, boolean succeeded) {
+		if (shouldCommit()) {
+			this.fileName = fileName;
+			this.activities = activities;
+			this.succeeded = succeeded;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The Cart class is the list of sections a student submits at registration,
+ * in the order the student wants them. A cart with a higher priority is served
+ * before one with a lower priority in a priority lottery.
+ *
+ * @author Anoushka Piduru
+ */
+public class Cart {
+
+	/** The student's id. */
+	private String studentId;
+	/** The student's registration priority; higher is served first. */
+	private int priority;
+	/** The names of the requested courses, in order of preference. */
+	private ArrayList<String> names;
+	/** The sections of the requested courses, in order of preference. */
+	private ArrayList<String> sections;
+
+	/**
+	 * Constructs an empty Cart.
+	 *
+	 * @param studentId the student's id.
+	 * @param priority  the student's registration priority.
+	 * @throws IllegalArgumentException if studentId is null or empty.
+	 */
+	public Cart(String studentId, int priority) {
+		if (studentId == null || studentId.length() == 0) {
+			throw new IllegalArgumentException("Invalid student id.");
+		}
+		this.studentId = studentId;
+		this.priority = priority;
+		names = new ArrayList<>();
+		sections = new ArrayList<>();
+	}
+
+	/**
+	 * Adds a section to the end of the cart.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @throws IllegalArgumentException if name or section is null.
+	 */
+	public void addRequest(String name, String section) {
+		if (name == null || section == null) {
+			throw new IllegalArgumentException("Invalid request.");
+		}
+		names.add(name);
+		sections.add(section);
+	}
+
+	/**
+	 * Returns the student's id.
+	 *
+	 * @return the student id.
+	 */
+	public String getStudentId() {
+		return studentId;
+	}
+
+	/**
+	 * Returns the student's registration priority.
+	 *
+	 * @return the priority.
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Returns the number of sections requested.
+	 *
+	 * @return the number of requests.
+	 */
+	public int size() {
+		return names.size();
+	}
+
+	/**
+	 * Returns the names of the requested courses, in order of preference.
+	 *
+	 * @return the course names.
+	 */
+	public List<String> getNames() {
+		return Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * Returns the sections of the requested courses, in order of preference.
+	 *
+	 * @return the sections.
+	 */
+	public List<String> getSections() {
+		return Collections.unmodifiableList(sections);
+	}
+}
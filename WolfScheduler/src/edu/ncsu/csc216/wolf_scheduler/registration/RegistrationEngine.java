@@ -0,0 +1,298 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.OverlapSweep;
+
+/**
+ * The RegistrationEngine class registers a batch of carts at once, as when
+ * registration opens. The carts are ranked by a lottery drawn from a seed, and
+ * seats are then handed out in rounds: in round r each student's r-th request
+ * is considered, so every student's first choice is served before anyone's
+ * second. A request is dropped if it conflicts with or duplicates a section
+ * the student already holds, and the remaining requests for a section are
+ * granted in lottery order until the section is full.
+ *
+ * Each round runs in parallel. Checking requests against a student's sections
+ * only touches that student's cart, and granting seats only touches one
+ * section, so carts are checked in parallel and sections are filled in
+ * parallel. The lottery order decides every tie, so the result depends only on
+ * the carts and the seed, not on the number of threads.
+ *
+ * @author Anoushka Piduru
+ */
+public class RegistrationEngine {
+
+	/**
+	 * How carts are ranked.
+	 */
+	public enum Lottery {
+		/** Carts are ranked at random. */
+		RANDOM,
+		/** Carts are ranked by priority, and at random within a priority. */
+		PRIORITY
+	}
+
+	/** Bits used for the rank in a packed request. */
+	private static final int RANK_BITS = 32;
+	/** Mask for the rank in a packed request. */
+	private static final long RANK_MASK = (1L << RANK_BITS) - 1;
+
+	/** The catalog the carts request sections from. */
+	private CourseCatalog catalog;
+	/** Seats in a section without its own capacity. */
+	private int defaultCapacity;
+	/** Seats in sections with their own capacity, keyed by catalog position. */
+	private HashMap<Integer, Integer> capacities;
+	/** Number of threads used to register. */
+	private int parallelism;
+
+	/**
+	 * Constructs a RegistrationEngine over a catalog.
+	 *
+	 * @param catalog         the catalog the carts request sections from.
+	 * @param defaultCapacity the seats in each section.
+	 * @throws IllegalArgumentException if catalog is null or defaultCapacity is
+	 *                                  negative.
+	 */
+	public RegistrationEngine(CourseCatalog catalog, int defaultCapacity) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		if (defaultCapacity < 0) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		this.catalog = catalog;
+		this.defaultCapacity = defaultCapacity;
+		capacities = new HashMap<>();
+		parallelism = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Sets the seats in one section.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @param seats   the seats in the section.
+	 * @throws IllegalArgumentException if the section is not in the catalog or
+	 *                                  seats is negative.
+	 */
+	public void setCapacity(String name, String section, int seats) {
+		int row = catalog.indexOf(name, section);
+		if (row == -1) {
+			throw new IllegalArgumentException("Invalid section.");
+		}
+		if (seats < 0) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		capacities.put(row, seats);
+	}
+
+	/**
+	 * Sets the number of threads used to register.
+	 *
+	 * @param threads the number of threads.
+	 * @throws IllegalArgumentException if threads is not positive.
+	 */
+	public void setParallelism(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Invalid parallelism.");
+		}
+		parallelism = threads;
+	}
+
+	/**
+	 * Registers a batch of carts. Requests for sections missing from the catalog
+	 * are dropped.
+	 *
+	 * @param carts   the submitted carts, one per student.
+	 * @param lottery how the carts are ranked.
+	 * @param seed    the seed of the lottery.
+	 * @return the sections each student was given.
+	 * @throws IllegalArgumentException if two carts belong to the same student.
+	 */
+	public RegistrationResult register(List<Cart> carts, Lottery lottery, long seed) {
+		HashSet<String> students = new HashSet<>();
+		for (Cart cart : carts) {
+			if (!students.add(cart.getStudentId())) {
+				throw new IllegalArgumentException("Invalid cart.");
+			}
+		}
+		Cart[] submitted = carts.toArray(new Cart[0]);
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return pool.submit(() -> allocate(submitted, lottery, seed)).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Registration was interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Registration failed.", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Ranks the carts and grants seats round by round. Runs inside the engine's
+	 * pool, so the parallel streams use its threads.
+	 *
+	 * @param carts   the submitted carts.
+	 * @param lottery how the carts are ranked.
+	 * @param seed    the seed of the lottery.
+	 * @return the sections each student was given.
+	 */
+	private RegistrationResult allocate(Cart[] carts, Lottery lottery, long seed) {
+		int n = carts.length;
+
+		// Resolve every request to a catalog position and draw each lottery number
+		int[][] requests = new int[n][];
+		long[] draws = new long[n];
+		IntStream.range(0, n).parallel().forEach(i -> {
+			Cart cart = carts[i];
+			requests[i] = new int[cart.size()];
+			for (int j = 0; j < cart.size(); j++) {
+				requests[i][j] = catalog.indexOf(cart.getNames().get(j), cart.getSections().get(j));
+			}
+			draws[i] = draw(seed, cart.getStudentId());
+		});
+
+		Comparator<Integer> order = Comparator.comparingLong(i -> draws[i]);
+		if (lottery == Lottery.PRIORITY) {
+			order = Comparator.<Integer>comparingInt(i -> -carts[i].getPriority()).thenComparingLong(i -> draws[i]);
+		}
+		order = order.thenComparing(i -> carts[i].getStudentId());
+		Integer[] ranked = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			ranked[i] = i;
+		}
+		Arrays.parallelSort(ranked, order);
+
+		int[] seatsLeft = new int[catalog.size()];
+		Arrays.fill(seatsLeft, defaultCapacity);
+		for (Map.Entry<Integer, Integer> capacity : capacities.entrySet()) {
+			seatsLeft[capacity.getKey()] = capacity.getValue();
+		}
+
+		int[][] granted = new int[n][];
+		int[] grantedCount = new int[n];
+		int rounds = 0;
+		long unknown = 0;
+		for (int i = 0; i < n; i++) {
+			granted[i] = new int[requests[i].length];
+			rounds = Math.max(rounds, requests[i].length);
+			for (int row : requests[i]) {
+				if (row == -1) {
+					unknown++;
+				}
+			}
+		}
+
+		long conflicts = 0;
+		long full = 0;
+		for (int round = 0; round < rounds; round++) {
+			int r = round;
+			// Check each student's request for this round against the sections
+			// the student already holds
+			long[] candidates = IntStream.range(0, n).parallel().mapToLong(rank -> {
+				int i = ranked[rank];
+				if (r >= requests[i].length || requests[i][r] == -1) {
+					return -1;
+				}
+				int row = requests[i][r];
+				return fits(row, granted[i], grantedCount[i]) ? ((long) row << RANK_BITS) | rank : -1;
+			}).filter(candidate -> candidate != -1).toArray();
+			long requested = IntStream.range(0, n).parallel()
+					.filter(i -> r < requests[i].length && requests[i][r] != -1).count();
+			conflicts += requested - candidates.length;
+
+			// Requests sorted by section and then by rank; grant each section's
+			// seats to the first requests in its run
+			Arrays.parallelSort(candidates);
+			int[] runStarts = findRuns(candidates);
+			long grantedThisRound = IntStream.range(0, runStarts.length - 1).parallel().mapToLong(run -> {
+				int start = runStarts[run];
+				int end = runStarts[run + 1];
+				int row = (int) (candidates[start] >>> RANK_BITS);
+				int seats = Math.min(seatsLeft[row], end - start);
+				for (int k = start; k < start + seats; k++) {
+					int i = ranked[(int) (candidates[k] & RANK_MASK)];
+					granted[i][grantedCount[i]++] = row;
+				}
+				seatsLeft[row] -= seats;
+				return seats;
+			}).sum();
+			full += candidates.length - grantedThisRound;
+		}
+
+		String[] studentIds = new String[n];
+		for (int i = 0; i < n; i++) {
+			studentIds[i] = carts[i].getStudentId();
+			granted[i] = Arrays.copyOf(granted[i], grantedCount[i]);
+		}
+		return new RegistrationResult(catalog, studentIds, granted, unknown, conflicts, full);
+	}
+
+	/**
+	 * Returns whether a section fits with the sections a student holds: it must
+	 * not duplicate or overlap any of them.
+	 *
+	 * @param row   the catalog position of the section.
+	 * @param held  the catalog positions of the student's sections.
+	 * @param count the number of sections the student holds.
+	 * @return true if the section fits.
+	 */
+	private boolean fits(int row, int[] held, int count) {
+		Course course = catalog.get(row);
+		for (int k = 0; k < count; k++) {
+			Course other = catalog.get(held[k]);
+			if (course.isDuplicate(other) || OverlapSweep.overlaps(course, other)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the start of each run of requests for the same section, followed
+	 * by the end of the last run.
+	 *
+	 * @param candidates the requests, sorted by section.
+	 * @return the run boundaries.
+	 */
+	private static int[] findRuns(long[] candidates) {
+		int[] starts = new int[candidates.length + 1];
+		int runs = 0;
+		for (int k = 0; k < candidates.length; k++) {
+			if (k == 0 || candidates[k] >>> RANK_BITS != candidates[k - 1] >>> RANK_BITS) {
+				starts[runs++] = k;
+			}
+		}
+		starts[runs++] = candidates.length;
+		return Arrays.copyOf(starts, runs);
+	}
+
+	/**
+	 * Draws a student's lottery number from the seed. The number depends only on
+	 * the seed and the student, so it does not matter which thread draws it.
+	 *
+	 * @param seed      the seed of the lottery.
+	 * @param studentId the student's id.
+	 * @return the lottery number.
+	 */
+	private static long draw(long seed, String studentId) {
+		long z = seed + 0x9E3779B97F4A7C15L * (studentId.hashCode() + 1L);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,132 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+
+/**
+ * The RegistrationResult class holds the sections each student was given by a
+ * RegistrationEngine and counts of the requests that were not granted.
+ *
+ * @author Anoushka Piduru
+ */
+public class RegistrationResult {
+
+	/** The catalog the sections come from. */
+	private CourseCatalog catalog;
+	/** The position of each student's cart, keyed by student id. */
+	private HashMap<String, Integer> cartsByStudent;
+	/** The catalog positions of the sections given to each cart. */
+	private int[][] granted;
+	/** The number of students given each section, by catalog position. */
+	private int[] enrollment;
+	/** Requests for sections missing from the catalog. */
+	private long unknownRequests;
+	/** Requests that conflicted with or duplicated a section already given. */
+	private long conflictingRequests;
+	/** Requests for sections that were full. */
+	private long fullRequests;
+
+	/**
+	 * Constructs a RegistrationResult.
+	 *
+	 * @param catalog             the catalog the sections come from.
+	 * @param studentIds          the student id of each cart.
+	 * @param granted             the catalog positions of the sections given to
+	 *                            each cart.
+	 * @param unknownRequests     requests for sections missing from the catalog.
+	 * @param conflictingRequests requests that conflicted with a section already
+	 *                            given.
+	 * @param fullRequests        requests for sections that were full.
+	 */
+	public RegistrationResult(CourseCatalog catalog, String[] studentIds, int[][] granted, long unknownRequests,
+			long conflictingRequests, long fullRequests) {
+		this.catalog = catalog;
+		this.granted = granted;
+		this.unknownRequests = unknownRequests;
+		this.conflictingRequests = conflictingRequests;
+		this.fullRequests = fullRequests;
+		cartsByStudent = new HashMap<>();
+		enrollment = new int[catalog.size()];
+		for (int i = 0; i < studentIds.length; i++) {
+			cartsByStudent.put(studentIds[i], i);
+			for (int row : granted[i]) {
+				enrollment[row]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the sections given to a student, in the order they were granted.
+	 *
+	 * @param studentId the student's id.
+	 * @return the student's sections, empty if the student had no cart.
+	 */
+	public List<Course> getSchedule(String studentId) {
+		List<Course> schedule = new ArrayList<>();
+		Integer cart = cartsByStudent.get(studentId);
+		if (cart != null) {
+			for (int row : granted[cart]) {
+				schedule.add(catalog.get(row));
+			}
+		}
+		return schedule;
+	}
+
+	/**
+	 * Returns the number of students given a section.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @return the number of students enrolled, 0 if the section is not in the
+	 *         catalog.
+	 */
+	public int getEnrollment(String name, String section) {
+		int row = catalog.indexOf(name, section);
+		return row == -1 || row >= enrollment.length ? 0 : enrollment[row];
+	}
+
+	/**
+	 * Returns the number of seats given out.
+	 *
+	 * @return the seats filled.
+	 */
+	public long getSeatsFilled() {
+		long filled = 0;
+		for (int[] sections : granted) {
+			filled += sections.length;
+		}
+		return filled;
+	}
+
+	/**
+	 * Returns the number of requests for sections missing from the catalog.
+	 *
+	 * @return the unknown requests.
+	 */
+	public long getUnknownRequests() {
+		return unknownRequests;
+	}
+
+	/**
+	 * Returns the number of requests that conflicted with or duplicated a section
+	 * the student had already been given.
+	 *
+	 * @return the conflicting requests.
+	 */
+	public long getConflictingRequests() {
+		return conflictingRequests;
+	}
+
+	/**
+	 * Returns the number of requests for sections that were full.
+	 *
+	 * @return the requests turned away.
+	 */
+	public long getFullRequests() {
+		return fullRequests;
+	}
+}
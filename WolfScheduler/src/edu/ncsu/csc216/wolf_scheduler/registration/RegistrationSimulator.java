@@ -0,0 +1,149 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+
+/**
+ * The RegistrationSimulator class builds synthetic student populations so the
+ * RegistrationEngine can be measured offline. Course popularity follows a Zipf
+ * distribution, so a few courses are requested by most students, as they are
+ * at registration open. Each student asks for one random section of each of
+ * several different courses and has a priority from 1 to 4, like class
+ * standing.
+ *
+ * @author Anoushka Piduru
+ */
+public class RegistrationSimulator {
+
+	/** Highest student priority. */
+	private static final int MAX_PRIORITY = 4;
+
+	/** The catalog the carts request sections from. */
+	private CourseCatalog catalog;
+	/** The distinct course names in the catalog. */
+	private List<String> names;
+	/** Cumulative popularity of the course names. */
+	private double[] popularity;
+
+	/**
+	 * Constructs a RegistrationSimulator over a catalog.
+	 *
+	 * @param catalog the catalog the carts request sections from.
+	 * @throws IllegalArgumentException if the catalog is empty.
+	 */
+	public RegistrationSimulator(CourseCatalog catalog) {
+		if (catalog == null || catalog.size() == 0) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.catalog = catalog;
+		LinkedHashSet<String> distinct = new LinkedHashSet<>();
+		for (int i = 0; i < catalog.size(); i++) {
+			distinct.add(catalog.get(i).getName());
+		}
+		names = new ArrayList<>(distinct);
+		popularity = new double[names.size()];
+		double total = 0;
+		for (int i = 0; i < popularity.length; i++) {
+			total += 1.0 / (i + 1);
+			popularity[i] = total;
+		}
+	}
+
+	/**
+	 * Generates a population of carts. The same seed always produces the same
+	 * carts.
+	 *
+	 * @param students the number of students.
+	 * @param cartSize the number of courses each student requests, or fewer if
+	 *                 the catalog has fewer courses.
+	 * @param seed     the random seed.
+	 * @return a cart for each student.
+	 * @throws IllegalArgumentException if students or cartSize is negative.
+	 */
+	public List<Cart> generateCarts(int students, int cartSize, long seed) {
+		if (students < 0 || cartSize < 0) {
+			throw new IllegalArgumentException("Invalid population.");
+		}
+		Random random = new Random(seed);
+		int courses = Math.min(cartSize, names.size());
+		List<Cart> carts = new ArrayList<>(students);
+		for (int s = 0; s < students; s++) {
+			Cart cart = new Cart("student" + s, 1 + random.nextInt(MAX_PRIORITY));
+			HashSet<String> chosen = new HashSet<>();
+			while (chosen.size() < courses) {
+				String name = pickName(random);
+				if (chosen.add(name)) {
+					List<Course> sections = catalog.getSections(name);
+					cart.addRequest(name, sections.get(random.nextInt(sections.size())).getSection());
+				}
+			}
+			carts.add(cart);
+		}
+		return carts;
+	}
+
+	/**
+	 * Picks a course name by popularity.
+	 *
+	 * @param random the random source.
+	 * @return the course name.
+	 */
+	private String pickName(Random random) {
+		double target = random.nextDouble() * popularity[popularity.length - 1];
+		int low = 0;
+		int high = popularity.length - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (popularity[mid] < target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return names.get(low);
+	}
+
+	/**
+	 * Runs a simulated registration and prints its throughput. The arguments are
+	 * the course records file, the number of students, the courses per cart, the
+	 * seats per section, the lottery seed, and optionally the number of threads.
+	 *
+	 * @param args the command line arguments.
+	 */
+	public static void main(String[] args) {
+		if (args.length < 5) {
+			System.out.println("Usage: RegistrationSimulator <course file> <students> <cart size> <capacity> <seed> "
+					+ "[threads]");
+			return;
+		}
+		CourseCatalog catalog;
+		try {
+			catalog = new CourseCatalog(CourseRecordIO.readCourseRecords(args[0]));
+		} catch (FileNotFoundException e) {
+			System.out.println("Cannot find file.");
+			return;
+		}
+		long seed = Long.parseLong(args[4]);
+		List<Cart> carts = new RegistrationSimulator(catalog).generateCarts(Integer.parseInt(args[1]),
+				Integer.parseInt(args[2]), seed);
+		RegistrationEngine engine = new RegistrationEngine(catalog, Integer.parseInt(args[3]));
+		if (args.length > 5) {
+			engine.setParallelism(Integer.parseInt(args[5]));
+		}
+
+		long start = System.nanoTime();
+		RegistrationResult result = engine.register(carts, RegistrationEngine.Lottery.PRIORITY, seed);
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%d carts in %.3f s (%.0f carts/s)%n", carts.size(), seconds, carts.size() / seconds);
+		System.out.printf("seats filled %d, full %d, conflicts %d, unknown %d%n", result.getSeatsFilled(),
+				result.getFullRequests(), result.getConflictingRequests(), result.getUnknownRequests());
+	}
+}
@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The CatalogConflict class records two catalog sections that share a
+ * resource, such as an instructor, at overlapping meeting times.
+ *
+ * @author Anoushka Piduru
+ */
+public class CatalogConflict {
+
+	/** The section that appears first in the catalog. */
+	private Course first;
+	/** The section that appears later in the catalog. */
+	private Course second;
+	/** The resource both sections use, such as an instructor id. */
+	private String resource;
+
+	/**
+	 * Constructs a CatalogConflict between two sections.
+	 *
+	 * @param first    the section that appears first in the catalog.
+	 * @param second   the section that appears later in the catalog.
+	 * @param resource the resource both sections use.
+	 */
+	public CatalogConflict(Course first, Course second, String resource) {
+		this.first = first;
+		this.second = second;
+		this.resource = resource;
+	}
+
+	/**
+	 * Returns the section that appears first in the catalog.
+	 *
+	 * @return the first section.
+	 */
+	public Course getFirst() {
+		return first;
+	}
+
+	/**
+	 * Returns the section that appears later in the catalog.
+	 *
+	 * @return the second section.
+	 */
+	public Course getSecond() {
+		return second;
+	}
+
+	/**
+	 * Returns the resource both sections use.
+	 *
+	 * @return the shared resource.
+	 */
+	public String getResource() {
+		return resource;
+	}
+
+	/**
+	 * Returns a description of the conflict.
+	 *
+	 * @return the two sections and the shared resource.
+	 */
+	@Override
+	public String toString() {
+		return first.getName() + "-" + first.getSection() + "," + second.getName() + "-" + second.getSection() + ","
+				+ resource;
+	}
+}
@@ -0,0 +1,236 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The CatalogSearchIndex class finds catalog rows whose name, title, or
+ * instructor id contain a query string, ignoring case. Every substring of
+ * length one to three of each field is mapped to the sorted rows containing it.
+ * A query of up to three characters is answered directly from its posting
+ * list. A longer query takes the rows of its rarest trigram as candidates and
+ * checks each one, so a keystroke never scans the whole catalog. An index may
+ * be shared by the catalogs of several terms, with each distinct course added
+ * once; the course of each row is kept so a catalog can map rows back to its
+ * own. A shared index keeps growing as later terms load while the catalogs of
+ * earlier terms are searched, so rows are added under a write lock and read
+ * under a read lock.
+ *
+ * @author Anoushka Piduru
+ */
+public class CatalogSearchIndex {
+
+	/** Longest substring kept in the index. */
+	private static final int MAX_GRAM = 3;
+	/** Separates the fields of a row so a match cannot span two fields. */
+	private static final char FIELD_SEPARATOR = '\n';
+
+	/** Rows containing each indexed substring, keyed by its packed characters. */
+	private HashMap<Long, Postings> postings;
+	/** Lower case name, title, and instructor id of each row. */
+	private String[] rowText;
+	/** The course of each row. */
+	private Course[] rowCourse;
+	/** Number of rows in the index. */
+	private int size;
+	/** Guards the index against reads while a row is added. */
+	private ReentrantReadWriteLock lock;
+
+	/**
+	 * Constructs an empty CatalogSearchIndex.
+	 */
+	public CatalogSearchIndex() {
+		postings = new HashMap<>();
+		rowText = new String[16];
+		rowCourse = new Course[16];
+		size = 0;
+		lock = new ReentrantReadWriteLock();
+	}
+
+	/**
+	 * Adds a course as the next row of the index. Rows must be added in catalog
+	 * order.
+	 *
+	 * @param course the course to add.
+	 */
+	public void add(Course course) {
+		String name = course.getName().toLowerCase(Locale.ROOT);
+		String title = course.getTitle().toLowerCase(Locale.ROOT);
+		String instructorId = course.getInstructorId().toLowerCase(Locale.ROOT);
+		lock.writeLock().lock();
+		try {
+			int row = size;
+			if (row == rowText.length) {
+				rowText = Arrays.copyOf(rowText, row * 2);
+				rowCourse = Arrays.copyOf(rowCourse, row * 2);
+			}
+			rowText[row] = name + FIELD_SEPARATOR + title + FIELD_SEPARATOR + instructorId;
+			rowCourse[row] = course;
+			size++;
+
+			addGrams(name, row);
+			addGrams(title, row);
+			addGrams(instructorId, row);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of rows in the index.
+	 *
+	 * @return the number of rows.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the course at a row of the index.
+	 *
+	 * @param row the row.
+	 * @return the course at the row.
+	 * @throws IndexOutOfBoundsException if row is out of range.
+	 */
+	public Course getCourse(int row) {
+		lock.readLock().lock();
+		try {
+			if (row < 0 || row >= size) {
+				throw new IndexOutOfBoundsException("Invalid row.");
+			}
+			return rowCourse[row];
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the rows whose name, title, or instructor id contain the query,
+	 * ignoring case, in catalog order. A blank query matches every row.
+	 *
+	 * @param query the text to search for.
+	 * @return the matching rows in ascending order.
+	 */
+	public int[] search(String query) {
+		lock.readLock().lock();
+		try {
+			return find(query);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the rows matching a query. The caller holds the read lock.
+	 *
+	 * @param query the text to search for.
+	 * @return the matching rows in ascending order.
+	 */
+	private int[] find(String query) {
+		if (query == null || query.trim().length() == 0) {
+			int[] all = new int[size];
+			for (int i = 0; i < size; i++) {
+				all[i] = i;
+			}
+			return all;
+		}
+		String q = query.trim().toLowerCase(Locale.ROOT);
+		if (q.length() <= MAX_GRAM) {
+			Postings exact = postings.get(pack(q, 0, q.length()));
+			return exact == null ? new int[0] : Arrays.copyOf(exact.rows, exact.size);
+		}
+
+		Postings rarest = null;
+		for (int i = 0; i + MAX_GRAM <= q.length(); i++) {
+			Postings p = postings.get(pack(q, i, MAX_GRAM));
+			if (p == null) {
+				return new int[0];
+			}
+			if (rarest == null || p.size < rarest.size) {
+				rarest = p;
+			}
+		}
+
+		int[] matches = new int[rarest.size];
+		int count = 0;
+		for (int i = 0; i < rarest.size; i++) {
+			int row = rarest.rows[i];
+			if (rowText[row].contains(q)) {
+				matches[count++] = row;
+			}
+		}
+		return Arrays.copyOf(matches, count);
+	}
+
+	/**
+	 * Indexes every substring of length one to three of a field.
+	 *
+	 * @param field the lower case field text.
+	 * @param row   the row the field belongs to.
+	 */
+	private void addGrams(String field, int row) {
+		for (int start = 0; start < field.length(); start++) {
+			for (int len = 1; len <= MAX_GRAM && start + len <= field.length(); len++) {
+				Long gram = pack(field, start, len);
+				Postings p = postings.get(gram);
+				if (p == null) {
+					p = new Postings();
+					postings.put(gram, p);
+				}
+				p.add(row);
+			}
+		}
+	}
+
+	/**
+	 * Packs a substring of one to three characters into a single key, so that
+	 * indexing a field does not allocate a String per substring.
+	 *
+	 * @param text  the text holding the substring.
+	 * @param start the index of the first character.
+	 * @param len   the number of characters.
+	 * @return the packed key.
+	 */
+	private static Long pack(String text, int start, int len) {
+		long key = len;
+		for (int i = start; i < start + len; i++) {
+			key = (key << 16) | text.charAt(i);
+		}
+		return key;
+	}
+
+	/**
+	 * Growable sorted list of the rows containing a substring.
+	 */
+	private static class Postings {
+		/** Rows in ascending order. */
+		private int[] rows = new int[4];
+		/** Number of rows in the list. */
+		private int size;
+
+		/**
+		 * Adds a row. Rows arrive in ascending order, so a row already at the end
+		 * of the list is the same row seeing the substring again.
+		 *
+		 * @param row the row to add.
+		 */
+		private void add(int row) {
+			if (size > 0 && rows[size - 1] == row) {
+				return;
+			}
+			if (size == rows.length) {
+				rows = Arrays.copyOf(rows, size * 2);
+			}
+			rows[size++] = row;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The CatalogTimeIndex class answers queries over meeting days and times, such
+ * as all sections meeting on TH that start at or after 1500. Rows are split
+ * into buckets by their exact day bitmask and each bucket is kept sorted by
+ * start time. A query visits only the buckets holding every requested day and
+ * binary searches each one for the first start time in range. The cost is
+ * logarithmic in the catalog plus the number of rows that start in range.
+ * Rows that start in range but end too late are still visited, so a query
+ * with an early endBefore may visit more rows than it returns. Arranged
+ * sections are kept in their own bucket.
+ *
+ * @author Anoushka Piduru
+ */
+public class CatalogTimeIndex {
+
+	/** Number of distinct day bitmasks; mask 0 holds arranged sections. */
+	private static final int MASK_COUNT = 1 << MeetingDays.DAY_COUNT;
+	/** Bits used for the row in a bucket entry. */
+	private static final int ROW_BITS = 32;
+
+	/** Buckets of rows, one per day bitmask. */
+	private Bucket[] buckets;
+	/** End time of each row. */
+	private int[] endTimes;
+	/** Number of rows in the index. */
+	private int size;
+
+	/**
+	 * Constructs an empty CatalogTimeIndex.
+	 */
+	public CatalogTimeIndex() {
+		buckets = new Bucket[MASK_COUNT];
+		endTimes = new int[16];
+		size = 0;
+	}
+
+	/**
+	 * Adds a course as the next row of the index. Rows must be added in catalog
+	 * order.
+	 *
+	 * @param course the course to add.
+	 */
+	public void add(Course course) {
+		int row = size;
+		if (row == endTimes.length) {
+			endTimes = Arrays.copyOf(endTimes, row * 2);
+		}
+		endTimes[row] = course.getEndTime();
+		size++;
+
+		int mask = MeetingDays.toMask(course.getMeetingDays());
+		if (buckets[mask] == null) {
+			buckets[mask] = new Bucket();
+		}
+		buckets[mask].add(((long) course.getStartTime() << ROW_BITS) | row);
+	}
+
+	/**
+	 * Sorts every bucket now rather than at its next query. Once an index is
+	 * finished and no more rows are added, queries only read it, so any number
+	 * of threads may query it at once.
+	 */
+	public void finish() {
+		for (Bucket bucket : buckets) {
+			if (bucket != null) {
+				bucket.sort();
+			}
+		}
+	}
+
+	/**
+	 * Returns the rows that meet on at least the given days, start at or after
+	 * startAfter, and end at or before endBefore. Passing "A" returns the
+	 * arranged rows and ignores the times. Passing an empty string matches rows
+	 * meeting on any day, but not arranged rows.
+	 *
+	 * @param meetingDays the days each row must meet on.
+	 * @param startAfter  the earliest start time.
+	 * @param endBefore   the latest end time.
+	 * @return the matching rows in ascending order.
+	 * @throws IllegalArgumentException if the meeting days are invalid.
+	 */
+	public int[] find(String meetingDays, int startAfter, int endBefore) {
+		int required = MeetingDays.toMask(meetingDays);
+		if (required == MeetingDays.INVALID) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		if (MeetingDays.ARRANGED.equals(meetingDays)) {
+			Bucket arranged = buckets[0];
+			int[] rows = new int[arranged == null ? 0 : arranged.size];
+			for (int i = 0; i < rows.length; i++) {
+				rows[i] = (int) arranged.entries[i];
+			}
+			Arrays.sort(rows);
+			return rows;
+		}
+
+		int[] rows = new int[16];
+		int count = 0;
+		for (int mask = 1; mask < MASK_COUNT; mask++) {
+			Bucket bucket = buckets[mask];
+			if (bucket == null || (mask & required) != required) {
+				continue;
+			}
+			bucket.sort();
+			for (int i = bucket.lowerBound((long) startAfter << ROW_BITS); i < bucket.size; i++) {
+				long entry = bucket.entries[i];
+				if ((int) (entry >>> ROW_BITS) > endBefore) {
+					// Rows are sorted by start, and start <= end, so no later row fits
+					break;
+				}
+				int row = (int) entry;
+				if (endTimes[row] <= endBefore) {
+					if (count == rows.length) {
+						rows = Arrays.copyOf(rows, count * 2);
+					}
+					rows[count++] = row;
+				}
+			}
+		}
+		rows = Arrays.copyOf(rows, count);
+		Arrays.sort(rows);
+		return rows;
+	}
+
+	/**
+	 * Rows sharing one day bitmask. Each entry packs the start time above the row
+	 * so that sorting the entries sorts by start time. Rows are appended as the
+	 * catalog loads and the bucket is sorted again at the next query, or when
+	 * the index is finished.
+	 */
+	private static class Bucket {
+		/** Start time and row of each entry. */
+		private long[] entries = new long[4];
+		/** Number of entries. */
+		private int size;
+		/** Whether the entries are in sorted order. */
+		private boolean sorted = true;
+
+		/**
+		 * Appends an entry.
+		 *
+		 * @param entry the packed start time and row.
+		 */
+		private void add(long entry) {
+			if (size == entries.length) {
+				entries = Arrays.copyOf(entries, size * 2);
+			}
+			if (size > 0 && entries[size - 1] > entry) {
+				sorted = false;
+			}
+			entries[size++] = entry;
+		}
+
+		/**
+		 * Sorts the entries if any were appended out of order.
+		 */
+		private void sort() {
+			if (!sorted) {
+				Arrays.sort(entries, 0, size);
+				sorted = true;
+			}
+		}
+
+		/**
+		 * Returns the index of the first entry not less than the key.
+		 *
+		 * @param key the key to search for.
+		 * @return the index of the first entry greater than or equal to key.
+		 */
+		private int lowerBound(long key) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (entries[mid] < key) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
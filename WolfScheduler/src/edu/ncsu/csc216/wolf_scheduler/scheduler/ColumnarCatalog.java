@@ -0,0 +1,199 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
+
+/**
+ * The ColumnarCatalog class stores the catalog as parallel primitive arrays,
+ * one per field, with Strings replaced by their ids in the catalog's
+ * StringPool, so no String is stored twice. Scans such as all 3 credit MWF
+ * morning sections, including the catalog filter when it has a credit filter,
+ * run as a tight loop over the arrays instead of following a reference to
+ * every Course. A Course is only
+ * rebuilt from its row when it is needed for display or a schedule.
+ *
+ * @author Anoushka Piduru
+ */
+public class ColumnarCatalog {
+
+	/** Initial number of rows allocated. */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** Start time of each row in minutes past midnight. */
+	private int[] startMinute;
+	/** End time of each row in minutes past midnight. */
+	private int[] endMinute;
+	/** Meeting day bitmask of each row; 0 for arranged. */
+	private byte[] dayMask;
+	/** Credit hours of each row. */
+	private short[] credits;
+	/** Id of each row's name in the pool. */
+	private int[] nameIdx;
+	/** Id of each row's title in the pool. */
+	private int[] titleIdx;
+	/** Id of each row's section in the pool. */
+	private int[] sectionIdx;
+	/** Id of each row's instructor id in the pool. */
+	private int[] instructorIdx;
+	/** Id of each row's meeting days in the pool. */
+	private int[] meetingDaysIdx;
+	/** Id of each row's room in the pool, or -1 for none. */
+	private int[] roomIdx;
+	/** Pool holding the Strings of the rows. */
+	private StringPool pool;
+	/** Number of rows. */
+	private int size;
+
+	/**
+	 * Constructs an empty ColumnarCatalog with its own StringPool.
+	 */
+	public ColumnarCatalog() {
+		this(new StringPool());
+	}
+
+	/**
+	 * Constructs an empty ColumnarCatalog over a catalog's StringPool.
+	 *
+	 * @param pool the pool holding the Strings of the rows.
+	 * @throws IllegalArgumentException if pool is null.
+	 */
+	public ColumnarCatalog(StringPool pool) {
+		if (pool == null) {
+			throw new IllegalArgumentException("Invalid string pool.");
+		}
+		startMinute = new int[INITIAL_CAPACITY];
+		endMinute = new int[INITIAL_CAPACITY];
+		dayMask = new byte[INITIAL_CAPACITY];
+		credits = new short[INITIAL_CAPACITY];
+		nameIdx = new int[INITIAL_CAPACITY];
+		titleIdx = new int[INITIAL_CAPACITY];
+		sectionIdx = new int[INITIAL_CAPACITY];
+		instructorIdx = new int[INITIAL_CAPACITY];
+		meetingDaysIdx = new int[INITIAL_CAPACITY];
+		roomIdx = new int[INITIAL_CAPACITY];
+		this.pool = pool;
+		size = 0;
+	}
+
+	/**
+	 * Adds a course as the next row. Rows must be added in catalog order.
+	 *
+	 * @param course the course to add.
+	 */
+	public void add(Course course) {
+		if (size == startMinute.length) {
+			grow();
+		}
+		startMinute[size] = Activity.toMinutes(course.getStartTime());
+		endMinute[size] = Activity.toMinutes(course.getEndTime());
+		dayMask[size] = (byte) MeetingDays.toMask(course.getMeetingDays());
+		credits[size] = (short) course.getCredits();
+		nameIdx[size] = pool.idOf(course.getName());
+		titleIdx[size] = pool.idOf(course.getTitle());
+		sectionIdx[size] = pool.idOf(course.getSection());
+		instructorIdx[size] = pool.idOf(course.getInstructorId());
+		meetingDaysIdx[size] = pool.idOf(course.getMeetingDays());
+		roomIdx[size] = course.getRoom() == null ? -1 : pool.idOf(course.getRoom());
+		size++;
+	}
+
+	/**
+	 * Returns the number of rows.
+	 *
+	 * @return the number of rows.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the rows with the given credits that meet on at least the given
+	 * days within a time window. Arranged rows only match when no days are
+	 * required.
+	 *
+	 * @param creditHours     the credits each row must have, or 0 for any.
+	 * @param requiredDays    the day bitmask each row must include, or 0 for any.
+	 * @param startAfterMin   the earliest start in minutes past midnight.
+	 * @param endBeforeMin    the latest end in minutes past midnight.
+	 * @return the matching rows in ascending order.
+	 */
+	public int[] scan(int creditHours, int requiredDays, int startAfterMin, int endBeforeMin) {
+		int[] rows = new int[size];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			boolean match = (creditHours == 0 || credits[i] == creditHours)
+					&& (dayMask[i] & requiredDays) == requiredDays && startMinute[i] >= startAfterMin
+					&& endMinute[i] <= endBeforeMin;
+			// Branch-free append keeps the loop simple enough to vectorize
+			rows[count] = i;
+			count += match ? 1 : 0;
+		}
+		return Arrays.copyOf(rows, count);
+	}
+
+	/**
+	 * Returns the total credits of the given rows.
+	 *
+	 * @param rows the rows to total.
+	 * @return the sum of the credits of the rows.
+	 */
+	public int sumCredits(int[] rows) {
+		int total = 0;
+		for (int i = 0; i < rows.length; i++) {
+			total += credits[rows[i]];
+		}
+		return total;
+	}
+
+	/**
+	 * Builds a Course from the fields of a row.
+	 *
+	 * @param row the row to build.
+	 * @return a Course equal to the one the row was added from.
+	 * @throws IndexOutOfBoundsException if row is out of range.
+	 */
+	public Course toCourse(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("Invalid row.");
+		}
+		String meetingDays = pool.get(meetingDaysIdx[row]);
+		if (MeetingDays.ARRANGED.equals(meetingDays)) {
+			return new Course(pool.get(nameIdx[row]), pool.get(titleIdx[row]), pool.get(sectionIdx[row]),
+					credits[row], pool.get(instructorIdx[row]), meetingDays);
+		}
+		return new Course(pool.get(nameIdx[row]), pool.get(titleIdx[row]), pool.get(sectionIdx[row]),
+				credits[row], pool.get(instructorIdx[row]), meetingDays, toTime(startMinute[row]),
+				toTime(endMinute[row]), roomIdx[row] < 0 ? null : pool.get(roomIdx[row]));
+	}
+
+	/**
+	 * Converts minutes past midnight back to a military time.
+	 *
+	 * @param minutes minutes past midnight.
+	 * @return the military time.
+	 */
+	private static int toTime(int minutes) {
+		return minutes / 60 * 100 + minutes % 60;
+	}
+
+	/**
+	 * Doubles the capacity of every column.
+	 */
+	private void grow() {
+		int capacity = size * 2;
+		startMinute = Arrays.copyOf(startMinute, capacity);
+		endMinute = Arrays.copyOf(endMinute, capacity);
+		dayMask = Arrays.copyOf(dayMask, capacity);
+		credits = Arrays.copyOf(credits, capacity);
+		nameIdx = Arrays.copyOf(nameIdx, capacity);
+		titleIdx = Arrays.copyOf(titleIdx, capacity);
+		sectionIdx = Arrays.copyOf(sectionIdx, capacity);
+		instructorIdx = Arrays.copyOf(instructorIdx, capacity);
+		meetingDaysIdx = Arrays.copyOf(meetingDaysIdx, capacity);
+		roomIdx = Arrays.copyOf(roomIdx, capacity);
+	}
+}
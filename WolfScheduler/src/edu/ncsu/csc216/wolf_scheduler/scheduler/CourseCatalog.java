@@ -0,0 +1,460 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
+
+/**
+ * The CourseCatalog class holds the Courses available to a WolfScheduler in the
+ * order they were loaded. Several indexes are kept alongside the list:
+ * <ul>
+ * <li>By name and section, so lookups and duplicate checks do not scan the
+ * catalog.</li>
+ * <li>By name alone, so the sections of a course can be listed.</li>
+ * <li>By name, title, and instructor id, for type-ahead searches.</li>
+ * <li>By meeting days and times, for range queries.</li>
+ * <li>By instructor, so an instructor's sections can be listed. Double-booked
+ * instructors are found by sweeping only the sections of instructors with newly
+ * added courses.</li>
+ * <li>By room, so room availability can be checked.</li>
+ * <li>As columns of primitive arrays, for scans over several fields.</li>
+ * <li>As a heatmap of how many sections meet in each time slot.</li>
+ * </ul>
+ * The catalog owns the StringPool its Courses are parsed with, so repeated
+ * titles and meeting days are stored once. Catalogs for different terms may
+ * share one pool. Courses may be added in chunks while a catalog file is still
+ * being read. Once loaded, a catalog may be frozen so that many schedulers can
+ * share it.
+ *
+ * @author Anoushka Piduru
+ */
+public class CourseCatalog {
+
+	/** The courses in the catalog, in load order. */
+	private ArrayList<Course> courses;
+	/** The position of each course in the catalog, keyed by name and section. */
+	private HashMap<String, Integer> rowsByKey;
+	/** The sections of each course name, in load order. */
+	private HashMap<String, ArrayList<Course>> sectionsByName;
+	/** Substring index over course name, title, and instructor id. */
+	private CatalogSearchIndex searchIndex;
+	/** Whether the search index is shared with other catalogs. */
+	private boolean sharedSearch;
+	/** Index over course meeting days and times. */
+	private CatalogTimeIndex timeIndex;
+	/** Index of courses by instructor. */
+	private InstructorIndex instructorIndex;
+	/** Double-booked pairs of sections with the same instructor. */
+	private ArrayList<CatalogConflict> instructorConflicts;
+	/** Number of courses already swept for instructor conflicts. */
+	private int instructorSwept;
+	/** Index of courses by room. */
+	private RoomIndex roomIndex;
+	/** Columnar copy of the catalog for scans. */
+	private ColumnarCatalog columns;
+	/** Sections and credits meeting in each time slot. */
+	private OccupancyHeatmap occupancy;
+	/** Pool of the Strings shared by the courses in the catalog. */
+	private StringPool stringPool;
+	/** Whether courses can no longer be added. */
+	private boolean frozen;
+
+	/**
+	 * Constructs an empty CourseCatalog.
+	 */
+	public CourseCatalog() {
+		this(new StringPool());
+	}
+
+	/**
+	 * Constructs an empty CourseCatalog whose courses are parsed with a pool
+	 * shared with other catalogs.
+	 *
+	 * @param stringPool the pool of Strings to share.
+	 * @throws IllegalArgumentException if stringPool is null.
+	 */
+	public CourseCatalog(StringPool stringPool) {
+		this(stringPool, null);
+	}
+
+	/**
+	 * Constructs an empty CourseCatalog sharing a String pool and search index
+	 * with other catalogs. Courses are not added to a shared search index by the
+	 * catalog; every course added to the catalog must already be in it.
+	 *
+	 * @param stringPool  the pool of Strings to share.
+	 * @param searchIndex the search index to share, or null for the catalog's
+	 *                    own.
+	 * @throws IllegalArgumentException if stringPool is null.
+	 */
+	CourseCatalog(StringPool stringPool, CatalogSearchIndex searchIndex) {
+		if (stringPool == null) {
+			throw new IllegalArgumentException("Invalid string pool.");
+		}
+		courses = new ArrayList<>();
+		rowsByKey = new HashMap<>();
+		sectionsByName = new HashMap<>();
+		sharedSearch = searchIndex != null;
+		this.searchIndex = sharedSearch ? searchIndex : new CatalogSearchIndex();
+		timeIndex = new CatalogTimeIndex();
+		instructorIndex = new InstructorIndex();
+		instructorConflicts = new ArrayList<>();
+		roomIndex = new RoomIndex();
+		columns = new ColumnarCatalog(stringPool);
+		occupancy = new OccupancyHeatmap();
+		this.stringPool = stringPool;
+	}
+
+	/**
+	 * Constructs a CourseCatalog holding the given courses. Duplicate courses are
+	 * ignored.
+	 *
+	 * @param courses the courses to add to the catalog.
+	 */
+	public CourseCatalog(List<Course> courses) {
+		this();
+		addAll(courses);
+	}
+
+	/**
+	 * Adds a course to the end of the catalog. A course with the same name and
+	 * section as a course already in the catalog is not added.
+	 *
+	 * @param course the course to add.
+	 * @return true if the course was added, false if it was a duplicate.
+	 * @throws UnsupportedOperationException if the catalog is frozen.
+	 */
+	public boolean add(Course course) {
+		if (frozen) {
+			throw new UnsupportedOperationException("The catalog cannot be changed.");
+		}
+		String key = getKey(course.getName(), course.getSection());
+		if (rowsByKey.containsKey(key)) {
+			return false;
+		}
+		rowsByKey.put(key, courses.size());
+		ArrayList<Course> sections = sectionsByName.get(course.getName());
+		if (sections == null) {
+			sections = new ArrayList<>();
+			sectionsByName.put(course.getName(), sections);
+		}
+		sections.add(course);
+		courses.add(course);
+		if (!sharedSearch) {
+			searchIndex.add(course);
+		}
+		timeIndex.add(course);
+		instructorIndex.add(course);
+		roomIndex.add(course);
+		columns.add(course);
+		occupancy.add(course);
+		return true;
+	}
+
+	/**
+	 * Adds each of the given courses to the end of the catalog, skipping
+	 * duplicates.
+	 *
+	 * @param newCourses the courses to add.
+	 * @return the number of courses that were added.
+	 * @throws UnsupportedOperationException if the catalog is frozen.
+	 */
+	public int addAll(List<Course> newCourses) {
+		int added = 0;
+		for (int i = 0; i < newCourses.size(); i++) {
+			if (add(newCourses.get(i))) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Returns the course with the given name and section.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @return the course if found, null if not.
+	 */
+	public Course get(String name, String section) {
+		Integer row = rowsByKey.get(getKey(name, section));
+		return row == null ? null : courses.get(row);
+	}
+
+	/**
+	 * Returns the position in the catalog of the course with the given name and
+	 * section.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @return the position of the course, or -1 if it is not in the catalog.
+	 */
+	public int indexOf(String name, String section) {
+		Integer row = rowsByKey.get(getKey(name, section));
+		return row == null ? -1 : row;
+	}
+
+	/**
+	 * Returns the sections of a course.
+	 *
+	 * @param name the name of the course.
+	 * @return the sections with the name in catalog order, empty if there are
+	 *         none.
+	 */
+	public List<Course> getSections(String name) {
+		ArrayList<Course> sections = sectionsByName.get(name);
+		if (sections == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(sections);
+	}
+
+	/**
+	 * Returns the course at the given position in the catalog.
+	 *
+	 * @param idx the position of the course.
+	 * @return the course at idx.
+	 * @throws IndexOutOfBoundsException if idx is out of range.
+	 */
+	public Course get(int idx) {
+		return courses.get(idx);
+	}
+
+	/**
+	 * Returns the positions of the courses whose name, title, or instructor id
+	 * contain the query, ignoring case.
+	 *
+	 * @param query the text to search for.
+	 * @return the positions of the matching courses in catalog order.
+	 */
+	public int[] search(String query) {
+		int[] rows = searchIndex.search(query);
+		if (!sharedSearch) {
+			return rows;
+		}
+		int count = 0;
+		for (int row : rows) {
+			Course course = searchIndex.getCourse(row);
+			Integer own = rowsByKey.get(getKey(course.getName(), course.getSection()));
+			if (own != null && courses.get(own) == course) {
+				rows[count++] = own;
+			}
+		}
+		int[] ownRows = Arrays.copyOf(rows, count);
+		Arrays.sort(ownRows);
+		return ownRows;
+	}
+
+	/**
+	 * Returns the positions of the courses that meet on at least the given days,
+	 * start at or after startAfter, and end at or before endBefore. Passing "A"
+	 * returns the arranged courses.
+	 *
+	 * @param meetingDays the days each course must meet on.
+	 * @param startAfter  the earliest start time.
+	 * @param endBefore   the latest end time.
+	 * @return the positions of the matching courses in catalog order.
+	 * @throws IllegalArgumentException if the meeting days are invalid.
+	 */
+	public int[] findMeeting(String meetingDays, int startAfter, int endBefore) {
+		return timeIndex.find(meetingDays, startAfter, endBefore);
+	}
+
+	/**
+	 * Returns the courses taught by an instructor.
+	 *
+	 * @param instructorId the instructor's id.
+	 * @return the instructor's courses in catalog order.
+	 */
+	public List<Course> getCoursesForInstructor(String instructorId) {
+		return instructorIndex.getCourses(instructorId);
+	}
+
+	/**
+	 * Returns every pair of courses taught by the same instructor at overlapping
+	 * times. Courses added since the last call are swept together with the other
+	 * sections of their instructors only, so a chunk of new courses costs a
+	 * sweep of the sections it touches rather than of the whole catalog.
+	 *
+	 * @return the double-booked pairs of courses.
+	 */
+	public List<CatalogConflict> getInstructorConflicts() {
+		sweepInstructors();
+		return Collections.unmodifiableList(instructorConflicts);
+	}
+
+	/**
+	 * Sweeps the sections of every instructor with courses added since the last
+	 * sweep, and records the overlapping pairs that include a new course. Pairs
+	 * of older courses were recorded by an earlier sweep.
+	 */
+	private void sweepInstructors() {
+		if (instructorSwept == courses.size()) {
+			return;
+		}
+		HashSet<String> instructors = new HashSet<>();
+		ArrayList<Course> sections = new ArrayList<>();
+		for (int i = instructorSwept; i < courses.size(); i++) {
+			String instructorId = courses.get(i).getInstructorId();
+			if (instructors.add(instructorId)) {
+				sections.addAll(instructorIndex.getCourses(instructorId));
+			}
+		}
+		for (CatalogConflict conflict : OverlapSweep.findOverlaps(sections, Course::getInstructorId)) {
+			Course second = conflict.getSecond();
+			if (indexOf(second.getName(), second.getSection()) >= instructorSwept) {
+				instructorConflicts.add(conflict);
+			}
+		}
+		instructorSwept = courses.size();
+	}
+
+	/**
+	 * Returns true if a room is free on every one of the given days at a time.
+	 *
+	 * @param room        the room.
+	 * @param meetingDays the days to check.
+	 * @param startTime   the start of the time.
+	 * @param endTime     the end of the time.
+	 * @return true if no course in the catalog uses the room then.
+	 * @throws IllegalArgumentException if the meeting days or times are invalid.
+	 */
+	public boolean isRoomAvailable(String room, String meetingDays, int startTime, int endTime) {
+		return roomIndex.isAvailable(room, meetingDays, startTime, endTime);
+	}
+
+	/**
+	 * Returns the courses that meet in a room.
+	 *
+	 * @param room the room.
+	 * @return the room's courses in catalog order.
+	 */
+	public List<Course> getCoursesInRoom(String room) {
+		return roomIndex.getCourses(room);
+	}
+
+	/**
+	 * Returns the rooms used by courses in the catalog.
+	 *
+	 * @return the rooms in sorted order.
+	 */
+	public List<String> getRooms() {
+		return roomIndex.getRooms();
+	}
+
+	/**
+	 * Sweeps the whole catalog for pairs of courses booked into the same room at
+	 * overlapping times.
+	 *
+	 * @return the double-booked pairs of courses.
+	 */
+	public List<CatalogConflict> findRoomConflicts() {
+		return OverlapSweep.findOverlaps(courses, Course::getRoom);
+	}
+
+	/**
+	 * Returns the positions found in both of two ascending arrays of positions.
+	 *
+	 * @param first  the first array of positions.
+	 * @param second the second array of positions.
+	 * @return the positions in both arrays, in ascending order.
+	 */
+	public static int[] intersect(int[] first, int[] second) {
+		int[] both = new int[Math.min(first.length, second.length)];
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length && j < second.length) {
+			if (first[i] < second[j]) {
+				i++;
+			} else if (first[i] > second[j]) {
+				j++;
+			} else {
+				both[count++] = first[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(both, count);
+	}
+
+	/**
+	 * Returns the columnar copy of the catalog. Its rows are in the same order as
+	 * the catalog.
+	 *
+	 * @return the columnar catalog.
+	 */
+	public ColumnarCatalog getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Returns the heatmap of sections and credits meeting in each time slot of
+	 * each weekday. It is updated as courses are added.
+	 *
+	 * @return the occupancy heatmap.
+	 */
+	public OccupancyHeatmap getOccupancy() {
+		return occupancy;
+	}
+
+	/**
+	 * Returns the pool used to share Strings among the courses of this catalog.
+	 * Courses read for the catalog should be parsed with this pool.
+	 *
+	 * @return the catalog's String pool.
+	 */
+	public StringPool getStringPool() {
+		return stringPool;
+	}
+
+	/**
+	 * Stops any more courses from being added to the catalog and finishes the
+	 * indexes that are otherwise completed lazily by their first query, so that
+	 * after freezing every read leaves the catalog unchanged. A frozen catalog
+	 * that is safely published, for example through a synchronized method or a
+	 * concurrent collection, may then be read by many schedulers on many threads
+	 * at once.
+	 */
+	public void freeze() {
+		timeIndex.finish();
+		sweepInstructors();
+		frozen = true;
+	}
+
+	/**
+	 * Returns whether the catalog is frozen.
+	 *
+	 * @return true if courses can no longer be added.
+	 */
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 *
+	 * @return the size of the catalog.
+	 */
+	public int size() {
+		return courses.size();
+	}
+
+	/**
+	 * Builds the lookup key for a name and section. A comma cannot appear in a
+	 * course name, so the key is unambiguous.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @return the lookup key.
+	 */
+	private static String getKey(String name, String section) {
+		return name + "," + section;
+	}
+}
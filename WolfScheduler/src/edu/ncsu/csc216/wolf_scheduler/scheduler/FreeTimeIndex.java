@@ -0,0 +1,228 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The FreeTimeIndex class finds the free time left in a weekly schedule. Each
+ * day keeps the busy intervals of the activities meeting on it, sorted by
+ * start time, and is updated in place as activities are added and removed. A
+ * query merges the sorted intervals of the requested days in one pass and
+ * returns the gaps between them, so a block is free on every requested day.
+ * Activities that touch conflict, so a gap starts one minute after a busy
+ * interval ends and ends one minute before the next begins. Arranged
+ * activities take no time.
+ *
+ * @author Anoushka Piduru
+ */
+public class FreeTimeIndex {
+
+	/** Last minute of the day. */
+	private static final int LAST_MINUTE = 24 * 60 - 1;
+	/** Bits used for the end of an interval. */
+	private static final int END_BITS = 16;
+	/** Mask for the end of an interval. */
+	private static final int END_MASK = (1 << END_BITS) - 1;
+
+	/** Busy intervals of each day, packed as start and end minute. */
+	private int[][] busy;
+	/** Number of busy intervals on each day. */
+	private int[] counts;
+
+	/**
+	 * Constructs an empty FreeTimeIndex.
+	 */
+	public FreeTimeIndex() {
+		busy = new int[MeetingDays.DAY_COUNT][4];
+		counts = new int[MeetingDays.DAY_COUNT];
+	}
+
+	/**
+	 * Marks the time of an activity as busy.
+	 *
+	 * @param activity the activity added to the schedule.
+	 */
+	public void add(Activity activity) {
+		int mask = MeetingDays.toMask(activity.getMeetingDays());
+		int interval = pack(activity);
+		for (int day = 0; day < MeetingDays.DAY_COUNT; day++) {
+			if ((mask & (1 << day)) == 0) {
+				continue;
+			}
+			if (counts[day] == busy[day].length) {
+				busy[day] = Arrays.copyOf(busy[day], counts[day] * 2);
+			}
+			int at = insertionPoint(busy[day], counts[day], interval);
+			System.arraycopy(busy[day], at, busy[day], at + 1, counts[day] - at);
+			busy[day][at] = interval;
+			counts[day]++;
+		}
+	}
+
+	/**
+	 * Frees the time of an activity.
+	 *
+	 * @param activity the activity removed from the schedule.
+	 */
+	public void remove(Activity activity) {
+		int mask = MeetingDays.toMask(activity.getMeetingDays());
+		int interval = pack(activity);
+		for (int day = 0; day < MeetingDays.DAY_COUNT; day++) {
+			if ((mask & (1 << day)) == 0) {
+				continue;
+			}
+			int at = Arrays.binarySearch(busy[day], 0, counts[day], interval);
+			if (at >= 0) {
+				System.arraycopy(busy[day], at + 1, busy[day], at, counts[day] - at - 1);
+				counts[day]--;
+			}
+		}
+	}
+
+	/**
+	 * Frees every day.
+	 */
+	public void clear() {
+		Arrays.fill(counts, 0);
+	}
+
+	/**
+	 * Replaces the busy time with the time of the given activities.
+	 *
+	 * @param activities the activities in the schedule.
+	 */
+	public void rebuild(Activity[] activities) {
+		clear();
+		for (Activity activity : activities) {
+			add(activity);
+		}
+	}
+
+	/**
+	 * Returns whether an activity fits in the free time, without conflicting
+	 * with any busy interval on its days. Arranged activities always fit.
+	 *
+	 * @param activity the activity to check.
+	 * @return true if the activity's time is free on all of its days.
+	 */
+	public boolean fits(Activity activity) {
+		return isFree(MeetingDays.toMask(activity.getMeetingDays()), Activity.toMinutes(activity.getStartTime()),
+				Activity.toMinutes(activity.getEndTime()));
+	}
+
+	/**
+	 * Returns true if a span of time is free on every one of the given days.
+	 * Spans that touch a busy interval are not free.
+	 *
+	 * @param mask  the day bitmask of the days to check.
+	 * @param start the start of the span in minutes past midnight.
+	 * @param end   the end of the span in minutes past midnight.
+	 * @return true if the span is free on every day.
+	 */
+	public boolean isFree(int mask, int start, int end) {
+		for (int day = 0; day < MeetingDays.DAY_COUNT; day++) {
+			if ((mask & (1 << day)) == 0) {
+				continue;
+			}
+			for (int i = 0; i < counts[day]; i++) {
+				int interval = busy[day][i];
+				if (interval >>> END_BITS > end) {
+					// Intervals are sorted by start, so none later can overlap
+					break;
+				}
+				if ((interval & END_MASK) >= start) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the blocks of at least minMinutes that are free on every one of the
+	 * given days, in order of start time.
+	 *
+	 * @param meetingDays the days the blocks must be free on.
+	 * @param minMinutes  the shortest block to return, in minutes.
+	 * @return the free blocks.
+	 * @throws IllegalArgumentException if the meeting days are invalid or name no
+	 *                                  days, or minMinutes is negative.
+	 */
+	public List<TimeBlock> findFree(String meetingDays, int minMinutes) {
+		int mask = MeetingDays.toMask(meetingDays);
+		if (mask == MeetingDays.INVALID || mask == 0) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		if (minMinutes < 0) {
+			throw new IllegalArgumentException("Invalid duration.");
+		}
+
+		int[] next = new int[MeetingDays.DAY_COUNT];
+		List<TimeBlock> free = new ArrayList<>();
+		int firstFree = 0;
+		while (true) {
+			// Take the interval with the earliest start across the requested days
+			int earliest = -1;
+			int earliestDay = -1;
+			for (int day = 0; day < MeetingDays.DAY_COUNT; day++) {
+				if ((mask & (1 << day)) != 0 && next[day] < counts[day]
+						&& (earliest == -1 || busy[day][next[day]] < earliest)) {
+					earliest = busy[day][next[day]];
+					earliestDay = day;
+				}
+			}
+			if (earliestDay == -1) {
+				break;
+			}
+			next[earliestDay]++;
+			int start = earliest >>> END_BITS;
+			int end = earliest & END_MASK;
+			if (start - 1 - firstFree >= minMinutes) {
+				free.add(new TimeBlock(toTime(firstFree), toTime(start - 1)));
+			}
+			firstFree = Math.max(firstFree, end + 1);
+		}
+		if (LAST_MINUTE - firstFree >= minMinutes) {
+			free.add(new TimeBlock(toTime(firstFree), toTime(LAST_MINUTE)));
+		}
+		return free;
+	}
+
+	/**
+	 * Packs the start and end minute of an activity so that sorting packed
+	 * intervals sorts them by start.
+	 *
+	 * @param activity the activity.
+	 * @return the packed interval.
+	 */
+	private static int pack(Activity activity) {
+		return Activity.toMinutes(activity.getStartTime()) << END_BITS | Activity.toMinutes(activity.getEndTime());
+	}
+
+	/**
+	 * Returns the index at which an interval keeps a day sorted.
+	 *
+	 * @param intervals the day's intervals.
+	 * @param count     the number of intervals.
+	 * @param interval  the interval to insert.
+	 * @return the insertion index.
+	 */
+	private static int insertionPoint(int[] intervals, int count, int interval) {
+		int at = Arrays.binarySearch(intervals, 0, count, interval);
+		return at >= 0 ? at : -at - 1;
+	}
+
+	/**
+	 * Converts minutes past midnight to military time.
+	 *
+	 * @param minutes the minutes past midnight.
+	 * @return the military time.
+	 */
+	private static int toTime(int minutes) {
+		return minutes / 60 * 100 + minutes % 60;
+	}
+}
@@ -0,0 +1,57 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The InstructorIndex class groups catalog sections by instructor id, so the
+ * sections of one instructor are listed without scanning the catalog. A
+ * CourseCatalog sweeps these groups to find double-booked instructors as a
+ * catalog loads in chunks.
+ *
+ * @author Anoushka Piduru
+ */
+public class InstructorIndex {
+
+	/** Sections of each instructor, in catalog order. */
+	private HashMap<String, ArrayList<Course>> coursesByInstructor;
+
+	/**
+	 * Constructs an empty InstructorIndex.
+	 */
+	public InstructorIndex() {
+		coursesByInstructor = new HashMap<>();
+	}
+
+	/**
+	 * Adds a section to the index.
+	 *
+	 * @param course the section to add.
+	 */
+	public void add(Course course) {
+		ArrayList<Course> taught = coursesByInstructor.get(course.getInstructorId());
+		if (taught == null) {
+			taught = new ArrayList<>();
+			coursesByInstructor.put(course.getInstructorId(), taught);
+		}
+		taught.add(course);
+	}
+
+	/**
+	 * Returns the sections taught by an instructor.
+	 *
+	 * @param instructorId the instructor's id.
+	 * @return the instructor's sections in catalog order.
+	 */
+	public List<Course> getCourses(String instructorId) {
+		ArrayList<Course> taught = coursesByInstructor.get(instructorId);
+		if (taught == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(taught);
+	}
+}
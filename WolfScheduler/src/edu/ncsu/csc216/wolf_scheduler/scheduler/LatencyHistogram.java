@@ -0,0 +1,143 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The LatencyHistogram class counts durations in log-linear buckets, in the
+ * style of an HDR histogram. Values below 16 have a bucket each; above that,
+ * every power of two is split into 16 equal buckets, so a recorded value is
+ * known to within about 6% over the whole range of a long with under a
+ * thousand buckets. Recording is lock free and may be done from any number of
+ * threads. Percentiles read while values are being recorded may miss the
+ * values recorded during the read.
+ *
+ * @author Anoushka Piduru
+ */
+public class LatencyHistogram {
+
+	/** Number of bits of each value kept below its highest bit. */
+	private static final int SUB_BUCKET_BITS = 4;
+	/** Number of buckets each power of two is split into. */
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** Number of buckets needed for every non-negative long. */
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	/** The number of values in each bucket. */
+	private AtomicLongArray counts;
+	/** The number of values recorded. */
+	private LongAdder count;
+	/** The sum of the values recorded. */
+	private LongAdder sum;
+	/** The largest value recorded. */
+	private AtomicLong max;
+
+	/**
+	 * Constructs an empty LatencyHistogram.
+	 */
+	public LatencyHistogram() {
+		counts = new AtomicLongArray(BUCKETS);
+		count = new LongAdder();
+		sum = new LongAdder();
+		max = new AtomicLong();
+	}
+
+	/**
+	 * Records a value. Negative values are recorded as 0.
+	 *
+	 * @param value the value, usually a duration in nanoseconds.
+	 */
+	public void record(long value) {
+		long v = Math.max(0, value);
+		counts.incrementAndGet(bucketOf(v));
+		count.increment();
+		sum.add(v);
+		max.accumulateAndGet(v, Math::max);
+	}
+
+	/**
+	 * Returns the number of values recorded.
+	 *
+	 * @return the count.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the sum of the values recorded.
+	 *
+	 * @return the sum.
+	 */
+	public long getSum() {
+		return sum.sum();
+	}
+
+	/**
+	 * Returns the largest value recorded.
+	 *
+	 * @return the largest value, or 0 if none were recorded.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the value at a percentile of the values recorded. The value is the
+	 * largest that falls in the same bucket as the true percentile, capped at
+	 * the largest value recorded.
+	 *
+	 * @param percentile the percentile, from 0 to 100.
+	 * @return the value at the percentile, or 0 if none were recorded.
+	 * @throws IllegalArgumentException if the percentile is out of range.
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100 || Double.isNaN(percentile)) {
+			throw new IllegalArgumentException("Invalid percentile.");
+		}
+		long total = getCount();
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(highestValueOf(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Returns the bucket a value is counted in.
+	 *
+	 * @param value a non-negative value.
+	 * @return the bucket index.
+	 */
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * Returns the largest value counted in a bucket.
+	 *
+	 * @param bucket the bucket index.
+	 * @return the largest value in the bucket.
+	 */
+	static long highestValueOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
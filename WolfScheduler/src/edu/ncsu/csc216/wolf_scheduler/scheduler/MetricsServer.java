@@ -0,0 +1,60 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The MetricsServer class serves SchedulerMetrics as text over HTTP at
+ * /metrics so they can be scraped. It listens only on the loopback address.
+ *
+ * @author Anoushka Piduru
+ */
+public class MetricsServer {
+
+	/** The path the metrics are served at. */
+	public static final String PATH = "/metrics";
+
+	/** The HTTP server. */
+	private HttpServer server;
+
+	/**
+	 * Starts serving metrics.
+	 *
+	 * @param metrics the metrics to serve.
+	 * @param port    the port to listen on, or 0 for any free port.
+	 * @throws IOException if the server cannot be started.
+	 */
+	public MetricsServer(SchedulerMetrics metrics, int port) throws IOException {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext(PATH, exchange -> {
+			byte[] body = metrics.toText().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	/**
+	 * Returns the port the server listens on.
+	 *
+	 * @return the port.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Stops the server.
+	 */
+	public void stop() {
+		server.stop(0);
+	}
+}
@@ -0,0 +1,200 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The OccupancyHeatmap class counts how many sections, and how many credits,
+ * meet in each five-minute slot of each weekday. A section occupies the slots
+ * from its start time up to, but not including, its end time, so back-to-back
+ * sections do not share a slot. Arranged sections meet in no slot.
+ *
+ * Each added section only marks where its run of slots starts and ends on each
+ * of its days, in difference arrays, so adding is constant time however long
+ * the section meets. The counts are rebuilt from the difference arrays in one
+ * pass the next time they are read. Reads and adds are synchronized, so a
+ * frozen catalog's heatmap can be read by many schedulers at once.
+ *
+ * @author Anoushka Piduru
+ */
+public class OccupancyHeatmap {
+
+	/** Length of a slot in minutes. */
+	public static final int SLOT_MINUTES = 5;
+	/** Number of slots in a day. */
+	public static final int SLOTS = 24 * 60 / SLOT_MINUTES;
+	/** Number of weekdays, Monday through Friday. */
+	public static final int DAYS = 5;
+	/** Meeting day letter of each weekday. */
+	private static final String[] DAY_LETTERS = { "M", "T", "W", "H", "F" };
+
+	/** Change in sections at each slot of each day. */
+	private int[][] sectionDiff;
+	/** Change in credits at each slot of each day. */
+	private int[][] creditDiff;
+	/** Sections meeting in each slot of each day. */
+	private int[][] sections;
+	/** Credits meeting in each slot of each day. */
+	private int[][] credits;
+	/** Most sections meeting in any one slot. */
+	private int maxSections;
+	/** Most credits meeting in any one slot. */
+	private int maxCredits;
+	/** Whether sections were added since the counts were built. */
+	private boolean stale;
+
+	/**
+	 * Constructs an empty OccupancyHeatmap.
+	 */
+	public OccupancyHeatmap() {
+		sectionDiff = new int[DAYS][SLOTS + 1];
+		creditDiff = new int[DAYS][SLOTS + 1];
+		sections = new int[DAYS][SLOTS];
+		credits = new int[DAYS][SLOTS];
+	}
+
+	/**
+	 * Adds a section to the slots it meets in.
+	 *
+	 * @param course the section to add.
+	 */
+	public synchronized void add(Course course) {
+		int mask = MeetingDays.toMask(course.getMeetingDays());
+		if (mask <= 0) {
+			return;
+		}
+		int startMin = Activity.toMinutes(course.getStartTime());
+		int endMin = Activity.toMinutes(course.getEndTime());
+		int first = startMin / SLOT_MINUTES;
+		int last = endMin > startMin ? (endMin - 1) / SLOT_MINUTES : first;
+		for (int day = 0; day < DAYS; day++) {
+			if ((mask & (1 << day)) != 0) {
+				sectionDiff[day][first]++;
+				sectionDiff[day][last + 1]--;
+				creditDiff[day][first] += course.getCredits();
+				creditDiff[day][last + 1] -= course.getCredits();
+			}
+		}
+		stale = true;
+	}
+
+	/**
+	 * Returns the number of sections meeting in a slot.
+	 *
+	 * @param day  the weekday, 0 for Monday through 4 for Friday.
+	 * @param slot the slot, 0 for the one starting at midnight.
+	 * @return the number of sections.
+	 * @throws IndexOutOfBoundsException if day or slot is out of range.
+	 */
+	public synchronized int getSections(int day, int slot) {
+		build();
+		return sections[day][slot];
+	}
+
+	/**
+	 * Returns the number of credits of the sections meeting in a slot.
+	 *
+	 * @param day  the weekday, 0 for Monday through 4 for Friday.
+	 * @param slot the slot, 0 for the one starting at midnight.
+	 * @return the number of credits.
+	 * @throws IndexOutOfBoundsException if day or slot is out of range.
+	 */
+	public synchronized int getCredits(int day, int slot) {
+		build();
+		return credits[day][slot];
+	}
+
+	/**
+	 * Returns the most sections meeting in any one slot.
+	 *
+	 * @return the highest number of sections.
+	 */
+	public synchronized int getMaxSections() {
+		build();
+		return maxSections;
+	}
+
+	/**
+	 * Returns the most credits meeting in any one slot.
+	 *
+	 * @return the highest number of credits.
+	 */
+	public synchronized int getMaxCredits() {
+		build();
+		return maxCredits;
+	}
+
+	/**
+	 * Returns the meeting day letter of a weekday.
+	 *
+	 * @param day the weekday, 0 for Monday through 4 for Friday.
+	 * @return the day letter, such as "M".
+	 * @throws IndexOutOfBoundsException if day is out of range.
+	 */
+	public static String getDayLetter(int day) {
+		return DAY_LETTERS[day];
+	}
+
+	/**
+	 * Returns the start time of a slot in the 24-hour form used by course
+	 * records, such as 1330.
+	 *
+	 * @param slot the slot, 0 for the one starting at midnight.
+	 * @return the start time of the slot.
+	 */
+	public static int getSlotTime(int slot) {
+		int minutes = slot * SLOT_MINUTES;
+		return minutes / 60 * 100 + minutes % 60;
+	}
+
+	/**
+	 * Writes the counts to a file as comma separated values, with a header and
+	 * then one line for each slot of each day: its day letter, start time, end
+	 * time, sections, and credits.
+	 *
+	 * @param fileName the file to write.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public synchronized void writeCsv(String fileName) throws IOException {
+		build();
+		PrintStream fileWriter = new PrintStream(new File(fileName));
+		fileWriter.println("day,start,end,sections,credits");
+		for (int day = 0; day < DAYS; day++) {
+			for (int slot = 0; slot < SLOTS; slot++) {
+				fileWriter.println(DAY_LETTERS[day] + "," + getSlotTime(slot) + "," + getSlotTime(slot + 1) + ","
+						+ sections[day][slot] + "," + credits[day][slot]);
+			}
+		}
+		fileWriter.close();
+	}
+
+	/**
+	 * Rebuilds the counts from the difference arrays if sections were added since
+	 * they were last built.
+	 */
+	private void build() {
+		if (!stale) {
+			return;
+		}
+		maxSections = 0;
+		maxCredits = 0;
+		for (int day = 0; day < DAYS; day++) {
+			int runningSections = 0;
+			int runningCredits = 0;
+			for (int slot = 0; slot < SLOTS; slot++) {
+				runningSections += sectionDiff[day][slot];
+				runningCredits += creditDiff[day][slot];
+				sections[day][slot] = runningSections;
+				credits[day][slot] = runningCredits;
+				maxSections = Math.max(maxSections, runningSections);
+				maxCredits = Math.max(maxCredits, runningCredits);
+			}
+		}
+		stale = false;
+	}
+}
@@ -0,0 +1,105 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The OverlapSweep class finds every pair of sections that share a resource,
+ * such as an instructor, and meet at overlapping times. Each weekday is swept
+ * once in start time order while the sections still meeting are kept per
+ * resource, so the cost is O(n log n) plus the number of pairs found rather
+ * than a comparison of every pair. Overlap follows Activity.checkConflict():
+ * sections that share a day conflict if their times overlap or touch.
+ *
+ * @author Anoushka Piduru
+ */
+public class OverlapSweep {
+
+	/**
+	 * OverlapSweep only has static helpers.
+	 */
+	private OverlapSweep() {
+	}
+
+	/**
+	 * Returns true if two activities meet on a common day at overlapping or
+	 * touching times. Arranged activities never overlap.
+	 *
+	 * @param a the first activity.
+	 * @param b the second activity.
+	 * @return true if the activities overlap.
+	 */
+	public static boolean overlaps(Activity a, Activity b) {
+		int common = MeetingDays.toMask(a.getMeetingDays()) & MeetingDays.toMask(b.getMeetingDays());
+		return common > 0 && a.getStartTime() <= b.getEndTime() && b.getStartTime() <= a.getEndTime();
+	}
+
+	/**
+	 * Finds every pair of courses with the same resource that overlap. Courses
+	 * with a null resource are skipped. Each pair is reported once, ordered by
+	 * position in the list, even if the courses overlap on several days.
+	 *
+	 * @param courses    the courses to check.
+	 * @param resourceOf returns the resource of a course, or null for none.
+	 * @return the overlapping pairs.
+	 */
+	public static List<CatalogConflict> findOverlaps(List<Course> courses, Function<Course, String> resourceOf) {
+		ArrayList<CatalogConflict> conflicts = new ArrayList<>();
+		HashSet<Long> reported = new HashSet<>();
+		int n = courses.size();
+		int[] masks = new int[n];
+		String[] resources = new String[n];
+		for (int i = 0; i < n; i++) {
+			Course c = courses.get(i);
+			masks[i] = MeetingDays.toMask(c.getMeetingDays());
+			resources[i] = resourceOf.apply(c);
+		}
+
+		for (int d = 0; d < MeetingDays.DAY_COUNT; d++) {
+			int day = 1 << d;
+			long[] order = new long[n];
+			int count = 0;
+			for (int i = 0; i < n; i++) {
+				if ((masks[i] & day) != 0 && resources[i] != null) {
+					order[count++] = ((long) courses.get(i).getStartTime() << 32) | i;
+				}
+			}
+			Arrays.sort(order, 0, count);
+
+			HashMap<String, ArrayList<Integer>> active = new HashMap<>();
+			for (int k = 0; k < count; k++) {
+				int i = (int) order[k];
+				Course c = courses.get(i);
+				ArrayList<Integer> meeting = active.get(resources[i]);
+				if (meeting == null) {
+					meeting = new ArrayList<>();
+					active.put(resources[i], meeting);
+				}
+				// Drop sections that ended before this one starts; the rest overlap it
+				int kept = 0;
+				for (int m = 0; m < meeting.size(); m++) {
+					int j = meeting.get(m);
+					if (courses.get(j).getEndTime() >= c.getStartTime()) {
+						meeting.set(kept++, j);
+						long pair = ((long) Math.min(i, j) << 32) | Math.max(i, j);
+						if (reported.add(pair)) {
+							conflicts.add(new CatalogConflict(courses.get(Math.min(i, j)),
+									courses.get(Math.max(i, j)), resources[i]));
+						}
+					}
+				}
+				meeting.subList(kept, meeting.size()).clear();
+				meeting.add(i);
+			}
+		}
+		return conflicts;
+	}
+}
@@ -0,0 +1,207 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The PreferenceScorer class rates schedules by a student's preferences. Each
+ * preference has a weight, and a preference with weight 0 is ignored. A
+ * schedule loses points for each section starting before the earliest start
+ * time, for meeting on Friday at all, for each distinct day it meets on, and
+ * for missing the credit target, and gains points for each section taught by a
+ * preferred instructor.
+ *
+ * The bound adds an optimistic value for each preference: the points already
+ * lost cannot be won back, and each remaining course is assumed to take its
+ * best section. Each part is at least the final value of its preference, so
+ * their sum is an admissible bound.
+ *
+ * @author Anoushka Piduru
+ */
+public class PreferenceScorer implements ScheduleScorer {
+
+	/** Sections starting before this time lose points. */
+	private int earliestStart;
+	/** Points lost per early section. */
+	private double earlyWeight;
+	/** Instructors the student prefers. */
+	private Set<String> preferredInstructors;
+	/** Points gained per section with a preferred instructor. */
+	private double instructorWeight;
+	/** Points lost for meeting on Friday. */
+	private double fridayWeight;
+	/** Points lost per day with a class. */
+	private double dayWeight;
+	/** The number of credits the student wants. */
+	private int creditTarget;
+	/** Points lost per credit away from the target. */
+	private double creditWeight;
+
+	/**
+	 * Constructs a PreferenceScorer with no preferences.
+	 */
+	public PreferenceScorer() {
+		preferredInstructors = new HashSet<>();
+	}
+
+	/**
+	 * Sets the preference for late starts.
+	 *
+	 * @param time   sections starting before this time lose points.
+	 * @param weight the points lost per early section.
+	 * @throws IllegalArgumentException if the weight is negative.
+	 */
+	public void setEarliestStart(int time, double weight) {
+		checkWeight(weight);
+		earliestStart = time;
+		earlyWeight = weight;
+	}
+
+	/**
+	 * Sets the preferred instructors.
+	 *
+	 * @param instructorIds the ids of the preferred instructors.
+	 * @param weight        the points gained per section they teach.
+	 * @throws IllegalArgumentException if the weight is negative.
+	 */
+	public void setPreferredInstructors(Set<String> instructorIds, double weight) {
+		checkWeight(weight);
+		preferredInstructors = new HashSet<>(instructorIds);
+		instructorWeight = weight;
+	}
+
+	/**
+	 * Sets the preference for no classes on Friday.
+	 *
+	 * @param weight the points lost for meeting on Friday.
+	 * @throws IllegalArgumentException if the weight is negative.
+	 */
+	public void setFreeFriday(double weight) {
+		checkWeight(weight);
+		fridayWeight = weight;
+	}
+
+	/**
+	 * Sets the preference for classes on as few days as possible.
+	 *
+	 * @param weight the points lost per day with a class.
+	 * @throws IllegalArgumentException if the weight is negative.
+	 */
+	public void setCompactDays(double weight) {
+		checkWeight(weight);
+		dayWeight = weight;
+	}
+
+	/**
+	 * Sets the credit target.
+	 *
+	 * @param credits the number of credits wanted.
+	 * @param weight  the points lost per credit away from the target.
+	 * @throws IllegalArgumentException if the weight is negative.
+	 */
+	public void setCreditTarget(int credits, double weight) {
+		checkWeight(weight);
+		creditTarget = credits;
+		creditWeight = weight;
+	}
+
+	@Override
+	public double score(List<Course> schedule) {
+		double score = 0;
+		int days = 0;
+		int credits = 0;
+		for (Course course : schedule) {
+			score += sectionScore(course);
+			days |= MeetingDays.toMask(course.getMeetingDays());
+			credits += course.getCredits();
+		}
+		return score + daysScore(days) - creditWeight * Math.abs(credits - creditTarget);
+	}
+
+	@Override
+	public double bound(List<Course> partial, List<SectionChoice> remaining) {
+		double bound = 0;
+		int days = 0;
+		int credits = 0;
+		for (Course course : partial) {
+			bound += sectionScore(course);
+			days |= MeetingDays.toMask(course.getMeetingDays());
+			credits += course.getCredits();
+		}
+		bound += daysScore(days);
+
+		int minCredits = credits;
+		int maxCredits = credits;
+		for (SectionChoice choice : remaining) {
+			double bestSection = Double.NEGATIVE_INFINITY;
+			int fewest = Integer.MAX_VALUE;
+			int most = 0;
+			for (Course section : choice.getSections()) {
+				bestSection = Math.max(bestSection, sectionScore(section));
+				fewest = Math.min(fewest, section.getCredits());
+				most = Math.max(most, section.getCredits());
+			}
+			if (choice.isOptional() || choice.getSections().isEmpty()) {
+				bestSection = Math.max(bestSection, 0);
+				fewest = 0;
+			}
+			bound += bestSection;
+			minCredits += fewest;
+			maxCredits += most;
+		}
+		int missed = 0;
+		if (creditTarget < minCredits) {
+			missed = minCredits - creditTarget;
+		} else if (creditTarget > maxCredits) {
+			missed = creditTarget - maxCredits;
+		}
+		return bound - creditWeight * missed;
+	}
+
+	/**
+	 * Returns the points a section adds on its own.
+	 *
+	 * @param course the section.
+	 * @return the section's points.
+	 */
+	private double sectionScore(Course course) {
+		double score = 0;
+		if (!MeetingDays.ARRANGED.equals(course.getMeetingDays()) && course.getStartTime() < earliestStart) {
+			score -= earlyWeight;
+		}
+		if (preferredInstructors.contains(course.getInstructorId())) {
+			score += instructorWeight;
+		}
+		return score;
+	}
+
+	/**
+	 * Returns the points for the days a schedule meets on.
+	 *
+	 * @param days the bitmask of the days.
+	 * @return the points for the days.
+	 */
+	private double daysScore(int days) {
+		double score = -dayWeight * Integer.bitCount(days);
+		if ((days & MeetingDays.FRIDAY) != 0) {
+			score -= fridayWeight;
+		}
+		return score;
+	}
+
+	/**
+	 * Checks that a weight is not negative.
+	 *
+	 * @param weight the weight to check.
+	 * @throws IllegalArgumentException if the weight is negative.
+	 */
+	private static void checkWeight(double weight) {
+		if (weight < 0) {
+			throw new IllegalArgumentException("Invalid weight.");
+		}
+	}
+}
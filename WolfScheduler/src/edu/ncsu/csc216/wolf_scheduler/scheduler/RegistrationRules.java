@@ -0,0 +1,228 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The RegistrationRules class collects the rules checked when a course is
+ * added to a schedule: a credit limit, prerequisites, and corequisites. Rules
+ * name courses, not sections, so they hold for every section of a course. Once
+ * every rule is added, compile() turns them into a RulePlan shared by every
+ * student.
+ *
+ * @author Anoushka Piduru
+ */
+public class RegistrationRules {
+
+	/** Default most credits a student may schedule. */
+	public static final int DEFAULT_CREDIT_LIMIT = 18;
+
+	/** Most credits a student may schedule. */
+	private int creditLimit;
+	/** Groups of prerequisites of each course, any one of each group needed. */
+	private LinkedHashMap<String, List<String[]>> prerequisites;
+	/** Corequisites of each course. */
+	private LinkedHashMap<String, List<String>> corequisites;
+
+	/**
+	 * Constructs RegistrationRules with the default credit limit and no
+	 * prerequisites or corequisites.
+	 */
+	public RegistrationRules() {
+		creditLimit = DEFAULT_CREDIT_LIMIT;
+		prerequisites = new LinkedHashMap<>();
+		corequisites = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Returns the most credits a student may schedule.
+	 *
+	 * @return the credit limit.
+	 */
+	public int getCreditLimit() {
+		return creditLimit;
+	}
+
+	/**
+	 * Sets the most credits a student may schedule.
+	 *
+	 * @param creditLimit the credit limit.
+	 * @throws IllegalArgumentException if creditLimit is less than 1.
+	 */
+	public void setCreditLimit(int creditLimit) {
+		if (creditLimit < 1) {
+			throw new IllegalArgumentException("Invalid credit limit.");
+		}
+		this.creditLimit = creditLimit;
+	}
+
+	/**
+	 * Adds a prerequisite of a course: the student must have completed at least
+	 * one of the given courses. Adding several prerequisites to a course
+	 * requires all of them.
+	 *
+	 * @param course the name of the course.
+	 * @param anyOf  the names of the courses, any one of which must have been
+	 *               completed.
+	 * @throws IllegalArgumentException if a name is invalid, no course is given,
+	 *                                  or the course is its own prerequisite.
+	 */
+	public void addPrerequisite(String course, String... anyOf) {
+		if (!Course.isValidName(course) || anyOf == null || anyOf.length == 0) {
+			throw new IllegalArgumentException("Invalid prerequisite.");
+		}
+		for (String name : anyOf) {
+			if (!Course.isValidName(name) || name.equals(course)) {
+				throw new IllegalArgumentException("Invalid prerequisite.");
+			}
+		}
+		prerequisites.computeIfAbsent(course, k -> new ArrayList<>()).add(anyOf.clone());
+	}
+
+	/**
+	 * Adds a corequisite of a course: the student must have completed the
+	 * corequisite or already have it in the schedule. A lecture and its lab
+	 * should be linked one way, with the lab taking the lecture as its
+	 * corequisite, so the lecture can be added first.
+	 *
+	 * @param course      the name of the course.
+	 * @param corequisite the name of the corequisite.
+	 * @throws IllegalArgumentException if a name is invalid or the course is
+	 *                                  its own corequisite.
+	 */
+	public void addCorequisite(String course, String corequisite) {
+		if (!Course.isValidName(course) || !Course.isValidName(corequisite) || corequisite.equals(course)) {
+			throw new IllegalArgumentException("Invalid corequisite.");
+		}
+		corequisites.computeIfAbsent(course, k -> new ArrayList<>()).add(corequisite);
+	}
+
+	/**
+	 * Compiles the rules into a plan. Every course named by a rule is numbered,
+	 * each group of prerequisites and each course's corequisites become bitsets
+	 * over those numbers, so checking a course takes a few word operations.
+	 *
+	 * @return the compiled plan.
+	 * @throws IllegalArgumentException if corequisites form a cycle of any
+	 *                                  length, so no course in it could be
+	 *                                  added first.
+	 */
+	public RulePlan compile() {
+		if (hasCorequisiteCycle()) {
+			throw new IllegalArgumentException("Invalid corequisite.");
+		}
+
+		LinkedHashMap<String, Integer> ids = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String[]>> entry : prerequisites.entrySet()) {
+			number(ids, entry.getKey());
+			for (String[] group : entry.getValue()) {
+				for (String name : group) {
+					number(ids, name);
+				}
+			}
+		}
+		for (Map.Entry<String, List<String>> entry : corequisites.entrySet()) {
+			number(ids, entry.getKey());
+			for (String name : entry.getValue()) {
+				number(ids, name);
+			}
+		}
+
+		int words = (ids.size() + Long.SIZE - 1) / Long.SIZE;
+		long[][] prerequisiteBits = new long[ids.size()][];
+		for (Map.Entry<String, List<String[]>> entry : prerequisites.entrySet()) {
+			List<String[]> groups = entry.getValue();
+			long[] bits = new long[groups.size() * words];
+			for (int g = 0; g < groups.size(); g++) {
+				for (String name : groups.get(g)) {
+					setBit(bits, g * words, ids.get(name));
+				}
+			}
+			prerequisiteBits[ids.get(entry.getKey())] = bits;
+		}
+		long[][] corequisiteBits = new long[ids.size()][];
+		for (Map.Entry<String, List<String>> entry : corequisites.entrySet()) {
+			long[] bits = new long[words];
+			for (String name : entry.getValue()) {
+				setBit(bits, 0, ids.get(name));
+			}
+			corequisiteBits[ids.get(entry.getKey())] = bits;
+		}
+
+		String[] names = ids.keySet().toArray(new String[0]);
+		return new RulePlan(creditLimit, ids, names, words, prerequisiteBits, corequisiteBits);
+	}
+
+	/**
+	 * Returns true if following corequisites from some course leads back to it.
+	 * A depth-first search marks each course as on the current path or done;
+	 * reaching a course still on the path closes a cycle. The search keeps its
+	 * own stack, so long chains of corequisites cannot overflow the call stack.
+	 *
+	 * @return true if the corequisites form a cycle.
+	 */
+	private boolean hasCorequisiteCycle() {
+		// True while a course is on the path, false once all it needs is done
+		HashMap<String, Boolean> onPath = new HashMap<>();
+		for (String start : corequisites.keySet()) {
+			if (onPath.containsKey(start)) {
+				continue;
+			}
+			ArrayDeque<String> path = new ArrayDeque<>();
+			ArrayDeque<Iterator<String>> pending = new ArrayDeque<>();
+			onPath.put(start, true);
+			path.push(start);
+			pending.push(corequisites.get(start).iterator());
+			while (!pending.isEmpty()) {
+				Iterator<String> next = pending.peek();
+				if (!next.hasNext()) {
+					onPath.put(path.pop(), false);
+					pending.pop();
+					continue;
+				}
+				String course = next.next();
+				Boolean state = onPath.get(course);
+				if (state == null) {
+					onPath.put(course, true);
+					path.push(course);
+					List<String> needed = corequisites.get(course);
+					pending.push(needed == null ? Collections.<String>emptyIterator() : needed.iterator());
+				} else if (state) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gives a course the next number if it has none.
+	 *
+	 * @param ids  the number of each course.
+	 * @param name the name of the course.
+	 */
+	private static void number(Map<String, Integer> ids, String name) {
+		if (!ids.containsKey(name)) {
+			ids.put(name, ids.size());
+		}
+	}
+
+	/**
+	 * Sets a bit in a bitset held in an array.
+	 *
+	 * @param bits   the array.
+	 * @param offset the index of the bitset's first word.
+	 * @param bit    the bit to set.
+	 */
+	static void setBit(long[] bits, int offset, int bit) {
+		bits[offset + bit / Long.SIZE] |= 1L << bit;
+	}
+}
@@ -0,0 +1,102 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+
+/**
+ * The RoomIndex class groups catalog sections by room. Each room keeps the
+ * times it is booked as per-day intervals sorted by start time, in a
+ * FreeTimeIndex, so whether a room is free at a time is answered from the
+ * room's own bookings without scanning the catalog. Sections without a room
+ * are not indexed.
+ *
+ * @author Anoushka Piduru
+ */
+public class RoomIndex {
+
+	/** The sections booked into each room, in catalog order. */
+	private HashMap<String, ArrayList<Course>> coursesByRoom;
+	/** The booked times of each room. */
+	private HashMap<String, FreeTimeIndex> bookings;
+
+	/**
+	 * Constructs an empty RoomIndex.
+	 */
+	public RoomIndex() {
+		coursesByRoom = new HashMap<>();
+		bookings = new HashMap<>();
+	}
+
+	/**
+	 * Adds a section to the index of its room.
+	 *
+	 * @param course the section to add.
+	 */
+	public void add(Course course) {
+		String room = course.getRoom();
+		if (room == null) {
+			return;
+		}
+		ArrayList<Course> courses = coursesByRoom.get(room);
+		if (courses == null) {
+			courses = new ArrayList<>();
+			coursesByRoom.put(room, courses);
+			bookings.put(room, new FreeTimeIndex());
+		}
+		courses.add(course);
+		bookings.get(room).add(course);
+	}
+
+	/**
+	 * Returns true if a room is free at a time on every one of the given days.
+	 * Times that touch a booking are not free, as for schedule conflicts. A room
+	 * with no bookings is always free.
+	 *
+	 * @param room        the room.
+	 * @param meetingDays the days to check.
+	 * @param startTime   the start of the time, in military time.
+	 * @param endTime     the end of the time, in military time.
+	 * @return true if the room is free.
+	 * @throws IllegalArgumentException if the meeting days are invalid or the
+	 *                                  time ends before it starts.
+	 */
+	public boolean isAvailable(String room, String meetingDays, int startTime, int endTime) {
+		int mask = MeetingDays.toMask(meetingDays);
+		if (mask == MeetingDays.INVALID || endTime < startTime) {
+			throw new IllegalArgumentException("Invalid meeting days and times.");
+		}
+		FreeTimeIndex booked = bookings.get(room);
+		return booked == null || booked.isFree(mask, Activity.toMinutes(startTime), Activity.toMinutes(endTime));
+	}
+
+	/**
+	 * Returns the sections booked into a room.
+	 *
+	 * @param room the room.
+	 * @return the room's sections in catalog order.
+	 */
+	public List<Course> getCourses(String room) {
+		ArrayList<Course> courses = coursesByRoom.get(room);
+		if (courses == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(courses);
+	}
+
+	/**
+	 * Returns the rooms with at least one section.
+	 *
+	 * @return the rooms in sorted order.
+	 */
+	public List<String> getRooms() {
+		ArrayList<String> rooms = new ArrayList<>(coursesByRoom.keySet());
+		Collections.sort(rooms);
+		return rooms;
+	}
+}
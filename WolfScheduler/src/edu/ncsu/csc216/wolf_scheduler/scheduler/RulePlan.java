@@ -0,0 +1,239 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The RulePlan class is the compiled form of RegistrationRules. Each course
+ * named by a rule has a number, each group of prerequisites is a bitset of the
+ * courses that satisfy it, and each course's corequisites are a bitset of the
+ * courses it needs. A student's completed courses are turned into a bitset
+ * once, by forStudent(), so checking an add is one map lookup and a few word
+ * operations; the schedule is only walked for a course with corequisites. A
+ * plan never changes, so any number of students and threads may share it.
+ *
+ * @author Anoushka Piduru
+ */
+public class RulePlan {
+
+	/** Default most credits a student may schedule. */
+	private final int creditLimit;
+	/** Number of each course named by a rule. */
+	private final Map<String, Integer> ids;
+	/** Name of each numbered course. */
+	private final String[] names;
+	/** Number of words in each bitset. */
+	private final int words;
+	/** Prerequisite group bitsets of each course, one after another, or null. */
+	private final long[][] prerequisites;
+	/** Corequisite bitset of each course, or null. */
+	private final long[][] corequisites;
+
+	/**
+	 * Constructs a RulePlan. Plans are built by RegistrationRules.compile().
+	 *
+	 * @param creditLimit   the default most credits a student may schedule.
+	 * @param ids           the number of each course named by a rule.
+	 * @param names         the name of each numbered course.
+	 * @param words         the number of words in each bitset.
+	 * @param prerequisites the prerequisite group bitsets of each course.
+	 * @param corequisites  the corequisite bitset of each course.
+	 */
+	RulePlan(int creditLimit, Map<String, Integer> ids, String[] names, int words, long[][] prerequisites,
+			long[][] corequisites) {
+		this.creditLimit = creditLimit;
+		this.ids = new HashMap<>(ids);
+		this.names = names;
+		this.words = words;
+		this.prerequisites = prerequisites;
+		this.corequisites = corequisites;
+	}
+
+	/**
+	 * Returns the default most credits a student may schedule.
+	 *
+	 * @return the credit limit.
+	 */
+	public int getCreditLimit() {
+		return creditLimit;
+	}
+
+	/**
+	 * Returns the number of courses named by a rule.
+	 *
+	 * @return the number of courses.
+	 */
+	public int getCourseCount() {
+		return names.length;
+	}
+
+	/**
+	 * Returns the rules for a student with the default credit limit.
+	 *
+	 * @param completed the names of the courses the student has completed.
+	 * @return the student's rules.
+	 */
+	public StudentRules forStudent(Collection<String> completed) {
+		return forStudent(completed, creditLimit);
+	}
+
+	/**
+	 * Returns the rules for a student with their own credit limit, such as one
+	 * raised by an advisor.
+	 *
+	 * @param completed   the names of the courses the student has completed.
+	 * @param creditLimit the most credits the student may schedule.
+	 * @return the student's rules.
+	 * @throws IllegalArgumentException if completed is null or creditLimit is
+	 *                                  less than 1.
+	 */
+	public StudentRules forStudent(Collection<String> completed, int creditLimit) {
+		if (completed == null) {
+			throw new IllegalArgumentException("Invalid completed courses.");
+		}
+		if (creditLimit < 1) {
+			throw new IllegalArgumentException("Invalid credit limit.");
+		}
+		long[] bits = new long[words];
+		for (String name : completed) {
+			Integer id = ids.get(name);
+			if (id != null) {
+				RegistrationRules.setBit(bits, 0, id);
+			}
+		}
+		return new StudentRules(this, bits, creditLimit);
+	}
+
+	/**
+	 * Checks that a course may be added to a schedule.
+	 *
+	 * @param course      the course to add.
+	 * @param scheduled   the activities already in the schedule.
+	 * @param credits     the credits already in the schedule.
+	 * @param completed   the bitset of the student's completed courses.
+	 * @param creditLimit the most credits the student may schedule.
+	 * @throws RuleViolationException if adding the course breaks a rule.
+	 */
+	void check(Course course, Activity[] scheduled, int credits, long[] completed, int creditLimit) {
+		if (credits + course.getCredits() > creditLimit) {
+			throw new RuleViolationException(RuleViolationException.Rule.CREDIT_LIMIT,
+					"Adding " + course.getName() + " would exceed the credit limit of " + creditLimit + ".",
+					new ArrayList<>());
+		}
+		Integer id = ids.get(course.getName());
+		if (id == null) {
+			return;
+		}
+
+		long[] groups = prerequisites[id];
+		if (groups != null) {
+			for (int offset = 0; offset < groups.length; offset += words) {
+				if (!intersects(groups, offset, completed)) {
+					List<String> missing = toNames(groups, offset);
+					throw new RuleViolationException(RuleViolationException.Rule.PREREQUISITE,
+							course.getName() + " requires " + String.join(" or ", missing) + ".", missing);
+				}
+			}
+		}
+
+		long[] needed = corequisites[id];
+		if (needed != null) {
+			long[] have = completed.clone();
+			for (Activity activity : scheduled) {
+				if (activity instanceof Course) {
+					Integer other = ids.get(((Course) activity).getName());
+					if (other != null) {
+						RegistrationRules.setBit(have, 0, other);
+					}
+				}
+			}
+			long[] lacking = new long[words];
+			boolean missed = false;
+			for (int i = 0; i < words; i++) {
+				lacking[i] = needed[i] & ~have[i];
+				missed |= lacking[i] != 0;
+			}
+			if (missed) {
+				List<String> missing = toNames(lacking, 0);
+				throw new RuleViolationException(RuleViolationException.Rule.COREQUISITE,
+						course.getName() + " must be taken with " + String.join(" and ", missing) + ".", missing);
+			}
+		}
+	}
+
+	/**
+	 * Checks that a course may be removed from a schedule: no other scheduled
+	 * course may need it as a corequisite, unless it is completed.
+	 *
+	 * @param course    the course to remove.
+	 * @param scheduled the activities in the schedule, including the course.
+	 * @param completed the bitset of the student's completed courses.
+	 * @throws RuleViolationException if removing the course leaves a scheduled
+	 *                                course without a corequisite.
+	 */
+	void checkRemove(Course course, Activity[] scheduled, long[] completed) {
+		Integer id = ids.get(course.getName());
+		if (id == null || (completed[id / Long.SIZE] & 1L << id) != 0) {
+			return;
+		}
+		ArrayList<String> dependents = new ArrayList<>();
+		for (Activity activity : scheduled) {
+			if (activity == course || !(activity instanceof Course)) {
+				continue;
+			}
+			String name = ((Course) activity).getName();
+			Integer other = ids.get(name);
+			long[] needed = other == null ? null : corequisites[other];
+			if (needed != null && (needed[id / Long.SIZE] & 1L << id) != 0) {
+				dependents.add(name);
+			}
+		}
+		if (!dependents.isEmpty()) {
+			throw new RuleViolationException(RuleViolationException.Rule.COREQUISITE, String.join(" and ", dependents)
+					+ " must be taken with " + course.getName() + ".", Collections.singletonList(course.getName()));
+		}
+	}
+
+	/**
+	 * Returns true if a bitset held in an array shares a bit with another.
+	 *
+	 * @param bits   the array.
+	 * @param offset the index of the bitset's first word.
+	 * @param other  the other bitset.
+	 * @return true if they share a bit.
+	 */
+	private boolean intersects(long[] bits, int offset, long[] other) {
+		for (int i = 0; i < words; i++) {
+			if ((bits[offset + i] & other[i]) != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the names of the courses in a bitset held in an array.
+	 *
+	 * @param bits   the array.
+	 * @param offset the index of the bitset's first word.
+	 * @return the names, in rule order.
+	 */
+	private List<String> toNames(long[] bits, int offset) {
+		ArrayList<String> found = new ArrayList<>();
+		for (int i = 0; i < words; i++) {
+			long word = bits[offset + i];
+			while (word != 0) {
+				found.add(names[i * Long.SIZE + Long.numberOfTrailingZeros(word)]);
+				word &= word - 1;
+			}
+		}
+		return found;
+	}
+}
@@ -0,0 +1,68 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A RuleViolationException is thrown when a course cannot be added to or
+ * removed from a schedule because the change would break a registration rule. It carries the rule
+ * broken and the courses the student is missing.
+ *
+ * @author Anoushka Piduru
+ */
+public class RuleViolationException extends IllegalArgumentException {
+	/** ID used for serialization. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The registration rules a course can break.
+	 */
+	public enum Rule {
+		/** The schedule would hold more credits than the student may take. */
+		CREDIT_LIMIT,
+		/** A prerequisite has not been completed. */
+		PREREQUISITE,
+		/** A corequisite is neither completed nor scheduled. */
+		COREQUISITE
+	}
+
+	/** The rule broken. */
+	private final Rule rule;
+	/** The courses the student is missing. */
+	private final List<String> missing;
+
+	/**
+	 * Constructs a RuleViolationException.
+	 *
+	 * @param rule    the rule broken.
+	 * @param message the message for the exception.
+	 * @param missing the names of the courses the student is missing, any one of
+	 *                which satisfies a prerequisite.
+	 */
+	public RuleViolationException(Rule rule, String message, List<String> missing) {
+		super(message);
+		this.rule = rule;
+		this.missing = Collections.unmodifiableList(new ArrayList<>(missing));
+	}
+
+	/**
+	 * Returns the rule broken.
+	 *
+	 * @return the rule.
+	 */
+	public Rule getRule() {
+		return rule;
+	}
+
+	/**
+	 * Returns the courses the student is missing. For a prerequisite, completing
+	 * any one of them is enough; for a corequisite, all are needed; for the
+	 * credit limit, there are none.
+	 *
+	 * @return the names of the missing courses.
+	 */
+	public List<String> getMissing() {
+		return missing;
+	}
+}
@@ -0,0 +1,58 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * A ScheduleConflictException is thrown when a course cannot be added to a
+ * schedule because it conflicts with a scheduled activity. It carries the
+ * activity it conflicts with and the other sections of the course that would
+ * fit, best first.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleConflictException extends IllegalArgumentException {
+	/** ID used for serialization. */
+	private static final long serialVersionUID = 1L;
+
+	/** The scheduled activity the course conflicts with. */
+	private final transient Activity conflictingActivity;
+	/** Other sections of the course that fit the schedule, best first. */
+	private final transient List<Course> alternatives;
+
+	/**
+	 * Constructs a ScheduleConflictException.
+	 *
+	 * @param message             the message for the exception.
+	 * @param conflictingActivity the scheduled activity the course conflicts with.
+	 * @param alternatives        other sections of the course that fit the
+	 *                            schedule, best first.
+	 */
+	public ScheduleConflictException(String message, Activity conflictingActivity, List<Course> alternatives) {
+		super(message);
+		this.conflictingActivity = conflictingActivity;
+		this.alternatives = Collections.unmodifiableList(new ArrayList<>(alternatives));
+	}
+
+	/**
+	 * Returns the scheduled activity the course conflicts with.
+	 *
+	 * @return the conflicting activity.
+	 */
+	public Activity getConflictingActivity() {
+		return conflictingActivity;
+	}
+
+	/**
+	 * Returns the other sections of the course that fit the schedule, best first.
+	 *
+	 * @return the alternative sections.
+	 */
+	public List<Course> getAlternatives() {
+		return alternatives;
+	}
+}
@@ -0,0 +1,187 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * The ScheduleHistory class keeps the versions of a schedule so that changes
+ * can be undone and redone and named checkpoints restored. Versions are
+ * immutable and share structure, so the history holds references rather than
+ * copies: committing, undoing, redoing, saving a checkpoint, and restoring one
+ * each take constant time. The undo and redo stacks are linked lists of
+ * versions, so pushing and popping never copies or resizes.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleHistory {
+
+	/** The current version. */
+	private ScheduleVersion current;
+	/** Versions before the current one, most recent first. */
+	private Entry undoStack;
+	/** Versions undone since the last commit, most recent first. */
+	private Entry redoStack;
+	/** Versions saved by name. */
+	private HashMap<String, ScheduleVersion> checkpoints;
+
+	/**
+	 * Constructs a ScheduleHistory starting at a version.
+	 *
+	 * @param initial the first version.
+	 * @throws IllegalArgumentException if initial is null.
+	 */
+	public ScheduleHistory(ScheduleVersion initial) {
+		if (initial == null) {
+			throw new IllegalArgumentException("Invalid schedule version.");
+		}
+		current = initial;
+		checkpoints = new HashMap<>();
+	}
+
+	/**
+	 * Returns the current version.
+	 *
+	 * @return the current version.
+	 */
+	public ScheduleVersion getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Makes a version current and pushes the old one onto the undo stack. The
+	 * redo stack is cleared. Committing the current version again does nothing.
+	 *
+	 * @param version the new version.
+	 * @throws IllegalArgumentException if version is null.
+	 */
+	public void commit(ScheduleVersion version) {
+		if (version == null) {
+			throw new IllegalArgumentException("Invalid schedule version.");
+		}
+		if (version == current) {
+			return;
+		}
+		undoStack = new Entry(current, undoStack);
+		redoStack = null;
+		current = version;
+	}
+
+	/**
+	 * Returns whether there is a change to undo.
+	 *
+	 * @return true if undo() will change the current version.
+	 */
+	public boolean canUndo() {
+		return undoStack != null;
+	}
+
+	/**
+	 * Returns whether there is an undone change to redo.
+	 *
+	 * @return true if redo() will change the current version.
+	 */
+	public boolean canRedo() {
+		return redoStack != null;
+	}
+
+	/**
+	 * Returns to the version before the current one.
+	 *
+	 * @return true if a change was undone, false if there was none.
+	 */
+	public boolean undo() {
+		if (undoStack == null) {
+			return false;
+		}
+		redoStack = new Entry(current, redoStack);
+		current = undoStack.version;
+		undoStack = undoStack.next;
+		return true;
+	}
+
+	/**
+	 * Reapplies the most recently undone change.
+	 *
+	 * @return true if a change was redone, false if there was none.
+	 */
+	public boolean redo() {
+		if (redoStack == null) {
+			return false;
+		}
+		undoStack = new Entry(current, undoStack);
+		current = redoStack.version;
+		redoStack = redoStack.next;
+		return true;
+	}
+
+	/**
+	 * Saves the current version under a name, replacing any checkpoint with the
+	 * same name.
+	 *
+	 * @param name the name of the checkpoint.
+	 * @throws IllegalArgumentException if name is null or empty.
+	 */
+	public void saveCheckpoint(String name) {
+		if (name == null || name.length() == 0) {
+			throw new IllegalArgumentException("Invalid checkpoint.");
+		}
+		checkpoints.put(name, current);
+	}
+
+	/**
+	 * Commits the version saved under a name, so restoring a checkpoint can
+	 * itself be undone.
+	 *
+	 * @param name the name of the checkpoint.
+	 * @throws IllegalArgumentException if there is no checkpoint with the name.
+	 */
+	public void restoreCheckpoint(String name) {
+		commit(getCheckpoint(name));
+	}
+
+	/**
+	 * Returns the version saved under a name.
+	 *
+	 * @param name the name of the checkpoint.
+	 * @return the saved version.
+	 * @throws IllegalArgumentException if there is no checkpoint with the name.
+	 */
+	public ScheduleVersion getCheckpoint(String name) {
+		ScheduleVersion saved = checkpoints.get(name);
+		if (saved == null) {
+			throw new IllegalArgumentException("Invalid checkpoint.");
+		}
+		return saved;
+	}
+
+	/**
+	 * Returns the names of the saved checkpoints.
+	 *
+	 * @return the checkpoint names.
+	 */
+	public List<String> getCheckpointNames() {
+		return new ArrayList<>(checkpoints.keySet());
+	}
+
+	/**
+	 * A version on the undo or redo stack and the entry below it.
+	 */
+	private static final class Entry {
+		/** The version. */
+		private final ScheduleVersion version;
+		/** The entry below this one. */
+		private final Entry next;
+
+		/**
+		 * Constructs an Entry.
+		 *
+		 * @param version the version.
+		 * @param next    the entry below this one.
+		 */
+		private Entry(ScheduleVersion version, Entry next) {
+			this.version = version;
+			this.next = next;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ScheduleImporter class loads many exported schedule files at once, such
+ * as every student's schedule for a term. Each file is imported into its own
+ * WolfScheduler, and all of them share one CourseCatalog so the catalog is
+ * read and indexed only once. Files are imported in parallel; the catalog is
+ * only read during the import, so it must not be changed until the import
+ * returns.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleImporter {
+
+	/** The catalog shared by every imported schedule. */
+	private CourseCatalog catalog;
+
+	/**
+	 * Constructs a ScheduleImporter over a catalog.
+	 *
+	 * @param catalog the catalog shared by every imported schedule.
+	 * @throws IllegalArgumentException if catalog is null.
+	 */
+	public ScheduleImporter(CourseCatalog catalog) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.catalog = catalog;
+	}
+
+	/**
+	 * Imports each file into its own WolfScheduler, in parallel. Files that
+	 * cannot be found are left out of the result.
+	 *
+	 * @param fileNames the exported schedule files.
+	 * @return the imported schedulers keyed by file name, in the order given.
+	 */
+	public Map<String, WolfScheduler> importAll(List<String> fileNames) {
+		Map<String, WolfScheduler> imported = new ConcurrentHashMap<>();
+		fileNames.parallelStream().distinct().forEach(fileName -> {
+			WolfScheduler scheduler = new WolfScheduler(catalog);
+			try {
+				scheduler.importSchedule(fileName);
+				imported.put(fileName, scheduler);
+			} catch (IllegalArgumentException e) {
+				// The file cannot be found; leave it out
+			}
+		});
+
+		Map<String, WolfScheduler> ordered = new LinkedHashMap<>();
+		for (String fileName : fileNames) {
+			WolfScheduler scheduler = imported.get(fileName);
+			if (scheduler != null) {
+				ordered.put(fileName, scheduler);
+			}
+		}
+		return ordered;
+	}
+}
@@ -0,0 +1,587 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * The ScheduleJournal class is an append-only log of the changes made to a
+ * schedule, so that unsaved changes survive the process dying. Each change is
+ * written as a small binary record framed by its length and a CRC32 checksum.
+ * Records are flushed and forced to disk in groups: a group is committed once
+ * it holds groupSize records or once its first record has waited the commit
+ * interval, whichever comes first. The interval is kept by a timer, so the last
+ * change before the user goes idle is committed without another append. A
+ * record torn by a crash fails its checksum and ends replay. Undo, redo, and
+ * restoring a checkpoint are journaled as change records holding only the
+ * activities that differ between the two versions.
+ *
+ * To bound replay time, the journal is rewritten as a snapshot of the current
+ * schedule after every snapshotInterval records. The snapshot is written to a
+ * temporary file and moved over the journal, so a crash during a snapshot
+ * leaves the old journal in place. Snapshotting right after a replay also drops
+ * any torn record left at the end of the file.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleJournal {
+
+	/** Record type for adding a course to the schedule. */
+	private static final byte ADD_COURSE = 1;
+	/** Record type for adding an event to the schedule. */
+	private static final byte ADD_EVENT = 2;
+	/** Record type for removing an activity by its position, from older journals. */
+	private static final byte REMOVE = 3;
+	/** Record type for resetting the schedule. */
+	private static final byte RESET = 4;
+	/** Record type for setting the schedule title. */
+	private static final byte TITLE = 5;
+	/** Record type for moving to another version, as by undo or redo. */
+	private static final byte CHANGE = 6;
+	/** Record type for removing an activity from the schedule. */
+	private static final byte REMOVE_ACTIVITY = 7;
+	/** Default number of records committed together. */
+	public static final int DEFAULT_GROUP_SIZE = 32;
+	/** Default number of records between snapshots. */
+	public static final int DEFAULT_SNAPSHOT_INTERVAL = 1000;
+	/** Longest time in milliseconds a record waits to be committed. */
+	private static final long COMMIT_INTERVAL_MILLIS = 50;
+	/** Timer committing groups whose commit interval has passed. */
+	private static final ScheduledExecutorService COMMITTER = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "journal-commit");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** The journal file. */
+	private File file;
+	/** Stream appending to the journal file. */
+	private FileOutputStream fileOut;
+	/** Buffered stream over the journal file. */
+	private DataOutputStream out;
+	/** Number of records committed together. */
+	private int groupSize;
+	/** Number of records between snapshots. */
+	private int snapshotInterval;
+	/** Records written but not yet forced to disk. */
+	private int pendingRecords;
+	/** Records written since the last snapshot. */
+	private int recordsSinceSnapshot;
+	/** Time of the last commit. */
+	private long lastCommitMillis;
+	/** Timed commit of the records written since the last commit, or null. */
+	private ScheduledFuture<?> pendingCommit;
+	/** Failure of the last timed commit, thrown by the next write, or null. */
+	private IOException commitFailure;
+
+	/**
+	 * Opens a journal for appending, with the default group size and snapshot
+	 * interval.
+	 *
+	 * @param fileName the journal file.
+	 * @throws IOException if the journal cannot be opened.
+	 */
+	public ScheduleJournal(String fileName) throws IOException {
+		this(fileName, DEFAULT_GROUP_SIZE, DEFAULT_SNAPSHOT_INTERVAL);
+	}
+
+	/**
+	 * Opens a journal for appending.
+	 *
+	 * @param fileName         the journal file.
+	 * @param groupSize        the number of records committed together.
+	 * @param snapshotInterval the number of records between snapshots.
+	 * @throws IOException              if the journal cannot be opened.
+	 * @throws IllegalArgumentException if groupSize or snapshotInterval is not
+	 *                                  positive.
+	 */
+	public ScheduleJournal(String fileName, int groupSize, int snapshotInterval) throws IOException {
+		if (groupSize < 1 || snapshotInterval < 1) {
+			throw new IllegalArgumentException("Invalid journal settings.");
+		}
+		this.file = new File(fileName);
+		this.groupSize = groupSize;
+		this.snapshotInterval = snapshotInterval;
+		open();
+	}
+
+	/**
+	 * Appends a record for adding a course to the schedule.
+	 *
+	 * @param name    the name of the course.
+	 * @param section the section of the course.
+	 * @throws IOException if the record cannot be written.
+	 */
+	public void appendAddCourse(String name, String section) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream record = new DataOutputStream(bytes);
+		record.writeByte(ADD_COURSE);
+		record.writeUTF(name);
+		record.writeUTF(section);
+		append(bytes.toByteArray());
+	}
+
+	/**
+	 * Appends a record for adding an event to the schedule.
+	 *
+	 * @param event the event added.
+	 * @throws IOException if the record cannot be written.
+	 */
+	public void appendAddEvent(Event event) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream record = new DataOutputStream(bytes);
+		writeActivity(record, event);
+		append(bytes.toByteArray());
+	}
+
+	/**
+	 * Appends a record for removing an activity from the schedule. The activity
+	 * is recorded rather than its position, so the record still removes the
+	 * right activity when replayed against a schedule missing some courses.
+	 *
+	 * @param activity the activity removed.
+	 * @throws IOException if the record cannot be written.
+	 */
+	public void appendRemove(Activity activity) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream record = new DataOutputStream(bytes);
+		record.writeByte(REMOVE_ACTIVITY);
+		writeActivity(record, activity);
+		append(bytes.toByteArray());
+	}
+
+	/**
+	 * Appends a record for resetting the schedule.
+	 *
+	 * @throws IOException if the record cannot be written.
+	 */
+	public void appendReset() throws IOException {
+		append(new byte[] { RESET });
+	}
+
+	/**
+	 * Appends a record for setting the schedule title.
+	 *
+	 * @param title the new title.
+	 * @throws IOException if the record cannot be written.
+	 */
+	public void appendTitle(String title) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream record = new DataOutputStream(bytes);
+		record.writeByte(TITLE);
+		record.writeUTF(title);
+		append(bytes.toByteArray());
+	}
+
+	/**
+	 * Appends a record for moving the schedule to another version, as undo, redo,
+	 * restoring a checkpoint, or importing a schedule do. Only the activities
+	 * that differ between the versions are written, so the record is as small as
+	 * the change and goes through the same group commit as any other.
+	 *
+	 * @param title   the title of the new version.
+	 * @param removed the activities of the old version only.
+	 * @param added   the activities of the new version only, in schedule order.
+	 * @throws IOException if the record cannot be written.
+	 */
+	public void appendChange(String title, List<Activity> removed, List<Activity> added) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream record = new DataOutputStream(bytes);
+		record.writeByte(CHANGE);
+		record.writeUTF(title);
+		record.writeInt(removed.size());
+		for (Activity activity : removed) {
+			writeActivity(record, activity);
+		}
+		record.writeInt(added.size());
+		for (Activity activity : added) {
+			writeActivity(record, activity);
+		}
+		append(bytes.toByteArray());
+	}
+
+	/**
+	 * Returns true once enough records have been written since the last snapshot
+	 * that the journal should be compacted.
+	 *
+	 * @return true if a snapshot is due.
+	 */
+	public synchronized boolean isSnapshotDue() {
+		return recordsSinceSnapshot >= snapshotInterval;
+	}
+
+	/**
+	 * Replaces the journal with the records needed to rebuild the given schedule:
+	 * a reset, its title, and an add for each activity in order. If the snapshot
+	 * cannot be written, the journal is left as it was and stays open.
+	 *
+	 * @param title    the schedule title.
+	 * @param schedule the activities in the schedule.
+	 * @throws IOException if the snapshot cannot be written.
+	 */
+	public synchronized void snapshot(String title, List<Activity> schedule) throws IOException {
+		close();
+		File temp = new File(file.getPath() + ".tmp");
+		int sinceSnapshot = recordsSinceSnapshot;
+		try {
+			fileOut = new FileOutputStream(temp);
+			out = new DataOutputStream(new BufferedOutputStream(fileOut));
+			appendReset();
+			appendTitle(title);
+			for (Activity activity : schedule) {
+				if (activity instanceof Course) {
+					Course course = (Course) activity;
+					appendAddCourse(course.getName(), course.getSection());
+				} else {
+					appendAddEvent((Event) activity);
+				}
+			}
+			close();
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException ignored) {
+					// The temporary file is deleted anyway
+				}
+				out = null;
+				fileOut = null;
+			}
+			if (temp.isFile()) {
+				Files.delete(temp.toPath());
+			}
+			open();
+			recordsSinceSnapshot = sinceSnapshot;
+			throw e;
+		}
+		open();
+	}
+
+	/**
+	 * Flushes buffered records and forces them to disk.
+	 *
+	 * @throws IOException if the records cannot be written.
+	 */
+	public synchronized void sync() throws IOException {
+		if (out == null) {
+			throw new IOException("The journal is closed.");
+		}
+		out.flush();
+		fileOut.getChannel().force(false);
+		pendingRecords = 0;
+		lastCommitMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Commits any buffered records and closes the journal.
+	 *
+	 * @throws IOException if the records cannot be written.
+	 */
+	public synchronized void close() throws IOException {
+		if (pendingCommit != null) {
+			pendingCommit.cancel(false);
+			pendingCommit = null;
+		}
+		if (out != null) {
+			sync();
+			out.close();
+			out = null;
+			fileOut = null;
+		}
+	}
+
+	/**
+	 * Replays a journal against a version of a schedule. Records are applied
+	 * straight to the version, so replay adds nothing to the undo history and
+	 * is not counted as the user's changes. Records that no longer apply, such
+	 * as a course missing from the catalog, are skipped. Replay stops at the end
+	 * of the file or at the first torn or corrupt record.
+	 *
+	 * @param fileName the journal file.
+	 * @param start    the version to apply the records to.
+	 * @param catalog  looks up a course by name and section, returning null if
+	 *                 it is not in the catalog.
+	 * @return the version with every record applied.
+	 * @throws IOException if the journal cannot be read.
+	 */
+	public static ScheduleVersion replay(String fileName, ScheduleVersion start,
+			BiFunction<String, String, Course> catalog) throws IOException {
+		ScheduleVersion version = start;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName)))) {
+			while (true) {
+				byte[] payload;
+				try {
+					int length = in.readInt();
+					if (length <= 0) {
+						break;
+					}
+					payload = new byte[length];
+					in.readFully(payload);
+					if (in.readInt() != checksum(payload)) {
+						break;
+					}
+				} catch (EOFException e) {
+					break;
+				}
+				version = apply(payload, version, catalog);
+			}
+		}
+		return version;
+	}
+
+	/**
+	 * Applies one record to a version of a schedule.
+	 *
+	 * @param payload the record.
+	 * @param version the version to apply the record to.
+	 * @param catalog looks up a course by name and section.
+	 * @return the version with the record applied.
+	 * @throws IOException if the record is malformed.
+	 */
+	private static ScheduleVersion apply(byte[] payload, ScheduleVersion version,
+			BiFunction<String, String, Course> catalog) throws IOException {
+		DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+		byte type = record.readByte();
+		switch (type) {
+		case ADD_COURSE:
+		case ADD_EVENT:
+			return add(version, readActivity(type, record, catalog));
+		case REMOVE:
+			int idx = record.readInt();
+			return idx >= 0 && idx < version.size() ? version.remove(idx) : version;
+		case REMOVE_ACTIVITY:
+			return remove(version, readKey(record));
+		case RESET:
+			return version.clear();
+		case TITLE:
+			return version.withTitle(record.readUTF());
+		case CHANGE:
+			String title = record.readUTF();
+			for (int i = record.readInt(); i > 0; i--) {
+				version = remove(version, readKey(record));
+			}
+			for (int i = record.readInt(); i > 0; i--) {
+				version = add(version, readActivity(record.readByte(), record, catalog));
+			}
+			return version.withTitle(title);
+		default:
+			throw new IOException("Unknown journal record.");
+		}
+	}
+
+	/**
+	 * Writes an activity into a record: a course as its name and section, and an
+	 * event with all of its fields.
+	 *
+	 * @param record   the record being built.
+	 * @param activity the activity.
+	 * @throws IOException if the activity cannot be written.
+	 */
+	private static void writeActivity(DataOutputStream record, Activity activity) throws IOException {
+		if (activity instanceof Course) {
+			Course course = (Course) activity;
+			record.writeByte(ADD_COURSE);
+			record.writeUTF(course.getName());
+			record.writeUTF(course.getSection());
+		} else {
+			Event event = (Event) activity;
+			record.writeByte(ADD_EVENT);
+			record.writeUTF(event.getTitle());
+			record.writeUTF(event.getMeetingDays());
+			record.writeShort(event.getStartTime());
+			record.writeShort(event.getEndTime());
+			record.writeUTF(event.getEventDetails());
+		}
+	}
+
+	/**
+	 * Reads an activity written by writeActivity(), after its type.
+	 *
+	 * @param type    the type of the activity.
+	 * @param record  the record.
+	 * @param catalog looks up a course by name and section.
+	 * @return the activity, or null if the course is not in the catalog or the
+	 *         event is no longer valid.
+	 * @throws IOException if the record is malformed.
+	 */
+	private static Activity readActivity(byte type, DataInputStream record,
+			BiFunction<String, String, Course> catalog) throws IOException {
+		if (type == ADD_COURSE) {
+			return catalog.apply(record.readUTF(), record.readUTF());
+		}
+		String title = record.readUTF();
+		String meetingDays = record.readUTF();
+		int startTime = record.readShort();
+		int endTime = record.readShort();
+		String details = record.readUTF();
+		try {
+			return new Event(title, meetingDays, startTime, endTime, details);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Reads an activity written by writeActivity() as the name and section of a
+	 * course, or the title of an event.
+	 *
+	 * @param record the record.
+	 * @return the name and section of a course, or the title of an event.
+	 * @throws IOException if the record is malformed.
+	 */
+	private static String[] readKey(DataInputStream record) throws IOException {
+		if (record.readByte() == ADD_COURSE) {
+			return new String[] { record.readUTF(), record.readUTF() };
+		}
+		String title = record.readUTF();
+		record.readUTF();
+		record.readShort();
+		record.readShort();
+		record.readUTF();
+		return new String[] { title };
+	}
+
+	/**
+	 * Adds an activity to a version, unless it is missing or already scheduled.
+	 *
+	 * @param version  the version.
+	 * @param activity the activity, or null if it no longer applies.
+	 * @return the version with the activity added.
+	 */
+	private static ScheduleVersion add(ScheduleVersion version, Activity activity) {
+		if (activity == null) {
+			return version;
+		}
+		for (Activity scheduled : version.toArray()) {
+			if (activity.isDuplicate(scheduled)) {
+				return version;
+			}
+		}
+		return version.add(activity);
+	}
+
+	/**
+	 * Removes the activity with a key read by readKey() from a version, if it is
+	 * scheduled.
+	 *
+	 * @param version the version.
+	 * @param key     the name and section of a course, or the title of an event.
+	 * @return the version with the activity removed.
+	 */
+	private static ScheduleVersion remove(ScheduleVersion version, String[] key) {
+		Activity[] scheduled = version.toArray();
+		for (int idx = 0; idx < scheduled.length; idx++) {
+			if (matches(scheduled[idx], key)) {
+				return version.remove(idx);
+			}
+		}
+		return version;
+	}
+
+	/**
+	 * Returns true if an activity has a key read by readKey().
+	 *
+	 * @param activity the activity.
+	 * @param key      the name and section of a course, or the title of an event.
+	 * @return true if the activity has the key.
+	 */
+	private static boolean matches(Activity activity, String[] key) {
+		if (activity instanceof Course) {
+			Course course = (Course) activity;
+			return key.length == 2 && key[0].equals(course.getName()) && key[1].equals(course.getSection());
+		}
+		return key.length == 1 && key[0].equals(activity.getTitle());
+	}
+
+	/**
+	 * Frames and writes a record, committing the group if it is full or old.
+	 * Otherwise a timed commit is scheduled for the group, if it has none.
+	 *
+	 * @param payload the record.
+	 * @throws IOException if the record cannot be written or a timed commit
+	 *                     failed.
+	 */
+	private synchronized void append(byte[] payload) throws IOException {
+		if (commitFailure != null) {
+			IOException failure = commitFailure;
+			commitFailure = null;
+			throw failure;
+		}
+		if (out == null) {
+			throw new IOException("The journal is closed.");
+		}
+		out.writeInt(payload.length);
+		out.write(payload);
+		out.writeInt(checksum(payload));
+		pendingRecords++;
+		recordsSinceSnapshot++;
+		if (pendingRecords >= groupSize || System.currentTimeMillis() - lastCommitMillis >= COMMIT_INTERVAL_MILLIS) {
+			sync();
+		} else if (pendingCommit == null) {
+			pendingCommit = COMMITTER.schedule(this::commitPending, COMMIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Commits the records still waiting when their timed commit comes due. A
+	 * failure is kept and thrown by the next write, since no caller is waiting.
+	 */
+	private synchronized void commitPending() {
+		pendingCommit = null;
+		if (out != null && pendingRecords > 0) {
+			try {
+				sync();
+			} catch (IOException e) {
+				commitFailure = e;
+			}
+		}
+	}
+
+	/**
+	 * Opens the journal file for appending.
+	 *
+	 * @throws IOException if the file cannot be opened.
+	 */
+	private void open() throws IOException {
+		fileOut = new FileOutputStream(file, true);
+		out = new DataOutputStream(new BufferedOutputStream(fileOut));
+		pendingRecords = 0;
+		recordsSinceSnapshot = 0;
+		lastCommitMillis = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the CRC32 checksum of a record.
+	 *
+	 * @param payload the record.
+	 * @return the checksum.
+	 */
+	private static int checksum(byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		return (int) crc.getValue();
+	}
+}
@@ -0,0 +1,58 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+/**
+ * The ScheduleMatch class is a schedule found by the ScheduleMiner to be
+ * similar to a cart, and how similar it is.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleMatch {
+
+	/** The position of the schedule in the miner. */
+	private int schedule;
+	/** The id of the schedule, such as its file name. */
+	private String id;
+	/** The Jaccard similarity of the schedule's sections and the cart's. */
+	private double similarity;
+
+	/**
+	 * Constructs a ScheduleMatch.
+	 *
+	 * @param schedule   the position of the schedule in the miner.
+	 * @param id         the id of the schedule.
+	 * @param similarity the similarity of the schedule to the cart.
+	 */
+	public ScheduleMatch(int schedule, String id, double similarity) {
+		this.schedule = schedule;
+		this.id = id;
+		this.similarity = similarity;
+	}
+
+	/**
+	 * Returns the position of the schedule in the miner.
+	 *
+	 * @return the schedule's position.
+	 */
+	public int getSchedule() {
+		return schedule;
+	}
+
+	/**
+	 * Returns the id of the schedule.
+	 *
+	 * @return the schedule's id.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the Jaccard similarity of the schedule's sections and the cart's:
+	 * the sections they share over the sections in either.
+	 *
+	 * @return the similarity, from 0 to 1.
+	 */
+	public double getSimilarity() {
+		return similarity;
+	}
+}
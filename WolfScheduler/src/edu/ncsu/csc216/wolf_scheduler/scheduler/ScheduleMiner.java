@@ -0,0 +1,610 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
+
+/**
+ * The ScheduleMiner class finds schedules similar to a student's cart and
+ * sections that are often taken together, over many exported schedules. Each
+ * schedule is kept as the sorted catalog positions of its sections, a sparse
+ * set over the catalog; events and sections missing from the catalog are
+ * left out.
+ *
+ * Similar schedules are found with MinHash and locality sensitive hashing. Each
+ * schedule gets a signature of the smallest value of several hash functions
+ * over its sections; two signatures agree at a position with probability equal
+ * to the Jaccard similarity of the schedules. The signature is cut into bands
+ * and each band is hashed into a bucket, so only schedules sharing a bucket
+ * with a cart are compared with it exactly. With the default 64 hashes in 16
+ * bands, schedules at least about half similar are almost always found, and
+ * the cost of a query depends on how many schedules are similar, not on how
+ * many there are.
+ *
+ * Frequent combinations are counted level by level: a pair is only counted if
+ * both its sections are frequent, and a triple only if all its pairs are.
+ *
+ * A miner is built by one thread and may then be queried by many.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleMiner {
+
+	/** Default number of hash functions in a signature. */
+	public static final int DEFAULT_HASHES = 64;
+	/** Default number of bands the signature is cut into. */
+	public static final int DEFAULT_BANDS = 16;
+	/** Largest combination size counted by findFrequentCombinations(). */
+	public static final int MAX_COMBINATION_SIZE = 3;
+	/** Bits used for each catalog position in a packed combination. */
+	private static final int ROW_BITS = 21;
+	/** Seed of the hash functions. */
+	private static final long SEED = 0x5EC7105L;
+
+	/** The catalog the schedules' sections are found in. */
+	private CourseCatalog catalog;
+	/** Number of hash functions in a signature. */
+	private int hashes;
+	/** Number of bands the signature is cut into. */
+	private int bands;
+	/** Number of signature values in each band. */
+	private int rowsPerBand;
+	/** Seed of each hash function. */
+	private long[] hashSeeds;
+	/** Id of each schedule. */
+	private ArrayList<String> ids;
+	/** Sorted catalog positions of each schedule's sections. */
+	private ArrayList<int[]> sections;
+	/** Signatures of every schedule, one after another. */
+	private int[] signatures;
+	/** Schedules whose band hashes to each key. */
+	private HashMap<Long, Bucket> buckets;
+
+	/**
+	 * Constructs a ScheduleMiner over a catalog with the default signature size.
+	 *
+	 * @param catalog the catalog the schedules' sections are found in.
+	 * @throws IllegalArgumentException if catalog is null.
+	 */
+	public ScheduleMiner(CourseCatalog catalog) {
+		this(catalog, DEFAULT_HASHES, DEFAULT_BANDS);
+	}
+
+	/**
+	 * Constructs a ScheduleMiner over a catalog. More bands find less similar
+	 * schedules at the cost of comparing more candidates.
+	 *
+	 * @param catalog the catalog the schedules' sections are found in.
+	 * @param hashes  the number of hash functions in a signature.
+	 * @param bands   the number of bands the signature is cut into.
+	 * @throws IllegalArgumentException if catalog is null, or hashes or bands
+	 *                                  is less than 1, or hashes is not a
+	 *                                  multiple of bands.
+	 */
+	public ScheduleMiner(CourseCatalog catalog, int hashes, int bands) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		if (hashes < 1 || bands < 1 || hashes % bands != 0) {
+			throw new IllegalArgumentException("Invalid signature size.");
+		}
+		this.catalog = catalog;
+		this.hashes = hashes;
+		this.bands = bands;
+		rowsPerBand = hashes / bands;
+		hashSeeds = new long[hashes];
+		long seed = SEED;
+		for (int i = 0; i < hashes; i++) {
+			seed = mix(seed + i);
+			hashSeeds[i] = seed;
+		}
+		ids = new ArrayList<>();
+		sections = new ArrayList<>();
+		signatures = new int[hashes * 16];
+		buckets = new HashMap<>();
+	}
+
+	/**
+	 * Adds a schedule. Schedules with no catalog sections are not added.
+	 *
+	 * @param id         the id of the schedule, such as its file name.
+	 * @param activities the activities in the schedule.
+	 * @return the position of the schedule, or -1 if it was not added.
+	 */
+	public int addSchedule(String id, Collection<? extends Activity> activities) {
+		int[] rows = toRows(activities);
+		if (rows.length == 0) {
+			return -1;
+		}
+		int schedule = ids.size();
+		ids.add(id);
+		sections.add(rows);
+		if (signatures.length < (schedule + 1) * hashes) {
+			signatures = Arrays.copyOf(signatures, signatures.length * 2);
+		}
+		int[] signature = signature(rows);
+		System.arraycopy(signature, 0, signatures, schedule * hashes, hashes);
+		for (int band = 0; band < bands; band++) {
+			Long key = bandKey(signature, band);
+			Bucket bucket = buckets.get(key);
+			if (bucket == null) {
+				bucket = new Bucket();
+				buckets.put(key, bucket);
+			}
+			bucket.add(schedule);
+		}
+		return schedule;
+	}
+
+	/**
+	 * Adds a schedule exported by WolfScheduler.exportSchedule(), using the file
+	 * name as its id.
+	 *
+	 * @param fileName the exported schedule file.
+	 * @return the position of the schedule, or -1 if it was not added.
+	 * @throws FileNotFoundException if the file cannot be found or read.
+	 */
+	public int addScheduleFile(String fileName) throws FileNotFoundException {
+		ArrayList<Activity> activities = new ArrayList<>();
+		ActivityRecordIO.readActivityRecords(fileName, catalog::get, activities::add);
+		return addSchedule(fileName, activities);
+	}
+
+	/**
+	 * Adds many exported schedule files. The files are read in parallel and
+	 * added in the order given. Files that cannot be found are skipped.
+	 *
+	 * @param fileNames the exported schedule files.
+	 * @return the number of schedules added.
+	 */
+	public int addScheduleFiles(List<String> fileNames) {
+		// One slot per file, each set only by the task reading that file
+		List<List<Activity>> read = new ArrayList<>(Collections.nCopies(fileNames.size(), null));
+		IntStream.range(0, fileNames.size()).parallel().forEach(i -> {
+			ArrayList<Activity> activities = new ArrayList<>();
+			try {
+				ActivityRecordIO.readActivityRecords(fileNames.get(i), catalog::get, activities::add);
+				read.set(i, activities);
+			} catch (FileNotFoundException e) {
+				// The file cannot be found; skip it
+			}
+		});
+		int added = 0;
+		for (int i = 0; i < fileNames.size(); i++) {
+			if (read.get(i) != null && addSchedule(fileNames.get(i), read.get(i)) >= 0) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Returns the number of schedules added.
+	 *
+	 * @return the number of schedules.
+	 */
+	public int size() {
+		return ids.size();
+	}
+
+	/**
+	 * Returns the id of a schedule.
+	 *
+	 * @param schedule the position of the schedule.
+	 * @return the schedule's id.
+	 * @throws IndexOutOfBoundsException if schedule is out of range.
+	 */
+	public String getId(int schedule) {
+		return ids.get(schedule);
+	}
+
+	/**
+	 * Returns the catalog sections of a schedule, in catalog order.
+	 *
+	 * @param schedule the position of the schedule.
+	 * @return the schedule's sections.
+	 * @throws IndexOutOfBoundsException if schedule is out of range.
+	 */
+	public List<Course> getSections(int schedule) {
+		return toCourses(sections.get(schedule));
+	}
+
+	/**
+	 * Returns the exact Jaccard similarity of two schedules.
+	 *
+	 * @param first  the position of the first schedule.
+	 * @param second the position of the second schedule.
+	 * @return the sections they share over the sections in either.
+	 * @throws IndexOutOfBoundsException if either schedule is out of range.
+	 */
+	public double getSimilarity(int first, int second) {
+		return jaccard(sections.get(first), sections.get(second));
+	}
+
+	/**
+	 * Returns the Jaccard similarity of two schedules estimated from their
+	 * signatures: the fraction of hash functions whose smallest values agree.
+	 *
+	 * @param first  the position of the first schedule.
+	 * @param second the position of the second schedule.
+	 * @return the estimated similarity.
+	 * @throws IndexOutOfBoundsException if either schedule is out of range.
+	 */
+	public double estimateSimilarity(int first, int second) {
+		if (first < 0 || first >= size() || second < 0 || second >= size()) {
+			throw new IndexOutOfBoundsException("Invalid schedule.");
+		}
+		int agree = 0;
+		for (int i = 0; i < hashes; i++) {
+			if (signatures[first * hashes + i] == signatures[second * hashes + i]) {
+				agree++;
+			}
+		}
+		return (double) agree / hashes;
+	}
+
+	/**
+	 * Returns the schedules most similar to a cart of sections, most similar
+	 * first. Only schedules sharing a band with the cart are compared, so
+	 * schedules much less than half similar are usually not found.
+	 *
+	 * @param cart the sections in the cart.
+	 * @param topK the most schedules to return.
+	 * @return the most similar schedules.
+	 */
+	public List<ScheduleMatch> findSimilar(Collection<? extends Activity> cart, int topK) {
+		return findSimilar(toRows(cart), -1, topK);
+	}
+
+	/**
+	 * Returns the schedules most similar to one of the added schedules, most
+	 * similar first, leaving out the schedule itself.
+	 *
+	 * @param schedule the position of the schedule.
+	 * @param topK     the most schedules to return.
+	 * @return the most similar schedules.
+	 * @throws IndexOutOfBoundsException if schedule is out of range.
+	 */
+	public List<ScheduleMatch> findSimilar(int schedule, int topK) {
+		return findSimilar(sections.get(schedule), schedule, topK);
+	}
+
+	/**
+	 * Recommends sections for a cart: the sections of the schedules most similar
+	 * to it, weighted by how similar each schedule is. Sections of courses
+	 * already in the cart are not recommended.
+	 *
+	 * @param cart       the sections in the cart.
+	 * @param neighbours the number of similar schedules to draw from.
+	 * @param count      the most sections to return.
+	 * @return the recommended sections, best first.
+	 */
+	public List<Course> recommend(Collection<? extends Activity> cart, int neighbours, int count) {
+		int[] rows = toRows(cart);
+		HashMap<String, Boolean> taken = new HashMap<>();
+		for (int row : rows) {
+			taken.put(catalog.get(row).getName(), Boolean.TRUE);
+		}
+		HashMap<Integer, Double> scores = new HashMap<>();
+		for (ScheduleMatch match : findSimilar(rows, -1, neighbours)) {
+			for (int row : sections.get(match.getSchedule())) {
+				if (!taken.containsKey(catalog.get(row).getName())) {
+					scores.merge(row, match.getSimilarity(), Double::sum);
+				}
+			}
+		}
+		ArrayList<Map.Entry<Integer, Double>> ranked = new ArrayList<>(scores.entrySet());
+		ranked.sort((a, b) -> a.getValue().equals(b.getValue()) ? Integer.compare(a.getKey(), b.getKey())
+				: Double.compare(b.getValue(), a.getValue()));
+		ArrayList<Course> recommended = new ArrayList<>();
+		for (int i = 0; i < ranked.size() && i < count; i++) {
+			recommended.add(catalog.get(ranked.get(i).getKey()));
+		}
+		return recommended;
+	}
+
+	/**
+	 * Returns every combination of two up to maxSize sections held together by
+	 * at least minSupport schedules, most supported first. Ties are broken by
+	 * larger combinations, then catalog order.
+	 *
+	 * @param minSupport the fewest schedules that must hold a combination.
+	 * @param maxSize    the largest combination, 2 or 3.
+	 * @return the frequent combinations.
+	 * @throws IllegalArgumentException if minSupport is less than 1, maxSize is
+	 *                                  not 2 or 3, or the catalog is too large
+	 *                                  to pack positions into a combination.
+	 */
+	public List<SectionCombination> findFrequentCombinations(int minSupport, int maxSize) {
+		if (minSupport < 1) {
+			throw new IllegalArgumentException("Invalid support.");
+		}
+		if (maxSize < 2 || maxSize > MAX_COMBINATION_SIZE || catalog.size() >= 1 << ROW_BITS) {
+			throw new IllegalArgumentException("Invalid combination size.");
+		}
+
+		int[] single = new int[catalog.size()];
+		for (int[] rows : sections) {
+			for (int row : rows) {
+				single[row]++;
+			}
+		}
+
+		HashMap<Long, int[]> pairs = new HashMap<>();
+		for (int[] rows : sections) {
+			int[] frequent = frequentRows(rows, single, minSupport);
+			for (int i = 0; i < frequent.length; i++) {
+				for (int j = i + 1; j < frequent.length; j++) {
+					pairs.computeIfAbsent(pack(frequent[i], frequent[j]), k -> new int[1])[0]++;
+				}
+			}
+		}
+		pairs.values().removeIf(count -> count[0] < minSupport);
+
+		HashMap<Long, int[]> triples = new HashMap<>();
+		if (maxSize == MAX_COMBINATION_SIZE) {
+			for (int[] rows : sections) {
+				int[] frequent = frequentRows(rows, single, minSupport);
+				for (int i = 0; i < frequent.length; i++) {
+					for (int j = i + 1; j < frequent.length; j++) {
+						if (!pairs.containsKey(pack(frequent[i], frequent[j]))) {
+							continue;
+						}
+						for (int k = j + 1; k < frequent.length; k++) {
+							if (pairs.containsKey(pack(frequent[i], frequent[k]))
+									&& pairs.containsKey(pack(frequent[j], frequent[k]))) {
+								triples.computeIfAbsent(pack(pack(frequent[i], frequent[j]), frequent[k]),
+										key -> new int[1])[0]++;
+							}
+						}
+					}
+				}
+			}
+			triples.values().removeIf(count -> count[0] < minSupport);
+		}
+
+		ArrayList<long[]> found = new ArrayList<>();
+		for (Map.Entry<Long, int[]> pair : pairs.entrySet()) {
+			found.add(new long[] { pair.getValue()[0], 2, pair.getKey() });
+		}
+		for (Map.Entry<Long, int[]> triple : triples.entrySet()) {
+			found.add(new long[] { triple.getValue()[0], MAX_COMBINATION_SIZE, triple.getKey() });
+		}
+		found.sort((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0])
+				: a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[2], b[2]));
+
+		ArrayList<SectionCombination> combinations = new ArrayList<>();
+		for (long[] combination : found) {
+			int size = (int) combination[1];
+			int[] rows = new int[size];
+			long packed = combination[2];
+			for (int i = size - 1; i >= 0; i--) {
+				rows[i] = (int) (packed & ((1 << ROW_BITS) - 1));
+				packed >>>= ROW_BITS;
+			}
+			combinations.add(new SectionCombination(toCourses(rows), (int) combination[0]));
+		}
+		return combinations;
+	}
+
+	/**
+	 * Finds candidates sharing a band with a set of sections and ranks them by
+	 * their exact similarity.
+	 *
+	 * @param rows    the sorted catalog positions of the sections.
+	 * @param exclude a schedule to leave out, or -1.
+	 * @param topK    the most schedules to return.
+	 * @return the most similar schedules.
+	 */
+	private List<ScheduleMatch> findSimilar(int[] rows, int exclude, int topK) {
+		if (rows.length == 0 || topK < 1) {
+			return new ArrayList<>();
+		}
+		int[] signature = signature(rows);
+		HashMap<Integer, Boolean> seen = new HashMap<>();
+		ArrayList<ScheduleMatch> matches = new ArrayList<>();
+		for (int band = 0; band < bands; band++) {
+			Bucket bucket = buckets.get(bandKey(signature, band));
+			if (bucket == null) {
+				continue;
+			}
+			for (int i = 0; i < bucket.size; i++) {
+				int candidate = bucket.schedules[i];
+				if (candidate != exclude && seen.put(candidate, Boolean.TRUE) == null) {
+					matches.add(new ScheduleMatch(candidate, ids.get(candidate),
+							jaccard(rows, sections.get(candidate))));
+				}
+			}
+		}
+		matches.sort((a, b) -> a.getSimilarity() != b.getSimilarity()
+				? Double.compare(b.getSimilarity(), a.getSimilarity())
+				: Integer.compare(a.getSchedule(), b.getSchedule()));
+		return matches.size() > topK ? new ArrayList<>(matches.subList(0, topK)) : matches;
+	}
+
+	/**
+	 * Returns the sorted, distinct catalog positions of the catalog sections
+	 * among some activities.
+	 *
+	 * @param activities the activities.
+	 * @return the catalog positions.
+	 */
+	private int[] toRows(Collection<? extends Activity> activities) {
+		int[] rows = new int[activities.size()];
+		int count = 0;
+		for (Activity activity : activities) {
+			if (activity instanceof Course) {
+				Course course = (Course) activity;
+				int row = catalog.indexOf(course.getName(), course.getSection());
+				if (row >= 0) {
+					rows[count++] = row;
+				}
+			}
+		}
+		Arrays.sort(rows, 0, count);
+		int distinct = 0;
+		for (int i = 0; i < count; i++) {
+			if (distinct == 0 || rows[distinct - 1] != rows[i]) {
+				rows[distinct++] = rows[i];
+			}
+		}
+		return Arrays.copyOf(rows, distinct);
+	}
+
+	/**
+	 * Returns the catalog sections at some positions.
+	 *
+	 * @param rows the catalog positions.
+	 * @return the sections, in the same order.
+	 */
+	private List<Course> toCourses(int[] rows) {
+		ArrayList<Course> courses = new ArrayList<>(rows.length);
+		for (int row : rows) {
+			courses.add(catalog.get(row));
+		}
+		return Collections.unmodifiableList(courses);
+	}
+
+	/**
+	 * Returns the MinHash signature of a set of sections: the smallest value of
+	 * each hash function over their catalog positions.
+	 *
+	 * @param rows the catalog positions of the sections.
+	 * @return the signature.
+	 */
+	private int[] signature(int[] rows) {
+		int[] signature = new int[hashes];
+		Arrays.fill(signature, Integer.MAX_VALUE);
+		for (int row : rows) {
+			for (int i = 0; i < hashes; i++) {
+				int h = (int) (mix(row ^ hashSeeds[i]) >>> 33);
+				if (h < signature[i]) {
+					signature[i] = h;
+				}
+			}
+		}
+		return signature;
+	}
+
+	/**
+	 * Returns the bucket key of one band of a signature. The band number is part
+	 * of the key, so equal values in different bands do not share a bucket.
+	 *
+	 * @param signature the signature.
+	 * @param band      the band.
+	 * @return the key of the band's bucket.
+	 */
+	private Long bandKey(int[] signature, int band) {
+		long key = band;
+		for (int i = band * rowsPerBand; i < (band + 1) * rowsPerBand; i++) {
+			key = mix(key * 31 + signature[i]);
+		}
+		return key;
+	}
+
+	/**
+	 * Returns the Jaccard similarity of two sorted sets of catalog positions.
+	 *
+	 * @param first  the first set.
+	 * @param second the second set.
+	 * @return the size of their intersection over the size of their union.
+	 */
+	private static double jaccard(int[] first, int[] second) {
+		int shared = 0;
+		int i = 0;
+		int j = 0;
+		while (i < first.length && j < second.length) {
+			if (first[i] == second[j]) {
+				shared++;
+				i++;
+				j++;
+			} else if (first[i] < second[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		int union = first.length + second.length - shared;
+		return union == 0 ? 0 : (double) shared / union;
+	}
+
+	/**
+	 * Returns the catalog positions of a schedule held by at least minSupport
+	 * schedules.
+	 *
+	 * @param rows       the sorted catalog positions of the schedule.
+	 * @param single     the number of schedules holding each position.
+	 * @param minSupport the fewest schedules that must hold a position.
+	 * @return the frequent positions, in order.
+	 */
+	private static int[] frequentRows(int[] rows, int[] single, int minSupport) {
+		int[] frequent = new int[rows.length];
+		int count = 0;
+		for (int row : rows) {
+			if (single[row] >= minSupport) {
+				frequent[count++] = row;
+			}
+		}
+		return Arrays.copyOf(frequent, count);
+	}
+
+	/**
+	 * Appends a catalog position to a packed combination.
+	 *
+	 * @param packed the packed combination.
+	 * @param row    the position to append.
+	 * @return the packed combination with the position appended.
+	 */
+	private static long pack(long packed, int row) {
+		return packed << ROW_BITS | row;
+	}
+
+	/**
+	 * Scrambles the bits of a value, as in the SplitMix64 generator.
+	 *
+	 * @param value the value.
+	 * @return the scrambled value.
+	 */
+	private static long mix(long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Growable list of the schedules in a bucket.
+	 */
+	private static class Bucket {
+		/** Schedules in the order they were added. */
+		private int[] schedules = new int[2];
+		/** Number of schedules in the bucket. */
+		private int size;
+
+		/**
+		 * Adds a schedule. A schedule with several bands in the bucket is only
+		 * added once.
+		 *
+		 * @param schedule the schedule to add.
+		 */
+		private void add(int schedule) {
+			if (size > 0 && schedules[size - 1] == schedule) {
+				return;
+			}
+			if (size == schedules.length) {
+				schedules = Arrays.copyOf(schedules, size * 2);
+			}
+			schedules[size++] = schedule;
+		}
+	}
+}
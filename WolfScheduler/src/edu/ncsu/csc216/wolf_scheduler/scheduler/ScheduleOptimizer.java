@@ -0,0 +1,179 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The ScheduleOptimizer class finds the best conflict-free schedules for a set
+ * of courses by branch and bound. Courses are decided one at a time, those with
+ * the fewest sections first, trying each section that fits the sections
+ * already chosen. Before a branch is explored the scorer bounds the best score
+ * it could reach; once k schedules are held, a branch whose bound cannot beat
+ * the worst of them is skipped. The search stops when the time budget runs out
+ * and returns the best schedules found so far.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScheduleOptimizer {
+
+	/** Number of branches explored between checks of the clock. */
+	private static final int CLOCK_INTERVAL = 1024;
+
+	/** The scorer rating each schedule. */
+	private ScheduleScorer scorer;
+	/** The choices in the order they are decided. */
+	private List<SectionChoice> choices;
+	/** The best schedules found so far, worst first. */
+	private PriorityQueue<ScoredSchedule> best;
+	/** The number of schedules to return. */
+	private int k;
+	/** Time at which the search stops. */
+	private long deadline;
+	/** Branches explored since the clock was last checked. */
+	private int sinceClockCheck;
+	/** Whether the time budget ran out. */
+	private boolean timedOut;
+
+	/**
+	 * Constructs a ScheduleOptimizer.
+	 *
+	 * @param scorer the scorer rating each schedule.
+	 * @throws IllegalArgumentException if scorer is null.
+	 */
+	public ScheduleOptimizer(ScheduleScorer scorer) {
+		if (scorer == null) {
+			throw new IllegalArgumentException("Invalid scorer.");
+		}
+		this.scorer = scorer;
+	}
+
+	/**
+	 * Returns the k best schedules that choose a section for every required
+	 * choice, and at most one for every optional choice, without conflicting with
+	 * each other or with the fixed activities.
+	 *
+	 * @param sectionChoices the courses to choose sections for.
+	 * @param fixed          activities every schedule must fit around.
+	 * @param topK           the number of schedules to return.
+	 * @param budgetMillis   the longest time to search, in milliseconds.
+	 * @return the best schedules found, best first.
+	 * @throws IllegalArgumentException if topK or budgetMillis is not positive.
+	 */
+	public List<ScoredSchedule> optimize(List<SectionChoice> sectionChoices, List<Activity> fixed, int topK,
+			long budgetMillis) {
+		if (topK < 1) {
+			throw new IllegalArgumentException("Invalid number of schedules.");
+		}
+		if (budgetMillis < 1) {
+			throw new IllegalArgumentException("Invalid time budget.");
+		}
+		choices = new ArrayList<>();
+		for (SectionChoice choice : sectionChoices) {
+			ArrayList<Course> fits = new ArrayList<>();
+			for (Course section : choice.getSections()) {
+				if (!overlapsAny(section, fixed)) {
+					fits.add(section);
+				}
+			}
+			if (fits.isEmpty() && !choice.isOptional()) {
+				return new ArrayList<>();
+			}
+			choices.add(new SectionChoice(fits, choice.isOptional()));
+		}
+		choices.sort(Comparator.comparingInt(choice -> choice.getSections().size()));
+
+		k = topK;
+		best = new PriorityQueue<>(Comparator.comparingDouble(ScoredSchedule::getScore));
+		deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+		sinceClockCheck = 0;
+		timedOut = false;
+		search(0, new ArrayList<>());
+
+		List<ScoredSchedule> found = new ArrayList<>(best);
+		found.sort(Comparator.comparingDouble(ScoredSchedule::getScore).reversed());
+		return found;
+	}
+
+	/**
+	 * Returns whether the last search stopped because the time budget ran out, in
+	 * which case the schedules returned may not be the best.
+	 *
+	 * @return true if the last search timed out.
+	 */
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	/**
+	 * Decides the choice at a depth and every choice after it.
+	 *
+	 * @param depth   the index of the next choice.
+	 * @param partial the sections chosen so far.
+	 */
+	private void search(int depth, ArrayList<Course> partial) {
+		if (timedOut || outOfTime()) {
+			return;
+		}
+		if (best.size() == k && scorer.bound(Collections.unmodifiableList(partial),
+				choices.subList(depth, choices.size())) <= best.peek().getScore()) {
+			return;
+		}
+		if (depth == choices.size()) {
+			double score = scorer.score(Collections.unmodifiableList(partial));
+			if (best.size() < k) {
+				best.add(new ScoredSchedule(partial, score));
+			} else if (score > best.peek().getScore()) {
+				best.poll();
+				best.add(new ScoredSchedule(partial, score));
+			}
+			return;
+		}
+
+		SectionChoice choice = choices.get(depth);
+		for (Course section : choice.getSections()) {
+			if (!overlapsAny(section, partial)) {
+				partial.add(section);
+				search(depth + 1, partial);
+				partial.remove(partial.size() - 1);
+			}
+		}
+		if (choice.isOptional()) {
+			search(depth + 1, partial);
+		}
+	}
+
+	/**
+	 * Checks the clock every CLOCK_INTERVAL branches.
+	 *
+	 * @return true if the time budget has run out.
+	 */
+	private boolean outOfTime() {
+		if (++sinceClockCheck >= CLOCK_INTERVAL) {
+			sinceClockCheck = 0;
+			timedOut = System.nanoTime() > deadline;
+		}
+		return timedOut;
+	}
+
+	/**
+	 * Returns whether an activity overlaps any in a list.
+	 *
+	 * @param activity   the activity to check.
+	 * @param activities the activities to check against.
+	 * @return true if any of the activities overlaps.
+	 */
+	private static boolean overlapsAny(Activity activity, List<? extends Activity> activities) {
+		for (int i = 0; i < activities.size(); i++) {
+			if (OverlapSweep.overlaps(activity, activities.get(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
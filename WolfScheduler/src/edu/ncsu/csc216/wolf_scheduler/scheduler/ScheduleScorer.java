@@ -0,0 +1,38 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * A ScheduleScorer rates schedules for the ScheduleOptimizer; higher scores are
+ * better. A scorer may also bound the score of any schedule that can be built
+ * from a partial one, which lets the optimizer skip branches that cannot beat
+ * the schedules it already has. A bound must never be lower than the score of
+ * a schedule it covers, or the optimizer may miss the best schedules.
+ *
+ * @author Anoushka Piduru
+ */
+public interface ScheduleScorer {
+
+	/**
+	 * Returns the score of a complete schedule.
+	 *
+	 * @param schedule the sections in the schedule.
+	 * @return the score.
+	 */
+	double score(List<Course> schedule);
+
+	/**
+	 * Returns an upper bound on the score of any schedule that adds sections from
+	 * the remaining choices to a partial schedule. By default there is no bound,
+	 * so nothing is pruned.
+	 *
+	 * @param partial   the sections chosen so far.
+	 * @param remaining the choices still to be made.
+	 * @return an upper bound on the score of any completed schedule.
+	 */
+	default double bound(List<Course> partial, List<SectionChoice> remaining) {
+		return Double.POSITIVE_INFINITY;
+	}
+}
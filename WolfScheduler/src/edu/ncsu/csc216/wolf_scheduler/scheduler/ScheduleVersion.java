@@ -0,0 +1,281 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The ScheduleVersion class is an immutable snapshot of a schedule and its
+ * title. Changing a version returns a new version and leaves the old one as it
+ * was, so every earlier version stays valid for undo. The activities are kept
+ * as a linked list with the newest activity first, and a new version shares
+ * every node it does not change with the version it came from: adding an
+ * activity or changing the title allocates one object, and removing an
+ * activity copies only the activities added after it. Each version also
+ * keeps the total credits of its courses, so the credits of a schedule are
+ * known without walking it.
+ *
+ * @author Anoushka Piduru
+ */
+public final class ScheduleVersion {
+
+	/** The newest activity, or null if the schedule is empty. */
+	private final Node newest;
+	/** The number of activities. */
+	private final int size;
+	/** The total credits of the courses. */
+	private final int credits;
+	/** The title of the schedule. */
+	private final String title;
+
+	/**
+	 * Constructs an empty ScheduleVersion.
+	 *
+	 * @param title the title of the schedule.
+	 * @throws IllegalArgumentException if title is null.
+	 */
+	public ScheduleVersion(String title) {
+		this(null, 0, 0, title);
+	}
+
+	/**
+	 * Constructs a ScheduleVersion from its parts.
+	 *
+	 * @param newest  the newest activity.
+	 * @param size    the number of activities.
+	 * @param credits the total credits of the courses.
+	 * @param title   the title of the schedule.
+	 * @throws IllegalArgumentException if title is null.
+	 */
+	private ScheduleVersion(Node newest, int size, int credits, String title) {
+		if (title == null) {
+			throw new IllegalArgumentException("Title cannot be null.");
+		}
+		this.newest = newest;
+		this.size = size;
+		this.credits = credits;
+		this.title = title;
+	}
+
+	/**
+	 * Returns the title of the schedule.
+	 *
+	 * @return the title.
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Returns the number of activities in the schedule.
+	 *
+	 * @return the number of activities.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the total credits of the courses in the schedule.
+	 *
+	 * @return the total credits.
+	 */
+	public int getCredits() {
+		return credits;
+	}
+
+	/**
+	 * Returns a version with an activity added to the end of the schedule.
+	 *
+	 * @param activity the activity to add.
+	 * @return the new version.
+	 */
+	public ScheduleVersion add(Activity activity) {
+		return new ScheduleVersion(new Node(activity, newest), size + 1, credits + creditsOf(activity), title);
+	}
+
+	/**
+	 * Returns a version with the activity at a position removed. The activities
+	 * after it are copied; the ones before it are shared.
+	 *
+	 * @param idx the position of the activity to remove.
+	 * @return the new version.
+	 * @throws IndexOutOfBoundsException if idx is out of range.
+	 */
+	public ScheduleVersion remove(int idx) {
+		if (idx < 0 || idx >= size) {
+			throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + size);
+		}
+		int later = size - 1 - idx;
+		Activity[] copied = new Activity[later];
+		Node node = newest;
+		for (int i = 0; i < later; i++) {
+			copied[i] = node.activity;
+			node = node.older;
+		}
+		Node rebuilt = node.older;
+		for (int i = later - 1; i >= 0; i--) {
+			rebuilt = new Node(copied[i], rebuilt);
+		}
+		return new ScheduleVersion(rebuilt, size - 1, credits - creditsOf(node.activity), title);
+	}
+
+	/**
+	 * Returns a version with no activities and the same title.
+	 *
+	 * @return the new version.
+	 */
+	public ScheduleVersion clear() {
+		return newest == null ? this : new ScheduleVersion(null, 0, 0, title);
+	}
+
+	/**
+	 * Returns a version with a new title and the same activities.
+	 *
+	 * @param newTitle the new title.
+	 * @return the new version.
+	 * @throws IllegalArgumentException if newTitle is null.
+	 */
+	public ScheduleVersion withTitle(String newTitle) {
+		return new ScheduleVersion(newest, size, credits, newTitle);
+	}
+
+	/**
+	 * Returns the activities in schedule order.
+	 *
+	 * @return a new array of the activities.
+	 */
+	public Activity[] toArray() {
+		Activity[] activities = new Activity[size];
+		Node node = newest;
+		for (int i = size - 1; i >= 0; i--) {
+			activities[i] = node.activity;
+			node = node.older;
+		}
+		return activities;
+	}
+
+	/**
+	 * Returns the activities in schedule order.
+	 *
+	 * @return a new list of the activities.
+	 */
+	public List<Activity> toList() {
+		return new ArrayList<>(Arrays.asList(toArray()));
+	}
+
+	/**
+	 * Returns the activities that differ between this version and another.
+	 * Versions share the nodes of their older activities, so only the newest
+	 * activities of each, down to the first node they share, are walked. Going
+	 * back or forward one step in the history therefore costs no more than the
+	 * change that made the step.
+	 *
+	 * @param other the version to change to.
+	 * @return the activities to remove from this version and to add after them.
+	 * @throws IllegalArgumentException if other is null.
+	 */
+	public Delta diff(ScheduleVersion other) {
+		if (other == null) {
+			throw new IllegalArgumentException("Invalid schedule version.");
+		}
+		ArrayList<Activity> removed = new ArrayList<>();
+		ArrayList<Activity> added = new ArrayList<>();
+		Node mine = newest;
+		Node theirs = other.newest;
+		for (int extra = size; extra > other.size; extra--) {
+			removed.add(mine.activity);
+			mine = mine.older;
+		}
+		for (int extra = other.size; extra > size; extra--) {
+			added.add(theirs.activity);
+			theirs = theirs.older;
+		}
+		while (mine != theirs) {
+			removed.add(mine.activity);
+			added.add(theirs.activity);
+			mine = mine.older;
+			theirs = theirs.older;
+		}
+		Collections.reverse(removed);
+		Collections.reverse(added);
+		return new Delta(removed, added);
+	}
+
+	/**
+	 * Returns the credits of an activity: a course's credits, or 0 for an event.
+	 *
+	 * @param activity the activity.
+	 * @return the credits.
+	 */
+	private static int creditsOf(Activity activity) {
+		return activity instanceof Course ? ((Course) activity).getCredits() : 0;
+	}
+
+	/**
+	 * An activity and the activities added before it. Nodes are never changed
+	 * once built, so any number of versions may share them.
+	 */
+	private static final class Node {
+		/** The activity. */
+		private final Activity activity;
+		/** The activity added before this one. */
+		private final Node older;
+
+		/**
+		 * Constructs a Node.
+		 *
+		 * @param activity the activity.
+		 * @param older    the activity added before this one.
+		 */
+		private Node(Activity activity, Node older) {
+			this.activity = activity;
+			this.older = older;
+		}
+	}
+
+	/**
+	 * The activities that differ between two versions. Removing the removed
+	 * activities from the first version and adding the added ones, in order,
+	 * gives the activities of the second.
+	 */
+	public static final class Delta {
+		/** Activities of the first version only, in schedule order. */
+		private final List<Activity> removed;
+		/** Activities of the second version only, in schedule order. */
+		private final List<Activity> added;
+
+		/**
+		 * Constructs a Delta.
+		 *
+		 * @param removed the activities of the first version only.
+		 * @param added   the activities of the second version only.
+		 */
+		private Delta(List<Activity> removed, List<Activity> added) {
+			this.removed = Collections.unmodifiableList(removed);
+			this.added = Collections.unmodifiableList(added);
+		}
+
+		/**
+		 * Returns the activities of the first version only.
+		 *
+		 * @return the removed activities, in schedule order.
+		 */
+		public List<Activity> getRemoved() {
+			return removed;
+		}
+
+		/**
+		 * Returns the activities of the second version only.
+		 *
+		 * @return the added activities, in schedule order.
+		 */
+		public List<Activity> getAdded() {
+			return added;
+		}
+	}
+}
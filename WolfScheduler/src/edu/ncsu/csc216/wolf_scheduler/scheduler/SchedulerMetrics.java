@@ -0,0 +1,307 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The SchedulerMetrics class counts what WolfSchedulers do and how long it
+ * takes, for monitoring a running scheduler. Counters are LongAdders and times
+ * are kept in LatencyHistograms, so recording never takes a lock and many
+ * schedulers may share one SchedulerMetrics. The metrics can be read through
+ * JMX once registered, through a MetricsServer, or as text from toText().
+ *
+ * @author Anoushka Piduru
+ */
+public class SchedulerMetrics implements SchedulerMetricsMXBean {
+
+	/**
+	 * The outcomes of adding a course to a schedule.
+	 */
+	public enum AddOutcome {
+		/** The course was added. */
+		ADDED,
+		/** The course is not in the catalog. */
+		NOT_FOUND,
+		/** The schedule already holds the course. */
+		DUPLICATE,
+		/** The course conflicts with the schedule. */
+		CONFLICT,
+		/** The course breaks a registration rule. */
+		RULE_VIOLATION
+	}
+
+	/** Metrics shared by schedulers not given their own. */
+	private static final SchedulerMetrics DEFAULT = new SchedulerMetrics();
+	/** Nanoseconds in a second. */
+	private static final double NANOS_PER_SECOND = 1e9;
+	/** Percentiles reported for each latency histogram. */
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+	/** The quantile labels of the reported percentiles. */
+	private static final String[] QUANTILES = { "0.5", "0.9", "0.99", "0.999" };
+
+	/** Number of course adds with each outcome. */
+	private LongAdder[] adds;
+	/** Number of activities checked for conflicts. */
+	private LongAdder conflictChecks;
+	/** Number of schedules exported. */
+	private LongAdder exports;
+	/** Number of bytes exported. */
+	private LongAdder exportBytes;
+	/** Size of the most recently loaded catalog. */
+	private volatile long catalogSize;
+	/** Time taken by the most recent catalog load. */
+	private volatile long catalogLoadNanos;
+	/** Time taken to add courses. */
+	private LatencyHistogram addCourseLatency;
+	/** Time taken to load catalogs. */
+	private LatencyHistogram catalogLoadLatency;
+	/** Time taken to export schedules. */
+	private LatencyHistogram exportLatency;
+
+	/**
+	 * Constructs SchedulerMetrics with every count at zero.
+	 */
+	public SchedulerMetrics() {
+		adds = new LongAdder[AddOutcome.values().length];
+		for (int i = 0; i < adds.length; i++) {
+			adds[i] = new LongAdder();
+		}
+		conflictChecks = new LongAdder();
+		exports = new LongAdder();
+		exportBytes = new LongAdder();
+		addCourseLatency = new LatencyHistogram();
+		catalogLoadLatency = new LatencyHistogram();
+		exportLatency = new LatencyHistogram();
+	}
+
+	/**
+	 * Returns the metrics shared by every WolfScheduler not given its own.
+	 *
+	 * @return the default metrics.
+	 */
+	public static SchedulerMetrics getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Records an attempt to add a course.
+	 *
+	 * @param outcome the outcome of the add.
+	 * @param nanos   the time the add took.
+	 */
+	public void recordAdd(AddOutcome outcome, long nanos) {
+		adds[outcome.ordinal()].increment();
+		addCourseLatency.record(nanos);
+	}
+
+	/**
+	 * Records that an activity was checked against a schedule for conflicts.
+	 */
+	public void recordConflictCheck() {
+		conflictChecks.increment();
+	}
+
+	/**
+	 * Records a catalog load.
+	 *
+	 * @param size  the number of courses in the catalog.
+	 * @param nanos the time the load took.
+	 */
+	public void recordCatalogLoad(int size, long nanos) {
+		catalogSize = size;
+		catalogLoadNanos = nanos;
+		catalogLoadLatency.record(nanos);
+	}
+
+	/**
+	 * Sets the catalog size, for catalogs that grow after they are loaded.
+	 *
+	 * @param size the number of courses in the catalog.
+	 */
+	public void setCatalogSize(int size) {
+		catalogSize = size;
+	}
+
+	/**
+	 * Records a schedule export.
+	 *
+	 * @param bytes the number of bytes written.
+	 * @param nanos the time the export took.
+	 */
+	public void recordExport(long bytes, long nanos) {
+		exports.increment();
+		exportBytes.add(bytes);
+		exportLatency.record(nanos);
+	}
+
+	/**
+	 * Returns the number of course adds with an outcome.
+	 *
+	 * @param outcome the outcome.
+	 * @return the number of adds.
+	 */
+	public long getAdds(AddOutcome outcome) {
+		return adds[outcome.ordinal()].sum();
+	}
+
+	@Override
+	public long getCoursesAdded() {
+		return getAdds(AddOutcome.ADDED);
+	}
+
+	@Override
+	public long getCoursesNotFound() {
+		return getAdds(AddOutcome.NOT_FOUND);
+	}
+
+	@Override
+	public long getCourseDuplicates() {
+		return getAdds(AddOutcome.DUPLICATE);
+	}
+
+	@Override
+	public long getCourseConflicts() {
+		return getAdds(AddOutcome.CONFLICT);
+	}
+
+	@Override
+	public long getCourseRuleViolations() {
+		return getAdds(AddOutcome.RULE_VIOLATION);
+	}
+
+	@Override
+	public long getConflictChecks() {
+		return conflictChecks.sum();
+	}
+
+	@Override
+	public long getCatalogSize() {
+		return catalogSize;
+	}
+
+	@Override
+	public double getCatalogLoadMillis() {
+		return catalogLoadNanos / 1e6;
+	}
+
+	@Override
+	public long getExports() {
+		return exports.sum();
+	}
+
+	@Override
+	public long getExportBytes() {
+		return exportBytes.sum();
+	}
+
+	@Override
+	public double getAddCourseMedianMicros() {
+		return addCourseLatency.getPercentile(50) / 1e3;
+	}
+
+	@Override
+	public double getAddCourse99thPercentileMicros() {
+		return addCourseLatency.getPercentile(99) / 1e3;
+	}
+
+	@Override
+	public double getAddCourseMaxMicros() {
+		return addCourseLatency.getMax() / 1e3;
+	}
+
+	/**
+	 * Returns the histogram of times taken to add courses.
+	 *
+	 * @return the add latency histogram.
+	 */
+	public LatencyHistogram getAddCourseLatency() {
+		return addCourseLatency;
+	}
+
+	/**
+	 * Registers the metrics with the platform MBean server so that JMX clients
+	 * can read them.
+	 *
+	 * @param name the name the metrics are registered under.
+	 * @return the object name the metrics were registered with.
+	 * @throws IllegalArgumentException if the metrics cannot be registered.
+	 */
+	public ObjectName registerMBean(String name) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(
+					"edu.ncsu.csc216.wolf_scheduler:type=SchedulerMetrics,name=" + ObjectName.quote(name));
+			server.registerMBean(this, objectName);
+			return objectName;
+		} catch (JMException e) {
+			throw new IllegalArgumentException("Metrics cannot be registered.");
+		}
+	}
+
+	/**
+	 * Returns the metrics in the Prometheus text format. Times are in seconds.
+	 *
+	 * @return the metrics as text.
+	 */
+	public String toText() {
+		StringBuilder text = new StringBuilder();
+		text.append("# HELP wolf_scheduler_course_adds_total Attempts to add a course, by outcome.\n");
+		text.append("# TYPE wolf_scheduler_course_adds_total counter\n");
+		for (AddOutcome outcome : AddOutcome.values()) {
+			text.append("wolf_scheduler_course_adds_total{outcome=\"")
+					.append(outcome.name().toLowerCase(Locale.ROOT)).append("\"} ").append(getAdds(outcome))
+					.append('\n');
+		}
+		appendValue(text, "wolf_scheduler_conflict_checks_total", "counter",
+				"Activities checked against a schedule for conflicts.", getConflictChecks());
+		appendValue(text, "wolf_scheduler_catalog_size", "gauge", "Courses in the most recently loaded catalog.",
+				getCatalogSize());
+		appendValue(text, "wolf_scheduler_exports_total", "counter", "Schedules exported.", getExports());
+		appendValue(text, "wolf_scheduler_export_bytes_total", "counter", "Bytes written by schedule exports.",
+				getExportBytes());
+		appendSummary(text, "wolf_scheduler_add_course_seconds", "Time taken to add a course.", addCourseLatency);
+		appendSummary(text, "wolf_scheduler_catalog_load_seconds", "Time taken to load a catalog.",
+				catalogLoadLatency);
+		appendSummary(text, "wolf_scheduler_export_seconds", "Time taken to export a schedule.", exportLatency);
+		return text.toString();
+	}
+
+	/**
+	 * Appends a single valued metric to the text format.
+	 *
+	 * @param text  the text so far.
+	 * @param name  the metric name.
+	 * @param type  the metric type.
+	 * @param help  the description of the metric.
+	 * @param value the value.
+	 */
+	private static void appendValue(StringBuilder text, String name, String type, String help, long value) {
+		text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		text.append(name).append(' ').append(value).append('\n');
+	}
+
+	/**
+	 * Appends a latency histogram to the text format as a summary.
+	 *
+	 * @param text      the text so far.
+	 * @param name      the metric name.
+	 * @param help      the description of the metric.
+	 * @param histogram the histogram of times in nanoseconds.
+	 */
+	private static void appendSummary(StringBuilder text, String name, String help, LatencyHistogram histogram) {
+		text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		text.append("# TYPE ").append(name).append(" summary\n");
+		for (int i = 0; i < PERCENTILES.length; i++) {
+			text.append(name).append("{quantile=\"").append(QUANTILES[i]).append("\"} ")
+					.append(histogram.getPercentile(PERCENTILES[i]) / NANOS_PER_SECOND).append('\n');
+		}
+		text.append(name).append("_sum ").append(histogram.getSum() / NANOS_PER_SECOND).append('\n');
+		text.append(name).append("_count ").append(histogram.getCount()).append('\n');
+	}
+}
@@ -0,0 +1,101 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+/**
+ * Management interface through which SchedulerMetrics are read over JMX.
+ *
+ * @author Anoushka Piduru
+ */
+public interface SchedulerMetricsMXBean {
+
+	/**
+	 * Returns the number of courses added to schedules.
+	 *
+	 * @return the number of courses added.
+	 */
+	long getCoursesAdded();
+
+	/**
+	 * Returns the number of course adds for courses missing from the catalog.
+	 *
+	 * @return the number of adds of missing courses.
+	 */
+	long getCoursesNotFound();
+
+	/**
+	 * Returns the number of course adds rejected as duplicates.
+	 *
+	 * @return the number of duplicate adds.
+	 */
+	long getCourseDuplicates();
+
+	/**
+	 * Returns the number of course adds rejected for a conflict.
+	 *
+	 * @return the number of conflicting adds.
+	 */
+	long getCourseConflicts();
+
+	/**
+	 * Returns the number of course adds rejected for breaking a registration
+	 * rule.
+	 *
+	 * @return the number of adds breaking a rule.
+	 */
+	long getCourseRuleViolations();
+
+	/**
+	 * Returns the number of activities checked against a schedule for conflicts.
+	 *
+	 * @return the number of conflict checks.
+	 */
+	long getConflictChecks();
+
+	/**
+	 * Returns the number of courses in the most recently loaded catalog.
+	 *
+	 * @return the catalog size.
+	 */
+	long getCatalogSize();
+
+	/**
+	 * Returns the time taken by the most recent catalog load.
+	 *
+	 * @return the load time in milliseconds.
+	 */
+	double getCatalogLoadMillis();
+
+	/**
+	 * Returns the number of schedules exported.
+	 *
+	 * @return the number of exports.
+	 */
+	long getExports();
+
+	/**
+	 * Returns the number of bytes written by schedule exports.
+	 *
+	 * @return the bytes exported.
+	 */
+	long getExportBytes();
+
+	/**
+	 * Returns the median time taken to add a course, whatever the outcome.
+	 *
+	 * @return the median add time in microseconds.
+	 */
+	double getAddCourseMedianMicros();
+
+	/**
+	 * Returns the 99th percentile time taken to add a course.
+	 *
+	 * @return the 99th percentile add time in microseconds.
+	 */
+	double getAddCourse99thPercentileMicros();
+
+	/**
+	 * Returns the longest time taken to add a course.
+	 *
+	 * @return the longest add time in microseconds.
+	 */
+	double getAddCourseMaxMicros();
+}
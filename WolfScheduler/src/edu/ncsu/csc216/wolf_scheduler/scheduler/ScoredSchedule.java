@@ -0,0 +1,50 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The ScoredSchedule class is a schedule found by the ScheduleOptimizer and
+ * its score.
+ *
+ * @author Anoushka Piduru
+ */
+public class ScoredSchedule {
+
+	/** The sections in the schedule. */
+	private List<Course> courses;
+	/** The score of the schedule. */
+	private double score;
+
+	/**
+	 * Constructs a ScoredSchedule.
+	 *
+	 * @param courses the sections in the schedule.
+	 * @param score   the score of the schedule.
+	 */
+	public ScoredSchedule(List<Course> courses, double score) {
+		this.courses = Collections.unmodifiableList(new ArrayList<>(courses));
+		this.score = score;
+	}
+
+	/**
+	 * Returns the sections in the schedule.
+	 *
+	 * @return the sections.
+	 */
+	public List<Course> getCourses() {
+		return courses;
+	}
+
+	/**
+	 * Returns the score of the schedule.
+	 *
+	 * @return the score.
+	 */
+	public double getScore() {
+		return score;
+	}
+}
@@ -0,0 +1,54 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The SectionChoice class is one course the ScheduleOptimizer must choose a
+ * section for. An optional choice may also be left out of the schedule.
+ *
+ * @author Anoushka Piduru
+ */
+public class SectionChoice {
+
+	/** The sections to choose from. */
+	private List<Course> sections;
+	/** Whether the course may be left out. */
+	private boolean optional;
+
+	/**
+	 * Constructs a SectionChoice.
+	 *
+	 * @param sections the sections to choose from.
+	 * @param optional whether the course may be left out.
+	 * @throws IllegalArgumentException if sections is null.
+	 */
+	public SectionChoice(List<Course> sections, boolean optional) {
+		if (sections == null) {
+			throw new IllegalArgumentException("Invalid sections.");
+		}
+		this.sections = Collections.unmodifiableList(new ArrayList<>(sections));
+		this.optional = optional;
+	}
+
+	/**
+	 * Returns the sections to choose from.
+	 *
+	 * @return the sections.
+	 */
+	public List<Course> getSections() {
+		return sections;
+	}
+
+	/**
+	 * Returns whether the course may be left out of the schedule.
+	 *
+	 * @return true if the choice is optional.
+	 */
+	public boolean isOptional() {
+		return optional;
+	}
+}
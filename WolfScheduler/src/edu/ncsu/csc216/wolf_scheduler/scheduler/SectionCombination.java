@@ -0,0 +1,68 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The SectionCombination class is a set of sections that the ScheduleMiner
+ * found together in many schedules, and how many schedules hold all of them.
+ *
+ * @author Anoushka Piduru
+ */
+public class SectionCombination {
+
+	/** The sections, in catalog order. */
+	private List<Course> sections;
+	/** The number of schedules holding every section. */
+	private int support;
+
+	/**
+	 * Constructs a SectionCombination.
+	 *
+	 * @param sections the sections, in catalog order.
+	 * @param support  the number of schedules holding every section.
+	 */
+	public SectionCombination(List<Course> sections, int support) {
+		this.sections = Collections.unmodifiableList(new ArrayList<>(sections));
+		this.support = support;
+	}
+
+	/**
+	 * Returns the sections, in catalog order.
+	 *
+	 * @return the sections.
+	 */
+	public List<Course> getSections() {
+		return sections;
+	}
+
+	/**
+	 * Returns the number of schedules holding every section.
+	 *
+	 * @return the support of the combination.
+	 */
+	public int getSupport() {
+		return support;
+	}
+
+	/**
+	 * Returns the combination as its sections and support, such as
+	 * "CSC 216-001,CSC 226-001:42".
+	 *
+	 * @return the combination as a String.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (Course section : sections) {
+			if (text.length() > 0) {
+				text.append(',');
+			}
+			text.append(section.getName()).append('-').append(section.getSection());
+		}
+		return text.append(':').append(support).toString();
+	}
+}
@@ -0,0 +1,86 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * The StudentRules class holds the registration rules for one student: a
+ * compiled RulePlan, the student's completed courses as a bitset over the
+ * plan's courses, and the student's credit limit. It is built by
+ * RulePlan.forStudent() and given to WolfScheduler.setStudentRules().
+ *
+ * @author Anoushka Piduru
+ */
+public class StudentRules {
+
+	/** The compiled rules. */
+	private final RulePlan plan;
+	/** Bitset of the student's completed courses. */
+	private final long[] completed;
+	/** Most credits the student may schedule. */
+	private final int creditLimit;
+
+	/**
+	 * Constructs StudentRules.
+	 *
+	 * @param plan        the compiled rules.
+	 * @param completed   the bitset of the student's completed courses.
+	 * @param creditLimit the most credits the student may schedule.
+	 */
+	StudentRules(RulePlan plan, long[] completed, int creditLimit) {
+		this.plan = plan;
+		this.completed = completed;
+		this.creditLimit = creditLimit;
+	}
+
+	/**
+	 * Returns the compiled rules.
+	 *
+	 * @return the plan.
+	 */
+	public RulePlan getPlan() {
+		return plan;
+	}
+
+	/**
+	 * Returns the most credits the student may schedule.
+	 *
+	 * @return the credit limit.
+	 */
+	public int getCreditLimit() {
+		return creditLimit;
+	}
+
+	/**
+	 * Checks that a course may be added to a schedule: it must stay within the
+	 * credit limit, each group of its prerequisites must hold a completed
+	 * course, and each corequisite must be completed or already scheduled.
+	 *
+	 * @param course    the course to add.
+	 * @param scheduled the activities already in the schedule.
+	 * @param credits   the credits already in the schedule.
+	 * @throws RuleViolationException if adding the course breaks a rule.
+	 */
+	public void check(Course course, Activity[] scheduled, int credits) {
+		plan.check(course, scheduled, credits, completed, creditLimit);
+	}
+
+	/**
+	 * Checks that a course may be removed from a schedule: no other scheduled
+	 * course may need it as a corequisite. The credit limit and prerequisites
+	 * cannot be broken by a removal.
+	 *
+	 * Rules are only checked when the student changes the schedule one course at
+	 * a time. Undo, redo, and restoring a checkpoint return to an earlier
+	 * schedule as it was, so after the rules change they may bring back a
+	 * schedule the current rules would not allow.
+	 *
+	 * @param course    the course to remove.
+	 * @param scheduled the activities in the schedule, including the course.
+	 * @throws RuleViolationException if removing the course leaves a scheduled
+	 *                                course without a corequisite.
+	 */
+	public void checkRemove(Course course, Activity[] scheduled) {
+		plan.checkRemove(course, scheduled, completed);
+	}
+}
@@ -0,0 +1,137 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
+
+/**
+ * The TermCatalogManager class holds the catalogs of several terms that are
+ * scheduled at the same time, such as fall, spring, and the summer sessions.
+ * Each term gets its own indexed catalog, frozen once loaded. Terms mostly
+ * offer the same courses at the same times, so every catalog is parsed with
+ * one shared StringPool and a course record that appears in more than one
+ * term is stored once, as a single Course shared by each term's catalog. The
+ * substring search index, the largest of a catalog's indexes, is built once
+ * over the distinct courses and shared by every term. Only the lookup and time
+ * indexes are kept per term, so memory grows with the courses that differ
+ * between terms rather than with the number of terms. Shared Courses must not
+ * be changed. The shared pool and search index are guarded, and each term's
+ * catalog is frozen before it is published, so a term may be loaded while the
+ * catalogs of earlier terms are searched on other threads.
+ *
+ * @author Anoushka Piduru
+ */
+public class TermCatalogManager {
+
+	/** Pool of the Strings shared by every term's courses. */
+	private StringPool stringPool;
+	/** One copy of each distinct course across all terms. */
+	private HashMap<Course, Course> sharedCourses;
+	/** Search index over the distinct courses of all terms. */
+	private CatalogSearchIndex searchIndex;
+	/** The catalog of each term, in load order. */
+	private LinkedHashMap<String, CourseCatalog> catalogs;
+
+	/**
+	 * Constructs a TermCatalogManager with no terms.
+	 */
+	public TermCatalogManager() {
+		stringPool = new StringPool();
+		sharedCourses = new HashMap<>();
+		searchIndex = new CatalogSearchIndex();
+		catalogs = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Loads the catalog for a term from a course records file. Invalid and
+	 * duplicate records are skipped as for any catalog.
+	 *
+	 * @param term     the term, such as "Fall 2026".
+	 * @param fileName the course records file for the term.
+	 * @return the number of courses in the term's catalog.
+	 * @throws IllegalArgumentException if the term is empty or already loaded, or
+	 *                                  the file cannot be found.
+	 */
+	public synchronized int loadTerm(String term, String fileName) {
+		if (term == null || term.length() == 0 || catalogs.containsKey(term)) {
+			throw new IllegalArgumentException("Invalid term.");
+		}
+		ArrayList<Course> courses;
+		try {
+			courses = CourseRecordIO.readCourseRecords(fileName, stringPool);
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+		CourseCatalog catalog = new CourseCatalog(stringPool, searchIndex);
+		for (Course course : courses) {
+			Course shared = sharedCourses.putIfAbsent(course, course);
+			if (shared == null) {
+				searchIndex.add(course);
+				shared = course;
+			}
+			catalog.add(shared);
+		}
+		catalog.freeze();
+		catalogs.put(term, catalog);
+		return catalog.size();
+	}
+
+	/**
+	 * Returns the catalog of a term.
+	 *
+	 * @param term the term.
+	 * @return the term's frozen catalog, or null if the term is not loaded.
+	 */
+	public synchronized CourseCatalog getCatalog(String term) {
+		return catalogs.get(term);
+	}
+
+	/**
+	 * Returns a new, empty schedule for a term, backed by the term's catalog.
+	 *
+	 * @param term the term.
+	 * @return a WolfScheduler for the term.
+	 * @throws IllegalArgumentException if the term is not loaded.
+	 */
+	public WolfScheduler newScheduler(String term) {
+		CourseCatalog catalog = getCatalog(term);
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid term.");
+		}
+		return new WolfScheduler(catalog, term);
+	}
+
+	/**
+	 * Returns the loaded terms.
+	 *
+	 * @return the terms in load order.
+	 */
+	public synchronized List<String> getTerms() {
+		return Collections.unmodifiableList(new ArrayList<>(catalogs.keySet()));
+	}
+
+	/**
+	 * Returns the number of distinct courses stored across all terms.
+	 *
+	 * @return the number of shared courses.
+	 */
+	public synchronized int getSharedCourseCount() {
+		return sharedCourses.size();
+	}
+
+	/**
+	 * Returns the pool of Strings shared by every term's courses.
+	 *
+	 * @return the shared String pool.
+	 */
+	public StringPool getStringPool() {
+		return stringPool;
+	}
+}
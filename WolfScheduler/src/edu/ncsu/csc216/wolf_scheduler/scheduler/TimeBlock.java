@@ -0,0 +1,66 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * The TimeBlock class is a span of free time found by the FreeTimeIndex. The
+ * start and end times are both free, in military time, so an activity from the
+ * start time to the end time fits without a conflict.
+ *
+ * @author Anoushka Piduru
+ */
+public class TimeBlock {
+
+	/** The first free time. */
+	private int startTime;
+	/** The last free time. */
+	private int endTime;
+
+	/**
+	 * Constructs a TimeBlock.
+	 *
+	 * @param startTime the first free time.
+	 * @param endTime   the last free time.
+	 */
+	public TimeBlock(int startTime, int endTime) {
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	/**
+	 * Returns the first free time.
+	 *
+	 * @return the start time.
+	 */
+	public int getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Returns the last free time.
+	 *
+	 * @return the end time.
+	 */
+	public int getEndTime() {
+		return endTime;
+	}
+
+	/**
+	 * Returns the length of the block in minutes.
+	 *
+	 * @return the minutes from the start time to the end time.
+	 */
+	public int getDuration() {
+		return Activity.toMinutes(endTime) - Activity.toMinutes(startTime);
+	}
+
+	/**
+	 * Returns the block as a range of 12-hour times.
+	 *
+	 * @return the block as a string.
+	 */
+	@Override
+	public String toString() {
+		return Activity.getTimeString(startTime) + "-" + Activity.getTimeString(endTime);
+	}
+}
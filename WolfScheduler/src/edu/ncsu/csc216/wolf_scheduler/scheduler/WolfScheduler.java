@@ -3,16 +3,29 @@
  */
 package edu.ncsu.csc216.wolf_scheduler.scheduler;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
 import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.ICalendarWriter;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+import edu.ncsu.csc216.wolf_scheduler.profiling.CatalogLookupEvent;
+import edu.ncsu.csc216.wolf_scheduler.profiling.ConflictCheckEvent;
+import edu.ncsu.csc216.wolf_scheduler.profiling.ScheduleChangeEvent;
+import edu.ncsu.csc216.wolf_scheduler.profiling.ScheduleExportEvent;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.SchedulerMetrics.AddOutcome;
 
 /**
  * The WolfScheduler Class manages a course catalog and schedule.
@@ -21,12 +34,22 @@ import edu.ncsu.csc216.wolf_scheduler.course.Event;
  */
 public class WolfScheduler {
 
-	/** A list of courses available in the catalog. */
-	private ArrayList<Course> catalog;
-	/** A list of courses in the schedule. */
-	private ArrayList<Activity> schedule;
-	/** The title of the schedule. */
-	private String title;
+	/** The courses available in the catalog. */
+	private CourseCatalog catalog;
+	/** The versions of the schedule and its title. */
+	private ScheduleHistory history;
+	/** Busy and free time of the current schedule. */
+	private FreeTimeIndex freeTime;
+	/** Journal of schedule changes, or null if changes are not journaled. */
+	private ScheduleJournal journal;
+	/** True if the journal may be compacted into a snapshot of the schedule. */
+	private boolean journalCompaction;
+	/** Counts and times of the scheduler's operations. */
+	private SchedulerMetrics metrics;
+	/** The term the schedule is for, or null if it has none. */
+	private String term;
+	/** The registration rules checked on each add, or null if there are none. */
+	private StudentRules rules;
 
 	/**
 	 * Constructs a WolfScheduler object with a file holding course records.
@@ -35,15 +58,313 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException is file is not found.
 	 */
 	public WolfScheduler(String fileName) {
-		schedule = new ArrayList<>();
-		title = "My Schedule";
-		catalog = new ArrayList<>();
+		this();
 
+		long start = System.nanoTime();
 		try {
-			catalog = CourseRecordIO.readCourseRecords(fileName);
+			catalog.addAll(CourseRecordIO.readCourseRecords(fileName, catalog.getStringPool()));
 		} catch (FileNotFoundException e) {
 			throw new IllegalArgumentException("Cannot find file.");
 		}
+		metrics.recordCatalogLoad(catalog.size(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Constructs a WolfScheduler object with an empty catalog. Courses are added
+	 * with addCoursesToCatalog() as they are read, which lets a large catalog be
+	 * loaded in the background.
+	 */
+	public WolfScheduler() {
+		history = new ScheduleHistory(new ScheduleVersion("My Schedule"));
+		freeTime = new FreeTimeIndex();
+		catalog = new CourseCatalog();
+		metrics = SchedulerMetrics.getDefault();
+	}
+
+	/**
+	 * Constructs a WolfScheduler object over an existing catalog. Schedulers
+	 * sharing a catalog must not add courses to it while others read it.
+	 * 
+	 * @param catalog the catalog of courses to schedule from.
+	 * @throws IllegalArgumentException if catalog is null.
+	 */
+	public WolfScheduler(CourseCatalog catalog) {
+		this(catalog, null);
+	}
+
+	/**
+	 * Constructs a WolfScheduler object for a term over the term's catalog.
+	 * 
+	 * @param catalog the catalog of courses to schedule from.
+	 * @param term    the term the schedule is for, or null if it has none.
+	 * @throws IllegalArgumentException if catalog is null.
+	 */
+	public WolfScheduler(CourseCatalog catalog, String term) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		history = new ScheduleHistory(new ScheduleVersion("My Schedule"));
+		freeTime = new FreeTimeIndex();
+		this.catalog = catalog;
+		this.term = term;
+		metrics = SchedulerMetrics.getDefault();
+	}
+
+	/**
+	 * Adds courses to the end of the catalog. Courses with the same name and
+	 * section as a course already in the catalog are ignored.
+	 * 
+	 * @param courses the courses to add.
+	 * @return the number of courses added to the catalog.
+	 */
+	public int addCoursesToCatalog(List<Course> courses) {
+		int added = catalog.addAll(courses);
+		metrics.setCatalogSize(catalog.size());
+		return added;
+	}
+
+	/**
+	 * Returns the term the schedule is for.
+	 * 
+	 * @return the term, or null if the schedule has none.
+	 */
+	public String getTerm() {
+		return term;
+	}
+
+	/**
+	 * Returns the registration rules checked when a course is added.
+	 * 
+	 * @return the student's rules, or null if there are none.
+	 */
+	public StudentRules getStudentRules() {
+		return rules;
+	}
+
+	/**
+	 * Sets the registration rules checked when a course is added, imported, or
+	 * removed. Courses already in the schedule are not checked again, and undo,
+	 * redo, and restoring a checkpoint bring back earlier schedules unchecked, so
+	 * the schedule may break rules set after its courses were added.
+	 * 
+	 * @param rules the student's rules, or null for none.
+	 */
+	public void setStudentRules(StudentRules rules) {
+		this.rules = rules;
+	}
+
+	/**
+	 * Returns the total credits of the courses in the schedule.
+	 * 
+	 * @return the scheduled credits.
+	 */
+	public int getScheduledCredits() {
+		return history.getCurrent().getCredits();
+	}
+
+	/**
+	 * Returns the metrics this scheduler records its operations in.
+	 * 
+	 * @return the scheduler's metrics.
+	 */
+	public SchedulerMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Sets the metrics this scheduler records its operations in. Schedulers use
+	 * the shared default metrics unless given their own.
+	 * 
+	 * @param metrics the metrics to record in.
+	 * @throws IllegalArgumentException if metrics is null.
+	 */
+	public void setMetrics(SchedulerMetrics metrics) {
+		if (metrics == null) {
+			throw new IllegalArgumentException("Invalid metrics.");
+		}
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Recovers the schedule from a journal and journals every later change to it.
+	 * If the journal exists, its changes are replayed against this schedule and
+	 * the journal is compacted into a snapshot. Changes are then appended to the
+	 * journal as they are made.
+	 * 
+	 * @param fileName the journal file.
+	 * @throws IllegalArgumentException if the journal cannot be read or written.
+	 */
+	public void openJournal(String fileName) {
+		openJournal(fileName, true);
+	}
+
+	/**
+	 * Recovers the schedule from a journal and journals every later change to it.
+	 * The journal is replayed as a single change, so recovery adds one step to
+	 * the undo history. If the catalog is not complete, courses missing from it
+	 * are left out of the recovered schedule, and the journal is never compacted
+	 * so they are recovered once the whole catalog is loaded.
+	 * 
+	 * @param fileName        the journal file.
+	 * @param catalogComplete true if the whole catalog is loaded.
+	 * @throws IllegalArgumentException if the journal cannot be read or written.
+	 */
+	public void openJournal(String fileName, boolean catalogComplete) {
+		closeJournal();
+		try {
+			ScheduleVersion current = history.getCurrent();
+			if (new File(fileName).exists()) {
+				ScheduleVersion recovered = ScheduleJournal.replay(fileName, current, catalog::get);
+				ScheduleVersion.Delta delta = current.diff(recovered);
+				if (!delta.getRemoved().isEmpty() || !delta.getAdded().isEmpty()
+						|| !recovered.getTitle().equals(current.getTitle())) {
+					history.commit(recovered);
+					updateFreeTime(delta);
+				}
+			}
+			journal = new ScheduleJournal(fileName);
+			journalCompaction = catalogComplete;
+			if (journalCompaction) {
+				snapshotJournal(history.getCurrent());
+			}
+		} catch (IOException e) {
+			journal = null;
+			throw new IllegalArgumentException("The journal cannot be opened.");
+		}
+	}
+
+	/**
+	 * Returns the journal changes are written to, so tests can make it fail.
+	 * 
+	 * @return the journal, or null if changes are not journaled.
+	 */
+	ScheduleJournal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * Commits any pending journal records and stops journaling changes.
+	 * 
+	 * @throws IllegalArgumentException if the journal cannot be written.
+	 */
+	public void closeJournal() {
+		if (journal != null) {
+			ScheduleJournal closing = journal;
+			journal = null;
+			try {
+				closing.close();
+			} catch (IOException e) {
+				throw new IllegalArgumentException("The journal cannot be written.");
+			}
+		}
+	}
+
+	/**
+	 * Writes a change to the journal, if there is one. Changes are journaled
+	 * before they are made, so a change that cannot be journaled is not made.
+	 * 
+	 * @param write the journal write for the change.
+	 * @throws IllegalArgumentException if the journal cannot be written.
+	 */
+	private void journalChange(JournalWrite write) {
+		if (journal == null) {
+			return;
+		}
+		try {
+			write.write();
+		} catch (IOException e) {
+			throw new IllegalArgumentException("The journal cannot be written.");
+		}
+	}
+
+	/**
+	 * Compacts the journal into a snapshot of the current schedule when one is
+	 * due. The change has already been made and journaled, so a failed snapshot
+	 * leaves the journal as it was and is tried again after the next change.
+	 */
+	private void compactJournal() {
+		if (journal != null && journalCompaction && journal.isSnapshotDue()) {
+			try {
+				snapshotJournal(history.getCurrent());
+			} catch (IOException e) {
+				// The journal still holds every change; compact it next time
+			}
+		}
+	}
+
+	/**
+	 * Writes the move from one version of the schedule to another to the
+	 * journal, if there is one, as the activities that differ between them.
+	 * Versions share their older activities, so the difference is found without
+	 * walking either schedule and a step of undo costs no more than the change
+	 * it undoes.
+	 * 
+	 * @param from the current version.
+	 * @param to   the version to move to.
+	 * @return the activities that differ between the versions.
+	 * @throws IllegalArgumentException if the journal cannot be written.
+	 */
+	private ScheduleVersion.Delta journalVersion(ScheduleVersion from, ScheduleVersion to) {
+		ScheduleVersion.Delta delta = from.diff(to);
+		journalChange(() -> journal.appendChange(to.getTitle(), delta.getRemoved(), delta.getAdded()));
+		return delta;
+	}
+
+	/**
+	 * Brings the free time up to date after moving to another version, freeing
+	 * only the time of the removed activities and marking only the time of the
+	 * added ones.
+	 * 
+	 * @param delta the activities that differ between the versions.
+	 */
+	private void updateFreeTime(ScheduleVersion.Delta delta) {
+		for (Activity activity : delta.getRemoved()) {
+			freeTime.remove(activity);
+		}
+		for (Activity activity : delta.getAdded()) {
+			freeTime.add(activity);
+		}
+	}
+
+	/**
+	 * Replaces the journal with a snapshot of a version of the schedule.
+	 * 
+	 * @param version the version to snapshot.
+	 * @throws IOException if the journal cannot be written.
+	 */
+	private void snapshotJournal(ScheduleVersion version) throws IOException {
+		journal.snapshot(version.getTitle(), version.toList());
+	}
+
+	/**
+	 * A write to the schedule journal.
+	 */
+	private interface JournalWrite {
+		/**
+		 * Performs the write.
+		 * 
+		 * @throws IOException if the journal cannot be written.
+		 */
+		void write() throws IOException;
+	}
+
+	/**
+	 * Returns the pool used to share Strings among the catalog's courses. Courses
+	 * read for addCoursesToCatalog() should be parsed with this pool.
+	 * 
+	 * @return the catalog's String pool.
+	 */
+	public StringPool getCatalogStringPool() {
+		return catalog.getStringPool();
+	}
+
+	/**
+	 * Returns the number of courses in the catalog.
+	 * 
+	 * @return the size of the catalog.
+	 */
+	public int getCatalogSize() {
+		return catalog.size();
 	}
 
 	/**
@@ -52,28 +373,259 @@ public class WolfScheduler {
 	 * @return String[][] a 2D String array of the catalog.
 	 */
 	public String[][] getCourseCatalog() {
-		String[][] catalogArray = new String[catalog.size()][4];
-		for (int i = 0; i < catalog.size(); i++) {
+		return getCourseCatalog(0);
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog starting at the given row. Used to
+	 * append newly loaded courses to a view of the catalog.
+	 * 
+	 * @param start the first row of the catalog to include.
+	 * @return String[][] a 2D String array of the catalog from start onward.
+	 */
+	public String[][] getCourseCatalog(int start) {
+		if (start < 0 || start > catalog.size()) {
+			throw new IllegalArgumentException("Invalid catalog row.");
+		}
+		String[][] catalogArray = new String[catalog.size() - start][4];
+		for (int i = start; i < catalog.size(); i++) {
 			Course c = catalog.get(i);
-			catalogArray[i] = c.getShortDisplayArray();
+			catalogArray[i - start] = c.getShortDisplayArray();
+		}
+		return catalogArray;
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog courses whose name, title, or
+	 * instructor id contain the query, ignoring case. A blank query returns the
+	 * whole catalog.
+	 * 
+	 * @param query the text to search for.
+	 * @return String[][] a 2D String array of the matching courses.
+	 */
+	public String[][] searchCourseCatalog(String query) {
+		return searchCourseCatalog(query, null, 0, 0);
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog courses whose name, title, or
+	 * instructor id contain the query and that meet on at least the given days,
+	 * start at or after startAfter, and end at or before endBefore. Passing "A"
+	 * as the meeting days finds arranged courses. Passing null meeting days skips
+	 * the time filter.
+	 * 
+	 * @param query       the text to search for.
+	 * @param meetingDays the days each course must meet on, or null for any.
+	 * @param startAfter  the earliest start time.
+	 * @param endBefore   the latest end time.
+	 * @return String[][] a 2D String array of the matching courses.
+	 * @throws IllegalArgumentException if the meeting days are invalid.
+	 */
+	public String[][] searchCourseCatalog(String query, String meetingDays, int startAfter, int endBefore) {
+		return searchCourseCatalog(query, 0, meetingDays, startAfter, endBefore);
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog courses whose name, title, or
+	 * instructor id contain the query, that have the given credits, and that
+	 * meet on at least the given days, start at or after startAfter, and end at
+	 * or before endBefore. A time filter alone is answered by the time index; one
+	 * with credits is a single scan over the columnar copy of the catalog, which
+	 * tests every field at once. Passing "A" as the meeting days finds arranged
+	 * courses. Passing null meeting days skips the credit and time filters.
+	 * 
+	 * @param query       the text to search for.
+	 * @param credits     the credits of each course, or 0 for any.
+	 * @param meetingDays the days each course must meet on, or null for any.
+	 * @param startAfter  the earliest start time.
+	 * @param endBefore   the latest end time.
+	 * @return String[][] a 2D String array of the matching courses.
+	 * @throws IllegalArgumentException if the meeting days are invalid.
+	 */
+	public String[][] searchCourseCatalog(String query, int credits, String meetingDays, int startAfter,
+			int endBefore) {
+		int[] rows;
+		if (meetingDays == null) {
+			rows = catalog.search(query);
+		} else {
+			if (credits == 0) {
+				rows = catalog.findMeeting(meetingDays, startAfter, endBefore);
+			} else if (MeetingDays.ARRANGED.equals(meetingDays)) {
+				rows = CourseCatalog.intersect(catalog.findMeeting(meetingDays, 0, 0),
+						scanRows(credits, "", 0, 2359));
+			} else {
+				rows = scanRows(credits, meetingDays, startAfter, endBefore);
+			}
+			if (query != null && query.trim().length() > 0) {
+				rows = CourseCatalog.intersect(catalog.search(query), rows);
+			}
+		}
+		return toShortDisplayArray(rows);
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog courses with the given credits that
+	 * meet on at least the given days, start at or after startAfter, and end at
+	 * or before endBefore, such as all 3 credit MWF morning sections. The scan
+	 * runs over the columnar copy of the catalog.
+	 * 
+	 * @param credits     the credits of each course, or 0 for any.
+	 * @param meetingDays the days each course must meet on, or an empty string
+	 *                    for any.
+	 * @param startAfter  the earliest start time.
+	 * @param endBefore   the latest end time.
+	 * @return String[][] a 2D String array of the matching courses.
+	 * @throws IllegalArgumentException if the meeting days are invalid.
+	 */
+	public String[][] scanCourseCatalog(int credits, String meetingDays, int startAfter, int endBefore) {
+		return toShortDisplayArray(scanRows(credits, meetingDays, startAfter, endBefore));
+	}
+
+	/**
+	 * Scans the columnar copy of the catalog for the rows with the given credits
+	 * that meet on at least the given days within a time window.
+	 * 
+	 * @param credits     the credits of each course, or 0 for any.
+	 * @param meetingDays the days each course must meet on, or an empty string
+	 *                    for any.
+	 * @param startAfter  the earliest start time.
+	 * @param endBefore   the latest end time.
+	 * @return the matching rows in ascending order.
+	 * @throws IllegalArgumentException if the meeting days are invalid.
+	 */
+	private int[] scanRows(int credits, String meetingDays, int startAfter, int endBefore) {
+		int requiredDays = MeetingDays.toMask(meetingDays);
+		if (requiredDays == MeetingDays.INVALID) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		return catalog.getColumns().scan(credits, requiredDays, Activity.toMinutes(startAfter),
+				Activity.toMinutes(endBefore));
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog courses in the given rows.
+	 * 
+	 * @param rows the rows of the catalog.
+	 * @return String[][] a 2D String array of the courses.
+	 */
+	private String[][] toShortDisplayArray(int[] rows) {
+		String[][] catalogArray = new String[rows.length][4];
+		for (int i = 0; i < rows.length; i++) {
+			catalogArray[i] = catalog.get(rows[i]).getShortDisplayArray();
+		}
+		return catalogArray;
+	}
+
+	/**
+	 * Forms a 2D String array of the catalog courses taught by an instructor.
+	 * 
+	 * @param instructorId the instructor's id.
+	 * @return String[][] a 2D String array of the instructor's courses.
+	 */
+	public String[][] getInstructorCourses(String instructorId) {
+		List<Course> taught = catalog.getCoursesForInstructor(instructorId);
+		String[][] catalogArray = new String[taught.size()][4];
+		for (int i = 0; i < taught.size(); i++) {
+			catalogArray[i] = taught.get(i).getShortDisplayArray();
 		}
 		return catalogArray;
 	}
 
+	/**
+	 * Returns every pair of catalog courses taught by the same instructor at
+	 * overlapping times. The pairs are updated as courses are added to the
+	 * catalog.
+	 * 
+	 * @return the double-booked pairs of courses.
+	 */
+	public List<CatalogConflict> getInstructorConflicts() {
+		return catalog.getInstructorConflicts();
+	}
+
+	/**
+	 * Returns every pair of catalog courses booked into the same room at
+	 * overlapping times.
+	 * 
+	 * @return the double-booked pairs of courses.
+	 */
+	public List<CatalogConflict> getRoomConflicts() {
+		return catalog.findRoomConflicts();
+	}
+
+	/**
+	 * Returns the heatmap of catalog sections and credits meeting in each time
+	 * slot of each weekday.
+	 * 
+	 * @return the catalog's occupancy heatmap.
+	 */
+	public OccupancyHeatmap getCatalogOccupancy() {
+		return catalog.getOccupancy();
+	}
+
+	/**
+	 * Exports the catalog's occupancy heatmap into a comma separated values file.
+	 * 
+	 * @param fileName the file which the heatmap will be exported into.
+	 * @throws IllegalArgumentException if the file cannot be saved.
+	 */
+	public void exportCatalogOccupancy(String fileName) {
+		try {
+			catalog.getOccupancy().writeCsv(fileName);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("The file cannot be saved.");
+		}
+	}
+
+	/**
+	 * Finds the best schedules holding a section of every required course and
+	 * any of the optional courses, as rated by a scorer. Scheduled activities for
+	 * other courses, and events, stay in every schedule found, so the sections
+	 * chosen must fit around them. The schedule itself is not changed.
+	 * 
+	 * @param required     the names of the courses every schedule must hold.
+	 * @param optional     the names of courses a schedule may hold.
+	 * @param scorer       the scorer rating each schedule.
+	 * @param topK         the number of schedules to return.
+	 * @param budgetMillis the longest time to search, in milliseconds.
+	 * @return the best schedules found, best first, empty if the required
+	 *         courses cannot all be scheduled.
+	 * @throws IllegalArgumentException if scorer is null or topK or budgetMillis
+	 *                                  is not positive.
+	 */
+	public List<ScoredSchedule> optimizeSchedule(List<String> required, List<String> optional, ScheduleScorer scorer,
+			int topK, long budgetMillis) {
+		ArrayList<SectionChoice> choices = new ArrayList<>();
+		HashSet<String> names = new HashSet<>();
+		for (String name : required) {
+			if (names.add(name)) {
+				choices.add(new SectionChoice(catalog.getSections(name), false));
+			}
+		}
+		for (String name : optional) {
+			if (names.add(name)) {
+				choices.add(new SectionChoice(catalog.getSections(name), true));
+			}
+		}
+		ArrayList<Activity> fixed = new ArrayList<>();
+		for (Activity activity : history.getCurrent().toArray()) {
+			if (!(activity instanceof Course) || !names.contains(((Course) activity).getName())) {
+				fixed.add(activity);
+			}
+		}
+		return new ScheduleOptimizer(scorer).optimize(choices, fixed, topK, budgetMillis);
+	}
+
 	/**
 	 * Forms a 2D String array of the schedule.
 	 * 
 	 * @return String[][] a 2D String array of the schedule.
 	 */
 	public String[][] getScheduledActivities() {
-		if (schedule == null) {
-			return new String[0][0];
-		}
+		Activity[] schedule = history.getCurrent().toArray();
+		String[][] scheduledActivities = new String[schedule.length][3];
 
-		String[][] scheduledActivities = new String[schedule.size()][3];
-
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity a = schedule.get(i);
+		for (int i = 0; i < schedule.length; i++) {
+			Activity a = schedule[i];
 			scheduledActivities[i] = a.getShortDisplayArray();
 		}
 
@@ -86,14 +638,11 @@ public class WolfScheduler {
 	 * @return String[][] a 2D String array representing the full schedule.
 	 */
 	public String[][] getFullScheduledActivities() {
-		if (schedule == null) {
-			return new String[0][0];
-		}
+		Activity[] schedule = history.getCurrent().toArray();
+		String[][] fullScheduledActivities = new String[schedule.length][6];
 
-		String[][] fullScheduledActivities = new String[schedule.size()][6];
-
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity a = schedule.get(i);
+		for (int i = 0; i < schedule.length; i++) {
+			Activity a = schedule[i];
 			fullScheduledActivities[i] = a.getLongDisplayArray();
 		}
 
@@ -107,7 +656,7 @@ public class WolfScheduler {
 	 * @return the title of the schedule.
 	 */
 	public String getScheduleTitle() {
-		return title;
+		return history.getCurrent().getTitle();
 	}
 
 	/**
@@ -117,13 +666,105 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException if the file cannot be saved.
 	 */
 	public void exportSchedule(String fileName) {
+		ScheduleExportEvent event = new ScheduleExportEvent();
+		event.begin();
+		long start = System.nanoTime();
+		ScheduleVersion current = history.getCurrent();
+		try {
+			ActivityRecordIO.writeActivityRecords(fileName, new ArrayList<>(current.toList()));
+		} catch (IOException e) {
+			event.record(fileName, current.size(), 0, false);
+			throw new IllegalArgumentException("The file cannot be saved.");
+		}
+		long bytes = new File(fileName).length();
+		metrics.recordExport(bytes, System.nanoTime() - start);
+		event.record(fileName, current.size(), bytes, true);
+	}
+
+	/**
+	 * Exports the schedule into an iCalendar file that calendar apps can import,
+	 * with each activity repeating weekly from the first to the last day of the
+	 * term.
+	 * 
+	 * @param fileName the file which the calendar will be exported into.
+	 * @param firstDay the first day of the term.
+	 * @param lastDay  the last day of the term.
+	 * @throws IllegalArgumentException if the term is invalid or the file cannot
+	 *                                  be saved.
+	 */
+	public void exportCalendar(String fileName, LocalDate firstDay, LocalDate lastDay) {
+		ScheduleVersion current = history.getCurrent();
 		try {
-			ActivityRecordIO.writeActivityRecords(fileName, schedule);
+			ICalendarWriter.writeCalendar(fileName, current.getTitle(), current.toList(), firstDay, lastDay);
 		} catch (IOException e) {
 			throw new IllegalArgumentException("The file cannot be saved.");
 		}
 	}
 
+	/**
+	 * Replaces the schedule with the activities in a file written by
+	 * exportSchedule(). Courses are looked up in the catalog and each activity is
+	 * checked against those already imported as it is read. Activities that are
+	 * not in the catalog, are duplicates, conflict, or break a registration rule
+	 * are skipped.
+	 * 
+	 * @param fileName the file the schedule is imported from.
+	 * @return the number of records skipped.
+	 * @throws IllegalArgumentException if the file cannot be found.
+	 */
+	public int importSchedule(String fileName) {
+		ScheduleVersion[] imported = { history.getCurrent().clear() };
+		int[] rejected = new int[1];
+		int skipped;
+		try {
+			skipped = ActivityRecordIO.readActivityRecords(fileName, catalog::get, activity -> {
+				ScheduleVersion next = importActivity(imported[0], activity);
+				if (next == null) {
+					rejected[0]++;
+				} else {
+					imported[0] = next;
+				}
+			});
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+		ScheduleVersion.Delta delta = journalVersion(history.getCurrent(), imported[0]);
+		history.commit(imported[0]);
+		updateFreeTime(delta);
+		compactJournal();
+		return skipped + rejected[0];
+	}
+
+	/**
+	 * Adds an imported activity to the end of a schedule if it does not duplicate
+	 * or conflict with an activity already in it or break a registration rule.
+	 * 
+	 * @param version the schedule imported so far.
+	 * @param added   the activity to add.
+	 * @return the schedule with the activity added, or null if it was skipped.
+	 */
+	private ScheduleVersion importActivity(ScheduleVersion version, Activity added) {
+		Activity[] scheduled = version.toArray();
+		for (Activity activity : scheduled) {
+			if (added.isDuplicate(activity)) {
+				return null;
+			}
+			try {
+				activity.checkConflict(added);
+			} catch (ConflictException e) {
+				return null;
+			}
+		}
+		if (rules != null && added instanceof Course) {
+			try {
+				rules.check((Course) added, scheduled, version.getCredits());
+			} catch (RuleViolationException e) {
+				return null;
+			}
+		}
+		return version.add(added);
+	}
+
 	/**
 	 * Gets a specified course from the catalog given a name and section
 	 * 
@@ -132,15 +773,11 @@ public class WolfScheduler {
 	 * @return The course if found, null if not
 	 */
 	public Course getCourseFromCatalog(String name, String section) {
-		if (catalog == null) {
-			return null;
-		}
-		for (int i = 0; i < catalog.size(); i++) {
-			if (catalog.get(i).getName().equals(name) && catalog.get(i).getSection().equals(section)) {
-				return catalog.get(i);
-			}
-		}
-		return null;
+		CatalogLookupEvent event = new CatalogLookupEvent();
+		event.begin();
+		Course course = catalog.get(name, section);
+		event.record(name, section, course != null);
+		return course;
 	}
 
 	/**
@@ -149,27 +786,95 @@ public class WolfScheduler {
 	 * @param name    of the course to add
 	 * @param section of the course to add
 	 * @return boolean
-	 * @throws IllegalArgumentException if course is already in schedule
+	 * @throws IllegalArgumentException   if course is already in schedule
+	 * @throws ScheduleConflictException if course conflicts with a scheduled
+	 *                                    activity, naming the activity and the
+	 *                                    other sections that fit
+	 * @throws RuleViolationException     if course breaks a registration rule
 	 */
 	public boolean addCourseToSchedule(String name, String section) {
+		ScheduleChangeEvent change = new ScheduleChangeEvent();
+		change.begin();
+		long start = System.nanoTime();
 		Course addCourse = getCourseFromCatalog(name, section);
+		ScheduleVersion current = history.getCurrent();
 
 		if (addCourse == null) {
+			metrics.recordAdd(AddOutcome.NOT_FOUND, System.nanoTime() - start);
+			change.record(ScheduleChangeEvent.ADD_COURSE, name, section, current.size(), ScheduleChangeEvent.NOT_FOUND);
 			return false;
 		}
 
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity activity = schedule.get(i);
+		metrics.recordConflictCheck();
+		ConflictCheckEvent check = new ConflictCheckEvent();
+		check.begin();
+		Activity[] scheduled = current.toArray();
+		for (Activity activity : scheduled) {
 			if (addCourse.isDuplicate(activity)) {
+				metrics.recordAdd(AddOutcome.DUPLICATE, System.nanoTime() - start);
+				check.record(name, current.size(), true, false);
+				change.record(ScheduleChangeEvent.ADD_COURSE, name, section, current.size(),
+						ScheduleChangeEvent.DUPLICATE);
 				throw new IllegalArgumentException("You are already enrolled in " + name);
 			}
 			try {
 				activity.checkConflict(addCourse);
 			} catch (ConflictException e) {
-				throw new IllegalArgumentException("The course cannot be added due to a conflict.");
+				metrics.recordAdd(AddOutcome.CONFLICT, System.nanoTime() - start);
+				check.record(name, current.size(), false, true);
+				change.record(ScheduleChangeEvent.ADD_COURSE, name, section, current.size(),
+						ScheduleChangeEvent.CONFLICT);
+				throw new ScheduleConflictException("The course cannot be added due to a conflict.", activity,
+						findAlternatives(addCourse, current));
+			}
+		}
+		check.record(name, current.size(), false, false);
+		if (rules != null) {
+			try {
+				rules.check(addCourse, scheduled, current.getCredits());
+			} catch (RuleViolationException e) {
+				metrics.recordAdd(AddOutcome.RULE_VIOLATION, System.nanoTime() - start);
+				change.record(ScheduleChangeEvent.ADD_COURSE, name, section, current.size(),
+						ScheduleChangeEvent.RULE_VIOLATION);
+				throw e;
 			}
 		}
-		return schedule.add(addCourse);
+		journalChange(() -> journal.appendAddCourse(name, section));
+		history.commit(current.add(addCourse));
+		freeTime.add(addCourse);
+		compactJournal();
+		metrics.recordAdd(AddOutcome.ADDED, System.nanoTime() - start);
+		change.record(ScheduleChangeEvent.ADD_COURSE, name, section, current.size(), ScheduleChangeEvent.DONE);
+		return true;
+	}
+
+	/**
+	 * Returns the other sections of a course that fit the schedule, found through
+	 * the catalog's sections for the course name. Sections meeting on the same
+	 * days as the course come first, then those closest to its start time. If
+	 * the schedule already holds a section of the course, there are none.
+	 * 
+	 * @param course   the course that could not be added.
+	 * @param schedule the current schedule.
+	 * @return the sections that fit, best first.
+	 */
+	private List<Course> findAlternatives(Course course, ScheduleVersion schedule) {
+		ArrayList<Course> alternatives = new ArrayList<>();
+		for (Activity activity : schedule.toArray()) {
+			if (course.isDuplicate(activity)) {
+				return alternatives;
+			}
+		}
+		for (Course section : catalog.getSections(course.getName())) {
+			if (section != course && freeTime.fits(section)) {
+				alternatives.add(section);
+			}
+		}
+		int start = Activity.toMinutes(course.getStartTime());
+		alternatives.sort(Comparator
+				.comparingInt((Course section) -> section.getMeetingDays().equals(course.getMeetingDays()) ? 0 : 1)
+				.thenComparingInt(section -> Math.abs(Activity.toMinutes(section.getStartTime()) - start)));
+		return alternatives;
 	}
 
 	/**
@@ -178,34 +883,69 @@ public class WolfScheduler {
 	 * @param idx the index of the schedule being removed.
 	 * 
 	 * @return true if the course was removed, false if not.
+	 * @throws RuleViolationException if a scheduled course needs the course as a
+	 *                                corequisite.
 	 */
 	public boolean removeActivityFromSchedule(int idx) {
-		try {
-			schedule.remove(idx);
-			return true;
-		} catch (IndexOutOfBoundsException e) {
+		ScheduleChangeEvent change = new ScheduleChangeEvent();
+		change.begin();
+		ScheduleVersion current = history.getCurrent();
+		if (idx < 0 || idx >= current.size()) {
+			change.record(ScheduleChangeEvent.REMOVE, null, null, current.size(), ScheduleChangeEvent.INVALID_INDEX);
 			return false;
 		}
+		Activity[] scheduled = current.toArray();
+		Activity removed = scheduled[idx];
+		if (rules != null && removed instanceof Course) {
+			try {
+				rules.checkRemove((Course) removed, scheduled);
+			} catch (RuleViolationException e) {
+				change.record(ScheduleChangeEvent.REMOVE, ((Course) removed).getName(),
+						((Course) removed).getSection(), current.size(), ScheduleChangeEvent.RULE_VIOLATION);
+				throw e;
+			}
+		}
+		journalChange(() -> journal.appendRemove(removed));
+		freeTime.remove(removed);
+		history.commit(current.remove(idx));
+		compactJournal();
+		if (removed instanceof Course) {
+			Course course = (Course) removed;
+			change.record(ScheduleChangeEvent.REMOVE, course.getName(), course.getSection(), current.size(),
+					ScheduleChangeEvent.DONE);
+		} else {
+			change.record(ScheduleChangeEvent.REMOVE, removed.getTitle(), null, current.size(),
+					ScheduleChangeEvent.DONE);
+		}
+		return true;
 	}
 
 	/**
 	 * Resets the schedule by removing all scheduled courses.
+	 * 
+	 * @throws IllegalArgumentException if the journal cannot be written.
 	 */
 	public void resetSchedule() {
-		schedule = new ArrayList<>();
+		journalChange(() -> journal.appendReset());
+		history.commit(history.getCurrent().clear());
+		freeTime.clear();
+		compactJournal();
 	}
 
 	/**
 	 * Sets the title of the schedule.
 	 * 
 	 * @param title the title of the schedule.
-	 * @throws IllegalArgumentException if title is null.
+	 * @throws IllegalArgumentException if title is null or the journal cannot be
+	 *                                  written.
 	 */
 	public void setScheduleTitle(String title) {
 		if (title == null) {
 			throw new IllegalArgumentException("Title cannot be null.");
 		}
-		this.title = title;
+		journalChange(() -> journal.appendTitle(title));
+		history.commit(history.getCurrent().withTitle(title));
+		compactJournal();
 	}
 
 	/**
@@ -219,19 +959,140 @@ public class WolfScheduler {
 	 */
 	public void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime, int eventEndTime,
 			String eventDetails) {
+		ScheduleChangeEvent change = new ScheduleChangeEvent();
+		change.begin();
 		Event event = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
 
-		for (int i = 0; i < schedule.size(); i++) {
-			Activity activity = schedule.get(i);
+		ScheduleVersion current = history.getCurrent();
+		metrics.recordConflictCheck();
+		ConflictCheckEvent check = new ConflictCheckEvent();
+		check.begin();
+		for (Activity activity : current.toArray()) {
 			if (event.isDuplicate(activity)) {
+				check.record(eventTitle, current.size(), true, false);
+				change.record(ScheduleChangeEvent.ADD_EVENT, eventTitle, null, current.size(),
+						ScheduleChangeEvent.DUPLICATE);
 				throw new IllegalArgumentException("You have already created an event called " + eventTitle);
 			}
 			try {
 				activity.checkConflict(event);
 			} catch (ConflictException e) {
+				check.record(eventTitle, current.size(), false, true);
+				change.record(ScheduleChangeEvent.ADD_EVENT, eventTitle, null, current.size(),
+						ScheduleChangeEvent.CONFLICT);
 				throw new IllegalArgumentException("The event cannot be added due to a conflict.");
 			}
 		}
-		schedule.add(event);
+		check.record(eventTitle, current.size(), false, false);
+		journalChange(() -> journal.appendAddEvent(event));
+		history.commit(current.add(event));
+		freeTime.add(event);
+		compactJournal();
+		change.record(ScheduleChangeEvent.ADD_EVENT, eventTitle, null, current.size(), ScheduleChangeEvent.DONE);
+	}
+
+	/**
+	 * Returns the blocks of time of at least minMinutes that are free on every
+	 * one of the given days, so an event can be placed without a conflict. The
+	 * free time is kept up to date as the schedule changes.
+	 * 
+	 * @param meetingDays the days the blocks must be free on.
+	 * @param minMinutes  the shortest block to return, in minutes.
+	 * @return the free blocks in order of start time.
+	 * @throws IllegalArgumentException if the meeting days are invalid or name no
+	 *                                  days, or minMinutes is negative.
+	 */
+	public List<TimeBlock> findFreeTime(String meetingDays, int minMinutes) {
+		return freeTime.findFree(meetingDays, minMinutes);
+	}
+
+	/**
+	 * Undoes the most recent change to the schedule or its title.
+	 * 
+	 * @return true if a change was undone, false if there was none.
+	 * @throws IllegalArgumentException if the journal cannot be written.
+	 */
+	public boolean undo() {
+		ScheduleVersion from = history.getCurrent();
+		if (!history.undo()) {
+			return false;
+		}
+		ScheduleVersion.Delta delta;
+		try {
+			delta = journalVersion(from, history.getCurrent());
+		} catch (IllegalArgumentException e) {
+			history.redo();
+			throw e;
+		}
+		updateFreeTime(delta);
+		compactJournal();
+		return true;
+	}
+
+	/**
+	 * Redoes the most recently undone change to the schedule or its title.
+	 * 
+	 * @return true if a change was redone, false if there was none.
+	 * @throws IllegalArgumentException if the journal cannot be written.
+	 */
+	public boolean redo() {
+		ScheduleVersion from = history.getCurrent();
+		if (!history.redo()) {
+			return false;
+		}
+		ScheduleVersion.Delta delta;
+		try {
+			delta = journalVersion(from, history.getCurrent());
+		} catch (IllegalArgumentException e) {
+			history.undo();
+			throw e;
+		}
+		updateFreeTime(delta);
+		compactJournal();
+		return true;
+	}
+
+	/**
+	 * Returns whether there is a change to undo.
+	 * 
+	 * @return true if undo() will change the schedule.
+	 */
+	public boolean canUndo() {
+		return history.canUndo();
+	}
+
+	/**
+	 * Returns whether there is an undone change to redo.
+	 * 
+	 * @return true if redo() will change the schedule.
+	 */
+	public boolean canRedo() {
+		return history.canRedo();
+	}
+
+	/**
+	 * Saves the schedule and its title under a name, so a what-if variation can
+	 * be explored and then abandoned.
+	 * 
+	 * @param name the name of the checkpoint.
+	 * @throws IllegalArgumentException if name is null or empty.
+	 */
+	public void saveCheckpoint(String name) {
+		history.saveCheckpoint(name);
+	}
+
+	/**
+	 * Returns the schedule and its title to a saved checkpoint. Restoring a
+	 * checkpoint can be undone.
+	 * 
+	 * @param name the name of the checkpoint.
+	 * @throws IllegalArgumentException if there is no checkpoint with the name or
+	 *                                  the journal cannot be written.
+	 */
+	public void restoreCheckpoint(String name) {
+		ScheduleVersion.Delta delta = journalVersion(history.getCurrent(), history.getCheckpoint(name));
+		history.restoreCheckpoint(name);
+		updateFreeTime(delta);
+		compactJournal();
 	}
 }
@@ -0,0 +1,345 @@
+package edu.ncsu.csc216.wolf_scheduler.ui;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordValidator;
+import edu.ncsu.csc216.wolf_scheduler.io.ValidationReport;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.MetricsServer;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.SchedulerMetrics;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Headless entry point to WolfScheduler for scripted bulk work and replaying
+ * traces. A catalog is loaded once and a stream of commands, one per line, is
+ * run against one or many schedules that share it. Each command prints its
+ * result as soon as it runs, and a summary with the operations per second is
+ * printed at the end.
+ *
+ * Commands are comma separated, like the record files:
+ * <ul>
+ * <li>schedule,id - makes the named schedule current, creating it if new</li>
+ * <li>add,name,section - adds a course</li>
+ * <li>remove,index - removes the activity at an index</li>
+ * <li>event,title,days,start,end,details - adds an event</li>
+ * <li>reset - empties the schedule</li>
+ * <li>title,title - sets the schedule title</li>
+ * <li>undo and redo - undo or redo the last change</li>
+ * <li>import,file - replaces the schedule with an exported file</li>
+ * <li>export,file - exports the schedule</li>
+ * <li>calendar,file,first day,last day - exports the schedule as an iCalendar
+ * file for a term, with days such as 2026-08-18</li>
+ * </ul>
+ * Blank lines and lines starting with # are skipped.
+ *
+ * @author Anoushka Piduru
+ */
+public class WolfSchedulerCLI {
+
+	/** Name of the schedule used before any schedule command. */
+	private static final String DEFAULT_SCHEDULE = "default";
+
+	/** The catalog shared by every schedule. */
+	private CourseCatalog catalog;
+	/** Stream results are printed to. */
+	private PrintStream out;
+	/** Whether the result of each command is printed. */
+	private boolean verbose;
+	/** The schedules, keyed by id. */
+	private HashMap<String, WolfScheduler> schedules;
+	/** The schedule commands run against. */
+	private WolfScheduler current;
+	/** Number of commands run. */
+	private long operations;
+	/** Number of commands that failed. */
+	private long errors;
+
+	/**
+	 * Constructs a WolfSchedulerCLI over a catalog.
+	 *
+	 * @param catalog the catalog shared by every schedule.
+	 * @param out     the stream results are printed to.
+	 * @param verbose whether to print the result of each command.
+	 */
+	public WolfSchedulerCLI(CourseCatalog catalog, PrintStream out, boolean verbose) {
+		this.catalog = catalog;
+		this.out = out;
+		this.verbose = verbose;
+		schedules = new HashMap<>();
+		current = getSchedule(DEFAULT_SCHEDULE);
+	}
+
+	/**
+	 * Runs every command read from a stream and prints a summary.
+	 *
+	 * @param in the commands.
+	 * @throws IOException if the commands cannot be read.
+	 */
+	public void run(BufferedReader in) throws IOException {
+		long start = System.nanoTime();
+		int lineNumber = 0;
+		String line = in.readLine();
+		while (line != null) {
+			lineNumber++;
+			if (line.trim().length() > 0 && !line.startsWith("#")) {
+				String result = execute(line);
+				if (verbose) {
+					out.println(lineNumber + ": " + result);
+				}
+			}
+			line = in.readLine();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		out.printf("%d operations, %d errors, %d schedules in %.3f s (%.0f ops/s)%n", operations, errors,
+				schedules.size(), seconds, seconds > 0 ? operations / seconds : 0.0);
+	}
+
+	/**
+	 * Runs one command against the current schedule.
+	 *
+	 * @param line the command.
+	 * @return "ok", a value returned by the command, or "error: " and the reason
+	 *         the command failed.
+	 */
+	public String execute(String line) {
+		operations++;
+		String[] tokens = line.split(",", -1);
+		try {
+			String result = execute(tokens, line);
+			if (result.startsWith("error: ")) {
+				errors++;
+			}
+			return result;
+		} catch (NumberFormatException e) {
+			errors++;
+			return "error: Invalid number.";
+		} catch (IllegalArgumentException e) {
+			errors++;
+			return "error: " + e.getMessage();
+		}
+	}
+
+	/**
+	 * Runs one parsed command.
+	 *
+	 * @param tokens the comma separated parts of the command.
+	 * @param line   the whole command.
+	 * @return the result of the command.
+	 * @throws IllegalArgumentException if the command fails.
+	 */
+	private String execute(String[] tokens, String line) {
+		switch (tokens[0].trim()) {
+		case "schedule":
+			checkTokens(tokens, 2);
+			current = getSchedule(tokens[1]);
+			return "ok";
+		case "add":
+			checkTokens(tokens, 3);
+			return current.addCourseToSchedule(tokens[1], tokens[2]) ? "ok" : "error: Course doesn't exist.";
+		case "remove":
+			checkTokens(tokens, 2);
+			return current.removeActivityFromSchedule(Integer.parseInt(tokens[1].trim())) ? "ok"
+					: "error: Invalid index.";
+		case "event":
+			String[] event = line.split(",", 6);
+			checkTokens(event, 6);
+			current.addEventToSchedule(event[1], event[2], Integer.parseInt(event[3].trim()),
+					Integer.parseInt(event[4].trim()), event[5]);
+			return "ok";
+		case "reset":
+			current.resetSchedule();
+			return "ok";
+		case "title":
+			String[] title = line.split(",", 2);
+			checkTokens(title, 2);
+			current.setScheduleTitle(title[1]);
+			return "ok";
+		case "undo":
+			return current.undo() ? "ok" : "error: Nothing to undo.";
+		case "redo":
+			return current.redo() ? "ok" : "error: Nothing to redo.";
+		case "import":
+			checkTokens(tokens, 2);
+			return "skipped " + current.importSchedule(tokens[1]);
+		case "export":
+			checkTokens(tokens, 2);
+			current.exportSchedule(tokens[1]);
+			return "ok";
+		case "calendar":
+			checkTokens(tokens, 4);
+			current.exportCalendar(tokens[1], parseDate(tokens[2]), parseDate(tokens[3]));
+			return "ok";
+		default:
+			return "error: Unknown command.";
+		}
+	}
+
+	/**
+	 * Checks that a command has the expected number of parts.
+	 *
+	 * @param tokens the parts of the command.
+	 * @param count  the expected number of parts.
+	 * @throws IllegalArgumentException if the count is wrong.
+	 */
+	private static void checkTokens(String[] tokens, int count) {
+		if (tokens.length != count) {
+			throw new IllegalArgumentException("Invalid command.");
+		}
+	}
+
+	/**
+	 * Parses a day such as 2026-08-18.
+	 *
+	 * @param day the day.
+	 * @return the parsed day.
+	 * @throws IllegalArgumentException if the day is invalid.
+	 */
+	private static LocalDate parseDate(String day) {
+		try {
+			return LocalDate.parse(day.trim());
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Invalid date.");
+		}
+	}
+
+	/**
+	 * Returns the schedule with an id, creating it if it does not exist.
+	 *
+	 * @param id the schedule id.
+	 * @return the schedule.
+	 */
+	private WolfScheduler getSchedule(String id) {
+		WolfScheduler schedule = schedules.get(id);
+		if (schedule == null) {
+			schedule = new WolfScheduler(catalog);
+			schedules.put(id, schedule);
+		}
+		return schedule;
+	}
+
+	/**
+	 * Returns the number of commands run.
+	 *
+	 * @return the number of operations.
+	 */
+	public long getOperations() {
+		return operations;
+	}
+
+	/**
+	 * Returns the number of commands that failed.
+	 *
+	 * @return the number of errors.
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Validates a course records file and writes a report of every problem found,
+	 * printing the summary to standard error.
+	 *
+	 * @param catalogFile the course records file.
+	 * @param reportFile  the file to write the report to.
+	 * @return 0 if every line is a valid course, 1 if not, or 2 if a file cannot
+	 *         be read or written.
+	 */
+	private static int validate(String catalogFile, String reportFile) {
+		try {
+			ValidationReport report = new CourseRecordValidator().validate(catalogFile);
+			report.write(reportFile);
+			System.err.print(report.getSummary());
+			return report.getInvalidLines() == 0 ? 0 : 1;
+		} catch (FileNotFoundException e) {
+			System.err.println("Cannot find file.");
+		} catch (IOException | UncheckedIOException e) {
+			System.err.println("Cannot write report.");
+		}
+		return 2;
+	}
+
+	/**
+	 * Starts the command line interface. The arguments are the course records
+	 * file, then optionally a command file, -q to print only the summary, and -m
+	 * and a port to serve metrics at http://localhost:port/metrics while the
+	 * commands run. Metrics are also registered for JMX clients. Commands are
+	 * read from standard input if no command file is given. With -v and a report
+	 * file, the course records file is validated instead and no commands are run.
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(String[] args) {
+		String catalogFile = null;
+		String commandFile = null;
+		boolean verbose = true;
+		int metricsPort = -1;
+		String reportFile = null;
+		for (int i = 0; i < args.length; i++) {
+			if ("-q".equals(args[i])) {
+				verbose = false;
+			} else if ("-m".equals(args[i]) && i + 1 < args.length) {
+				metricsPort = Integer.parseInt(args[++i]);
+			} else if ("-v".equals(args[i]) && i + 1 < args.length) {
+				reportFile = args[++i];
+			} else if (catalogFile == null) {
+				catalogFile = args[i];
+			} else {
+				commandFile = args[i];
+			}
+		}
+		if (catalogFile == null) {
+			System.err.println(
+					"Usage: WolfSchedulerCLI <course file> [command file] [-q] [-m port] [-v report file]");
+			System.exit(2);
+		}
+		if (reportFile != null) {
+			System.exit(validate(catalogFile, reportFile));
+		}
+
+		SchedulerMetrics metrics = SchedulerMetrics.getDefault();
+		metrics.registerMBean("WolfSchedulerCLI");
+		MetricsServer server = null;
+		if (metricsPort >= 0) {
+			try {
+				server = new MetricsServer(metrics, metricsPort);
+				System.err.println("Serving metrics at http://localhost:" + server.getPort() + MetricsServer.PATH);
+			} catch (IOException e) {
+				System.err.println("Cannot serve metrics.");
+				System.exit(1);
+			}
+		}
+
+		CourseCatalog catalog = new CourseCatalog();
+		long start = System.nanoTime();
+		try {
+			catalog.addAll(CourseRecordIO.readCourseRecords(catalogFile, catalog.getStringPool()));
+		} catch (FileNotFoundException e) {
+			System.err.println("Cannot find file.");
+			System.exit(1);
+		}
+		metrics.recordCatalogLoad(catalog.size(), System.nanoTime() - start);
+
+		WolfSchedulerCLI cli = new WolfSchedulerCLI(catalog, System.out, verbose);
+		try (BufferedReader in = new BufferedReader(new InputStreamReader(
+				commandFile == null ? System.in : new FileInputStream(commandFile)))) {
+			cli.run(in);
+		} catch (IOException e) {
+			System.err.println("Cannot read commands.");
+			System.exit(1);
+		}
+		if (server != null) {
+			server.stop();
+		}
+		System.exit(cli.getErrors() == 0 ? 0 : 1);
+	}
+}
@@ -2,6 +2,8 @@ package edu.ncsu.csc216.wolf_scheduler.ui;
 
 import java.awt.BorderLayout;
 import java.awt.CardLayout;
+import java.awt.Color;
+import java.awt.Component;
 import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.GridLayout;
@@ -9,28 +11,47 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
+import javax.swing.JDialog;
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
 
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIterator;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.OccupancyHeatmap;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.ScheduleConflictException;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.SchedulerMetrics;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.TimeBlock;
 import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
 
 /**
@@ -51,6 +72,8 @@ public class WolfSchedulerGUI extends JFrame {
 	private static final String SCHEDULER_PANEL = "SchedulerPanel";
 	/** Constant to identify SchedulePanel for {@link CardLayout}. */
 	private static final String SCHEDULE_PANEL = "SchedulePanel";
+	/** Journal of schedule changes, replayed when the catalog finishes loading. */
+	private static final String JOURNAL_FILE = "schedule_journal.bin";
 	/** Scheduler panel */
 	private SchedulerPanel pnlScheduler;
 	/** Schedule panel */
@@ -72,12 +95,15 @@ public class WolfSchedulerGUI extends JFrame {
 		setTitle(APP_TITLE);
 		setDefaultCloseOperation(EXIT_ON_CLOSE);
 
-		// Construct the underlying model object
+		// Construct the underlying model object. The catalog is loaded in the
+		// background once the GUI is visible.
+		String catalogFileName = null;
 		try {
-			scheduler = new WolfScheduler(getFileName(true));
+			catalogFileName = getFileName(true);
 		} catch (IllegalStateException e) {
 			System.exit(1);
 		}
+		scheduler = new WolfScheduler();
 
 		// Construct panels
 		pnlScheduler = new SchedulerPanel();
@@ -99,6 +125,8 @@ public class WolfSchedulerGUI extends JFrame {
 
 		// Set the GUI visible
 		setVisible(true);
+
+		pnlScheduler.loadCatalog(catalogFileName);
 	}
 
 	/**
@@ -128,11 +156,13 @@ public class WolfSchedulerGUI extends JFrame {
 	}
 
 	/**
-	 * Starts the Wolf Scheduler program.
+	 * Starts the Wolf Scheduler program. The scheduler's metrics are registered
+	 * for JMX clients such as JConsole.
 	 * 
 	 * @param args command line arguments
 	 */
 	public static void main(String[] args) {
+		SchedulerMetrics.getDefault().registerMBean(APP_TITLE);
 		new WolfSchedulerGUI();
 	}
 
@@ -153,6 +183,8 @@ public class WolfSchedulerGUI extends JFrame {
 		private JButton btnReset;
 		/** Button for displaying the final schedule */
 		private JButton btnDisplay;
+		/** Button for displaying the catalog occupancy heatmap */
+		private JButton btnHeatmap;
 		/** JTable for displaying the catalog of Courses */
 		private JTable tableCatalog;
 		/** JTable for displaying the schdule of Courses */
@@ -237,8 +269,42 @@ public class WolfSchedulerGUI extends JFrame {
 		private JTextField txtDetails;
 		/** Button for adding event */
 		private JButton btnAddEvent;
+		/** Button for suggesting free times for the event */
+		private JButton btnSuggestTime;
 		/** Panel for adding event */
 		private JPanel pnlAddEvent;
+		/** Progress bar for loading the catalog */
+		private JProgressBar progressLoad;
+		/** Label for the catalog loading status */
+		private JLabel lblLoadStatus;
+		/** Button for cancelling the catalog load */
+		private JButton btnCancelLoad;
+		/** Background task loading the catalog */
+		private CatalogLoader catalogLoader;
+		/** Text field for searching the catalog */
+		private JTextField txtSearch;
+		/** Check box for filtering the catalog to Monday */
+		private JCheckBox cbFilterMonday;
+		/** Check box for filtering the catalog to Tuesday */
+		private JCheckBox cbFilterTuesday;
+		/** Check box for filtering the catalog to Wednesday */
+		private JCheckBox cbFilterWednesday;
+		/** Check box for filtering the catalog to Thursday */
+		private JCheckBox cbFilterThursday;
+		/** Check box for filtering the catalog to Friday */
+		private JCheckBox cbFilterFriday;
+		/** Check box for filtering the catalog to arranged courses */
+		private JCheckBox cbFilterArranged;
+		/** Combo box for the credits in the catalog filter */
+		private JComboBox<String> comboFilterCredits;
+		/** Text field for the earliest start time in the catalog filter */
+		private JTextField txtFilterStart;
+		/** Text field for the latest end time in the catalog filter */
+		private JTextField txtFilterEnd;
+		/** Button for applying the catalog filter */
+		private JButton btnApplyFilter;
+		/** Button for clearing the catalog filter */
+		private JButton btnClearFilter;
 
 		/**
 		 * Creates the requirements list.
@@ -255,21 +321,31 @@ public class WolfSchedulerGUI extends JFrame {
 			btnReset.addActionListener(this);
 			btnDisplay = new JButton("Display Final Schedule");
 			btnDisplay.addActionListener(this);
+			btnHeatmap = new JButton("Catalog Heatmap");
+			btnHeatmap.addActionListener(this);
 			lblScheduleTitle = new JLabel("Schedule Title: ");
 			txtScheduleTitle = new JTextField(scheduler.getScheduleTitle(), 20);
 			btnSetScheduleTitle = new JButton("Set Title");
 			btnSetScheduleTitle.addActionListener(this);
 
+			progressLoad = new JProgressBar(0, 100);
+			progressLoad.setStringPainted(true);
+			lblLoadStatus = new JLabel("");
+			btnCancelLoad = new JButton("Cancel Load");
+			btnCancelLoad.addActionListener(this);
+			btnCancelLoad.setEnabled(false);
+
 			JPanel pnlActions = new JPanel();
-			pnlActions.setLayout(new GridLayout(3, 1));
+			pnlActions.setLayout(new GridLayout(4, 1));
 			JPanel pnlAddRemove = new JPanel();
 			pnlAddRemove.setLayout(new GridLayout(1, 2));
 			pnlAddRemove.add(btnAddCourse);
 			pnlAddRemove.add(btnRemoveCourse);
 			JPanel pnlResetDisplay = new JPanel();
-			pnlResetDisplay.setLayout(new GridLayout(1, 2));
+			pnlResetDisplay.setLayout(new GridLayout(1, 3));
 			pnlResetDisplay.add(btnReset);
 			pnlResetDisplay.add(btnDisplay);
+			pnlResetDisplay.add(btnHeatmap);
 			JPanel pnlScheduleTitle = new JPanel();
 			pnlScheduleTitle.setLayout(new GridLayout(1, 3));
 			pnlScheduleTitle.add(lblScheduleTitle);
@@ -278,6 +354,12 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlActions.add(pnlAddRemove);
 			pnlActions.add(pnlResetDisplay);
 			pnlActions.add(pnlScheduleTitle);
+			JPanel pnlLoad = new JPanel();
+			pnlLoad.setLayout(new GridLayout(1, 3));
+			pnlLoad.add(progressLoad);
+			pnlLoad.add(lblLoadStatus);
+			pnlLoad.add(btnCancelLoad);
+			pnlActions.add(pnlLoad);
 
 			Border lowerEtched = BorderFactory.createEtchedBorder(EtchedBorder.LOWERED);
 			TitledBorder borderActions = BorderFactory.createTitledBorder(lowerEtched, "Actions");
@@ -311,6 +393,9 @@ public class WolfSchedulerGUI extends JFrame {
 
 				@Override
 				public void valueChanged(ListSelectionEvent e) {
+					if (tableCatalog.getSelectedRow() == -1) {
+						return;
+					}
 					String name = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 0).toString();
 					String section = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 1).toString();
 					Course c = scheduler.getCourseFromCatalog(name, section);
@@ -321,9 +406,80 @@ public class WolfSchedulerGUI extends JFrame {
 
 			JScrollPane scrollCatalog = new JScrollPane(tableCatalog);
 
+			// Set up the catalog search box. The catalog table is filtered on every
+			// keystroke.
+			txtSearch = new JTextField(20);
+			txtSearch.getDocument().addDocumentListener(new DocumentListener() {
+
+				@Override
+				public void insertUpdate(DocumentEvent e) {
+					catalogTableModel.setQuery(txtSearch.getText());
+				}
+
+				@Override
+				public void removeUpdate(DocumentEvent e) {
+					catalogTableModel.setQuery(txtSearch.getText());
+				}
+
+				@Override
+				public void changedUpdate(DocumentEvent e) {
+					catalogTableModel.setQuery(txtSearch.getText());
+				}
+
+			});
+			JPanel pnlSearchText = new JPanel(new BorderLayout());
+			pnlSearchText.add(new JLabel("Search: "), BorderLayout.WEST);
+			pnlSearchText.add(txtSearch, BorderLayout.CENTER);
+
+			// Set up the catalog meeting time filter
+			cbFilterMonday = new JCheckBox("M");
+			cbFilterTuesday = new JCheckBox("T");
+			cbFilterWednesday = new JCheckBox("W");
+			cbFilterThursday = new JCheckBox("H");
+			cbFilterFriday = new JCheckBox("F");
+			cbFilterArranged = new JCheckBox("Arranged");
+			comboFilterCredits = new JComboBox<String>();
+			comboFilterCredits.addItem("Any");
+			comboFilterCredits.addItem("1");
+			comboFilterCredits.addItem("2");
+			comboFilterCredits.addItem("3");
+			comboFilterCredits.addItem("4");
+			comboFilterCredits.addItem("5");
+			txtFilterStart = new JTextField(4);
+			txtFilterStart.setToolTipText("Earliest start time, e.g. 1500");
+			txtFilterEnd = new JTextField(4);
+			txtFilterEnd.setToolTipText("Latest end time, e.g. 1700");
+			btnApplyFilter = new JButton("Filter");
+			btnApplyFilter.addActionListener(this);
+			btnClearFilter = new JButton("Clear");
+			btnClearFilter.addActionListener(this);
+			JPanel pnlFilter = new JPanel();
+			pnlFilter.add(cbFilterMonday);
+			pnlFilter.add(cbFilterTuesday);
+			pnlFilter.add(cbFilterWednesday);
+			pnlFilter.add(cbFilterThursday);
+			pnlFilter.add(cbFilterFriday);
+			pnlFilter.add(cbFilterArranged);
+			pnlFilter.add(new JLabel("Credits: "));
+			pnlFilter.add(comboFilterCredits);
+			pnlFilter.add(new JLabel("Start after: "));
+			pnlFilter.add(txtFilterStart);
+			pnlFilter.add(new JLabel("End before: "));
+			pnlFilter.add(txtFilterEnd);
+			pnlFilter.add(btnApplyFilter);
+			pnlFilter.add(btnClearFilter);
+
+			JPanel pnlSearch = new JPanel(new GridLayout(2, 1));
+			pnlSearch.add(pnlSearchText);
+			pnlSearch.add(pnlFilter);
+
+			JPanel pnlCatalog = new JPanel(new BorderLayout());
+			pnlCatalog.add(pnlSearch, BorderLayout.NORTH);
+			pnlCatalog.add(scrollCatalog, BorderLayout.CENTER);
+
 			TitledBorder borderCatalog = BorderFactory.createTitledBorder(lowerEtched, "Course Catalog");
-			scrollCatalog.setBorder(borderCatalog);
-			scrollCatalog.setToolTipText("Course Catalog");
+			pnlCatalog.setBorder(borderCatalog);
+			pnlCatalog.setToolTipText("Course Catalog");
 
 			// Set up Schedule table
 			scheduleTableModel = new CourseTableModel(false);
@@ -482,14 +638,18 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlTime.add(pnlStartTime);
 			pnlTime.add(pnlEndTime);
 
-			JPanel pnlDetails = new JPanel(new GridLayout(1, 3));
+			JPanel pnlDetails = new JPanel(new GridLayout(1, 4));
 
 			txtDetails = new JTextField(20);
 			btnAddEvent = new JButton("Add Event");
 			btnAddEvent.addActionListener(this);
+			btnSuggestTime = new JButton("Suggest Time");
+			btnSuggestTime.addActionListener(this);
+			btnSuggestTime.setToolTipText("Find free times on the selected days as long as the chosen times");
 
 			pnlDetails.add(lblEventDetails);
 			pnlDetails.add(txtDetails);
+			pnlDetails.add(btnSuggestTime);
 			pnlDetails.add(btnAddEvent);
 
 			pnlAddEvent.add(pnlEventTitle);
@@ -501,7 +661,7 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlAddEvent.setBorder(borderAddEvent);
 			pnlAddEvent.setToolTipText("AddEvent");
 
-			add(scrollCatalog);
+			add(pnlCatalog);
 			add(pnlActions);
 			add(scrollSchedule);
 			add(pnlCourseDetails);
@@ -514,7 +674,24 @@ public class WolfSchedulerGUI extends JFrame {
 		 * @param e user event that triggers an action.
 		 */
 		public void actionPerformed(ActionEvent e) {
-			if (e.getSource() == btnAddCourse) {
+			if (e.getSource() == btnCancelLoad) {
+				if (catalogLoader != null) {
+					catalogLoader.cancel(true);
+				}
+			} else if (e.getSource() == btnApplyFilter) {
+				applyCatalogFilter();
+			} else if (e.getSource() == btnClearFilter) {
+				cbFilterMonday.setSelected(false);
+				cbFilterTuesday.setSelected(false);
+				cbFilterWednesday.setSelected(false);
+				cbFilterThursday.setSelected(false);
+				cbFilterFriday.setSelected(false);
+				cbFilterArranged.setSelected(false);
+				comboFilterCredits.setSelectedIndex(0);
+				txtFilterStart.setText("");
+				txtFilterEnd.setText("");
+				catalogTableModel.setFilter(0, null, 0, 0);
+			} else if (e.getSource() == btnAddCourse) {
 				int row = tableCatalog.getSelectedRow();
 				if (row == -1 || row == tableCatalog.getRowCount()) {
 					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "No course selected in the catalog.");
@@ -524,6 +701,15 @@ public class WolfSchedulerGUI extends JFrame {
 								tableCatalog.getValueAt(row, 1).toString())) {
 							JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "Course doesn't exist.");
 						}
+					} catch (ScheduleConflictException sce) {
+						String message = sce.getMessage() + "\nConflicts with: "
+								+ sce.getConflictingActivity().getTitle() + " "
+								+ sce.getConflictingActivity().getMeetingString();
+						for (Course alternative : sce.getAlternatives()) {
+							message += "\nTry section " + alternative.getSection() + ": "
+									+ alternative.getMeetingString();
+						}
+						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, message);
 					} catch (IllegalArgumentException iae) {
 						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, iae.getMessage());
 					}
@@ -534,7 +720,11 @@ public class WolfSchedulerGUI extends JFrame {
 				if (row == -1 || row == tableSchedule.getRowCount()) {
 					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "No item selected in the schedule.");
 				} else {
-					scheduler.removeActivityFromSchedule(row);
+					try {
+						scheduler.removeActivityFromSchedule(row);
+					} catch (IllegalArgumentException iae) {
+						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, iae.getMessage());
+					}
 				}
 				updateTables();
 			} else if (e.getSource() == btnReset) {
@@ -543,6 +733,8 @@ public class WolfSchedulerGUI extends JFrame {
 			} else if (e.getSource() == btnDisplay) {
 				cardLayout.show(panel, SCHEDULE_PANEL);
 				pnlSchedule.updateFinalizedTable();
+			} else if (e.getSource() == btnHeatmap) {
+				new OccupancyDialog().setVisible(true);
 			} else if (e.getSource() == btnSetScheduleTitle) {
 				try {
 					scheduler.setScheduleTitle(txtScheduleTitle.getText());
@@ -552,77 +744,19 @@ public class WolfSchedulerGUI extends JFrame {
 				borderSchedule.setTitle(scheduler.getScheduleTitle());
 			} else if (e.getSource() == btnAddEvent) {
 				try {
-					String eventMeetingDays = "";
-					if (cbSunday.isSelected()) {
-						eventMeetingDays += "U";
-					}
-					if (cbMonday.isSelected()) {
-						eventMeetingDays += "M";
-					}
-					if (cbTuesday.isSelected()) {
-						eventMeetingDays += "T";
-					}
-					if (cbWednesday.isSelected()) {
-						eventMeetingDays += "W";
-					}
-					if (cbThursday.isSelected()) {
-						eventMeetingDays += "H";
-					}
-					if (cbFriday.isSelected()) {
-						eventMeetingDays += "F";
-					}
-					if (cbSaturday.isSelected()) {
-						eventMeetingDays += "S";
-					}
+					String eventMeetingDays = getEventMeetingDays();
 					if (eventMeetingDays.length() == 0) {
 						JOptionPane.showMessageDialog(WolfSchedulerGUI.this,
 								"The event must occur on at least one day.");
 						return;
 					}
 
-					int eventStartTime = 0;
-					int hourIdx = comboStartHour.getSelectedIndex();
-					if (hourIdx == -1) {
-						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event times are invalid.");
-						return;
-					}
-					eventStartTime = comboStartHour.getItemAt(hourIdx) * 100;
-					int minIdx = comboStartMin.getSelectedIndex();
-					if (minIdx == -1) {
-						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event times are invalid.");
-						return;
-					}
-					eventStartTime += comboStartMin.getItemAt(minIdx);
-					int periodIdx = comboStartPeriod.getSelectedIndex();
-					if (periodIdx == -1) {
-						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event times are invalid.");
-						return;
-					}
-					if (comboStartPeriod.getItemAt(periodIdx).equals("PM") && eventStartTime < 1200) {
-						eventStartTime += 1200;
-					}
-
-					int eventEndTime = 0;
-					hourIdx = comboEndHour.getSelectedIndex();
-					if (hourIdx == -1) {
-						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event times are invalid.");
-						return;
-					}
-					eventEndTime = comboEndHour.getItemAt(hourIdx) * 100;
-					minIdx = comboEndMin.getSelectedIndex();
-					if (minIdx == -1) {
-						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event times are invalid.");
-						return;
-					}
-					eventEndTime += comboEndMin.getItemAt(minIdx);
-					periodIdx = comboEndPeriod.getSelectedIndex();
-					if (periodIdx == -1) {
+					int eventStartTime = getEventTime(comboStartHour, comboStartMin, comboStartPeriod);
+					int eventEndTime = getEventTime(comboEndHour, comboEndMin, comboEndPeriod);
+					if (eventStartTime == -1 || eventEndTime == -1) {
 						JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event times are invalid.");
 						return;
 					}
-					if (comboEndPeriod.getItemAt(periodIdx).equals("PM") && eventEndTime < 1200) {
-						eventEndTime += 1200;
-					}
 
 					scheduler.addEventToSchedule(txtEventTitle.getText(), eventMeetingDays, eventStartTime,
 							eventEndTime, txtDetails.getText());
@@ -636,12 +770,130 @@ public class WolfSchedulerGUI extends JFrame {
 					}
 					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, message);
 				}
+			} else if (e.getSource() == btnSuggestTime) {
+				suggestEventTime();
 			}
 
 			WolfSchedulerGUI.this.repaint();
 			WolfSchedulerGUI.this.validate();
 		}
 
+		/**
+		 * Returns the meeting days checked in the add event form.
+		 * 
+		 * @return the meeting days, empty if none are checked.
+		 */
+		private String getEventMeetingDays() {
+			String eventMeetingDays = "";
+			if (cbSunday.isSelected()) {
+				eventMeetingDays += "U";
+			}
+			if (cbMonday.isSelected()) {
+				eventMeetingDays += "M";
+			}
+			if (cbTuesday.isSelected()) {
+				eventMeetingDays += "T";
+			}
+			if (cbWednesday.isSelected()) {
+				eventMeetingDays += "W";
+			}
+			if (cbThursday.isSelected()) {
+				eventMeetingDays += "H";
+			}
+			if (cbFriday.isSelected()) {
+				eventMeetingDays += "F";
+			}
+			if (cbSaturday.isSelected()) {
+				eventMeetingDays += "S";
+			}
+			return eventMeetingDays;
+		}
+
+		/**
+		 * Returns the military time chosen in a set of time combo boxes.
+		 * 
+		 * @param comboHour   the hour combo box.
+		 * @param comboMin    the minute combo box.
+		 * @param comboPeriod the AM/PM combo box.
+		 * @return the time, or -1 if a box has no selection.
+		 */
+		private int getEventTime(JComboBox<Integer> comboHour, JComboBox<Integer> comboMin,
+				JComboBox<String> comboPeriod) {
+			int hourIdx = comboHour.getSelectedIndex();
+			int minIdx = comboMin.getSelectedIndex();
+			int periodIdx = comboPeriod.getSelectedIndex();
+			if (hourIdx == -1 || minIdx == -1 || periodIdx == -1) {
+				return -1;
+			}
+			int time = comboHour.getItemAt(hourIdx) * 100 + comboMin.getItemAt(minIdx);
+			if (comboPeriod.getItemAt(periodIdx).equals("PM") && time < 1200) {
+				time += 1200;
+			}
+			return time;
+		}
+
+		/**
+		 * Selects a military time in a set of time combo boxes.
+		 * 
+		 * @param time        the time to select.
+		 * @param comboHour   the hour combo box.
+		 * @param comboMin    the minute combo box.
+		 * @param comboPeriod the AM/PM combo box.
+		 */
+		private void setEventTime(int time, JComboBox<Integer> comboHour, JComboBox<Integer> comboMin,
+				JComboBox<String> comboPeriod) {
+			int hour = time / 100 % 12;
+			comboHour.setSelectedItem(hour == 0 ? 12 : hour);
+			comboMin.setSelectedItem(time % 100);
+			comboPeriod.setSelectedItem(time < 1200 ? "AM" : "PM");
+		}
+
+		/**
+		 * Offers the free times on the checked days that are as long as the times
+		 * chosen in the form, or an hour if the chosen times are not a range. The
+		 * chosen suggestion is filled into the form.
+		 */
+		private void suggestEventTime() {
+			String eventMeetingDays = getEventMeetingDays();
+			if (eventMeetingDays.length() == 0) {
+				JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The event must occur on at least one day.");
+				return;
+			}
+			int start = getEventTime(comboStartHour, comboStartMin, comboStartPeriod);
+			int end = getEventTime(comboEndHour, comboEndMin, comboEndPeriod);
+			int minutes = 60;
+			if (start != -1 && end > start) {
+				minutes = Activity.toMinutes(end) - Activity.toMinutes(start);
+			}
+
+			ArrayList<String> options = new ArrayList<>();
+			ArrayList<int[]> times = new ArrayList<>();
+			for (TimeBlock block : scheduler.findFreeTime(eventMeetingDays, minutes)) {
+				// The form picks times in 5 minute steps from 1:00AM
+				int first = Math.max(Activity.toMinutes(block.getStartTime()), 60);
+				first = (first + 4) / 5 * 5;
+				int last = first + minutes;
+				if (last <= Activity.toMinutes(block.getEndTime())) {
+					int suggestedStart = first / 60 * 100 + first % 60;
+					int suggestedEnd = last / 60 * 100 + last % 60;
+					options.add(Activity.getTimeString(suggestedStart) + "-" + Activity.getTimeString(suggestedEnd)
+							+ " (free " + block + ")");
+					times.add(new int[] { suggestedStart, suggestedEnd });
+				}
+			}
+			if (options.isEmpty()) {
+				JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "No free time of that length on those days.");
+				return;
+			}
+			Object choice = JOptionPane.showInputDialog(WolfSchedulerGUI.this, "Free times on " + eventMeetingDays,
+					"Suggest Time", JOptionPane.PLAIN_MESSAGE, null, options.toArray(), options.get(0));
+			int chosen = options.indexOf(choice);
+			if (chosen != -1) {
+				setEventTime(times.get(chosen)[0], comboStartHour, comboStartMin, comboStartPeriod);
+				setEventTime(times.get(chosen)[1], comboEndHour, comboEndMin, comboEndPeriod);
+			}
+		}
+
 		/**
 		 * Resets the fields of the add event form.
 		 */
@@ -663,6 +915,77 @@ public class WolfSchedulerGUI extends JFrame {
 			txtDetails.setText("");
 		}
 
+		/**
+		 * Starts loading the catalog from the given file in the background. Courses
+		 * are shown in the catalog table as they are read. The schedule cannot be
+		 * changed until the load ends and the journal is opened, so no change is
+		 * made before journaling starts.
+		 * 
+		 * @param fileName the file with the course records being read.
+		 */
+		private void loadCatalog(String fileName) {
+			setScheduleEditable(false);
+			progressLoad.setValue(0);
+			lblLoadStatus.setText("Loading...");
+			btnCancelLoad.setEnabled(true);
+			catalogLoader = new CatalogLoader(fileName);
+			catalogLoader.addPropertyChangeListener(evt -> {
+				if ("progress".equals(evt.getPropertyName())) {
+					progressLoad.setValue((Integer) evt.getNewValue());
+				}
+			});
+			catalogLoader.execute();
+		}
+
+		/**
+		 * Enables or disables the controls that change the schedule.
+		 * 
+		 * @param editable true to allow changes to the schedule.
+		 */
+		private void setScheduleEditable(boolean editable) {
+			btnAddCourse.setEnabled(editable);
+			btnRemoveCourse.setEnabled(editable);
+			btnReset.setEnabled(editable);
+			btnSetScheduleTitle.setEnabled(editable);
+			btnAddEvent.setEnabled(editable);
+		}
+
+		/**
+		 * Filters the catalog table by the selected meeting days and times. Blank
+		 * times leave that end of the range open.
+		 */
+		private void applyCatalogFilter() {
+			String filterDays = "";
+			if (cbFilterArranged.isSelected()) {
+				filterDays = "A";
+			} else {
+				if (cbFilterMonday.isSelected()) {
+					filterDays += "M";
+				}
+				if (cbFilterTuesday.isSelected()) {
+					filterDays += "T";
+				}
+				if (cbFilterWednesday.isSelected()) {
+					filterDays += "W";
+				}
+				if (cbFilterThursday.isSelected()) {
+					filterDays += "H";
+				}
+				if (cbFilterFriday.isSelected()) {
+					filterDays += "F";
+				}
+			}
+			try {
+				String start = txtFilterStart.getText().trim();
+				String end = txtFilterEnd.getText().trim();
+				int startAfter = start.length() == 0 ? 0 : Integer.parseInt(start);
+				int endBefore = end.length() == 0 ? 2359 : Integer.parseInt(end);
+				catalogTableModel.setFilter(comboFilterCredits.getSelectedIndex(), filterDays, startAfter, endBefore);
+			} catch (NumberFormatException nfe) {
+				JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "The filter times are invalid.");
+			}
+		}
+
 		/**
 		 * Updates the catalog and schedule tables.
 		 */
@@ -704,6 +1027,16 @@ public class WolfSchedulerGUI extends JFrame {
 			private Object[][] data;
 			/** Boolean flag if the model applies to the catalog or schedule */
 			private boolean catalog;
+			/** Search text the catalog is filtered by */
+			private String query = "";
+			/** Credits the catalog is filtered by, or 0 for any */
+			private int filterCredits;
+			/** Meeting days the catalog is filtered by, or null for no time filter */
+			private String filterDays;
+			/** Earliest start time the catalog is filtered by */
+			private int filterStart;
+			/** Latest end time the catalog is filtered by */
+			private int filterEnd;
 
 			/**
 			 * Constructs the {@link CourseTableModel} by requesting the latest information
@@ -781,12 +1114,219 @@ public class WolfSchedulerGUI extends JFrame {
 			 * {@link WolfScheduler}.
 			 */
 			private void updateData() {
-				if (catalog) {
+				if (catalog && isFiltered()) {
+					data = scheduler.searchCourseCatalog(query, filterCredits, filterDays, filterStart, filterEnd);
+				} else if (catalog) {
 					data = scheduler.getCourseCatalog();
 				} else {
 					data = scheduler.getScheduledActivities();
 				}
 			}
+
+			/**
+			 * Filters the catalog by the given search text and refreshes the table.
+			 * 
+			 * @param query the search text, or an empty string for the whole catalog.
+			 */
+			private void setQuery(String query) {
+				this.query = query.trim();
+				updateData();
+				fireTableDataChanged();
+			}
+
+			/**
+			 * Filters the catalog by credits, meeting days, and times and refreshes the
+			 * table.
+			 * 
+			 * @param filterCredits the credits of each course, or 0 for any.
+			 * @param filterDays    the days each course must meet on, "A" for arranged
+			 *                      courses, or null to remove the filter.
+			 * @param filterStart   the earliest start time.
+			 * @param filterEnd     the latest end time.
+			 */
+			private void setFilter(int filterCredits, String filterDays, int filterStart, int filterEnd) {
+				this.filterCredits = filterCredits;
+				this.filterDays = filterDays;
+				this.filterStart = filterStart;
+				this.filterEnd = filterEnd;
+				updateData();
+				fireTableDataChanged();
+			}
+
+			/**
+			 * Returns true if the catalog is narrowed by search text or a time filter.
+			 * 
+			 * @return true if the catalog is filtered.
+			 */
+			private boolean isFiltered() {
+				return query.length() > 0 || filterDays != null;
+			}
+
+			/**
+			 * Appends the given rows to the end of the table. When the catalog is
+			 * filtered the filter is run again instead, so only matching rows show.
+			 * 
+			 * @param rows the rows to append.
+			 */
+			private void appendData(Object[][] rows) {
+				if (rows.length == 0) {
+					return;
+				}
+				if (isFiltered()) {
+					updateData();
+					fireTableDataChanged();
+					return;
+				}
+				int firstRow = getRowCount();
+				Object[][] newData = new Object[firstRow + rows.length][];
+				if (data != null) {
+					System.arraycopy(data, 0, newData, 0, firstRow);
+				}
+				System.arraycopy(rows, 0, newData, firstRow, rows.length);
+				data = newData;
+				fireTableRowsInserted(firstRow, newData.length - 1);
+			}
+		}
+
+		/**
+		 * {@link CatalogLoader} reads a course records file off of the Event Dispatch
+		 * Thread. Parsed {@link Course}s are published as they are read and appended
+		 * to the catalog and the catalog table in chunks, so the first rows show up
+		 * while the rest of the file is still being read.
+		 * 
+		 * @author Anoushka Piduru
+		 */
+		private class CatalogLoader extends SwingWorker<Integer, Course> {
+
+			/** The file with the course records being read. */
+			private String fileName;
+			/** Pool shared by the Strings of the catalog's Courses. */
+			private StringPool pool;
+			/** Number of lines that could not be read as a Course. */
+			private volatile int invalidLines;
+			/** Number of lines that duplicated an earlier Course in the file. */
+			private volatile int fileDuplicates;
+			/** Number of Courses that duplicated a Course already in the catalog. */
+			private int duplicateLines;
+			/** Time the load started, in nanoseconds. */
+			private volatile long start;
+
+			/**
+			 * Constructs the {@link CatalogLoader} for the given file.
+			 * 
+			 * @param fileName the file with the course records being read.
+			 */
+			public CatalogLoader(String fileName) {
+				this.fileName = fileName;
+				this.pool = scheduler.getCatalogStringPool();
+			}
+
+			/**
+			 * Reads the course records file, publishing each valid Course. Invalid
+			 * lines and courses repeated in the file are skipped by the
+			 * {@link CourseRecordIterator}.
+			 * 
+			 * @return the number of lines read.
+			 * @throws IOException if the file cannot be read.
+			 */
+			@Override
+			protected Integer doInBackground() throws IOException {
+				start = System.nanoTime();
+				long fileLength = Math.max(1, new File(fileName).length());
+				try (CourseRecordIterator records = new CourseRecordIterator(fileName, pool, true)) {
+					while (!isCancelled() && records.hasNext()) {
+						publish(records.next());
+						report(records, fileLength);
+					}
+					report(records, fileLength);
+					return records.getLinesRead();
+				} catch (UncheckedIOException e) {
+					throw e.getCause();
+				}
+			}
+
+			/**
+			 * Records how far the read has got and how many lines it skipped.
+			 * 
+			 * @param records    the iterator reading the file.
+			 * @param fileLength the length of the file.
+			 */
+			private void report(CourseRecordIterator records, long fileLength) {
+				invalidLines = records.getInvalidLines();
+				fileDuplicates = records.getDuplicates();
+				setProgress((int) Math.min(100, records.getCharsRead() * 100 / fileLength));
+			}
+
+			/**
+			 * Adds a chunk of published Courses to the catalog and appends the new rows
+			 * to the catalog table.
+			 * 
+			 * @param chunk the Courses read since the last call.
+			 */
+			@Override
+			protected void process(List<Course> chunk) {
+				if (isCancelled()) {
+					return;
+				}
+				int firstNewRow = scheduler.getCatalogSize();
+				duplicateLines += chunk.size() - scheduler.addCoursesToCatalog(chunk);
+				catalogTableModel.appendData(scheduler.getCourseCatalog(firstNewRow));
+				updateLoadStatus("Loading...");
+			}
+
+			/**
+			 * Reports the outcome of the load once reading stops, then recovers the
+			 * schedule from the journal whether or not the whole catalog was read.
+			 */
+			@Override
+			protected void done() {
+				btnCancelLoad.setEnabled(false);
+				boolean complete = false;
+				try {
+					get();
+					scheduler.getMetrics().recordCatalogLoad(scheduler.getCatalogSize(), System.nanoTime() - start);
+					progressLoad.setValue(100);
+					updateLoadStatus("Loaded");
+					complete = true;
+				} catch (CancellationException e) {
+					updateLoadStatus("Cancelled");
+				} catch (InterruptedException | ExecutionException e) {
+					updateLoadStatus("Failed");
+					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, "Cannot read file.");
+				}
+				recoverSchedule(complete);
+			}
+
+			/**
+			 * Replays the schedule journal, so changes from an earlier session that
+			 * ended without an export are restored, and journals every later change.
+			 * After a partial load the journal is not compacted, so changes to
+			 * courses missing from the catalog are kept for the next session.
+			 * 
+			 * @param complete true if the whole catalog was loaded.
+			 */
+			private void recoverSchedule(boolean complete) {
+				try {
+					scheduler.openJournal(JOURNAL_FILE, complete);
+				} catch (IllegalArgumentException iae) {
+					JOptionPane.showMessageDialog(WolfSchedulerGUI.this, iae.getMessage());
+				}
+				setScheduleEditable(true);
+				txtScheduleTitle.setText(scheduler.getScheduleTitle());
+				borderSchedule.setTitle(scheduler.getScheduleTitle());
+				updateTables();
+				WolfSchedulerGUI.this.repaint();
+			}
+
+			/**
+			 * Shows the number of courses loaded and lines rejected so far.
+			 * 
+			 * @param state the state of the load.
+			 */
+			private void updateLoadStatus(String state) {
+				lblLoadStatus.setText(state + " " + scheduler.getCatalogSize() + " courses, "
+						+ (invalidLines + fileDuplicates + duplicateLines) + " rejected");
+			}
 		}
 	}
 
@@ -984,4 +1524,216 @@ public class WolfSchedulerGUI extends JFrame {
 		}
 
 	}
+
+	/**
+	 * Dialog that shows how many catalog sections, or credits, meet in each
+	 * five-minute slot of each weekday, shading busier slots darker. Only the
+	 * slots from the earliest to the latest busy one are listed. The heatmap can
+	 * be exported as comma separated values.
+	 * 
+	 * @author Anoushka Piduru
+	 */
+	private class OccupancyDialog extends JDialog implements ActionListener {
+
+		/** ID number used for object serialization. */
+		private static final long serialVersionUID = 1L;
+		/** Column names for the table */
+		private final String[] columnNames = { "Time", "Mon", "Tue", "Wed", "Thu", "Fri" };
+		/** Chooses whether sections or credits are shown */
+		private JComboBox<String> comboMeasure;
+		/** Button for exporting the heatmap */
+		private JButton btnExport;
+		/** Button for closing the dialog */
+		private JButton btnClose;
+		/** Model of the heatmap table */
+		private HeatmapTableModel heatmapTableModel;
+
+		/**
+		 * Constructs the dialog over the scheduler's catalog.
+		 */
+		public OccupancyDialog() {
+			super(WolfSchedulerGUI.this, "Catalog Heatmap", true);
+
+			comboMeasure = new JComboBox<String>(new String[] { "Sections", "Credits" });
+			comboMeasure.addActionListener(this);
+			btnExport = new JButton("Export CSV");
+			btnExport.addActionListener(this);
+			btnClose = new JButton("Close");
+			btnClose.addActionListener(this);
+			JPanel pnlActions = new JPanel();
+			pnlActions.add(comboMeasure);
+			pnlActions.add(btnExport);
+			pnlActions.add(btnClose);
+
+			heatmapTableModel = new HeatmapTableModel();
+			JTable tableHeatmap = new JTable(heatmapTableModel);
+			tableHeatmap.setDefaultRenderer(Object.class, new HeatmapCellRenderer());
+			tableHeatmap.setPreferredScrollableViewportSize(new Dimension(400, 500));
+			tableHeatmap.setFillsViewportHeight(true);
+
+			Container c = getContentPane();
+			c.add(new JScrollPane(tableHeatmap), BorderLayout.CENTER);
+			c.add(pnlActions, BorderLayout.SOUTH);
+			pack();
+			setLocationRelativeTo(WolfSchedulerGUI.this);
+		}
+
+		/**
+		 * Performs an action based on the given {@link ActionEvent}.
+		 * 
+		 * @param e user event that triggers an action.
+		 */
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			if (e.getSource() == comboMeasure) {
+				heatmapTableModel.fireTableDataChanged();
+			} else if (e.getSource() == btnExport) {
+				try {
+					scheduler.exportCatalogOccupancy(getFileName(false));
+				} catch (IllegalArgumentException iae) {
+					JOptionPane.showMessageDialog(this, iae.getMessage());
+				} catch (IllegalStateException ise) {
+					// do nothing if the window is closed.
+				}
+			} else if (e.getSource() == btnClose) {
+				dispose();
+			}
+		}
+
+		/**
+		 * Returns whether credits, rather than sections, are shown.
+		 * 
+		 * @return true if credits are shown.
+		 */
+		private boolean showCredits() {
+			return comboMeasure.getSelectedIndex() == 1;
+		}
+
+		/**
+		 * {@link HeatmapTableModel} lists the busy slots of the day, with the count
+		 * for each weekday in the slot.
+		 * 
+		 * @author Anoushka Piduru
+		 */
+		private class HeatmapTableModel extends AbstractTableModel {
+
+			/** ID number used for object serialization. */
+			private static final long serialVersionUID = 1L;
+			/** The heatmap shown */
+			private OccupancyHeatmap heatmap = scheduler.getCatalogOccupancy();
+			/** The first slot listed */
+			private int firstSlot;
+			/** The number of slots listed */
+			private int slotCount;
+
+			/**
+			 * Constructs the model, listing the slots from the earliest to the latest
+			 * in which any section meets.
+			 */
+			public HeatmapTableModel() {
+				int first = OccupancyHeatmap.SLOTS;
+				int last = -1;
+				for (int slot = 0; slot < OccupancyHeatmap.SLOTS; slot++) {
+					for (int day = 0; day < OccupancyHeatmap.DAYS; day++) {
+						if (heatmap.getSections(day, slot) > 0) {
+							first = Math.min(first, slot);
+							last = slot;
+						}
+					}
+				}
+				firstSlot = last < 0 ? 0 : first;
+				slotCount = last < 0 ? 0 : last - first + 1;
+			}
+
+			/**
+			 * Returns the number of columns in the table.
+			 * 
+			 * @return the number of columns in the table.
+			 */
+			public int getColumnCount() {
+				return columnNames.length;
+			}
+
+			/**
+			 * Returns the number of rows in the table.
+			 * 
+			 * @return the number of rows in the table.
+			 */
+			public int getRowCount() {
+				return slotCount;
+			}
+
+			/**
+			 * Returns the column name at the given index.
+			 * 
+			 * @param col column index
+			 * @return the column name at the given column.
+			 */
+			public String getColumnName(int col) {
+				return columnNames[col];
+			}
+
+			/**
+			 * Returns the data at the given {row, col} index: the slot's start time in
+			 * the first column and the day's count in the others.
+			 * 
+			 * @param row row index
+			 * @param col column index
+			 * @return the data at the given location.
+			 */
+			public Object getValueAt(int row, int col) {
+				int slot = firstSlot + row;
+				if (col == 0) {
+					return Activity.getTimeString(OccupancyHeatmap.getSlotTime(slot));
+				}
+				return showCredits() ? heatmap.getCredits(col - 1, slot) : heatmap.getSections(col - 1, slot);
+			}
+
+			/**
+			 * Returns the highest count shown, used to scale the shading.
+			 * 
+			 * @return the highest count.
+			 */
+			private int getMax() {
+				return showCredits() ? heatmap.getMaxCredits() : heatmap.getMaxSections();
+			}
+		}
+
+		/**
+		 * {@link HeatmapCellRenderer} shades each count from white for an empty slot
+		 * to red for the busiest slot.
+		 * 
+		 * @author Anoushka Piduru
+		 */
+		private class HeatmapCellRenderer extends DefaultTableCellRenderer {
+
+			/** ID number used for object serialization. */
+			private static final long serialVersionUID = 1L;
+
+			/**
+			 * Returns the cell's component, shaded by its count.
+			 * 
+			 * @param table      the table being drawn.
+			 * @param value      the value of the cell.
+			 * @param isSelected whether the cell is selected.
+			 * @param hasFocus   whether the cell has focus.
+			 * @param row        the row of the cell.
+			 * @param col        the column of the cell.
+			 * @return the component that draws the cell.
+			 */
+			@Override
+			public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+					boolean hasFocus, int row, int col) {
+				Component cell = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, col);
+				int max = heatmapTableModel.getMax();
+				if (col == 0 || max == 0) {
+					cell.setBackground(Color.WHITE);
+				} else {
+					int shade = 255 - 255 * (Integer) value / max;
+					cell.setBackground(new Color(255, shade, shade));
+				}
+				return cell;
+			}
+		}
+	}
 }
@@ -104,4 +104,16 @@ class ActivityTest {
 		Exception e2 = assertThrows(ConflictException.class, () -> a2.checkConflict(a1));
 		assertEquals("Schedule conflict.", e2.getMessage());
 	}
+
+	/**
+	 * Test method for
+	 * {@link edu.ncsu.csc216.wolf_scheduler.course.Activity#toMinutes(int)}.
+	 */
+	@Test
+	public void testToMinutes() {
+		assertEquals(0, Activity.toMinutes(0));
+		assertEquals(570, Activity.toMinutes(930));
+		assertEquals(810, Activity.toMinutes(1330));
+		assertEquals(1439, Activity.toMinutes(2359));
+	}
 }
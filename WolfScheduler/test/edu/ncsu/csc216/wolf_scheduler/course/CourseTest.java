@@ -465,4 +465,36 @@ public class CourseTest {
 		assertEquals(s2, c2.toString());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests setting a Course's room.
+	 */
+	@Test
+	public void testSetRoom() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME,
+				"EB2 1011");
+		assertEquals("EB2 1011", c.getRoom());
+		assertEquals("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,1445,EB2 1011", c.toString());
+
+		Course noRoom = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		assertNull(noRoom.getRoom());
+		assertNotEquals(c, noRoom);
+		c.setRoom("");
+		assertNull(c.getRoom());
+		assertEquals(noRoom, c);
+		assertEquals(noRoom.hashCode(), c.hashCode());
+
+		for (String invalid : new String[] { "extra", "EB2", "1011 EB2", "EB2 ", " 1011", "EB2  1011", "EB2 10-11",
+				"ENGINEER 1011", "EB2 1011 A" }) {
+			Exception e = assertThrows(IllegalArgumentException.class, () -> c.setRoom(invalid));
+			assertEquals("Invalid room.", e.getMessage());
+		}
+		assertNull(c.getRoom());
+
+		Course arranged = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, "A");
+		assertThrows(IllegalArgumentException.class, () -> arranged.setRoom("EB2 1011"));
+		c.setRoom("EB2 1011");
+		assertThrows(IllegalArgumentException.class, () -> c.setMeetingDaysAndTime("A", 0, 0));
+		assertEquals("EB2 1011", c.getRoom());
+	}
+
+}
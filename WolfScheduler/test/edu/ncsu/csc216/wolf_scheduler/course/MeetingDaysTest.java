@@ -0,0 +1,58 @@
+package edu.ncsu.csc216.wolf_scheduler.course;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the MeetingDays class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class MeetingDaysTest {
+
+	/**
+	 * Tests MeetingDays.toMask() for valid meeting days.
+	 */
+	@Test
+	public void testToMask() {
+		assertEquals(MeetingDays.MONDAY | MeetingDays.WEDNESDAY | MeetingDays.FRIDAY, MeetingDays.toMask("MWF"));
+		assertEquals(MeetingDays.TUESDAY | MeetingDays.THURSDAY, MeetingDays.toMask("TH"));
+		assertEquals(MeetingDays.SATURDAY | MeetingDays.SUNDAY, MeetingDays.toMask("US"));
+		assertEquals(127, MeetingDays.toMask("UMTWHFS"));
+		assertEquals(0, MeetingDays.toMask("A"));
+		assertEquals(0, MeetingDays.toMask(""));
+	}
+
+	/**
+	 * Tests MeetingDays.toMask() for invalid meeting days.
+	 */
+	@Test
+	public void testToMaskInvalid() {
+		assertEquals(MeetingDays.INVALID, MeetingDays.toMask(null));
+		assertEquals(MeetingDays.INVALID, MeetingDays.toMask("MWA"));
+		assertEquals(MeetingDays.INVALID, MeetingDays.toMask("MTWHT"));
+		assertEquals(MeetingDays.INVALID, MeetingDays.toMask("m"));
+		assertEquals(MeetingDays.INVALID, MeetingDays.toMask("AA"));
+		assertEquals(MeetingDays.INVALID, MeetingDays.toMask("M\u0100"));
+	}
+
+	/**
+	 * Tests MeetingDays.toBit() for every character.
+	 */
+	@Test
+	public void testToBit() {
+		int days = 0;
+		for (char c = 0; c < Character.MAX_VALUE; c++) {
+			int bit = MeetingDays.toBit(c);
+			if (bit != 0) {
+				assertEquals(0, days & bit);
+				days |= bit;
+			}
+		}
+		assertEquals(127, days);
+		assertEquals(MeetingDays.THURSDAY, MeetingDays.toBit('H'));
+		assertEquals(0, MeetingDays.toBit('A'));
+		assertEquals(MeetingDays.toMask("MTWHF"), MeetingDays.WEEKDAYS);
+	}
+}
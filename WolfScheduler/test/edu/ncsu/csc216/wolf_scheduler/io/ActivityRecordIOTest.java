@@ -3,10 +3,13 @@ package edu.ncsu.csc216.wolf_scheduler.io;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Scanner;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
@@ -20,6 +23,10 @@ import edu.ncsu.csc216.wolf_scheduler.course.Event;
  */
 public class ActivityRecordIOTest {
 
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
 	/**
 	 * Tests writeActivityRecords()
 	 */
@@ -31,13 +38,14 @@ public class ActivityRecordIOTest {
 				new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445));
 		activities.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
 
+		String actual = tempDir.resolve("course_records.txt").toString();
 		try {
-			ActivityRecordIO.writeActivityRecords("test-files/actual_course_records.txt", activities);
+			ActivityRecordIO.writeActivityRecords(actual, activities);
 		} catch (IOException e) {
 			fail("Cannot write to course records file");
 		}
 
-		checkFiles("test-files/expected_course_records.txt", "test-files/actual_course_records.txt");
+		checkFiles("test-files/expected_course_records.txt", actual);
 	}
 
 	/**
@@ -52,13 +60,66 @@ public class ActivityRecordIOTest {
 				new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445));
 		activities.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
 
+		String actual = tempDir.resolve("activity_records.txt").toString();
 		try {
-			ActivityRecordIO.writeActivityRecords("test-files/actual_activity_records.txt", activities);
+			ActivityRecordIO.writeActivityRecords(actual, activities);
 		} catch (IOException e) {
 			fail("Cannot write to activity records file");
 		}
 
-		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
+		checkFiles("test-files/expected_activity_records.txt", actual);
+	}
+
+	/**
+	 * Tests readActivityRecords() on records written by writeActivityRecords().
+	 */
+	@Test
+	public void testReadActivityRecords() {
+		HashMap<String, Course> catalog = new HashMap<>();
+		Course csc116 = new Course("CSC 116", "Intro to Programming - Java", "003", 3, "spbalik", "MW", 1250, 1440);
+		Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		catalog.put("CSC 116,003", csc116);
+		catalog.put("CSC 216,601", csc216);
+
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		try {
+			int skipped = ActivityRecordIO.readActivityRecords("test-files/expected_activity_records.txt",
+					(name, section) -> catalog.get(name + "," + section), activities::add);
+			// CSC 216-001 is not in the catalog
+			assertEquals(1, skipped);
+		} catch (IOException e) {
+			fail("Cannot read activity records file");
+		}
+
+		assertEquals(3, activities.size());
+		assertSame(csc116, activities.get(0));
+		assertEquals(new Event("Exercise", "UMTHFS", 800, 900, "Cardio with rest day on Wednesday."),
+				activities.get(1));
+		assertSame(csc216, activities.get(2));
+
+		assertThrows(IOException.class, () -> ActivityRecordIO.readActivityRecords("test-files/no_such_file.txt",
+				(name, section) -> null, activities::add));
+	}
+
+	/**
+	 * Tests that event details holding commas are read back whole.
+	 */
+	@Test
+	public void testReadActivityRecordsEventDetails() {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Event("Lunch", "MWF", 1200, 1300, "Food, friends, and coffee"));
+		activities.add(new Event("Gym", "TH", 700, 800, ""));
+		ArrayList<Activity> read = new ArrayList<Activity>();
+		String file = tempDir.resolve("activity_records.txt").toString();
+		try {
+			ActivityRecordIO.writeActivityRecords(file, activities);
+			assertEquals(0, ActivityRecordIO.readActivityRecords(file, (name, section) -> null, read::add));
+		} catch (IOException e) {
+			fail("Cannot read activity records file");
+		}
+		assertEquals(2, read.size());
+		assertEquals("Food, friends, and coffee", ((Event) read.get(0)).getEventDetails());
+		assertEquals("", ((Event) read.get(1)).getEventDetails());
 	}
 
 	/**
@@ -74,9 +135,6 @@ public class ActivityRecordIOTest {
 			while (expScanner.hasNextLine()) {
 				assertEquals(expScanner.nextLine(), actScanner.nextLine());
 			}
-
-			expScanner.close();
-			actScanner.close();
 		} catch (IOException e) {
 			fail("Error reading files.");
 		}
@@ -96,6 +96,33 @@ public class CourseRecordIOTest {
 		}
 	}
 
+	/**
+	 * Tests readCourseRecords() with a StringPool shares repeated titles,
+	 * instructor ids, and meeting days among the Courses.
+	 */
+	@Test
+	public void testReadCourseRecordsPooled() {
+		try {
+			StringPool pool = new StringPool();
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords(validTestFile, pool);
+			assertEquals(13, courses.size());
+			for (int i = 0; i < validCourses.length; i++) {
+				assertEquals(validCourses[i], courses.get(i).toString());
+			}
+
+			// CSC 116 sections share a title, CSC 217 sections share an instructor
+			assertSame(courses.get(0).getTitle(), courses.get(2).getTitle());
+			assertSame(courses.get(6).getInstructorId(), courses.get(8).getInstructorId());
+			assertSame(courses.get(0).getMeetingDays(), courses.get(1).getMeetingDays());
+
+			// A second file read with the same pool shares the first file's Strings
+			Course reread = CourseRecordIO.readCourseRecords(validTestFile, pool).get(3);
+			assertSame(courses.get(3).getTitle(), reread.getTitle());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading " + validTestFile);
+		}
+	}
+
 	/**
 	 * Tests readInvalidCourseRecords().
 	 */
@@ -110,4 +137,22 @@ public class CourseRecordIOTest {
 		}
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests reading a Course record that ends with a room.
+	 */
+	@Test
+	public void testReadCourseWithRoom() {
+		Course course = CourseRecordIO
+				.readCourse("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,1445,EB2 1011");
+		assertEquals("EB2 1011", course.getRoom());
+		assertEquals(1445, course.getEndTime());
+		assertNull(CourseRecordIO.readCourse(validCourses[0]).getRoom());
+		assertThrows(IllegalArgumentException.class, () -> CourseRecordIO
+				.readCourse("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,1445,extra"));
+		assertThrows(IllegalArgumentException.class, () -> CourseRecordIO
+				.readCourse("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,1445,EB2 1011,x"));
+		assertThrows(IllegalArgumentException.class,
+				() -> CourseRecordIO.readCourse("CSC 216,Software Development Fundamentals,001,3,sesmith5,A,EB2 1011"));
+	}
+
+}
@@ -0,0 +1,106 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseRecordIterator class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class CourseRecordIteratorTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests reading valid courses one at a time, skipping the duplicate.
+	 * 
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	public void testIterate() throws FileNotFoundException {
+		try (CourseRecordIterator records = new CourseRecordIterator(validTestFile, new StringPool(), true)) {
+			assertEquals(0, records.getLinesRead());
+			assertTrue(records.hasNext());
+			assertEquals(1, records.getLinesRead());
+			assertEquals("001", records.next().getSection());
+			assertEquals("002", records.next().getSection());
+			assertEquals("003", records.next().getSection());
+			Course csc216 = records.next();
+			assertEquals("CSC 216", csc216.getName());
+			assertEquals(5, records.getLinesRead());
+			assertEquals(1, records.getDuplicates());
+
+			int count = 4;
+			while (records.hasNext()) {
+				records.next();
+				count++;
+			}
+			assertEquals(13, count);
+			assertEquals(14, records.getLinesRead());
+			assertTrue(records.getCharsRead() >= new File(validTestFile).length());
+			assertEquals(0, records.getInvalidLines());
+			assertFalse(records.hasNext());
+			assertThrows(NoSuchElementException.class, () -> records.next());
+		}
+	}
+
+	/**
+	 * Tests reading with and without dedupe and skipping invalid lines.
+	 * 
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	public void testDedupe() throws FileNotFoundException {
+		try (CourseRecordIterator records = new CourseRecordIterator(validTestFile, new StringPool(), false)) {
+			int count = 0;
+			while (records.hasNext()) {
+				records.next();
+				count++;
+			}
+			assertEquals(14, count);
+			assertEquals(0, records.getDuplicates());
+		}
+
+		try (CourseRecordIterator records = new CourseRecordIterator(invalidTestFile, new StringPool(), true)) {
+			assertFalse(records.hasNext());
+			assertEquals(records.getLinesRead(), records.getInvalidLines());
+		}
+
+		assertThrows(FileNotFoundException.class,
+				() -> new CourseRecordIterator("test-files/no_such_file.txt", new StringPool(), true));
+	}
+
+	/**
+	 * Tests CourseRecordIO.streamCourseRecords() matches readCourseRecords().
+	 * 
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	public void testStream() throws FileNotFoundException {
+		List<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile, new StringPool(), true)) {
+			assertEquals(expected, courses.collect(Collectors.toList()));
+		}
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile, new StringPool(), false)) {
+			assertEquals(2, courses.filter(c -> c.getName().equals("CSC 116") && c.getSection().equals("002"))
+					.count());
+		}
+		try (Stream<Course> courses = CourseRecordIO.streamCourseRecords(validTestFile, new StringPool(), true)) {
+			assertEquals("CSC 116", courses.findFirst().get().getName());
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.io.RecordDiagnostic.Rule;
+
+/**
+ * Tests the CourseRecordValidator class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class CourseRecordValidatorTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Invalid course records */
+	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+
+	/**
+	 * Tests that a line is valid exactly when CourseRecordIO.readCourse() reads
+	 * it.
+	 * 
+	 * @throws IOException if a test file cannot be read
+	 */
+	@Test
+	public void testMatchesReadCourse() throws IOException {
+		List<String> lines = new ArrayList<String>();
+		lines.addAll(Files.readAllLines(Paths.get(validTestFile)));
+		lines.addAll(Files.readAllLines(Paths.get(invalidTestFile)));
+		lines.addAll(Arrays.asList("", ",", "CSC 216", ",CSC 216,Title,001,3,id,A", "CSC 216,Title,001,3,id,A,",
+				"CSC 216,Title,001,3,id,A,,", "CSC 216,Title,001,+3,id,MW,-0,1200",
+				"CSC 216,Title,001, 3,id,MW,900,1200", "CSC 216,Title,001,3,id,A,,,,,x",
+				"CSC 216,Title,001,3,id,MW,900,1200,EB2 1011", "CSC 216,Title,001,3,id,MW,900,1200,",
+				"CSC 216,Title,001,3,id,MW,900,1200,,", "CSC 216,Title,001,3,id,MW,900,1200,,,",
+				"CSC 216,Title,001,3,id,MW,900,1200,EB2", "CSC 216,Title,001,3,id,MW,900,2400",
+				"CSC 216,Title,001,3,id,MW,900,2147483648", "CSC 216,Title,001,3,id,MW,960,1000",
+				"CSC 216,,001,3,id,MW,900,1000", "CSC 216,Title,001,3,id,MMW,900,1000", "CSC 216,Title,001,3,id,A,,"));
+
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i);
+			boolean reads = true;
+			try {
+				CourseRecordIO.readCourse(line);
+			} catch (IllegalArgumentException e) {
+				reads = false;
+			}
+			ArrayList<RecordDiagnostic> diagnostics = new ArrayList<RecordDiagnostic>();
+			String key = CourseRecordValidator.validateLine(line, i + 1, diagnostics);
+			assertEquals(reads, key != null, line);
+			assertEquals(reads, diagnostics.isEmpty(), line);
+		}
+	}
+
+	/**
+	 * Tests that every broken rule of a line is reported.
+	 */
+	@Test
+	public void testValidateLine() {
+		ArrayList<RecordDiagnostic> diagnostics = new ArrayList<RecordDiagnostic>();
+		assertEquals("CSC 216,001",
+				CourseRecordValidator.validateLine("CSC 216,Title,001,3,id,MW,900,1200", 1, diagnostics));
+		assertTrue(diagnostics.isEmpty());
+
+		assertNull(CourseRecordValidator.validateLine("CSC2167,Title,01,9,id,MXW,960,830,EB2 1011,extra", 7,
+				diagnostics));
+		assertEquals(6, diagnostics.size());
+		assertEquals(Rule.NAME, diagnostics.get(0).getRule());
+		assertEquals(Rule.SECTION, diagnostics.get(1).getRule());
+		assertEquals(Rule.CREDITS, diagnostics.get(2).getRule());
+		assertEquals(Rule.MEETING_DAYS, diagnostics.get(3).getRule());
+		assertEquals(Rule.START_TIME, diagnostics.get(4).getRule());
+		assertEquals(Rule.TOO_MANY_FIELDS, diagnostics.get(5).getRule());
+		assertEquals(7, diagnostics.get(2).getLine());
+		assertEquals("credits", diagnostics.get(2).getField());
+		assertEquals("9", diagnostics.get(2).getValue());
+		assertEquals("line 7, credits: Must be 1 to 5 (9)", diagnostics.get(2).toString());
+
+		diagnostics.clear();
+		assertNull(CourseRecordValidator.validateLine("CSC 216,Title,001,x,id,MW,1445,1330", 2, diagnostics));
+		assertEquals(2, diagnostics.size());
+		assertEquals(Rule.CREDITS_NOT_NUMBER, diagnostics.get(0).getRule());
+		assertEquals(Rule.TIME_ORDER, diagnostics.get(1).getRule());
+
+		diagnostics.clear();
+		assertNull(CourseRecordValidator.validateLine("CSC 216,Title,001,3,id,MW", 3, diagnostics));
+		assertEquals(1, diagnostics.size());
+		assertEquals(Rule.TOO_FEW_FIELDS, diagnostics.get(0).getRule());
+		assertEquals("line 3, record: Too few fields", diagnostics.get(0).toString());
+
+		// An arranged record past the room field is reported once
+		diagnostics.clear();
+		assertNull(CourseRecordValidator.validateLine("CSC 216,Title,001,3,id,A,,,,,x", 4, diagnostics));
+		assertEquals(1, diagnostics.size());
+		assertEquals(Rule.TOO_MANY_FIELDS, diagnostics.get(0).getRule());
+	}
+
+	/**
+	 * Tests validating whole files, in parallel and on one thread.
+	 * 
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	public void testValidate() throws FileNotFoundException {
+		CourseRecordValidator validator = new CourseRecordValidator();
+		ValidationReport valid = validator.validate(validTestFile);
+		assertEquals(14, valid.getLines());
+		assertEquals(0, valid.getInvalidLines());
+		assertEquals(1, valid.getDuplicates());
+		assertEquals(CourseRecordIO.readCourseRecords(validTestFile).size(), valid.getCourses());
+		RecordDiagnostic duplicate = valid.getDiagnostics().get(0);
+		assertEquals(4, duplicate.getLine());
+		assertEquals(Rule.DUPLICATE, duplicate.getRule());
+		assertEquals("line 2", duplicate.getValue());
+
+		ValidationReport invalid = validator.validate(invalidTestFile);
+		assertEquals(invalid.getLines(), invalid.getInvalidLines());
+		assertEquals(0, invalid.getCourses());
+
+		List<String> lines = new ArrayList<String>();
+		for (int i = 0; i < 20000; i++) {
+			lines.add(i % 3 == 0 ? "CSC " + (100 + i % 900) + ",Title," + String.format("%03d", i % 1000)
+					+ ",3,id,MW,900,1000" : "CSC 216,Title,001,9,id,MW,900,1000");
+		}
+		ValidationReport parallel = validator.validate("generated", lines);
+		validator.setParallelism(1);
+		assertEquals(1, validator.getParallelism());
+		ValidationReport serial = validator.validate("generated", lines);
+		assertEquals(serial.getDiagnostics().size(), parallel.getDiagnostics().size());
+		assertEquals(serial.getInvalidLines(), parallel.getInvalidLines());
+		assertEquals(serial.getDuplicates(), parallel.getDuplicates());
+		for (int i = 1; i < parallel.getDiagnostics().size(); i++) {
+			assertTrue(parallel.getDiagnostics().get(i - 1).compareTo(parallel.getDiagnostics().get(i)) <= 0);
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> validator.setParallelism(0));
+		assertThrows(FileNotFoundException.class, () -> validator.validate("test-files/no_such_file.txt"));
+	}
+}
@@ -0,0 +1,261 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ICalendarWriter class.
+ *
+ * @author Anoushka Piduru
+ */
+public class ICalendarWriterTest {
+
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/** First day of the term, a Tuesday */
+	private static final LocalDate FIRST_DAY = LocalDate.of(2026, 8, 18);
+	/** Last day of the term */
+	private static final LocalDate LAST_DAY = LocalDate.of(2026, 12, 2);
+
+	/** Course meeting on Mondays and Wednesdays in a room */
+	private final Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5",
+			"MW", 1330, 1445, "EB2 1011");
+	/** Arranged course */
+	private final Course csc216Online = new Course("CSC 216", "Software Development Fundamentals", "601", 3,
+			"jctetter", "A");
+	/** Event meeting on the weekend */
+	private final Event exercise = new Event("Exercise", "SU", 800, 900, "Cardio; then, stretch");
+
+	/**
+	 * Tests writing a calendar with weekly, arranged, and weekend activities.
+	 *
+	 * @throws IOException if the calendar cannot be written
+	 */
+	@Test
+	public void testWriteCalendar() throws IOException {
+		StringWriter out = new StringWriter();
+		ICalendarWriter writer = new ICalendarWriter(out, FIRST_DAY, LAST_DAY);
+		writer.writeCalendar("My Schedule", Arrays.asList(csc216, csc216Online, exercise));
+		assertEquals(1, writer.getCalendarsWritten());
+		assertEquals(3, writer.getEventsWritten());
+
+		String calendar = out.toString();
+		assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+		assertTrue(calendar.endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n"));
+		assertTrue(calendar.contains("X-WR-CALNAME:My Schedule\r\n"));
+
+		// The first Monday or Wednesday of the term is Wednesday, August 19
+		assertTrue(calendar.contains("UID:csc-216-001.my-schedule@wolfscheduler\r\n"));
+		assertTrue(calendar.contains("DTSTART:20260819T133000\r\nDTEND:20260819T144500\r\n"
+				+ "RRULE:FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261202T235959\r\n"));
+		assertTrue(calendar.contains("SUMMARY:CSC 216 Software Development Fundamentals\r\n"));
+		assertTrue(calendar.contains("LOCATION:EB2 1011\r\n"));
+		assertTrue(calendar.contains("DESCRIPTION:Section 001\\, 3 credits\\, sesmith5\r\n"));
+
+		assertTrue(calendar.contains("DTSTART;VALUE=DATE:20260818\r\nDTEND;VALUE=DATE:20260819\r\n"
+				+ "TRANSP:TRANSPARENT\r\n"));
+		assertTrue(calendar.contains("SUMMARY:CSC 216 Software Development Fundamentals (arranged)\r\n"));
+
+		assertTrue(calendar.contains("UID:event-2.my-schedule@wolfscheduler\r\n"));
+		assertTrue(calendar.contains("DTSTART:20260822T080000\r\n"));
+		assertTrue(calendar.contains("RRULE:FREQ=WEEKLY;BYDAY=SA,SU;UNTIL=20261202T235959\r\n"));
+		assertTrue(calendar.contains("DESCRIPTION:Cardio\\; then\\, stretch\r\n"));
+	}
+
+	/**
+	 * Tests that activities meeting on no day of the term are left out and that
+	 * calendars must be started and ended in turn.
+	 *
+	 * @throws IOException if the calendar cannot be written
+	 */
+	@Test
+	public void testWriteActivity() throws IOException {
+		StringWriter out = new StringWriter();
+		// A term of one Tuesday
+		ICalendarWriter writer = new ICalendarWriter(out, FIRST_DAY, FIRST_DAY);
+		assertThrows(IllegalStateException.class, () -> writer.writeActivity(csc216));
+		assertThrows(IllegalStateException.class, () -> writer.endCalendar());
+
+		writer.beginCalendar("Week");
+		assertThrows(IllegalStateException.class, () -> writer.beginCalendar("Week"));
+		assertFalse(writer.writeActivity(csc216));
+		assertTrue(writer.writeActivity(new Event("Lab", "T", 900, 1000, "")));
+		writer.endCalendar();
+		assertEquals(1, writer.getEventsWritten());
+		assertFalse(out.toString().contains("DESCRIPTION"));
+
+		assertThrows(IllegalArgumentException.class, () -> new ICalendarWriter(out, LAST_DAY, FIRST_DAY));
+		assertThrows(IllegalArgumentException.class, () -> new ICalendarWriter(out, null, LAST_DAY));
+		assertThrows(IllegalArgumentException.class, () -> new ICalendarWriter(null, FIRST_DAY, LAST_DAY));
+	}
+
+	/**
+	 * Tests that long lines are folded at 75 octets without splitting a
+	 * character.
+	 *
+	 * @throws IOException if the calendar cannot be written
+	 */
+	@Test
+	public void testFolding() throws IOException {
+		StringBuilder details = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			details.append("caf\u00e9 ");
+		}
+		StringWriter out = new StringWriter();
+		ICalendarWriter writer = new ICalendarWriter(out, FIRST_DAY, LAST_DAY);
+		writer.writeCalendar("Folded", Arrays.asList(new Event("Coffee", "F", 800, 830, details.toString())));
+
+		String calendar = out.toString();
+		for (String line : calendar.split("\r\n")) {
+			assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+		}
+		assertEquals("DESCRIPTION:" + details, unfold(calendar, "DESCRIPTION:"));
+	}
+
+	/**
+	 * Tests escaping text values.
+	 */
+	@Test
+	public void testEscape() {
+		assertEquals("a\\,b\\;c\\\\d\\ne", ICalendarWriter.escape("a,b;c\\d\r\ne"));
+		assertEquals("plain", ICalendarWriter.escape("plain"));
+	}
+
+	/**
+	 * Tests converting many exported schedules into calendars.
+	 *
+	 * @throws IOException if a file cannot be written
+	 */
+	@Test
+	public void testWriteCalendars() throws IOException {
+		HashMap<String, Course> catalog = new HashMap<>();
+		catalog.put("CSC 216,001", csc216);
+		File directory = tempDir.resolve("calendars").toFile();
+		directory.mkdir();
+
+		List<String> files = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			ArrayList<Activity> activities = new ArrayList<>();
+			activities.add(csc216);
+			activities.add(new Event("Study " + i, "H", 1900, 2000, ""));
+			String file = tempDir.resolve("actual_student" + i + ".txt").toString();
+			ActivityRecordIO.writeActivityRecords(file, activities);
+			files.add(file);
+		}
+		files.add(tempDir.resolve("missing_student.txt").toString());
+
+		int written = ICalendarWriter.writeCalendars(files, directory.getPath(),
+				(name, section) -> catalog.get(name + "," + section), FIRST_DAY, LAST_DAY);
+		assertEquals(20, written);
+		assertFalse(new File(directory, "missing_student.ics").exists());
+
+		String calendar = new String(Files.readAllBytes(new File(directory, "actual_student7.ics").toPath()),
+				StandardCharsets.UTF_8);
+		assertTrue(calendar.contains("X-WR-CALNAME:actual_student7\r\n"));
+		assertTrue(calendar.contains("UID:csc-216-001.actual-student7@wolfscheduler\r\n"));
+		assertTrue(calendar.contains("SUMMARY:Study 7\r\n"));
+		assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+
+		assertThrows(IllegalArgumentException.class, () -> ICalendarWriter.writeCalendars(files,
+				tempDir.resolve("no_such_directory").toString(), (name, section) -> null, FIRST_DAY, LAST_DAY));
+	}
+
+	/**
+	 * Tests that an export rejected for its term leaves an existing calendar
+	 * file untouched.
+	 *
+	 * @throws IOException if a file cannot be written
+	 */
+	@Test
+	public void testRejectedExportKeepsFile() throws IOException {
+		File file = tempDir.resolve("kept.ics").toFile();
+		Files.write(file.toPath(), "BEGIN:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+		List<Activity> activities = Arrays.asList(csc216);
+		assertThrows(IllegalArgumentException.class,
+				() -> ICalendarWriter.writeCalendar(file.getPath(), "Fall", activities, LAST_DAY, FIRST_DAY));
+		assertThrows(IllegalArgumentException.class,
+				() -> ICalendarWriter.writeCalendar(file.getPath(), "Fall", activities, null, LAST_DAY));
+		assertEquals("BEGIN:VCALENDAR\r\n",
+				new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+
+		ICalendarWriter.writeCalendar(file.getPath(), "Fall", activities, FIRST_DAY, LAST_DAY);
+		String calendar = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+		assertEquals(0, tempDir.toFile().listFiles((dir, name) -> name.endsWith(".tmp")).length);
+	}
+
+	/**
+	 * Tests that schedule files that would share a calendar are rejected before
+	 * any calendar is written, and that a failed conversion leaves the earlier
+	 * calendar in place.
+	 *
+	 * @throws IOException if a file cannot be written
+	 */
+	@Test
+	public void testWriteCalendarsSafely() throws IOException {
+		File directory = tempDir.resolve("calendars").toFile();
+		directory.mkdir();
+		File first = tempDir.resolve("term_a").toFile();
+		File second = tempDir.resolve("term_b").toFile();
+		first.mkdir();
+		second.mkdir();
+		ArrayList<Activity> activities = new ArrayList<>();
+		activities.add(csc216);
+		activities.add(exercise);
+		String a = new File(first, "student.txt").getPath();
+		String b = new File(second, "Student.txt").getPath();
+		ActivityRecordIO.writeActivityRecords(a, activities);
+		ActivityRecordIO.writeActivityRecords(b, activities);
+
+		assertThrows(IllegalArgumentException.class, () -> ICalendarWriter.writeCalendars(Arrays.asList(a, b),
+				directory.getPath(), (name, section) -> csc216, FIRST_DAY, LAST_DAY));
+		assertEquals(0, directory.listFiles().length);
+
+		assertEquals(1, ICalendarWriter.writeCalendars(Arrays.asList(a), directory.getPath(),
+				(name, section) -> csc216, FIRST_DAY, LAST_DAY));
+		File calendar = new File(directory, "student.ics");
+		String written = new String(Files.readAllBytes(calendar.toPath()), StandardCharsets.UTF_8);
+
+		// A failure partway through a schedule keeps the earlier calendar
+		assertThrows(IOException.class, () -> ICalendarWriter.writeCalendars(Arrays.asList(a), directory.getPath(),
+				(name, section) -> {
+					throw new UncheckedIOException(new IOException("Disk full"));
+				}, FIRST_DAY, LAST_DAY));
+		assertEquals(written, new String(Files.readAllBytes(calendar.toPath()), StandardCharsets.UTF_8));
+		assertEquals(1, directory.listFiles().length);
+	}
+
+	/**
+	 * Returns the unfolded content line starting with a prefix.
+	 *
+	 * @param calendar the calendar.
+	 * @param prefix   the start of the line.
+	 * @return the unfolded line.
+	 */
+	private static String unfold(String calendar, String prefix) {
+		String unfolded = calendar.replace("\r\n ", "");
+		int start = unfolded.indexOf(prefix);
+		return unfolded.substring(start, unfolded.indexOf("\r\n", start));
+	}
+}
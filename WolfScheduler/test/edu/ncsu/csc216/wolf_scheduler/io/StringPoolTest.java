@@ -0,0 +1,64 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the StringPool class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class StringPoolTest {
+
+	/**
+	 * Tests StringPool.intern() returns one shared copy of equal Strings.
+	 */
+	@Test
+	public void testIntern() {
+		StringPool pool = new StringPool();
+		String first = new String("Software Development Fundamentals");
+		String second = new String("Software Development Fundamentals");
+		assertNotSame(first, second);
+
+		assertSame(first, pool.intern(first));
+		assertSame(first, pool.intern(second));
+		assertEquals(1, pool.size());
+
+		assertSame(pool.intern(new String("MW")), pool.intern(new String("MW")));
+		assertEquals(2, pool.size());
+		assertNull(pool.intern(null));
+		assertEquals(2, pool.size());
+	}
+
+	/**
+	 * Tests that the shared unpooled pool keeps nothing.
+	 */
+	@Test
+	public void testUnpooled() {
+		StringPool pool = StringPool.unpooled();
+		assertSame(pool, StringPool.unpooled());
+		String first = new String("MW");
+		String second = new String("MW");
+		assertSame(first, pool.intern(first));
+		assertSame(second, pool.intern(second));
+		assertNull(pool.intern(null));
+		assertEquals(0, pool.size());
+	}
+
+	/**
+	 * Tests that pooled Strings keep stable ids.
+	 */
+	@Test
+	public void testIdOf() {
+		StringPool pool = new StringPool();
+		assertEquals(0, pool.idOf("CSC 216"));
+		assertEquals(1, pool.idOf("MW"));
+		assertEquals(0, pool.idOf(new String("CSC 216")));
+		assertSame(pool.intern("MW"), pool.get(1));
+		assertEquals(2, pool.size());
+		assertThrows(IndexOutOfBoundsException.class, () -> pool.get(2));
+		assertThrows(IllegalArgumentException.class, () -> pool.idOf(null));
+		assertThrows(UnsupportedOperationException.class, () -> StringPool.unpooled().idOf("MW"));
+	}
+}
@@ -0,0 +1,63 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.io.RecordDiagnostic.Rule;
+
+/**
+ * Tests the ValidationReport class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ValidationReportTest {
+
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests the counts and summary of a report and writing it to a file.
+	 * 
+	 * @throws IOException if the report cannot be written or read
+	 */
+	@Test
+	public void testReport() throws IOException {
+		List<RecordDiagnostic> diagnostics = new ArrayList<RecordDiagnostic>();
+		diagnostics.add(new RecordDiagnostic(2, Rule.NAME, "CSC216"));
+		diagnostics.add(new RecordDiagnostic(2, Rule.CREDITS, "0"));
+		diagnostics.add(new RecordDiagnostic(4, Rule.DUPLICATE, "line 1"));
+		diagnostics.add(new RecordDiagnostic(5, Rule.TOO_FEW_FIELDS, null));
+		ValidationReport report = new ValidationReport("catalog.txt", 6, 2, diagnostics, 3000000);
+
+		assertEquals("catalog.txt", report.getFileName());
+		assertEquals(6, report.getLines());
+		assertEquals(2, report.getInvalidLines());
+		assertEquals(1, report.getDuplicates());
+		assertEquals(3, report.getCourses());
+		assertEquals(1, report.getCount(Rule.NAME));
+		assertEquals(0, report.getCount(Rule.ROOM));
+		assertEquals(3000000, report.getElapsedNanos());
+		assertEquals(4, report.getDiagnostics().size());
+		assertThrows(UnsupportedOperationException.class, () -> report.getDiagnostics().clear());
+
+		String summary = report.getSummary();
+		assertTrue(summary.startsWith("Validated catalog.txt in 3 ms\nLines: 6\nCourses: 3\nInvalid lines: 2\n"));
+		assertTrue(summary.contains("       1  credits       Must be 1 to 5\n"));
+		assertFalse(summary.contains("room"));
+
+		Path file = tempDir.resolve("validation_report.txt");
+		report.write(file.toString());
+		List<String> written = Files.readAllLines(file);
+		assertEquals("line 2, name: Must be 1 to 4 letters, a space, and 3 digits (CSC216)", written.get(10));
+		assertEquals("line 5, record: Too few fields", written.get(written.size() - 1));
+	}
+}
@@ -0,0 +1,103 @@
+package edu.ncsu.csc216.wolf_scheduler.profiling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Tests that the scheduler's Flight Recorder events are recorded with their
+ * sizes and outcomes.
+ *
+ * @author Anoushka Piduru
+ */
+public class ProfilingEventTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests the events recorded while loading a catalog and changing a schedule.
+	 */
+	@Test
+	public void testEvents() {
+		List<RecordedEvent> events = new ArrayList<>();
+		try (Recording recording = new Recording()) {
+			for (String name : new String[] { "CatalogLoad", "CatalogLookup", "ConflictCheck", "ScheduleChange",
+					"ScheduleExport" }) {
+				recording.enable("edu.ncsu.csc216.wolf_scheduler." + name).withThreshold(Duration.ZERO);
+			}
+			recording.start();
+			WolfScheduler ws = new WolfScheduler(validTestFile);
+			assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+			assertFalse(ws.addCourseToSchedule("CSC 999", "001"));
+			assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 216", "001"));
+			ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+			assertTrue(ws.removeActivityFromSchedule(1));
+			ws.exportSchedule(tempDir.resolve("profiled_export.txt").toString());
+			recording.stop();
+			Path recordingFile = tempDir.resolve("recording.jfr");
+			recording.dump(recordingFile);
+			events.addAll(RecordingFile.readAllEvents(recordingFile));
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+
+		RecordedEvent load = only(events, "CatalogLoad").get(0);
+		assertEquals(validTestFile, load.getString("fileName"));
+		assertEquals(13, load.getInt("courses"));
+		assertEquals(load.getInt("lines"), load.getInt("courses") + load.getInt("invalid") + load.getInt("duplicates"));
+
+		assertEquals(3, only(events, "CatalogLookup").size());
+		List<RecordedEvent> checks = only(events, "ConflictCheck");
+		assertEquals(3, checks.size());
+		assertTrue(checks.get(1).getBoolean("duplicate"));
+
+		List<RecordedEvent> changes = only(events, "ScheduleChange");
+		assertEquals(5, changes.size());
+		assertEquals("done", changes.get(0).getString("outcome"));
+		assertEquals("not found", changes.get(1).getString("outcome"));
+		assertEquals("duplicate", changes.get(2).getString("outcome"));
+		assertEquals("add event", changes.get(3).getString("operation"));
+		assertEquals("remove", changes.get(4).getString("operation"));
+		assertEquals("Lunch", changes.get(4).getString("activity"));
+		assertEquals(2, changes.get(4).getInt("scheduleSize"));
+
+		RecordedEvent export = only(events, "ScheduleExport").get(0);
+		assertEquals(1, export.getInt("activities"));
+		assertTrue(export.getBoolean("succeeded"));
+		assertTrue(export.getLong("bytes") > 0);
+	}
+
+	/**
+	 * Returns the recorded events of one type in the order they ended.
+	 *
+	 * @param events all recorded events.
+	 * @param name   the event name without its prefix.
+	 * @return the events of that type.
+	 */
+	private static List<RecordedEvent> only(List<RecordedEvent> events, String name) {
+		List<RecordedEvent> matching = new ArrayList<>();
+		for (RecordedEvent event : events) {
+			if (event.getEventType().getName().equals("edu.ncsu.csc216.wolf_scheduler." + name)) {
+				matching.add(event);
+			}
+		}
+		matching.sort((a, b) -> a.getEndTime().compareTo(b.getEndTime()));
+		return matching;
+	}
+}
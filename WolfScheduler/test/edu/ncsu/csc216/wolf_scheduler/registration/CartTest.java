@@ -0,0 +1,35 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the Cart class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class CartTest {
+
+	/**
+	 * Tests building a cart.
+	 */
+	@Test
+	public void testCart() {
+		Cart cart = new Cart("sesmith5", 3);
+		assertEquals("sesmith5", cart.getStudentId());
+		assertEquals(3, cart.getPriority());
+		assertEquals(0, cart.size());
+		cart.addRequest("CSC 216", "001");
+		cart.addRequest("CSC 226", "001");
+		assertEquals(2, cart.size());
+		assertEquals("CSC 226", cart.getNames().get(1));
+		assertEquals("001", cart.getSections().get(0));
+		assertThrows(UnsupportedOperationException.class, () -> cart.getNames().clear());
+
+		assertThrows(IllegalArgumentException.class, () -> cart.addRequest(null, "001"));
+		assertThrows(IllegalArgumentException.class, () -> cart.addRequest("CSC 216", null));
+		assertThrows(IllegalArgumentException.class, () -> new Cart("", 1));
+		assertThrows(IllegalArgumentException.class, () -> new Cart(null, 1));
+	}
+}
@@ -0,0 +1,161 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.OverlapSweep;
+
+/**
+ * Tests the RegistrationEngine class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class RegistrationEngineTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Reads the test catalog.
+	 * 
+	 * @return the catalog.
+	 */
+	private CourseCatalog readCatalog() {
+		try {
+			return new CourseCatalog(CourseRecordIO.readCourseRecords(validTestFile));
+		} catch (FileNotFoundException e) {
+			fail("Cannot read course records");
+			return null;
+		}
+	}
+
+	/**
+	 * Tests that seats are limited by capacity and that conflicting and unknown
+	 * requests are dropped.
+	 */
+	@Test
+	public void testRegister() {
+		CourseCatalog catalog = readCatalog();
+		RegistrationEngine engine = new RegistrationEngine(catalog, 10);
+		engine.setCapacity("CSC 230", "001", 1);
+
+		List<Cart> carts = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Cart cart = new Cart("student" + i, 1);
+			cart.addRequest("CSC 230", "001");
+			// Conflicts with CSC 230-001
+			cart.addRequest("CSC 116", "002");
+			cart.addRequest("CSC 226", "001");
+			cart.addRequest("CSC 999", "001");
+			carts.add(cart);
+		}
+		RegistrationResult result = engine.register(carts, RegistrationEngine.Lottery.RANDOM, 38);
+		assertEquals(1, result.getEnrollment("CSC 230", "001"));
+		assertEquals(2, result.getEnrollment("CSC 116", "002"));
+		assertEquals(3, result.getEnrollment("CSC 226", "001"));
+		assertEquals(6, result.getSeatsFilled());
+		assertEquals(2, result.getFullRequests());
+		assertEquals(1, result.getConflictingRequests());
+		assertEquals(3, result.getUnknownRequests());
+		assertEquals(0, result.getEnrollment("CSC 999", "001"));
+		assertEquals(0, result.getSchedule("nobody").size());
+
+		int winners = 0;
+		for (int i = 0; i < 3; i++) {
+			List<Course> schedule = result.getSchedule("student" + i);
+			assertEquals(2, schedule.size());
+			if ("CSC 230".equals(schedule.get(0).getName())) {
+				winners++;
+			}
+		}
+		assertEquals(1, winners);
+	}
+
+	/**
+	 * Tests that a priority lottery serves higher priorities first.
+	 */
+	@Test
+	public void testPriority() {
+		CourseCatalog catalog = readCatalog();
+		RegistrationEngine engine = new RegistrationEngine(catalog, 1);
+		List<Cart> carts = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Cart cart = new Cart("student" + i, i == 13 ? 4 : 1);
+			cart.addRequest("CSC 230", "001");
+			carts.add(cart);
+		}
+		for (long seed = 0; seed < 5; seed++) {
+			RegistrationResult result = engine.register(carts, RegistrationEngine.Lottery.PRIORITY, seed);
+			assertEquals(1, result.getSchedule("student13").size());
+			assertEquals(19, result.getFullRequests());
+		}
+	}
+
+	/**
+	 * Tests that the result depends only on the seed, not on the number of
+	 * threads, and that every schedule is conflict free and within capacity.
+	 */
+	@Test
+	public void testDeterministic() {
+		CourseCatalog catalog = readCatalog();
+		List<Cart> carts = new RegistrationSimulator(catalog).generateCarts(2000, 4, 7);
+
+		RegistrationEngine engine = new RegistrationEngine(catalog, 300);
+		engine.setParallelism(1);
+		RegistrationResult sequential = engine.register(carts, RegistrationEngine.Lottery.PRIORITY, 99);
+		engine.setParallelism(4);
+		RegistrationResult parallel = engine.register(carts, RegistrationEngine.Lottery.PRIORITY, 99);
+		RegistrationResult reseeded = engine.register(carts, RegistrationEngine.Lottery.PRIORITY, 100);
+
+		boolean seedMatters = false;
+		for (Cart cart : carts) {
+			List<Course> schedule = parallel.getSchedule(cart.getStudentId());
+			assertEquals(sequential.getSchedule(cart.getStudentId()), schedule);
+			if (!schedule.equals(reseeded.getSchedule(cart.getStudentId()))) {
+				seedMatters = true;
+			}
+			for (int i = 0; i < schedule.size(); i++) {
+				for (int j = i + 1; j < schedule.size(); j++) {
+					assertFalse(OverlapSweep.overlaps(schedule.get(i), schedule.get(j)));
+				}
+			}
+		}
+		assertTrue(seedMatters);
+		for (int i = 0; i < catalog.size(); i++) {
+			Course course = catalog.get(i);
+			assertTrue(parallel.getEnrollment(course.getName(), course.getSection()) <= 300);
+		}
+		assertEquals(sequential.getSeatsFilled(), parallel.getSeatsFilled());
+		assertEquals(8000, parallel.getSeatsFilled() + parallel.getFullRequests() + parallel.getConflictingRequests()
+				+ parallel.getUnknownRequests());
+	}
+
+	/**
+	 * Tests invalid settings and carts.
+	 */
+	@Test
+	public void testInvalid() {
+		CourseCatalog catalog = readCatalog();
+		assertThrows(IllegalArgumentException.class, () -> new RegistrationEngine(null, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RegistrationEngine(catalog, -1));
+		RegistrationEngine engine = new RegistrationEngine(catalog, 1);
+		assertThrows(IllegalArgumentException.class, () -> engine.setCapacity("CSC 999", "001", 1));
+		assertThrows(IllegalArgumentException.class, () -> engine.setCapacity("CSC 216", "001", -1));
+		assertThrows(IllegalArgumentException.class, () -> engine.setParallelism(0));
+
+		List<Cart> carts = new ArrayList<>();
+		carts.add(new Cart("student", 1));
+		carts.add(new Cart("student", 2));
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> engine.register(carts, RegistrationEngine.Lottery.RANDOM, 1));
+		assertEquals("Invalid cart.", e.getMessage());
+	}
+}
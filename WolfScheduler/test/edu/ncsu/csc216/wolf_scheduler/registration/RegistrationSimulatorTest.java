@@ -0,0 +1,52 @@
+package edu.ncsu.csc216.wolf_scheduler.registration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+
+/**
+ * Tests the RegistrationSimulator class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class RegistrationSimulatorTest {
+
+	/**
+	 * Tests that generated carts are valid and repeatable.
+	 */
+	@Test
+	public void testGenerateCarts() {
+		CourseCatalog catalog = null;
+		try {
+			catalog = new CourseCatalog(CourseRecordIO.readCourseRecords("test-files/course_records.txt"));
+		} catch (FileNotFoundException e) {
+			fail("Cannot read course records");
+		}
+		RegistrationSimulator simulator = new RegistrationSimulator(catalog);
+		List<Cart> carts = simulator.generateCarts(100, 3, 5);
+		assertEquals(100, carts.size());
+		for (Cart cart : carts) {
+			assertEquals(3, cart.size());
+			assertEquals(3, new HashSet<>(cart.getNames()).size());
+			assertTrue(cart.getPriority() >= 1 && cart.getPriority() <= 4);
+			for (int i = 0; i < cart.size(); i++) {
+				assertNotNull(catalog.get(cart.getNames().get(i), cart.getSections().get(i)));
+			}
+		}
+		List<Cart> again = simulator.generateCarts(100, 3, 5);
+		assertEquals(carts.get(42).getNames(), again.get(42).getNames());
+		assertEquals(carts.get(42).getSections(), again.get(42).getSections());
+
+		// The catalog has six courses
+		assertEquals(6, simulator.generateCarts(1, 20, 5).get(0).size());
+		assertThrows(IllegalArgumentException.class, () -> simulator.generateCarts(-1, 3, 5));
+		assertThrows(IllegalArgumentException.class, () -> new RegistrationSimulator(new CourseCatalog()));
+	}
+}
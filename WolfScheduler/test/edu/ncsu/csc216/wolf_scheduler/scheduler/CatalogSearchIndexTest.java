@@ -0,0 +1,83 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CatalogSearchIndex class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class CatalogSearchIndexTest {
+
+	/**
+	 * Builds an index over a small catalog.
+	 * 
+	 * @return the index.
+	 */
+	private CatalogSearchIndex buildIndex() {
+		CatalogSearchIndex index = new CatalogSearchIndex();
+		index.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100));
+		index.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445));
+		index.add(new Course("CSC 217", "Software Development Fundamentals Lab", "202", 1, "sesmith5", "M", 1040,
+				1230));
+		index.add(new Course("MA 141", "Calculus I", "001", 4, "jtking", "MWF", 800, 850));
+		return index;
+	}
+
+	/**
+	 * Tests short queries answered straight from the posting lists.
+	 */
+	@Test
+	public void testSearchShortQuery() {
+		CatalogSearchIndex index = buildIndex();
+		assertEquals(4, index.size());
+
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, index.search(""));
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, index.search("   "));
+		assertArrayEquals(new int[] { 0, 1, 2 }, index.search("csc"));
+		assertArrayEquals(new int[] { 1, 2 }, index.search("21"));
+		assertArrayEquals(new int[] { 3 }, index.search("MA"));
+		assertArrayEquals(new int[0], index.search("zz"));
+	}
+
+	/**
+	 * Tests longer queries that are checked against each candidate row.
+	 */
+	@Test
+	public void testSearchLongQuery() {
+		CatalogSearchIndex index = buildIndex();
+
+		assertArrayEquals(new int[] { 1, 2 }, index.search("Software Dev"));
+		assertArrayEquals(new int[] { 2 }, index.search("fundamentals lab"));
+		assertArrayEquals(new int[] { 1, 2 }, index.search("SESMITH"));
+		assertArrayEquals(new int[] { 0 }, index.search("CSC 116"));
+		assertArrayEquals(new int[0], index.search("calculus ii"));
+
+		// A match may not span the end of one field and the start of the next
+		assertArrayEquals(new int[0], index.search("116intro"));
+	}
+
+	/**
+	 * Tests that case folding does not depend on the default locale, which in
+	 * Turkish lowercases I to a dotless i.
+	 */
+	@Test
+	public void testSearchTurkishLocale() {
+		Locale defaultLocale = Locale.getDefault();
+		try {
+			Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+			CatalogSearchIndex index = buildIndex();
+			assertArrayEquals(new int[] { 0 }, index.search("INTRO"));
+			assertArrayEquals(new int[] { 0 }, index.search("intro to"));
+			assertArrayEquals(new int[] { 3 }, index.search("CALCULUS I"));
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+}
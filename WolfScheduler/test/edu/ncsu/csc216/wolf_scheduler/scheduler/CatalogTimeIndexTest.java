@@ -0,0 +1,69 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CatalogTimeIndex class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class CatalogTimeIndexTest {
+
+	/**
+	 * Builds an index over a small catalog. Rows are added out of start time
+	 * order so the buckets must be sorted before they are searched.
+	 * 
+	 * @return the index.
+	 */
+	private CatalogTimeIndex buildIndex() {
+		CatalogTimeIndex index = new CatalogTimeIndex();
+		index.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1530, 1645));
+		index.add(new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330, 1445));
+		index.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		index.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "TH", 910, 1100));
+		index.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MTWHF",
+				1500, 1550));
+		index.add(new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1, "sesmith5", "T", 1500, 1650));
+		return index;
+	}
+
+	/**
+	 * Tests CatalogTimeIndex.find() by days and start and end time.
+	 */
+	@Test
+	public void testFind() {
+		CatalogTimeIndex index = buildIndex();
+
+		// All sections meeting on TH after 1500
+		assertArrayEquals(new int[] { 0, 4 }, index.find("TH", 1500, 2359));
+		// Sections meeting at least on T
+		assertArrayEquals(new int[] { 0, 3, 4, 5 }, index.find("T", 0, 2359));
+		// Morning sections on any day
+		assertArrayEquals(new int[] { 3 }, index.find("", 0, 1200));
+		// End time limit excludes the long lab
+		assertArrayEquals(new int[] { 0, 4 }, index.find("T", 1500, 1645));
+		// Bounds are inclusive
+		assertArrayEquals(new int[] { 1 }, index.find("MW", 1330, 1445));
+		assertArrayEquals(new int[] { 4 }, index.find("MW", 1331, 2359));
+		assertArrayEquals(new int[0], index.find("F", 0, 1000));
+	}
+
+	/**
+	 * Tests CatalogTimeIndex.find() for arranged sections and invalid days.
+	 */
+	@Test
+	public void testFindArranged() {
+		CatalogTimeIndex index = buildIndex();
+		assertArrayEquals(new int[] { 2 }, index.find("A", 0, 0));
+		assertArrayEquals(new int[0], new CatalogTimeIndex().find("A", 0, 0));
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> index.find("MX", 0, 2359));
+		assertEquals("Invalid meeting days.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> index.find("MM", 0, 2359));
+		assertThrows(IllegalArgumentException.class, () -> index.find(null, 0, 2359));
+	}
+}
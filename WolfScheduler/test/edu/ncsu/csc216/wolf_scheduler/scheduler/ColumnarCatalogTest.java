@@ -0,0 +1,107 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.MeetingDays;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
+
+/**
+ * Tests the ColumnarCatalog class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ColumnarCatalogTest {
+
+	/** Courses added to the columnar catalog */
+	private final Course[] courses = {
+			new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MWF", 935,
+					1025),
+			new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445),
+			new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"),
+			new Course("MA 141", "Calculus I", "001", 4, "jtking", "MTWHF", 800, 850),
+			new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MWF", 1300, 1350) };
+
+	/**
+	 * Builds a columnar catalog holding the test courses. More courses are added
+	 * than the initial capacity so the columns must grow.
+	 * 
+	 * @return the columnar catalog.
+	 */
+	private ColumnarCatalog buildCatalog() {
+		ColumnarCatalog columns = new ColumnarCatalog();
+		for (int i = 0; i < 20; i++) {
+			columns.add(courses[i % courses.length]);
+		}
+		return columns;
+	}
+
+	/**
+	 * Tests ColumnarCatalog.scan() by credits, days, and time window.
+	 */
+	@Test
+	public void testScan() {
+		ColumnarCatalog columns = buildCatalog();
+		assertEquals(20, columns.size());
+
+		int mwf = MeetingDays.toMask("MWF");
+		// All 3 credit MWF morning sections
+		assertArrayEquals(new int[] { 0, 5, 10, 15 }, columns.scan(3, mwf, 0, 12 * 60));
+		// Any credits meeting at least MWF in the morning
+		assertArrayEquals(new int[] { 0, 3, 5, 8, 10, 13, 15, 18 }, columns.scan(0, mwf, 0, 12 * 60));
+		// Any day after noon
+		assertArrayEquals(new int[] { 1, 4, 6, 9, 11, 14, 16, 19 }, columns.scan(0, 0, 12 * 60, 24 * 60));
+		assertEquals(20, columns.scan(0, 0, 0, 24 * 60).length);
+		assertEquals(0, columns.scan(5, 0, 0, 24 * 60).length);
+
+		assertEquals(14, columns.sumCredits(new int[] { 0, 1, 2, 3, 4 }));
+	}
+
+	/**
+	 * Tests ColumnarCatalog.toCourse() rebuilds the Course a row came from.
+	 */
+	@Test
+	public void testToCourse() {
+		ColumnarCatalog columns = buildCatalog();
+		for (int i = 0; i < columns.size(); i++) {
+			assertEquals(courses[i % courses.length], columns.toCourse(i));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> columns.toCourse(20));
+		assertThrows(IndexOutOfBoundsException.class, () -> columns.toCourse(-1));
+	}
+
+	/**
+	 * Tests that a row keeps its Course's room.
+	 */
+	@Test
+	public void testToCourseWithRoom() {
+		ColumnarCatalog columns = new ColumnarCatalog();
+		Course course = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330,
+				1445, "EB2 1011");
+		columns.add(course);
+		assertEquals(course, columns.toCourse(0));
+		assertEquals("EB2 1011", columns.toCourse(0).getRoom());
+	}
+
+	/**
+	 * Tests that the columns keep their Strings in the catalog's pool rather
+	 * than a table of their own.
+	 */
+	@Test
+	public void testSharedPool() {
+		CourseCatalog catalog = new CourseCatalog();
+		StringPool pool = catalog.getStringPool();
+		catalog.add(courses[0]);
+		int pooled = pool.size();
+		assertTrue(pooled > 0);
+		assertSame(pool.intern(courses[0].getTitle()), catalog.getColumns().toCourse(0).getTitle());
+
+		catalog.add(new Course(courses[0].getName(), courses[0].getTitle(), "999", courses[0].getCredits(),
+				courses[0].getInstructorId(), "A"));
+		// Only the new section and meeting days are new Strings
+		assertEquals(pooled + 2, pool.size());
+		assertThrows(IllegalArgumentException.class, () -> new ColumnarCatalog(null));
+	}
+}
@@ -0,0 +1,191 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.StringPool;
+
+/**
+ * Tests the CourseCatalog class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class CourseCatalogTest {
+
+	/** Course in the catalog */
+	private final Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5",
+			"TH", 1330, 1445);
+	/** Second section of the course in the catalog */
+	private final Course csc216Sec2 = new Course("CSC 216", "Software Development Fundamentals", "002", 3,
+			"ixdoming", "MW", 1330, 1445);
+	/** Course with the same name and section as csc216 */
+	private final Course csc216Dup = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "jtking",
+			"MW", 910, 1100);
+
+	/**
+	 * Tests CourseCatalog.add() and lookups by name and section.
+	 */
+	@Test
+	public void testAdd() {
+		CourseCatalog catalog = new CourseCatalog();
+		assertEquals(0, catalog.size());
+		assertNull(catalog.get("CSC 216", "001"));
+
+		assertTrue(catalog.add(csc216));
+		assertTrue(catalog.add(csc216Sec2));
+		assertFalse(catalog.add(csc216Dup));
+		assertEquals(2, catalog.size());
+
+		assertSame(csc216, catalog.get("CSC 216", "001"));
+		assertSame(csc216Sec2, catalog.get("CSC 216", "002"));
+		assertSame(csc216, catalog.get(0));
+		assertSame(csc216Sec2, catalog.get(1));
+		assertNull(catalog.get("CSC 216", "003"));
+		assertThrows(IndexOutOfBoundsException.class, () -> catalog.get(2));
+		assertEquals(1, catalog.indexOf("CSC 216", "002"));
+		assertEquals(-1, catalog.indexOf("CSC 216", "003"));
+	}
+
+	/**
+	 * Tests CourseCatalog.addAll() keeps the first of any duplicate courses.
+	 */
+	@Test
+	public void testAddAll() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(csc216);
+		courses.add(csc216Dup);
+		courses.add(csc216Sec2);
+
+		CourseCatalog catalog = new CourseCatalog(courses);
+		assertEquals(2, catalog.size());
+		assertSame(csc216, catalog.get("CSC 216", "001"));
+
+		assertEquals(0, catalog.addAll(courses));
+		assertEquals(2, catalog.size());
+	}
+
+	/**
+	 * Tests CourseCatalog.getSections().
+	 */
+	@Test
+	public void testGetSections() {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.add(csc216);
+		catalog.add(csc216Dup);
+		catalog.add(csc216Sec2);
+		assertEquals(2, catalog.getSections("CSC 216").size());
+		assertSame(csc216, catalog.getSections("CSC 216").get(0));
+		assertSame(csc216Sec2, catalog.getSections("CSC 216").get(1));
+		assertEquals(0, catalog.getSections("CSC 116").size());
+		assertThrows(UnsupportedOperationException.class, () -> catalog.getSections("CSC 216").clear());
+	}
+
+	/**
+	 * Tests that a frozen catalog cannot be changed and that catalogs can share
+	 * a String pool.
+	 */
+	@Test
+	public void testFreeze() {
+		StringPool pool = new StringPool();
+		CourseCatalog catalog = new CourseCatalog(pool);
+		assertSame(pool, catalog.getStringPool());
+		assertThrows(IllegalArgumentException.class, () -> new CourseCatalog((StringPool) null));
+
+		assertTrue(catalog.add(csc216));
+		assertFalse(catalog.isFrozen());
+		catalog.freeze();
+		assertTrue(catalog.isFrozen());
+		assertThrows(UnsupportedOperationException.class, () -> catalog.add(csc216Sec2));
+		assertEquals(1, catalog.size());
+		assertSame(csc216, catalog.get("CSC 216", "001"));
+	}
+
+	/**
+	 * Tests that a frozen catalog answers the same queries on many threads at
+	 * once, even when its courses were added out of time order.
+	 */
+	@Test
+	public void testFrozenReadsOnThreads() {
+		CourseCatalog catalog = new CourseCatalog();
+		ArrayList<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			int start = 1900 - i % 12 * 100;
+			catalog.add(new Course(String.format("CSC %03d", 100 + i % 900), "Topic " + i,
+					String.format("%03d", 1 + i / 900), 3, "prof" + i, "MW", start, start + 50));
+			if (start >= 1000 && start + 50 <= 1500) {
+				expected.add(i);
+			}
+		}
+		catalog.freeze();
+		int[] rows = expected.stream().mapToInt(Integer::intValue).toArray();
+
+		CountDownLatch go = new CountDownLatch(1);
+		AtomicReference<String> failure = new AtomicReference<>();
+		Thread[] readers = new Thread[8];
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				try {
+					go.await();
+					if (!Arrays.equals(rows, catalog.findMeeting("MW", 1000, 1500))) {
+						failure.compareAndSet(null, "Wrong rows.");
+					}
+				} catch (InterruptedException | RuntimeException e) {
+					failure.compareAndSet(null, e.toString());
+				}
+			});
+			readers[t].start();
+		}
+		go.countDown();
+		for (Thread reader : readers) {
+			try {
+				reader.join();
+			} catch (InterruptedException e) {
+				fail("Interrupted.");
+			}
+		}
+		assertNull(failure.get());
+	}
+
+	/**
+	 * Tests room availability and double-booked rooms in the catalog.
+	 */
+	@Test
+	public void testRooms() {
+		CourseCatalog catalog = new CourseCatalog();
+		Course roomA = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445, "EB2 1011");
+		Course roomB = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330,
+				1445, "EB2 1011");
+		Course clash = new Course("CSC 230", "C and Software Tools", "001", 3, "dbsturgi", "H", 1445, 1600,
+				"EB2 1011");
+		Course elsewhere = new Course("CSC 226", "Discrete Mathematics", "001", 3, "tmbarnes", "TH", 1330, 1445,
+				"EB2 1025");
+		catalog.add(roomA);
+		catalog.add(roomB);
+		catalog.add(clash);
+		catalog.add(elsewhere);
+		catalog.add(csc216Dup);
+
+		assertEquals(3, catalog.getCoursesInRoom("EB2 1011").size());
+		assertEquals(0, catalog.getCoursesInRoom("EB2 9999").size());
+		assertEquals(2, catalog.getRooms().size());
+		assertFalse(catalog.isRoomAvailable("EB2 1011", "M", 1400, 1500));
+		assertTrue(catalog.isRoomAvailable("EB2 1011", "F", 1400, 1500));
+		assertTrue(catalog.isRoomAvailable("EB2 1011", "MW", 1200, 1329));
+
+		List<CatalogConflict> conflicts = catalog.findRoomConflicts();
+		assertEquals(1, conflicts.size());
+		assertSame(roomA, conflicts.get(0).getFirst());
+		assertSame(clash, conflicts.get(0).getSecond());
+		assertEquals("EB2 1011", conflicts.get(0).getResource());
+	}
+
+}
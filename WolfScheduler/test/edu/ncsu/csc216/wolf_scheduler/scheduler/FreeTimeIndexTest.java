@@ -0,0 +1,121 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the FreeTimeIndex class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class FreeTimeIndexTest {
+
+	/** Course on Monday and Wednesday */
+	private final Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming",
+			"MW", 1330, 1445);
+	/** Course on Monday, Wednesday, and Friday */
+	private final Course csc226 = new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3,
+			"tmbarnes", "MWF", 935, 1025);
+	/** Event on Friday */
+	private final Event lunch = new Event("Lunch", "F", 1200, 1300, "");
+
+	/**
+	 * Tests finding free time on one day.
+	 */
+	@Test
+	public void testFindFree() {
+		FreeTimeIndex index = new FreeTimeIndex();
+		List<TimeBlock> free = index.findFree("M", 0);
+		assertEquals(1, free.size());
+		assertEquals(0, free.get(0).getStartTime());
+		assertEquals(2359, free.get(0).getEndTime());
+
+		index.add(csc216);
+		index.add(csc226);
+		free = index.findFree("M", 60);
+		assertEquals(3, free.size());
+		assertEquals(0, free.get(0).getStartTime());
+		assertEquals(934, free.get(0).getEndTime());
+		assertEquals(1026, free.get(1).getStartTime());
+		assertEquals(1329, free.get(1).getEndTime());
+		assertEquals(1446, free.get(2).getStartTime());
+		assertEquals(2359, free.get(2).getEndTime());
+		assertEquals("10:26AM-1:29PM", free.get(1).toString());
+		assertEquals(183, free.get(1).getDuration());
+
+		// Only the long gaps are kept
+		assertEquals(2, index.findFree("M", 500).size());
+		assertThrows(IllegalArgumentException.class, () -> index.findFree("A", 0));
+		assertThrows(IllegalArgumentException.class, () -> index.findFree("", 0));
+		assertThrows(IllegalArgumentException.class, () -> index.findFree("MX", 0));
+		assertThrows(IllegalArgumentException.class, () -> index.findFree("M", -1));
+	}
+
+	/**
+	 * Tests that free blocks are free on every requested day and that an event
+	 * in a free block does not conflict.
+	 */
+	@Test
+	public void testFindFreeAcrossDays() {
+		FreeTimeIndex index = new FreeTimeIndex();
+		index.add(csc216);
+		index.add(lunch);
+		List<TimeBlock> free = index.findFree("WF", 20);
+		assertEquals(3, free.size());
+		assertEquals(1159, free.get(0).getEndTime());
+		assertEquals(1301, free.get(1).getStartTime());
+		assertEquals(1329, free.get(1).getEndTime());
+		assertEquals(1446, free.get(2).getStartTime());
+
+		for (TimeBlock block : free) {
+			Event fits = new Event("Fits", "WF", block.getStartTime(), block.getEndTime(), "");
+			for (Activity scheduled : new Activity[] { csc216, lunch }) {
+				assertDoesNotThrow(() -> scheduled.checkConflict(fits));
+			}
+		}
+	}
+
+	/**
+	 * Tests that removing activities frees their time.
+	 */
+	@Test
+	public void testRemove() {
+		FreeTimeIndex index = new FreeTimeIndex();
+		index.add(csc216);
+		index.add(csc226);
+		index.remove(csc216);
+		assertEquals(2, index.findFree("W", 0).size());
+		index.remove(csc216);
+		index.remove(csc226);
+		assertEquals(1, index.findFree("W", 0).size());
+
+		index.rebuild(new Activity[] { csc216, lunch });
+		assertEquals(2, index.findFree("M", 0).size());
+		index.clear();
+		assertEquals(1, index.findFree("MF", 0).size());
+	}
+
+	/**
+	 * Tests FreeTimeIndex.fits().
+	 */
+	@Test
+	public void testFits() {
+		FreeTimeIndex index = new FreeTimeIndex();
+		index.add(csc216);
+		index.add(lunch);
+		assertTrue(index.fits(csc226));
+		assertFalse(index.fits(new Event("Touch", "W", 1200, 1330, "")));
+		assertTrue(index.fits(new Event("Before", "W", 1200, 1329, "")));
+		assertFalse(index.fits(new Event("Inside", "F", 1215, 1230, "")));
+		assertFalse(index.fits(new Event("Around", "F", 1100, 1400, "")));
+		assertTrue(index.fits(new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5",
+				"A")));
+	}
+}
@@ -0,0 +1,41 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the InstructorIndex class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class InstructorIndexTest {
+
+	/**
+	 * Tests InstructorIndex.add() groups sections by instructor.
+	 */
+	@Test
+	public void testAdd() {
+		InstructorIndex index = new InstructorIndex();
+		Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445);
+		Course csc217 = new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1, "sesmith5", "T", 830,
+				1020);
+		Course other = new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "TH", 1330,
+				1445);
+		Course overlap = new Course("CSC 217", "Software Development Fundamentals Lab", "212", 1, "sesmith5", "H",
+				1400, 1550);
+
+		index.add(csc216);
+		index.add(csc217);
+		index.add(other);
+		index.add(overlap);
+
+		assertEquals(3, index.getCourses("sesmith5").size());
+		assertSame(csc217, index.getCourses("sesmith5").get(1));
+		assertEquals(1, index.getCourses("ixdoming").size());
+		assertEquals(0, index.getCourses("nobody").size());
+	}
+}
@@ -0,0 +1,82 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the LatencyHistogram class.
+ *
+ * @author Anoushka Piduru
+ */
+public class LatencyHistogramTest {
+
+	/**
+	 * Tests that each value falls in a bucket whose largest value is close above
+	 * it.
+	 */
+	@Test
+	public void testBuckets() {
+		for (long value = 0; value < 5000; value++) {
+			assertTrue(LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value)) >= value);
+		}
+		assertEquals(15, LatencyHistogram.bucketOf(15));
+		assertEquals(16, LatencyHistogram.bucketOf(16));
+		assertEquals(LatencyHistogram.bucketOf(32), LatencyHistogram.bucketOf(33));
+		assertEquals(33, LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(32)));
+		long large = 123_456_789_012L;
+		long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(large));
+		assertTrue(highest >= large && highest < large * 1.07);
+		assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) < 960);
+	}
+
+	/**
+	 * Tests recording values and reading percentiles.
+	 */
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(50));
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+		histogram.record(-5);
+		assertEquals(1001, histogram.getCount());
+		assertEquals(500_500_000L, histogram.getSum());
+		assertEquals(1_000_000L, histogram.getMax());
+		assertEquals(0, histogram.getPercentile(0));
+		long median = histogram.getPercentile(50);
+		assertTrue(median >= 500_000 && median < 500_000 * 1.07, "median " + median);
+		long p99 = histogram.getPercentile(99);
+		assertTrue(p99 >= 990_000 && p99 < 990_000 * 1.07, "p99 " + p99);
+		assertEquals(1_000_000L, histogram.getPercentile(100));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+	}
+
+	/**
+	 * Tests recording from several threads at once.
+	 */
+	@Test
+	public void testConcurrentRecord() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					histogram.record(i);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				fail("Interrupted");
+			}
+		}
+		assertEquals(40_000, histogram.getCount());
+		assertEquals(9_999, histogram.getMax());
+	}
+}
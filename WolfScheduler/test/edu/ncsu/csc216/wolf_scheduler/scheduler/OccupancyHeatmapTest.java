@@ -0,0 +1,125 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the OccupancyHeatmap class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class OccupancyHeatmapTest {
+
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests the slots a section occupies and the counts of overlapping sections.
+	 */
+	@Test
+	public void testAdd() {
+		OccupancyHeatmap heatmap = new OccupancyHeatmap();
+		assertEquals(0, heatmap.getMaxSections());
+
+		heatmap.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445));
+		heatmap.add(new Course("CSC 230", "C and Software Tools", "001", 4, "dbsturgi", "H", 1445, 1600));
+		heatmap.add(new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"));
+
+		int first = 1330 / 100 * 12 + 30 / 5;
+		int last = 14 * 12 + 40 / 5;
+		assertEquals(0, heatmap.getSections(1, first - 1));
+		assertEquals(1, heatmap.getSections(1, first));
+		assertEquals(3, heatmap.getCredits(1, first));
+		assertEquals(1, heatmap.getSections(1, last));
+		assertEquals(0, heatmap.getSections(1, last + 1));
+		assertEquals(0, heatmap.getSections(0, first));
+
+		assertEquals(1, heatmap.getSections(3, last));
+		assertEquals(1, heatmap.getSections(3, last + 1));
+		assertEquals(4, heatmap.getCredits(3, last + 1));
+		assertEquals(1, heatmap.getMaxSections());
+		assertEquals(4, heatmap.getMaxCredits());
+
+		heatmap.add(new Course("CSC 316", "Data Structures and Algorithms", "001", 3, "jtking", "H", 1400, 1500));
+		assertEquals(2, heatmap.getSections(3, 14 * 12 + 45 / 5));
+		assertEquals(7, heatmap.getMaxCredits());
+		assertThrows(IndexOutOfBoundsException.class, () -> heatmap.getSections(5, 0));
+	}
+
+	/**
+	 * Tests the counts against counting every slot of every section directly.
+	 */
+	@Test
+	public void testMatchesDirectCount() {
+		Random random = new Random(216);
+		String[] days = { "M", "MW", "TH", "MWF", "F", "MTWHF" };
+		OccupancyHeatmap heatmap = new OccupancyHeatmap();
+		int[][] expected = new int[OccupancyHeatmap.DAYS][OccupancyHeatmap.SLOTS];
+		for (int i = 0; i < 500; i++) {
+			int start = random.nextInt(24 * 60);
+			int end = Math.min(24 * 60 - 1, start + random.nextInt(180));
+			String meetingDays = days[random.nextInt(days.length)];
+			Course course = new Course("CSC 216", "Title", "001", 3, "id", meetingDays, start / 60 * 100 + start % 60,
+					end / 60 * 100 + end % 60);
+			heatmap.add(course);
+			for (int day = 0; day < OccupancyHeatmap.DAYS; day++) {
+				if (meetingDays.indexOf(OccupancyHeatmap.getDayLetter(day)) < 0) {
+					continue;
+				}
+				for (int slot = 0; slot < OccupancyHeatmap.SLOTS; slot++) {
+					int slotStart = slot * OccupancyHeatmap.SLOT_MINUTES;
+					if (slotStart < end && slotStart + OccupancyHeatmap.SLOT_MINUTES > start
+							|| start == end && start / OccupancyHeatmap.SLOT_MINUTES == slot) {
+						expected[day][slot]++;
+					}
+				}
+			}
+		}
+		for (int day = 0; day < OccupancyHeatmap.DAYS; day++) {
+			for (int slot = 0; slot < OccupancyHeatmap.SLOTS; slot++) {
+				assertEquals(expected[day][slot], heatmap.getSections(day, slot));
+				assertEquals(3 * expected[day][slot], heatmap.getCredits(day, slot));
+			}
+		}
+	}
+
+	/**
+	 * Tests writing the heatmap as comma separated values.
+	 * 
+	 * @throws IOException if the file cannot be written or read
+	 */
+	@Test
+	public void testWriteCsv() throws IOException {
+		CourseCatalog catalog = new CourseCatalog();
+		catalog.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445));
+		OccupancyHeatmap heatmap = catalog.getOccupancy();
+		assertEquals(1, heatmap.getSections(1, 13 * 12 + 6));
+		catalog.add(new Course("CSC 226", "Discrete Mathematics", "001", 3, "tmbarnes", "T", 1300, 1400));
+		assertEquals(2, heatmap.getSections(1, 13 * 12 + 6));
+
+		Path csv = tempDir.resolve("occupancy.csv");
+		heatmap.writeCsv(csv.toString());
+		List<String> lines = new ArrayList<String>(Files.readAllLines(csv));
+		assertEquals(1 + OccupancyHeatmap.DAYS * OccupancyHeatmap.SLOTS, lines.size());
+		assertEquals("day,start,end,sections,credits", lines.get(0));
+		assertEquals("M,0,5,0,0", lines.get(1));
+		assertEquals("T,1330,1335,2,6", lines.get(1 + OccupancyHeatmap.SLOTS + 13 * 12 + 6));
+		assertEquals("F,2355,2400,0,0", lines.get(lines.size() - 1));
+		assertEquals("1:30PM", Activity.getTimeString(OccupancyHeatmap.getSlotTime(13 * 12 + 6)));
+	}
+}
@@ -0,0 +1,117 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the OverlapSweep class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class OverlapSweepTest {
+
+	/**
+	 * Tests OverlapSweep.overlaps() matches Activity.checkConflict().
+	 */
+	@Test
+	public void testOverlaps() {
+		Course a = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445);
+		Course touching = new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1, "sesmith5", "T",
+				1445, 1600);
+		Course otherDay = new Course("CSC 217", "Software Development Fundamentals Lab", "202", 1, "sesmith5", "MW",
+				1330, 1445);
+		Course arranged = new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A");
+		Event event = new Event("Lunch", "UH", 1200, 1330, "");
+
+		assertTrue(OverlapSweep.overlaps(a, touching));
+		assertTrue(OverlapSweep.overlaps(touching, a));
+		assertTrue(OverlapSweep.overlaps(a, event));
+		assertFalse(OverlapSweep.overlaps(a, otherDay));
+		assertFalse(OverlapSweep.overlaps(a, arranged));
+		assertFalse(OverlapSweep.overlaps(arranged, arranged));
+	}
+
+	/**
+	 * Tests OverlapSweep.findOverlaps() reports each pair once and only for the
+	 * same resource.
+	 */
+	@Test
+	public void testFindOverlaps() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445));
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "TH", 1330, 1445));
+		courses.add(new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1, "sesmith5", "TH", 1400,
+				1550));
+		courses.add(new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"));
+		courses.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "sesmith5", "MWF",
+				1330, 1445));
+
+		List<CatalogConflict> conflicts = OverlapSweep.findOverlaps(courses, Course::getInstructorId);
+		assertEquals(1, conflicts.size());
+		assertEquals("CSC 216-001,CSC 217-211,sesmith5", conflicts.get(0).toString());
+		assertSame(courses.get(0), conflicts.get(0).getFirst());
+		assertSame(courses.get(2), conflicts.get(0).getSecond());
+		assertEquals("sesmith5", conflicts.get(0).getResource());
+
+		// A null resource is never in conflict
+		assertEquals(0, OverlapSweep.findOverlaps(courses, c -> null).size());
+	}
+
+	/**
+	 * Tests OverlapSweep.findOverlaps() and the incremental sweep of
+	 * CourseCatalog.getInstructorConflicts() find the same pairs as comparing
+	 * every pair of a random catalog.
+	 */
+	@Test
+	public void testFindOverlapsMatchesAllPairs() {
+		Random random = new Random(216);
+		String[] days = { "M", "T", "W", "H", "F", "MW", "TH", "MWF", "A" };
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int i = 0; i < 300; i++) {
+			String meetingDays = days[random.nextInt(days.length)];
+			int start = "A".equals(meetingDays) ? 0 : 800 + 100 * random.nextInt(10) + 5 * random.nextInt(6);
+			int end = "A".equals(meetingDays) ? 0 : start + 30 + 100 * random.nextInt(2);
+			courses.add(new Course("CSC " + (100 + i), "Title", "001", 3, "inst" + random.nextInt(20), meetingDays,
+					start, end));
+		}
+
+		HashSet<String> expected = new HashSet<String>();
+		for (int i = 0; i < courses.size(); i++) {
+			for (int j = i + 1; j < courses.size(); j++) {
+				Course a = courses.get(i);
+				Course b = courses.get(j);
+				if (a.getInstructorId().equals(b.getInstructorId()) && OverlapSweep.overlaps(a, b)) {
+					expected.add(new CatalogConflict(a, b, a.getInstructorId()).toString());
+				}
+			}
+		}
+
+		HashSet<String> actual = new HashSet<String>();
+		for (CatalogConflict conflict : OverlapSweep.findOverlaps(courses, Course::getInstructorId)) {
+			assertTrue(actual.add(conflict.toString()));
+		}
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, actual);
+
+		// The catalog sweeps each chunk against the sections it touches only
+		HashSet<String> incremental = new HashSet<String>();
+		CourseCatalog catalog = new CourseCatalog();
+		for (int i = 0; i < courses.size(); i += 37) {
+			catalog.addAll(courses.subList(i, Math.min(courses.size(), i + 37)));
+			catalog.getInstructorConflicts();
+		}
+		for (CatalogConflict conflict : catalog.getInstructorConflicts()) {
+			assertTrue(incremental.add(conflict.toString()));
+		}
+		assertEquals(expected, incremental);
+	}
+}
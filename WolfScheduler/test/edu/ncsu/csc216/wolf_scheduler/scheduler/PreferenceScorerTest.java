@@ -0,0 +1,88 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the PreferenceScorer class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class PreferenceScorerTest {
+
+	/** Early section on Tuesday and Thursday */
+	private final Course early = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH",
+			830, 945);
+	/** Section on Monday, Wednesday, and Friday */
+	private final Course mwf = new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3,
+			"tmbarnes", "MWF", 935, 1025);
+	/** Arranged section */
+	private final Course arranged = new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1,
+			"sesmith5", "A");
+
+	/**
+	 * Tests score() with each preference.
+	 */
+	@Test
+	public void testScore() {
+		ArrayList<Course> schedule = new ArrayList<>();
+		schedule.add(early);
+		schedule.add(mwf);
+		schedule.add(arranged);
+
+		PreferenceScorer scorer = new PreferenceScorer();
+		assertEquals(0, scorer.score(schedule), 0.001);
+
+		scorer.setEarliestStart(900, 2);
+		assertEquals(-2, scorer.score(schedule), 0.001);
+
+		HashSet<String> preferred = new HashSet<>();
+		preferred.add("sesmith5");
+		scorer.setPreferredInstructors(preferred, 3);
+		assertEquals(4, scorer.score(schedule), 0.001);
+
+		scorer.setFreeFriday(5);
+		assertEquals(-1, scorer.score(schedule), 0.001);
+
+		scorer.setCompactDays(1);
+		assertEquals(-6, scorer.score(schedule), 0.001);
+
+		scorer.setCreditTarget(9, 2);
+		assertEquals(-10, scorer.score(schedule), 0.001);
+
+		assertThrows(IllegalArgumentException.class, () -> scorer.setCompactDays(-1));
+	}
+
+	/**
+	 * Tests that bound() is at least the score of any completion.
+	 */
+	@Test
+	public void testBound() {
+		PreferenceScorer scorer = new PreferenceScorer();
+		scorer.setEarliestStart(900, 2);
+		scorer.setFreeFriday(5);
+		scorer.setCreditTarget(4, 1);
+
+		ArrayList<Course> partial = new ArrayList<>();
+		partial.add(early);
+		ArrayList<SectionChoice> remaining = new ArrayList<>();
+		ArrayList<Course> sections = new ArrayList<>();
+		sections.add(mwf);
+		sections.add(arranged);
+		remaining.add(new SectionChoice(sections, false));
+
+		double bound = scorer.bound(partial, remaining);
+		// Choosing the arranged section reaches the target with no Friday class
+		assertEquals(-2, bound, 0.001);
+		partial.add(arranged);
+		assertEquals(-2, scorer.score(partial), 0.001);
+		partial.set(1, mwf);
+		assertTrue(scorer.score(partial) <= bound);
+	}
+}
@@ -0,0 +1,171 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the RegistrationRules class and the RulePlan it compiles.
+ *
+ * @author Anoushka Piduru
+ */
+public class RegistrationRulesTest {
+
+	/** Course with prerequisites */
+	private final Course csc316 = new Course("CSC 316", "Data Structures and Algorithms", "001", 3, "jtking", "MW",
+			830, 945);
+	/** Course with a corequisite */
+	private final Course csc217 = new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1,
+			"sesmith5", "T", 830, 1020);
+	/** Corequisite of csc217 */
+	private final Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5",
+			"TH", 1330, 1445);
+	/** Course with no rules */
+	private final Course csc230 = new Course("CSC 230", "C and Software Tools", "001", 3, "dbsturgi", "MW", 1145,
+			1300);
+
+	/**
+	 * Tests prerequisites, with any one course of each group needed.
+	 */
+	@Test
+	public void testPrerequisites() {
+		RegistrationRules rules = new RegistrationRules();
+		rules.addPrerequisite("CSC 316", "CSC 216", "CSC 217");
+		rules.addPrerequisite("CSC 316", "CSC 226");
+		RulePlan plan = rules.compile();
+		assertEquals(4, plan.getCourseCount());
+		assertEquals(RegistrationRules.DEFAULT_CREDIT_LIMIT, plan.getCreditLimit());
+
+		plan.forStudent(Arrays.asList("CSC 217", "CSC 226")).check(csc316, new Activity[0], 0);
+		plan.forStudent(Arrays.asList("CSC 216", "CSC 226", "MA 141")).check(csc316, new Activity[0], 0);
+		plan.forStudent(new ArrayList<String>()).check(csc230, new Activity[0], 0);
+
+		RuleViolationException e = assertThrows(RuleViolationException.class,
+				() -> plan.forStudent(Arrays.asList("CSC 226")).check(csc316, new Activity[0], 0));
+		assertEquals(RuleViolationException.Rule.PREREQUISITE, e.getRule());
+		assertEquals("CSC 316 requires CSC 216 or CSC 217.", e.getMessage());
+		assertEquals(Arrays.asList("CSC 216", "CSC 217"), e.getMissing());
+
+		// Scheduling a prerequisite does not satisfy it
+		e = assertThrows(RuleViolationException.class, () -> plan.forStudent(Arrays.asList("CSC 216"))
+				.check(csc316, new Activity[] { csc216 }, 3));
+		assertEquals(Arrays.asList("CSC 226"), e.getMissing());
+	}
+
+	/**
+	 * Tests corequisites, satisfied by completed or scheduled courses.
+	 */
+	@Test
+	public void testCorequisites() {
+		RegistrationRules rules = new RegistrationRules();
+		rules.addCorequisite("CSC 217", "CSC 216");
+		RulePlan plan = rules.compile();
+		StudentRules student = plan.forStudent(new ArrayList<String>());
+
+		RuleViolationException e = assertThrows(RuleViolationException.class,
+				() -> student.check(csc217, new Activity[] { new Event("CSC 216", "M", 800, 900, "") }, 0));
+		assertEquals(RuleViolationException.Rule.COREQUISITE, e.getRule());
+		assertEquals(Arrays.asList("CSC 216"), e.getMissing());
+
+		student.check(csc217, new Activity[] { csc230, csc216 }, 6);
+		plan.forStudent(Arrays.asList("CSC 216")).check(csc217, new Activity[0], 0);
+		student.check(csc216, new Activity[0], 0);
+
+		rules.addCorequisite("CSC 216", "CSC 217");
+		assertThrows(IllegalArgumentException.class, () -> rules.compile());
+	}
+
+	/**
+	 * Tests that corequisite cycles longer than two courses are rejected, and
+	 * that courses sharing a corequisite are not mistaken for a cycle.
+	 */
+	@Test
+	public void testCorequisiteCycle() {
+		RegistrationRules rules = new RegistrationRules();
+		rules.addCorequisite("CSC 217", "CSC 216");
+		rules.addCorequisite("CSC 226", "CSC 216");
+		rules.addCorequisite("CSC 316", "CSC 217");
+		rules.addCorequisite("CSC 316", "CSC 226");
+		assertEquals(4, rules.compile().getCourseCount());
+
+		rules.addCorequisite("CSC 216", "CSC 316");
+		assertThrows(IllegalArgumentException.class, () -> rules.compile());
+
+		RegistrationRules triangle = new RegistrationRules();
+		triangle.addCorequisite("CSC 116", "CSC 216");
+		triangle.addCorequisite("CSC 216", "CSC 316");
+		assertEquals(3, triangle.compile().getCourseCount());
+		triangle.addCorequisite("CSC 316", "CSC 116");
+		assertThrows(IllegalArgumentException.class, () -> triangle.compile());
+	}
+
+	/**
+	 * Tests the default and per-student credit limits.
+	 */
+	@Test
+	public void testCreditLimit() {
+		RegistrationRules rules = new RegistrationRules();
+		rules.setCreditLimit(6);
+		assertEquals(6, rules.getCreditLimit());
+		RulePlan plan = rules.compile();
+		StudentRules student = plan.forStudent(new ArrayList<String>());
+		assertEquals(6, student.getCreditLimit());
+		assertSame(plan, student.getPlan());
+
+		student.check(csc230, new Activity[] { csc216 }, 3);
+		RuleViolationException e = assertThrows(RuleViolationException.class,
+				() -> student.check(csc230, new Activity[] { csc216, csc217 }, 4));
+		assertEquals(RuleViolationException.Rule.CREDIT_LIMIT, e.getRule());
+		assertEquals(0, e.getMissing().size());
+
+		plan.forStudent(new ArrayList<String>(), 7).check(csc230, new Activity[] { csc216, csc217 }, 4);
+		assertThrows(IllegalArgumentException.class, () -> plan.forStudent(new ArrayList<String>(), 0));
+		assertThrows(IllegalArgumentException.class, () -> plan.forStudent(null));
+		assertThrows(IllegalArgumentException.class, () -> rules.setCreditLimit(0));
+	}
+
+	/**
+	 * Tests that invalid rules are rejected.
+	 */
+	@Test
+	public void testInvalidRules() {
+		RegistrationRules rules = new RegistrationRules();
+		assertThrows(IllegalArgumentException.class, () -> rules.addPrerequisite("CSC 316"));
+		assertThrows(IllegalArgumentException.class, () -> rules.addPrerequisite("CSC 316", "CSC 316"));
+		assertThrows(IllegalArgumentException.class, () -> rules.addPrerequisite("CSC316", "CSC 216"));
+		assertThrows(IllegalArgumentException.class, () -> rules.addPrerequisite("CSC 316", "CSC 216", null));
+		assertThrows(IllegalArgumentException.class, () -> rules.addCorequisite("CSC 217", "CSC 217"));
+		assertThrows(IllegalArgumentException.class, () -> rules.addCorequisite(null, "CSC 216"));
+		assertEquals(0, rules.compile().getCourseCount());
+	}
+
+	/**
+	 * Tests rules over more courses than fit in one word of a bitset.
+	 */
+	@Test
+	public void testManyCourses() {
+		RegistrationRules rules = new RegistrationRules();
+		String[] earlier = new String[100];
+		for (int i = 0; i < earlier.length; i++) {
+			earlier[i] = "MA " + (100 + i);
+		}
+		rules.addPrerequisite("CSC 316", earlier);
+		rules.addCorequisite("CSC 217", "MA 199");
+		RulePlan plan = rules.compile();
+		assertEquals(102, plan.getCourseCount());
+
+		plan.forStudent(Arrays.asList("MA 190")).check(csc316, new Activity[0], 0);
+		plan.forStudent(Arrays.asList("MA 199")).check(csc217, new Activity[0], 0);
+		RuleViolationException e = assertThrows(RuleViolationException.class,
+				() -> plan.forStudent(new ArrayList<String>()).check(csc316, new Activity[0], 0));
+		assertEquals(100, e.getMissing().size());
+		assertEquals("MA 199", e.getMissing().get(99));
+	}
+}
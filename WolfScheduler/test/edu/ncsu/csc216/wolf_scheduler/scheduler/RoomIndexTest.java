@@ -0,0 +1,44 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the RoomIndex class.
+ *
+ * @author Anoushka Piduru
+ */
+public class RoomIndexTest {
+
+	/**
+	 * Tests finding when a room is free.
+	 */
+	@Test
+	public void testIsAvailable() {
+		RoomIndex index = new RoomIndex();
+		index.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "MW", 910, 1100,
+				"EB2 1011"));
+		index.add(new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "MW", 1120, 1310,
+				"EB2 1011"));
+		index.add(new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"));
+		index.add(new Course("CSC 226", "Discrete Mathematics", "001", 3, "tmbarnes", "MWF", 935, 1025));
+
+		assertTrue(index.isAvailable("EB2 1011", "MW", 1101, 1119));
+		assertFalse(index.isAvailable("EB2 1011", "MW", 1100, 1119));
+		assertFalse(index.isAvailable("EB2 1011", "W", 1200, 1230));
+		assertFalse(index.isAvailable("EB2 1011", "MF", 800, 1400));
+		assertTrue(index.isAvailable("EB2 1011", "THF", 800, 1400));
+		assertTrue(index.isAvailable("EB2 1011", "A", 0, 0));
+		assertTrue(index.isAvailable("EB2 1025", "MW", 900, 1000));
+		assertThrows(IllegalArgumentException.class, () -> index.isAvailable("EB2 1011", "MX", 900, 1000));
+		assertThrows(IllegalArgumentException.class, () -> index.isAvailable("EB2 1011", "MW", 1000, 900));
+
+		assertEquals(2, index.getCourses("EB2 1011").size());
+		assertEquals("002", index.getCourses("EB2 1011").get(1).getSection());
+		assertTrue(index.getCourses("EB2 1025").isEmpty());
+		assertEquals(1, index.getRooms().size());
+	}
+}
@@ -0,0 +1,39 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleConflictException class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleConflictExceptionTest {
+
+	/**
+	 * Test method for
+	 * {@link edu.ncsu.csc216.wolf_scheduler.scheduler.ScheduleConflictException#ScheduleConflictException(String, edu.ncsu.csc216.wolf_scheduler.course.Activity, java.util.List)}.
+	 */
+	@Test
+	public void testScheduleConflictException() {
+		Event gym = new Event("Gym", "MW", 1300, 1400, "");
+		ArrayList<Course> alternatives = new ArrayList<>();
+		alternatives.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445));
+		ScheduleConflictException sce = new ScheduleConflictException("Custom exception message", gym, alternatives);
+		assertEquals("Custom exception message", sce.getMessage());
+		assertSame(gym, sce.getConflictingActivity());
+		assertEquals(1, sce.getAlternatives().size());
+		assertTrue(sce instanceof IllegalArgumentException);
+
+		// Later changes to the list are not seen
+		alternatives.clear();
+		assertEquals(1, sce.getAlternatives().size());
+	}
+}
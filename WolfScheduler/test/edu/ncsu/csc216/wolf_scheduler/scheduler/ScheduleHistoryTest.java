@@ -0,0 +1,75 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleHistory class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleHistoryTest {
+
+	/**
+	 * Tests undo() and redo().
+	 */
+	@Test
+	public void testUndoRedo() {
+		ScheduleVersion v0 = new ScheduleVersion("My Schedule");
+		ScheduleVersion v1 = v0.add(new Event("A", "M", 800, 900, ""));
+		ScheduleVersion v2 = v1.withTitle("Fall");
+		ScheduleHistory history = new ScheduleHistory(v0);
+		assertFalse(history.canUndo());
+		assertFalse(history.undo());
+
+		history.commit(v1);
+		history.commit(v2);
+		history.commit(v2);
+		assertTrue(history.undo());
+		assertSame(v1, history.getCurrent());
+		assertTrue(history.undo());
+		assertSame(v0, history.getCurrent());
+		assertFalse(history.undo());
+		assertTrue(history.canRedo());
+		assertTrue(history.redo());
+		assertSame(v1, history.getCurrent());
+
+		// A new change clears the redo stack
+		ScheduleVersion v3 = v1.clear();
+		history.commit(v3);
+		assertFalse(history.canRedo());
+		assertFalse(history.redo());
+		assertTrue(history.undo());
+		assertSame(v1, history.getCurrent());
+
+		assertThrows(IllegalArgumentException.class, () -> history.commit(null));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleHistory(null));
+	}
+
+	/**
+	 * Tests saving and restoring checkpoints.
+	 */
+	@Test
+	public void testCheckpoints() {
+		ScheduleVersion v0 = new ScheduleVersion("My Schedule");
+		ScheduleVersion v1 = v0.add(new Event("A", "M", 800, 900, ""));
+		ScheduleHistory history = new ScheduleHistory(v0);
+		history.saveCheckpoint("empty");
+		history.commit(v1);
+		history.saveCheckpoint("one");
+		assertEquals(2, history.getCheckpointNames().size());
+
+		history.restoreCheckpoint("empty");
+		assertSame(v0, history.getCurrent());
+		assertTrue(history.undo());
+		assertSame(v1, history.getCurrent());
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> history.restoreCheckpoint("none"));
+		assertEquals("Invalid checkpoint.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> history.saveCheckpoint(""));
+		assertThrows(IllegalArgumentException.class, () -> history.saveCheckpoint(null));
+	}
+}
@@ -0,0 +1,70 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests the ScheduleImporter class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleImporterTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests importing many schedule files against one catalog.
+	 */
+	@Test
+	public void testImportAll() {
+		CourseCatalog catalog = new CourseCatalog();
+		try {
+			catalog.addAll(CourseRecordIO.readCourseRecords(validTestFile));
+		} catch (FileNotFoundException e) {
+			fail("Cannot read course records");
+		}
+
+		List<String> fileNames = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			WolfScheduler ws = new WolfScheduler(catalog);
+			ws.addCourseToSchedule("CSC 216", "001");
+			if (i % 2 == 0) {
+				ws.addCourseToSchedule("CSC 226", "001");
+			}
+			ws.addEventToSchedule("Event " + i, "F", 1500, 1600, "");
+			String fileName = tempDir.resolve("import_" + i + ".txt").toString();
+			ws.exportSchedule(fileName);
+			fileNames.add(fileName);
+		}
+		fileNames.add("test-files/no_such_file.txt");
+
+		Map<String, WolfScheduler> imported = new ScheduleImporter(catalog).importAll(fileNames);
+		assertEquals(20, imported.size());
+		int i = 0;
+		for (Map.Entry<String, WolfScheduler> entry : imported.entrySet()) {
+			assertEquals(fileNames.get(i), entry.getKey());
+			String[][] schedule = entry.getValue().getScheduledActivities();
+			assertEquals(i % 2 == 0 ? 3 : 2, schedule.length);
+			assertEquals("CSC 216", schedule[0][0]);
+			assertEquals("Event " + i, schedule[schedule.length - 1][2]);
+			i++;
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleImporter(null));
+	}
+}
@@ -0,0 +1,347 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleJournal class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleJournalTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** Journal written by the tests */
+	private final String journalFile = "test-files/actual_journal.bin";
+
+	/**
+	 * Tests that a schedule is rebuilt from its journal by a new WolfScheduler.
+	 */
+	@Test
+	public void testRecoverSchedule() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.openJournal(journalFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		assertTrue(ws.addCourseToSchedule("CSC 116", "003"));
+		assertTrue(ws.removeActivityFromSchedule(1));
+		ws.setScheduleTitle("Fall Schedule");
+		ws.closeJournal();
+
+		// Changes after the journal is closed are not recorded
+		ws.resetSchedule();
+
+		WolfScheduler recovered = new WolfScheduler(validTestFile);
+		recovered.openJournal(journalFile);
+		recovered.closeJournal();
+		assertEquals("Fall Schedule", recovered.getScheduleTitle());
+		String[][] schedule = recovered.getFullScheduledActivities();
+		assertEquals(3, schedule.length);
+		assertEquals("CSC 216", schedule[0][0]);
+		assertEquals("Lunch", schedule[1][2]);
+		assertEquals("Food", schedule[1][6]);
+		assertEquals("CSC 116", schedule[2][0]);
+		assertEquals("003", schedule[2][1]);
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that undone changes stay undone after recovery.
+	 */
+	@Test
+	public void testRecoverAfterUndo() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.openJournal(journalFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		assertTrue(ws.undo());
+		ws.closeJournal();
+
+		WolfScheduler recovered = new WolfScheduler(validTestFile);
+		recovered.openJournal(journalFile);
+		recovered.closeJournal();
+		String[][] schedule = recovered.getScheduledActivities();
+		assertEquals(1, schedule.length);
+		assertEquals("CSC 216", schedule[0][0]);
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that undo, redo, and restoring a checkpoint are appended to the
+	 * journal rather than rewriting it, recover to the visible schedule, and keep
+	 * the free time in step.
+	 */
+	@Test
+	public void testRecoverAfterRedoAndRestore() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.openJournal(journalFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		ws.saveCheckpoint("One");
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		assertTrue(ws.removeActivityFromSchedule(1));
+		ws.setScheduleTitle("Before undo");
+		try {
+			ws.getJournal().sync();
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		long length = new File(journalFile).length();
+		assertTrue(ws.undo());
+		assertTrue(ws.undo());
+		assertTrue(ws.redo());
+		try {
+			ws.getJournal().sync();
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		assertTrue(new File(journalFile).length() > length);
+		assertEquals(2, ws.getScheduledActivities().length);
+		// Lunch splits Monday in two; the undone CSC 226 no longer does
+		assertEquals(2, ws.findFreeTime("M", 1).size());
+
+		ws.restoreCheckpoint("One");
+		assertEquals(1, ws.findFreeTime("W", 60).size());
+		ws.closeJournal();
+
+		WolfScheduler recovered = new WolfScheduler(validTestFile);
+		recovered.openJournal(journalFile);
+		recovered.closeJournal();
+		assertEquals("My Schedule", recovered.getScheduleTitle());
+		String[][] schedule = recovered.getScheduledActivities();
+		assertEquals(1, schedule.length);
+		assertEquals("CSC 216", schedule[0][0]);
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that recovery is a single change that is not counted as the user's
+	 * adds.
+	 */
+	@Test
+	public void testRecoverAsOneChange() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.openJournal(journalFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		ws.setScheduleTitle("Recovered");
+		ws.closeJournal();
+
+		WolfScheduler recovered = new WolfScheduler(validTestFile);
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		recovered.setMetrics(metrics);
+		recovered.openJournal(journalFile);
+		recovered.closeJournal();
+		assertEquals(2, recovered.getScheduledActivities().length);
+		assertEquals(0, metrics.getCoursesAdded());
+		assertEquals(0, metrics.getConflictChecks());
+		assertTrue(recovered.undo());
+		assertEquals(0, recovered.getScheduledActivities().length);
+		assertEquals("My Schedule", recovered.getScheduleTitle());
+		assertFalse(recovered.canUndo());
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that a journal opened over a partial catalog is not compacted, and
+	 * that removes made then still remove the right activity once the whole
+	 * catalog is loaded.
+	 */
+	@Test
+	public void testRecoverWithPartialCatalog() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.openJournal(journalFile);
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		ws.closeJournal();
+
+		// CSC 226 is not loaded yet, so Lunch is the first activity
+		WolfScheduler partial = new WolfScheduler();
+		partial.addCoursesToCatalog(Arrays.asList(ws.getCourseFromCatalog("CSC 216", "001")));
+		partial.openJournal(journalFile, false);
+		assertEquals(1, partial.getScheduledActivities().length);
+		assertTrue(partial.removeActivityFromSchedule(0));
+		assertTrue(partial.addCourseToSchedule("CSC 216", "001"));
+		partial.closeJournal();
+
+		WolfScheduler recovered = new WolfScheduler(validTestFile);
+		recovered.openJournal(journalFile);
+		recovered.closeJournal();
+		String[][] schedule = recovered.getScheduledActivities();
+		assertEquals(2, schedule.length);
+		assertEquals("CSC 226", schedule[0][0]);
+		assertEquals("CSC 216", schedule[1][0]);
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that replay stops at a record torn by a crash.
+	 */
+	@Test
+	public void testReplayTornRecord() {
+		new File(journalFile).delete();
+		try {
+			ScheduleJournal journal = new ScheduleJournal(journalFile);
+			journal.appendAddCourse("CSC 216", "001");
+			journal.appendTitle("Torn");
+			journal.close();
+			try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+				out.write(new byte[] { 0, 0, 0, 20, 1, 0 });
+			}
+
+			WolfScheduler ws = new WolfScheduler(validTestFile);
+			ScheduleVersion version = ScheduleJournal.replay(journalFile, new ScheduleVersion("My Schedule"),
+					ws::getCourseFromCatalog);
+			assertEquals(1, version.size());
+			assertEquals("Torn", version.getTitle());
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that a snapshot replaces the journal with the records for the current
+	 * schedule.
+	 */
+	@Test
+	public void testSnapshot() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		try {
+			ScheduleJournal journal = new ScheduleJournal(journalFile, 1, 3);
+			journal.appendAddCourse("CSC 492", "001");
+			journal.appendAddCourse("CSC 216", "001");
+			assertFalse(journal.isSnapshotDue());
+			journal.appendRemove(ws.getCourseFromCatalog("CSC 216", "001"));
+			assertTrue(journal.isSnapshotDue());
+
+			ArrayList<Activity> schedule = new ArrayList<Activity>();
+			schedule.add(new Event("Exercise", "MWF", 800, 900, "Cardio"));
+			journal.snapshot("Snapshot", schedule);
+			assertFalse(journal.isSnapshotDue());
+			journal.close();
+
+			// The reset drops the course scheduled before replay
+			ScheduleVersion start = new ScheduleVersion("My Schedule").add(ws.getCourseFromCatalog("CSC 116", "001"));
+			ScheduleVersion version = ScheduleJournal.replay(journalFile, start, ws::getCourseFromCatalog);
+			assertEquals("Snapshot", version.getTitle());
+			assertEquals(1, version.size());
+			assertEquals("Exercise", version.toArray()[0].getTitle());
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleJournal(journalFile, 0, 1));
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that a lone record is committed by the timer without another append
+	 * or a close.
+	 */
+	@Test
+	public void testTimedCommit() {
+		new File(journalFile).delete();
+		try {
+			ScheduleJournal journal = new ScheduleJournal(journalFile);
+			journal.appendAddCourse("CSC 216", "001");
+			long deadline = System.currentTimeMillis() + 2000;
+			while (new File(journalFile).length() == 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			WolfScheduler ws = new WolfScheduler(validTestFile);
+			assertEquals(1, ScheduleJournal.replay(journalFile, new ScheduleVersion("My Schedule"),
+					ws::getCourseFromCatalog).size());
+			journal.close();
+		} catch (IOException | InterruptedException e) {
+			fail("Unexpected exception");
+		}
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that a change is not made when it cannot be journaled, and that the
+	 * journal is left as it was.
+	 */
+	@Test
+	public void testFailedWriteLeavesSchedule() {
+		new File(journalFile).delete();
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.openJournal(journalFile);
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		ws.saveCheckpoint("One");
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+
+		// Closing the journal underneath the scheduler makes every write fail
+		try {
+			ws.getJournal().close();
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		assertThrows(IllegalArgumentException.class, () -> ws.undo());
+		assertEquals(2, ws.getScheduledActivities().length);
+		assertTrue(ws.canUndo());
+		assertFalse(ws.canRedo());
+		assertThrows(IllegalArgumentException.class, () -> ws.restoreCheckpoint("One"));
+		assertThrows(IllegalArgumentException.class, () -> ws.importSchedule("test-files/expected_schedule_export.txt"));
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 116", "001"));
+		assertThrows(IllegalArgumentException.class, () -> ws.removeActivityFromSchedule(0));
+		assertThrows(IllegalArgumentException.class, () -> ws.setScheduleTitle("Lost"));
+		assertEquals(2, ws.getScheduledActivities().length);
+		assertEquals("My Schedule", ws.getScheduleTitle());
+		ws.closeJournal();
+
+		WolfScheduler recovered = new WolfScheduler(validTestFile);
+		recovered.openJournal(journalFile);
+		recovered.closeJournal();
+		assertEquals(2, recovered.getScheduledActivities().length);
+		new File(journalFile).delete();
+	}
+
+	/**
+	 * Tests that a failed snapshot leaves the journal as it was and still open.
+	 */
+	@Test
+	public void testFailedSnapshot() {
+		new File(journalFile).delete();
+		File blocker = new File(journalFile + ".tmp");
+		try {
+			ScheduleJournal journal = new ScheduleJournal(journalFile);
+			journal.appendAddCourse("CSC 216", "001");
+
+			// A directory in the way of the temporary file makes the snapshot fail
+			assertTrue(blocker.mkdir());
+			assertThrows(IOException.class, () -> journal.snapshot("Lost", new ArrayList<Activity>()));
+			assertTrue(blocker.delete());
+			journal.appendTitle("Kept");
+			journal.close();
+
+			WolfScheduler ws = new WolfScheduler(validTestFile);
+			ScheduleVersion version = ScheduleJournal.replay(journalFile, new ScheduleVersion("My Schedule"),
+					ws::getCourseFromCatalog);
+			assertEquals("Kept", version.getTitle());
+			assertEquals(1, version.size());
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		blocker.delete();
+		new File(journalFile).delete();
+	}
+}
@@ -0,0 +1,239 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Tests the ScheduleMiner class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleMinerTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/**
+	 * Builds a catalog of generated sections.
+	 * 
+	 * @param size the number of sections
+	 * @return the catalog
+	 */
+	private CourseCatalog generateCatalog(int size) {
+		CourseCatalog catalog = new CourseCatalog();
+		for (int i = 0; i < size; i++) {
+			catalog.add(new Course("CSC " + (100 + i / 10), "Title", "00" + i % 10, 3, "id", "A"));
+		}
+		return catalog;
+	}
+
+	/**
+	 * Returns the sections at some catalog positions.
+	 * 
+	 * @param catalog the catalog
+	 * @param rows    the positions
+	 * @return the sections
+	 */
+	private List<Course> sections(CourseCatalog catalog, int... rows) {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		for (int row : rows) {
+			courses.add(catalog.get(row));
+		}
+		return courses;
+	}
+
+	/**
+	 * Tests adding schedules and their exact and estimated similarity.
+	 * 
+	 * @throws FileNotFoundException if the test file cannot be found
+	 */
+	@Test
+	public void testAddSchedule() throws FileNotFoundException {
+		CourseCatalog catalog = new CourseCatalog(CourseRecordIO.readCourseRecords(validTestFile));
+		ScheduleMiner miner = new ScheduleMiner(catalog);
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleMiner(null));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleMiner(catalog, 64, 10));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleMiner(catalog, 0, 1));
+
+		ArrayList<Activity> first = new ArrayList<Activity>(sections(catalog, 3, 11, 0));
+		first.add(new Event("Exercise", "MWF", 800, 900, "Gym"));
+		first.add(new Course("CSC 999", "Not in the catalog", "001", 3, "id", "A"));
+		assertEquals(0, miner.addSchedule("first", first));
+		assertEquals(1, miner.addSchedule("second", sections(catalog, 0, 3, 11)));
+		assertEquals(2, miner.addSchedule("third", sections(catalog, 0, 3, 4, 12)));
+		assertEquals(-1, miner.addSchedule("events", Arrays.asList(new Event("Exercise", "MWF", 800, 900, "Gym"))));
+		assertEquals(3, miner.size());
+
+		assertEquals("first", miner.getId(0));
+		assertEquals(sections(catalog, 0, 3, 11), miner.getSections(0));
+		assertEquals(1.0, miner.getSimilarity(0, 1), 0.0001);
+		assertEquals(1.0, miner.estimateSimilarity(0, 1), 0.0001);
+		assertEquals(2.0 / 5, miner.getSimilarity(0, 2), 0.0001);
+		assertEquals(2.0 / 5, miner.estimateSimilarity(0, 2), 0.2);
+		assertThrows(IndexOutOfBoundsException.class, () -> miner.estimateSimilarity(0, 3));
+	}
+
+	/**
+	 * Tests that the nearest schedules found through LSH are the ones a full scan
+	 * finds, for schedules at least 70% similar.
+	 */
+	@Test
+	public void testFindSimilar() {
+		CourseCatalog catalog = generateCatalog(300);
+		ScheduleMiner miner = new ScheduleMiner(catalog);
+		Random random = new Random(48);
+		for (int i = 0; i < 3000; i++) {
+			int[] rows = new int[4 + random.nextInt(3)];
+			int base = random.nextInt(40);
+			for (int j = 0; j < rows.length; j++) {
+				rows[j] = random.nextInt(4) == 0 ? random.nextInt(300) : base + j * 7;
+			}
+			miner.addSchedule("student" + i, sections(catalog, rows));
+		}
+
+		for (int query = 0; query < 50; query++) {
+			List<ScheduleMatch> found = miner.findSimilar(query, 3000);
+			HashMap<Integer, Double> foundSimilarity = new HashMap<Integer, Double>();
+			for (int i = 0; i < found.size(); i++) {
+				assertNotEquals(query, found.get(i).getSchedule());
+				assertEquals(miner.getSimilarity(query, found.get(i).getSchedule()), found.get(i).getSimilarity(),
+						0.0001);
+				assertEquals("student" + found.get(i).getSchedule(), found.get(i).getId());
+				if (i > 0) {
+					assertTrue(found.get(i - 1).getSimilarity() >= found.get(i).getSimilarity());
+				}
+				foundSimilarity.put(found.get(i).getSchedule(), found.get(i).getSimilarity());
+			}
+			for (int other = 0; other < miner.size(); other++) {
+				if (other != query && miner.getSimilarity(query, other) >= 0.7) {
+					assertTrue(foundSimilarity.containsKey(other));
+				}
+			}
+			assertTrue(found.size() < miner.size() / 2);
+		}
+
+		assertEquals(2, miner.findSimilar(0, 2).size());
+		List<ScheduleMatch> byCart = miner.findSimilar(miner.getSections(5), 1);
+		assertEquals(5, byCart.get(0).getSchedule());
+		assertEquals(1.0, byCart.get(0).getSimilarity(), 0.0001);
+		assertEquals(0, miner.findSimilar(new ArrayList<Course>(), 5).size());
+	}
+
+	/**
+	 * Tests recommending sections from similar schedules.
+	 */
+	@Test
+	public void testRecommend() {
+		CourseCatalog catalog = generateCatalog(100);
+		ScheduleMiner miner = new ScheduleMiner(catalog);
+		for (int i = 0; i < 5; i++) {
+			miner.addSchedule("a" + i, sections(catalog, 0, 10, 20, 30, 40, 50, 60, 70, 80));
+		}
+		miner.addSchedule("b", sections(catalog, 0, 10, 20, 30, 40, 50, 60, 70, 95));
+		miner.addSchedule("c", sections(catalog, 5, 15, 25, 35, 45, 55, 65, 75, 85));
+
+		List<Course> recommended = miner.recommend(sections(catalog, 0, 10, 20, 30, 40, 50, 60, 70), 10, 5);
+		assertEquals(2, recommended.size());
+		assertSame(catalog.get(80), recommended.get(0));
+		assertSame(catalog.get(95), recommended.get(1));
+
+		recommended = miner.recommend(sections(catalog, 1, 10, 20, 30, 40, 50, 60, 70, 80), 10, 5);
+		assertFalse(recommended.contains(catalog.get(0)));
+		assertFalse(recommended.contains(catalog.get(80)));
+		assertEquals(1, miner.recommend(sections(catalog, 0, 10, 20, 30, 40, 50, 60, 70), 10, 1).size());
+	}
+
+	/**
+	 * Tests frequent combinations against counting every combination directly.
+	 */
+	@Test
+	public void testFindFrequentCombinations() {
+		CourseCatalog catalog = generateCatalog(30);
+		ScheduleMiner miner = new ScheduleMiner(catalog);
+		Random random = new Random(216);
+		HashMap<String, Integer> expected = new HashMap<String, Integer>();
+		for (int i = 0; i < 400; i++) {
+			boolean[] taken = new boolean[30];
+			for (int j = 0; j < 5; j++) {
+				taken[random.nextInt(j < 3 ? 8 : 30)] = true;
+			}
+			ArrayList<Integer> rows = new ArrayList<Integer>();
+			for (int row = 0; row < 30; row++) {
+				if (taken[row]) {
+					rows.add(row);
+				}
+			}
+			int[] array = rows.stream().mapToInt(Integer::intValue).toArray();
+			miner.addSchedule("s" + i, sections(catalog, array));
+			for (int a = 0; a < array.length; a++) {
+				for (int b = a + 1; b < array.length; b++) {
+					expected.merge(array[a] + "," + array[b], 1, Integer::sum);
+					for (int c = b + 1; c < array.length; c++) {
+						expected.merge(array[a] + "," + array[b] + "," + array[c], 1, Integer::sum);
+					}
+				}
+			}
+		}
+
+		List<SectionCombination> found = miner.findFrequentCombinations(20, 3);
+		int frequent = 0;
+		for (int count : expected.values()) {
+			if (count >= 20) {
+				frequent++;
+			}
+		}
+		assertEquals(frequent, found.size());
+		for (int i = 0; i < found.size(); i++) {
+			SectionCombination combination = found.get(i);
+			StringBuilder key = new StringBuilder();
+			for (Course section : combination.getSections()) {
+				key.append(key.length() == 0 ? "" : ",").append(catalog.indexOf(section.getName(), section.getSection()));
+			}
+			assertEquals(expected.get(key.toString()).intValue(), combination.getSupport());
+			if (i > 0) {
+				assertTrue(found.get(i - 1).getSupport() >= combination.getSupport());
+			}
+		}
+		assertTrue(found.get(0).toString().startsWith("CSC 100-00"));
+
+		for (SectionCombination combination : miner.findFrequentCombinations(20, 2)) {
+			assertEquals(2, combination.getSections().size());
+		}
+		assertThrows(IllegalArgumentException.class, () -> miner.findFrequentCombinations(0, 2));
+		assertThrows(IllegalArgumentException.class, () -> miner.findFrequentCombinations(5, 4));
+	}
+
+	/**
+	 * Tests adding exported schedule files.
+	 * 
+	 * @throws FileNotFoundException if a test file cannot be found
+	 */
+	@Test
+	public void testAddScheduleFiles() throws FileNotFoundException {
+		CourseCatalog catalog = new CourseCatalog(CourseRecordIO.readCourseRecords(validTestFile));
+		ScheduleMiner miner = new ScheduleMiner(catalog);
+		assertEquals(0, miner.addScheduleFile("test-files/expected_schedule_export.txt"));
+		assertEquals(2, miner.getSections(0).size());
+		assertThrows(FileNotFoundException.class, () -> miner.addScheduleFile("test-files/no_such_file.txt"));
+
+		assertEquals(2, miner.addScheduleFiles(Arrays.asList("test-files/expected_activity_records.txt",
+				"test-files/no_such_file.txt", "test-files/expected_schedule_export.txt")));
+		assertEquals(3, miner.size());
+		assertEquals("test-files/expected_activity_records.txt", miner.getId(1));
+		assertEquals(3, miner.getSections(1).size());
+		assertEquals(1.0, miner.getSimilarity(0, 2), 0.0001);
+	}
+}
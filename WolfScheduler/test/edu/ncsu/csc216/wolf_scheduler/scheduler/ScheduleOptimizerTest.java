@@ -0,0 +1,115 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleOptimizer class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleOptimizerTest {
+
+	/**
+	 * Tests that the optimizer picks the section preferred by the scorer and
+	 * leaves out sections that conflict.
+	 */
+	@Test
+	public void testOptimize() {
+		ArrayList<Course> csc216 = new ArrayList<>();
+		csc216.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 830, 945));
+		csc216.add(new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330, 1445));
+		csc216.add(new Course("CSC 216", "Software Development Fundamentals", "003", 3, "jtking", "MW", 1500, 1615));
+		ArrayList<Course> csc226 = new ArrayList<>();
+		csc226.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MWF",
+				1330, 1420));
+		ArrayList<SectionChoice> choices = new ArrayList<>();
+		choices.add(new SectionChoice(csc216, false));
+		choices.add(new SectionChoice(csc226, false));
+
+		PreferenceScorer scorer = new PreferenceScorer();
+		scorer.setEarliestStart(900, 10);
+		ScheduleOptimizer optimizer = new ScheduleOptimizer(scorer);
+		List<ScoredSchedule> best = optimizer.optimize(choices, new ArrayList<Activity>(), 5, 1000);
+		assertFalse(optimizer.isTimedOut());
+		// 002 conflicts with CSC 226 and 001 starts early
+		assertEquals(2, best.size());
+		assertEquals("003", best.get(0).getCourses().get(1).getSection());
+		assertEquals(0, best.get(0).getScore(), 0.001);
+		assertEquals("001", best.get(1).getCourses().get(1).getSection());
+		assertEquals(-10, best.get(1).getScore(), 0.001);
+
+		// A fixed event rules out 003
+		ArrayList<Activity> fixed = new ArrayList<>();
+		fixed.add(new Event("Work", "W", 1600, 1700, ""));
+		best = optimizer.optimize(choices, fixed, 1, 1000);
+		assertEquals(1, best.size());
+		assertEquals("001", best.get(0).getCourses().get(1).getSection());
+
+		fixed.add(new Event("Gym", "MWF", 1300, 1330, ""));
+		assertEquals(0, optimizer.optimize(choices, fixed, 1, 1000).size());
+
+		assertThrows(IllegalArgumentException.class, () -> optimizer.optimize(choices, fixed, 0, 1000));
+		assertThrows(IllegalArgumentException.class, () -> optimizer.optimize(choices, fixed, 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleOptimizer(null));
+	}
+
+	/**
+	 * Tests that pruning with the preference bound finds the same top schedules
+	 * as a search with no bound.
+	 */
+	@Test
+	public void testBoundIsAdmissible() {
+		Random random = new Random(35);
+		String[] instructors = { "sesmith5", "jtking", "tmbarnes", "ixdoming" };
+		String[] days = { "MW", "TH", "MWF", "F", "A" };
+		for (int trial = 0; trial < 20; trial++) {
+			ArrayList<SectionChoice> choices = new ArrayList<>();
+			for (int c = 0; c < 5; c++) {
+				ArrayList<Course> sections = new ArrayList<>();
+				for (int s = 0; s < 4; s++) {
+					String meetingDays = days[random.nextInt(days.length)];
+					String section = "00" + (s + 1);
+					int credits = 1 + random.nextInt(4);
+					String instructor = instructors[random.nextInt(instructors.length)];
+					if ("A".equals(meetingDays)) {
+						sections.add(new Course("CSC " + (216 + c), "Title", section, credits, instructor, "A"));
+					} else {
+						int start = 800 + 100 * random.nextInt(9);
+						sections.add(new Course("CSC " + (216 + c), "Title", section, credits, instructor,
+								meetingDays, start, start + 50));
+					}
+				}
+				choices.add(new SectionChoice(sections, c >= 3));
+			}
+
+			PreferenceScorer scorer = new PreferenceScorer();
+			scorer.setEarliestStart(1000, random.nextInt(5));
+			HashSet<String> preferred = new HashSet<>();
+			preferred.add(instructors[random.nextInt(instructors.length)]);
+			scorer.setPreferredInstructors(preferred, random.nextInt(5));
+			scorer.setFreeFriday(random.nextInt(5));
+			scorer.setCompactDays(random.nextInt(5));
+			scorer.setCreditTarget(10, random.nextInt(5));
+
+			List<ScoredSchedule> pruned = new ScheduleOptimizer(scorer).optimize(choices, new ArrayList<Activity>(), 3,
+					10000);
+			List<ScoredSchedule> exhaustive = new ScheduleOptimizer(scorer::score).optimize(choices,
+					new ArrayList<Activity>(), 3, 10000);
+			assertEquals(exhaustive.size(), pruned.size());
+			for (int i = 0; i < pruned.size(); i++) {
+				assertEquals(exhaustive.get(i).getScore(), pruned.get(i).getScore(), 0.001);
+			}
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ScheduleVersion class.
+ * 
+ * @author Anoushka Piduru
+ */
+public class ScheduleVersionTest {
+
+	/**
+	 * Tests that changing a version leaves the old version unchanged.
+	 */
+	@Test
+	public void testAddRemove() {
+		Event a = new Event("A", "M", 800, 900, "");
+		Event b = new Event("B", "T", 800, 900, "");
+		Event c = new Event("C", "W", 800, 900, "");
+
+		ScheduleVersion empty = new ScheduleVersion("My Schedule");
+		ScheduleVersion one = empty.add(a);
+		ScheduleVersion three = one.add(b).add(c);
+		assertEquals(0, empty.size());
+		assertEquals(1, one.size());
+		assertArrayEquals(new Activity[] { a, b, c }, three.toArray());
+
+		ScheduleVersion removed = three.remove(1);
+		assertArrayEquals(new Activity[] { a, c }, removed.toArray());
+		assertArrayEquals(new Activity[] { a, b, c }, three.toArray());
+		assertArrayEquals(new Activity[] { b, c }, three.remove(0).toArray());
+		assertArrayEquals(new Activity[] { a, b }, three.remove(2).toArray());
+		assertEquals(3, three.toList().size());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> three.remove(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> three.remove(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> empty.remove(0));
+	}
+
+	/**
+	 * Tests clear() and withTitle().
+	 */
+	@Test
+	public void testClearAndTitle() {
+		ScheduleVersion version = new ScheduleVersion("My Schedule").add(new Event("A", "M", 800, 900, ""));
+		ScheduleVersion cleared = version.clear();
+		assertEquals(0, cleared.size());
+		assertEquals("My Schedule", cleared.getTitle());
+		assertSame(cleared, cleared.clear());
+
+		ScheduleVersion renamed = version.withTitle("Fall");
+		assertEquals("Fall", renamed.getTitle());
+		assertEquals("My Schedule", version.getTitle());
+		assertEquals(1, renamed.size());
+
+		assertThrows(IllegalArgumentException.class, () -> version.withTitle(null));
+		assertThrows(IllegalArgumentException.class, () -> new ScheduleVersion(null));
+	}
+
+	/**
+	 * Tests that each version keeps the total credits of its courses.
+	 */
+	@Test
+	public void testCredits() {
+		Course csc216 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330,
+				1445);
+		Course csc217 = new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1, "sesmith5", "T",
+				830, 1020);
+		ScheduleVersion version = new ScheduleVersion("My Schedule").add(csc216)
+				.add(new Event("A", "M", 800, 900, "")).add(csc217);
+		assertEquals(4, version.getCredits());
+		assertEquals(1, version.remove(0).getCredits());
+		assertEquals(4, version.remove(1).getCredits());
+		assertEquals(3, version.remove(2).getCredits());
+		assertEquals(4, version.withTitle("Fall").getCredits());
+		assertEquals(0, version.clear().getCredits());
+	}
+
+	/**
+	 * Tests the activities that differ between versions.
+	 */
+	@Test
+	public void testDiff() {
+		Event a = new Event("A", "M", 800, 900, "");
+		Event b = new Event("B", "T", 800, 900, "");
+		Event c = new Event("C", "W", 800, 900, "");
+		Event d = new Event("D", "H", 800, 900, "");
+		ScheduleVersion two = new ScheduleVersion("My Schedule").add(a).add(b);
+		ScheduleVersion three = two.add(c);
+
+		ScheduleVersion.Delta undo = three.diff(two);
+		assertArrayEquals(new Object[] { c }, undo.getRemoved().toArray());
+		assertEquals(0, undo.getAdded().size());
+		ScheduleVersion.Delta redo = two.diff(three);
+		assertEquals(0, redo.getRemoved().size());
+		assertArrayEquals(new Object[] { c }, redo.getAdded().toArray());
+
+		// Removing B copies C, so C differs by node even though it is the same
+		ScheduleVersion removed = three.remove(1).add(d);
+		ScheduleVersion.Delta delta = three.diff(removed);
+		assertArrayEquals(new Object[] { b, c }, delta.getRemoved().toArray());
+		assertArrayEquals(new Object[] { c, d }, delta.getAdded().toArray());
+
+		assertEquals(0, three.diff(three.withTitle("New")).getRemoved().size());
+		assertEquals(3, three.diff(three.clear()).getRemoved().size());
+		assertThrows(IllegalArgumentException.class, () -> three.diff(null));
+	}
+}
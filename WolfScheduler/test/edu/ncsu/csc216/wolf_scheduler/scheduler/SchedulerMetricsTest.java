@@ -0,0 +1,94 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.SchedulerMetrics.AddOutcome;
+
+/**
+ * Tests the SchedulerMetrics and MetricsServer classes.
+ *
+ * @author Anoushka Piduru
+ */
+public class SchedulerMetricsTest {
+
+	/**
+	 * Tests recording metrics and reading them as text.
+	 */
+	@Test
+	public void testToText() {
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		metrics.recordAdd(AddOutcome.ADDED, 2000);
+		metrics.recordAdd(AddOutcome.ADDED, 4000);
+		metrics.recordAdd(AddOutcome.CONFLICT, 8000);
+		metrics.recordConflictCheck();
+		metrics.recordCatalogLoad(13, 5_000_000);
+		metrics.recordExport(120, 10_000);
+		assertEquals(2, metrics.getAdds(AddOutcome.ADDED));
+		assertEquals(0, metrics.getCourseDuplicates());
+		assertEquals(5.0, metrics.getCatalogLoadMillis(), 1e-9);
+		assertEquals(8.0, metrics.getAddCourseMaxMicros(), 1e-9);
+
+		String text = metrics.toText();
+		assertTrue(text.contains("wolf_scheduler_course_adds_total{outcome=\"added\"} 2\n"));
+		assertTrue(text.contains("wolf_scheduler_course_adds_total{outcome=\"conflict\"} 1\n"));
+		assertTrue(text.contains("wolf_scheduler_course_adds_total{outcome=\"not_found\"} 0\n"));
+		assertTrue(text.contains("wolf_scheduler_conflict_checks_total 1\n"));
+		assertTrue(text.contains("wolf_scheduler_catalog_size 13\n"));
+		assertTrue(text.contains("wolf_scheduler_export_bytes_total 120\n"));
+		assertTrue(text.contains("wolf_scheduler_add_course_seconds_count 3\n"));
+		assertTrue(text.contains("wolf_scheduler_add_course_seconds{quantile=\"0.999\"} 8.0E-6\n"));
+	}
+
+	/**
+	 * Tests reading metrics through JMX.
+	 */
+	@Test
+	public void testRegisterMBean() {
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		metrics.recordAdd(AddOutcome.NOT_FOUND, 100);
+		ObjectName name = metrics.registerMBean("SchedulerMetricsTest");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			assertEquals(1L, server.getAttribute(name, "CoursesNotFound"));
+			assertEquals(0L, server.getAttribute(name, "CoursesAdded"));
+			assertThrows(IllegalArgumentException.class, () -> metrics.registerMBean("SchedulerMetricsTest"));
+			server.unregisterMBean(name);
+		} catch (JMException e) {
+			fail("Unexpected JMException");
+		}
+	}
+
+	/**
+	 * Tests scraping metrics over HTTP.
+	 */
+	@Test
+	public void testMetricsServer() {
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		metrics.recordCatalogLoad(42, 1000);
+		try {
+			MetricsServer server = new MetricsServer(metrics, 0);
+			try (InputStream in = new URL("http://localhost:" + server.getPort() + MetricsServer.PATH)
+					.openStream()) {
+				String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+				assertEquals(metrics.toText(), text);
+				assertTrue(text.contains("wolf_scheduler_catalog_size 42\n"));
+			} finally {
+				server.stop();
+			}
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the TermCatalogManager class.
+ *
+ * @author Anoushka Piduru
+ */
+public class TermCatalogManagerTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+	/** The same course records, loaded as another term */
+	private final String starterTestFile = "test-files/starter_course_records.txt";
+	/** Directory for course records written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Tests loading terms that share courses.
+	 */
+	@Test
+	public void testLoadTerm() {
+		TermCatalogManager manager = new TermCatalogManager();
+		assertEquals(13, manager.loadTerm("Fall", validTestFile));
+		int pooled = manager.getStringPool().size();
+		assertEquals(13, manager.loadTerm("Spring", starterTestFile));
+		assertEquals(pooled, manager.getStringPool().size());
+		assertEquals(13, manager.getSharedCourseCount());
+
+		CourseCatalog fall = manager.getCatalog("Fall");
+		CourseCatalog spring = manager.getCatalog("Spring");
+		assertNotSame(fall, spring);
+		assertSame(fall.get("CSC 216", "001"), spring.get("CSC 216", "001"));
+		assertTrue(fall.isFrozen());
+		assertSame(manager.getStringPool(), fall.getStringPool());
+
+		String termFile = tempDir.resolve("term_records.txt").toString();
+		try (PrintStream out = new PrintStream(termFile)) {
+			out.println("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445");
+			out.println("CSC 216,Software Development Fundamentals,002,3,jtking,MW,1330,1445");
+		} catch (FileNotFoundException e) {
+			fail("Cannot write file.");
+		}
+		assertEquals(2, manager.loadTerm("Summer 1", termFile));
+		assertEquals(14, manager.getSharedCourseCount());
+		CourseCatalog summer = manager.getCatalog("Summer 1");
+		assertSame(fall.get("CSC 216", "001"), summer.get("CSC 216", "001"));
+		assertNotSame(fall.get("CSC 216", "002"), summer.get("CSC 216", "002"));
+		assertEquals("jtking", summer.get("CSC 216", "002").getInstructorId());
+
+		assertEquals(3, manager.getTerms().size());
+		assertEquals("Summer 1", manager.getTerms().get(2));
+		assertNull(manager.getCatalog("Summer 2"));
+		assertThrows(IllegalArgumentException.class, () -> manager.loadTerm("Fall", validTestFile));
+		assertThrows(IllegalArgumentException.class, () -> manager.loadTerm("", validTestFile));
+		assertThrows(IllegalArgumentException.class, () -> manager.loadTerm("Summer 2", "no_such_file.txt"));
+	}
+
+	/**
+	 * Tests creating schedules for a term.
+	 */
+	@Test
+	public void testNewScheduler() {
+		TermCatalogManager manager = new TermCatalogManager();
+		manager.loadTerm("Fall", validTestFile);
+		WolfScheduler fall = manager.newScheduler("Fall");
+		assertEquals("Fall", fall.getTerm());
+		assertTrue(fall.addCourseToSchedule("CSC 216", "001"));
+		assertEquals(13, fall.getCourseCatalog().length);
+		ArrayList<Course> courses = new ArrayList<>();
+		courses.add(manager.getCatalog("Fall").get(0));
+		assertThrows(UnsupportedOperationException.class, () -> fall.addCoursesToCatalog(courses));
+		assertThrows(IllegalArgumentException.class, () -> manager.newScheduler("Spring"));
+		assertNull(new WolfScheduler(validTestFile).getTerm());
+	}
+
+	/**
+	 * Tests searching catalogs that share a search index.
+	 */
+	@Test
+	public void testSearch() {
+		TermCatalogManager manager = new TermCatalogManager();
+		manager.loadTerm("Fall", validTestFile);
+		String termFile = tempDir.resolve("term_records.txt").toString();
+		try (PrintStream out = new PrintStream(termFile)) {
+			out.println("CSC 316,Data Structures and Algorithms,001,3,jtking,MW,830,945");
+			out.println("CSC 216,Software Development Fundamentals,002,3,jtking,MW,1330,1445");
+			out.println("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100");
+		} catch (FileNotFoundException e) {
+			fail("Cannot write file.");
+		}
+		manager.loadTerm("Summer 1", termFile);
+
+		CourseCatalog fall = manager.getCatalog("Fall");
+		CourseCatalog summer = manager.getCatalog("Summer 1");
+		CourseCatalog own = new CourseCatalog();
+		for (int i = 0; i < fall.size(); i++) {
+			own.add(fall.get(i));
+		}
+		for (String query : new String[] { "jtking", "csc 2", "java", "", "zz", "ix" }) {
+			assertArrayEquals(own.search(query), fall.search(query));
+		}
+		assertArrayEquals(new int[] { 0, 1 }, summer.search("jtking"));
+		assertArrayEquals(new int[] { 0, 1, 2 }, summer.search(""));
+		assertArrayEquals(new int[] { 2 }, summer.search("intro"));
+		assertArrayEquals(new int[0], summer.search("ixdoming"));
+	}
+
+	/**
+	 * Tests that the catalog of a loaded term can be read on several threads
+	 * while later terms are loaded into the shared pool and search index.
+	 */
+	@Test
+	public void testReadWhileLoading() {
+		TermCatalogManager manager = new TermCatalogManager();
+		manager.loadTerm("Fall", validTestFile);
+		CourseCatalog fall = manager.getCatalog("Fall");
+		int[] expectedSearch = fall.search("csc");
+		int[] expectedMeeting = fall.findMeeting("MW", 800, 1700);
+		String[] expectedTitles = new String[fall.size()];
+		for (int i = 0; i < fall.size(); i++) {
+			expectedTitles[i] = fall.get(i).getTitle();
+		}
+
+		AtomicBoolean loading = new AtomicBoolean(true);
+		AtomicReference<String> failure = new AtomicReference<>();
+		Thread[] readers = new Thread[4];
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				try {
+					do {
+						if (!Arrays.equals(expectedSearch, fall.search("csc"))
+								|| !Arrays.equals(expectedMeeting, fall.findMeeting("MW", 800, 1700))) {
+							failure.compareAndSet(null, "Query changed while loading.");
+						}
+						for (int row = 0; row < expectedTitles.length; row++) {
+							if (!expectedTitles[row].equals(fall.getColumns().toCourse(row).getTitle())) {
+								failure.compareAndSet(null, "Column changed while loading.");
+							}
+						}
+					} while (loading.get());
+				} catch (RuntimeException e) {
+					failure.compareAndSet(null, e.toString());
+				}
+			});
+			readers[t].start();
+		}
+
+		String termFile = tempDir.resolve("term_records.txt").toString();
+		for (int term = 0; term < 20; term++) {
+			try (PrintStream out = new PrintStream(termFile)) {
+				for (int course = 0; course < 50; course++) {
+					out.println("CSC " + (500 + course) + ",Topic " + term + " " + course + ",00" + (term % 9 + 1)
+							+ ",3,prof" + term + ",TH," + (800 + course % 8 * 100) + "," + (850 + course % 8 * 100));
+				}
+			} catch (FileNotFoundException e) {
+				fail("Cannot write file.");
+			}
+			assertEquals(50, manager.loadTerm("Term " + term, termFile));
+		}
+		loading.set(false);
+		for (Thread reader : readers) {
+			try {
+				reader.join();
+			} catch (InterruptedException e) {
+				fail("Interrupted.");
+			}
+		}
+		assertNull(failure.get());
+		assertEquals(21, manager.getTerms().size());
+		assertArrayEquals(expectedSearch, fall.search("csc"));
+	}
+}
@@ -4,16 +4,23 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.Before;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
 
 /**
  * Tests the WolfScheduler class.
@@ -26,6 +33,9 @@ public class WolfSchedulerTest {
 	private final String validTestFile = "test-files/course_records.txt";
 	/** Invalid course records */
 	private final String invalidTestFile = "test-files/invalid_course_records.txt";
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
 
 	/** Course name */
 	private static final String NAME = "CSC 216";
@@ -84,8 +94,9 @@ public class WolfSchedulerTest {
 		assertEquals(0, ws1.getScheduledActivities().length);
 		assertEquals(0, ws1.getFullScheduledActivities().length);
 		assertEquals("My Schedule", ws1.getScheduleTitle());
-		ws1.exportSchedule("test-files/actual_empty_export.txt");
-		checkFiles("test-files/expected_empty_export.txt", "test-files/actual_empty_export.txt");
+		String emptyExport = tempDir.resolve("empty_export.txt").toString();
+		ws1.exportSchedule(emptyExport);
+		checkFiles("test-files/expected_empty_export.txt", emptyExport);
 
 		// Test with valid file containing 8 courses. Will test other methods in other
 		// tests.
@@ -93,6 +104,130 @@ public class WolfSchedulerTest {
 		assertEquals(13, ws2.getCourseCatalog().length);
 	}
 
+	/**
+	 * Tests WolfScheduler() and adding courses to the catalog in chunks.
+	 */
+	@Test
+	public void testAddCoursesToCatalog() {
+		WolfScheduler ws = new WolfScheduler();
+		assertEquals(0, ws.getCatalogSize());
+		assertEquals(0, ws.getCourseCatalog().length);
+
+		ArrayList<Course> chunk = new ArrayList<Course>();
+		chunk.add(new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		chunk.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MWF",
+				935, 1025));
+		assertEquals(2, ws.addCoursesToCatalog(chunk));
+
+		chunk = new ArrayList<Course>();
+		chunk.add(new Course(NAME, TITLE, SECTION, CREDITS, "jtking", "MW", 910, 1100));
+		chunk.add(new Course("CSC 316", "Data Structures and Algorithms", "001", 3, "jtking", "MW", 830, 945));
+		assertEquals(1, ws.addCoursesToCatalog(chunk));
+		assertEquals(3, ws.getCatalogSize());
+		assertEquals(INSTRUCTOR_ID, ws.getCourseFromCatalog(NAME, SECTION).getInstructorId());
+
+		String[][] newRows = ws.getCourseCatalog(2);
+		assertEquals(1, newRows.length);
+		assertEquals("CSC 316", newRows[0][0]);
+		assertEquals(0, ws.getCourseCatalog(3).length);
+		assertThrows(IllegalArgumentException.class, () -> ws.getCourseCatalog(4));
+	}
+
+	/**
+	 * Test WolfScheduler.searchCourseCatalog() with search text and a meeting
+	 * time filter.
+	 */
+	@Test
+	public void testSearchCourseCatalog() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+
+		assertEquals(13, ws.searchCourseCatalog("").length);
+		String[][] results = ws.searchCourseCatalog("fundamentals lab");
+		assertEquals(4, results.length);
+		assertEquals("CSC 217", results[0][0]);
+		assertEquals("202", results[0][1]);
+
+		// Sections meeting on TH after 1300
+		results = ws.searchCourseCatalog("", "TH", 1300, 2359);
+		assertEquals(1, results.length);
+		assertEquals("CSC 216", results[0][0]);
+		assertEquals("001", results[0][1]);
+
+		// Arranged sections of CSC 217
+		results = ws.searchCourseCatalog("217", "A", 0, 0);
+		assertEquals(1, results.length);
+		assertEquals("601", results[0][1]);
+
+		assertThrows(IllegalArgumentException.class, () -> ws.searchCourseCatalog("", "Q", 0, 2359));
+	}
+
+	/**
+	 * Test WolfScheduler.scanCourseCatalog().
+	 */
+	@Test
+	public void testScanCourseCatalog() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+
+		// 3 credit MW sections ending by noon
+		String[][] results = ws.scanCourseCatalog(3, "MW", 0, 1200);
+		assertEquals(3, results.length);
+		assertEquals("CSC 116", results[0][0]);
+		assertEquals("001", results[0][1]);
+		assertEquals("CSC 226", results[1][0]);
+		assertEquals("CSC 316", results[2][0]);
+
+		// 1 credit labs on any day
+		assertEquals(4, ws.scanCourseCatalog(1, "", 0, 2359).length);
+		assertThrows(IllegalArgumentException.class, () -> ws.scanCourseCatalog(3, "MQ", 0, 2359));
+
+		// A credit filter runs the catalog search through the same scan
+		results = ws.searchCourseCatalog("csc", 3, "MW", 0, 1200);
+		assertEquals(3, results.length);
+		assertEquals("CSC 316", results[2][0]);
+		assertEquals(1, ws.searchCourseCatalog("116", 3, "MW", 0, 1200).length);
+		assertArrayEquals(ws.searchCourseCatalog("", "", 0, 2359), ws.searchCourseCatalog("", 0, "", 0, 2359));
+		results = ws.searchCourseCatalog("", 1, "A", 0, 0);
+		assertEquals(1, results.length);
+		assertEquals("CSC 217", results[0][0]);
+		assertEquals("CSC 216", ws.searchCourseCatalog("", 3, "A", 0, 0)[0][0]);
+		assertEquals(0, ws.searchCourseCatalog("", 4, "A", 0, 0).length);
+		assertThrows(IllegalArgumentException.class, () -> ws.searchCourseCatalog("", 3, "MQ", 0, 2359));
+	}
+
+	/**
+	 * Test WolfScheduler.getInstructorCourses() and
+	 * WolfScheduler.getInstructorConflicts() as catalog chunks are added.
+	 */
+	@Test
+	public void testInstructorConflicts() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(5, ws.getInstructorCourses(INSTRUCTOR_ID).length);
+		assertEquals(0, ws.getInstructorCourses("nobody").length);
+		assertEquals(0, ws.getInstructorConflicts().size());
+
+		ArrayList<Course> chunk = new ArrayList<Course>();
+		chunk.add(new Course("CSC 316", "Data Structures and Algorithms", "002", 3, INSTRUCTOR_ID, "H", 1400, 1515));
+		assertEquals(1, ws.addCoursesToCatalog(chunk));
+		assertEquals(1, ws.getInstructorConflicts().size());
+		assertEquals("CSC 216-001,CSC 316-002,sesmith5", ws.getInstructorConflicts().get(0).toString());
+	}
+
+	/**
+	 * Tests WolfScheduler.getCatalogOccupancy() and exportCatalogOccupancy().
+	 */
+	@Test
+	public void testCatalogOccupancy() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		OccupancyHeatmap heatmap = ws.getCatalogOccupancy();
+		assertEquals(2, heatmap.getSections(0, 10 * 12));
+		assertEquals(6, heatmap.getCredits(0, 10 * 12));
+		assertEquals(0, heatmap.getSections(0, 7 * 12));
+
+		ws.exportCatalogOccupancy(tempDir.resolve("occupancy.csv").toString());
+		assertThrows(IllegalArgumentException.class,
+				() -> ws.exportCatalogOccupancy(tempDir.resolve("no_such_dir/occupancy.csv").toString()));
+	}
+
 	/**
 	 * Test WolfScheduler.getCourseFromCatalog().
 	 */
@@ -432,15 +567,335 @@ public class WolfSchedulerTest {
 	public void testExportSchedule() {
 		// Test that empty schedule exports correctly
 		WolfScheduler ws = new WolfScheduler(validTestFile);
-		ws.exportSchedule("test-files/actual_empty_export.txt");
-		checkFiles("test-files/expected_empty_export.txt", "test-files/actual_empty_export.txt");
+		String emptyExport = tempDir.resolve("empty_export.txt").toString();
+		ws.exportSchedule(emptyExport);
+		checkFiles("test-files/expected_empty_export.txt", emptyExport);
 
 		// Add courses and test that exports correctly
 		ws.addCourseToSchedule("CSC 216", "002");
 		ws.addCourseToSchedule("CSC 226", "001");
 		assertEquals(2, ws.getScheduledActivities().length);
-		ws.exportSchedule("test-files/actual_schedule_export.txt");
-		checkFiles("test-files/expected_schedule_export.txt", "test-files/actual_schedule_export.txt");
+		String scheduleExport = tempDir.resolve("schedule_export.txt").toString();
+		ws.exportSchedule(scheduleExport);
+		checkFiles("test-files/expected_schedule_export.txt", scheduleExport);
+	}
+
+	/**
+	 * Tests WolfScheduler.importSchedule().
+	 */
+	@Test
+	public void testImportSchedule() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.addCourseToSchedule("CSC 216", "002");
+		ws.addCourseToSchedule("CSC 226", "001");
+		ws.addEventToSchedule("Lunch", "TH", 1200, 1300, "Food, with friends");
+		String exportFile = tempDir.resolve("schedule_export.txt").toString();
+		ws.exportSchedule(exportFile);
+
+		WolfScheduler imported = new WolfScheduler(validTestFile);
+		imported.addCourseToSchedule("CSC 116", "001");
+		assertEquals(0, imported.importSchedule(exportFile));
+		String[][] schedule = imported.getFullScheduledActivities();
+		assertEquals(3, schedule.length);
+		assertEquals("CSC 216", schedule[0][0]);
+		assertEquals("002", schedule[0][1]);
+		assertEquals("CSC 226", schedule[1][0]);
+		assertEquals("Lunch", schedule[2][2]);
+		assertEquals("Food, with friends", schedule[2][6]);
+
+		// Courses missing from the catalog are skipped
+		WolfScheduler empty = new WolfScheduler(new CourseCatalog());
+		assertEquals(2, empty.importSchedule("test-files/expected_schedule_export.txt"));
+		assertEquals(0, empty.getScheduledActivities().length);
+
+		Exception e = assertThrows(IllegalArgumentException.class,
+				() -> imported.importSchedule("test-files/no_such_file.txt"));
+		assertEquals("Cannot find file.", e.getMessage());
+		// A file that cannot be found leaves the schedule as it was
+		assertEquals(3, imported.getScheduledActivities().length);
+		assertEquals("CSC 216", imported.getScheduledActivities()[0][0]);
+	}
+
+	/**
+	 * Tests that importing skips activities that conflict with earlier ones.
+	 */
+	@Test
+	public void testImportScheduleConflict() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.addCourseToSchedule("CSC 216", "002");
+		String exportFile = tempDir.resolve("schedule_export.txt").toString();
+		ws.exportSchedule(exportFile);
+		try (PrintStream out = new PrintStream(new FileOutputStream(exportFile, true))) {
+			out.println(new Event("Meeting", "M", 1400, 1500, "").toString());
+			out.println("not an activity");
+		} catch (IOException ex) {
+			fail("Cannot write export file");
+		}
+		assertEquals(2, ws.importSchedule(exportFile));
+		assertEquals(1, ws.getScheduledActivities().length);
+	}
+
+	/**
+	 * Tests undoing and redoing schedule changes.
+	 */
+	@Test
+	public void testUndoRedo() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertFalse(ws.canUndo());
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "");
+		ws.setScheduleTitle("Fall");
+		ws.resetSchedule();
+		assertEquals(0, ws.getScheduledActivities().length);
+
+		assertTrue(ws.undo());
+		assertEquals(2, ws.getScheduledActivities().length);
+		assertTrue(ws.undo());
+		assertEquals("My Schedule", ws.getScheduleTitle());
+		assertTrue(ws.undo());
+		assertEquals(1, ws.getScheduledActivities().length);
+		assertTrue(ws.redo());
+		assertEquals("Lunch", ws.getScheduledActivities()[1][2]);
+
+		// Failed changes are not recorded
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 216", "001"));
+		assertFalse(ws.removeActivityFromSchedule(5));
+		assertTrue(ws.canRedo());
+
+		assertTrue(ws.removeActivityFromSchedule(0));
+		assertFalse(ws.canRedo());
+		assertFalse(ws.redo());
+		assertTrue(ws.undo());
+		assertEquals("CSC 216", ws.getScheduledActivities()[0][0]);
+	}
+
+	/**
+	 * Tests saving and restoring schedule checkpoints.
+	 */
+	@Test
+	public void testCheckpoints() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.addCourseToSchedule("CSC 216", "001");
+		ws.saveCheckpoint("plan a");
+		ws.resetSchedule();
+		ws.addCourseToSchedule("CSC 216", "002");
+		ws.addCourseToSchedule("CSC 226", "001");
+		ws.saveCheckpoint("plan b");
+
+		ws.restoreCheckpoint("plan a");
+		String[][] schedule = ws.getScheduledActivities();
+		assertEquals(1, schedule.length);
+		assertEquals("001", schedule[0][1]);
+		ws.restoreCheckpoint("plan b");
+		assertEquals(2, ws.getScheduledActivities().length);
+		assertTrue(ws.undo());
+		assertEquals(1, ws.getScheduledActivities().length);
+
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.restoreCheckpoint("plan c"));
+		assertEquals("Invalid checkpoint.", e.getMessage());
+	}
+
+	/**
+	 * Tests WolfScheduler.optimizeSchedule().
+	 */
+	@Test
+	public void testOptimizeSchedule() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.addEventToSchedule("Practice", "TH", 1300, 1500, "");
+		PreferenceScorer scorer = new PreferenceScorer();
+		scorer.setEarliestStart(1000, 1);
+		scorer.setCreditTarget(7, 1);
+
+		ArrayList<String> required = new ArrayList<>();
+		required.add("CSC 216");
+		required.add("CSC 116");
+		ArrayList<String> optional = new ArrayList<>();
+		optional.add("CSC 217");
+		List<ScoredSchedule> best = ws.optimizeSchedule(required, optional, scorer, 3, 1000);
+		assertEquals(3, best.size());
+		ScoredSchedule top = best.get(0);
+		assertEquals(0, top.getScore(), 0.001);
+		assertEquals(3, top.getCourses().size());
+		for (Course course : top.getCourses()) {
+			// CSC 216-001 meets during practice
+			assertFalse(course.getName().equals("CSC 216") && course.getSection().equals("001"));
+		}
+		assertTrue(best.get(1).getScore() <= top.getScore());
+		// The schedule is unchanged
+		assertEquals(1, ws.getScheduledActivities().length);
+
+		required.add("CSC 999");
+		assertEquals(0, ws.optimizeSchedule(required, optional, scorer, 3, 1000).size());
+	}
+
+	/**
+	 * Tests that WolfScheduler.findFreeTime() follows changes to the schedule.
+	 */
+	@Test
+	public void testFindFreeTime() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(1, ws.findFreeTime("MW", 60).size());
+		assertTrue(ws.addCourseToSchedule("CSC 216", "002"));
+		assertEquals(2, ws.findFreeTime("MW", 60).size());
+		ws.addEventToSchedule("Gym", "W", 700, 800, "");
+		List<TimeBlock> free = ws.findFreeTime("MW", 60);
+		assertEquals(3, free.size());
+		assertEquals(801, free.get(1).getStartTime());
+		assertEquals(1329, free.get(1).getEndTime());
+
+		assertTrue(ws.removeActivityFromSchedule(0));
+		assertEquals(2, ws.findFreeTime("MW", 60).size());
+		assertTrue(ws.undo());
+		assertEquals(3, ws.findFreeTime("MW", 60).size());
+		ws.resetSchedule();
+		assertEquals(1, ws.findFreeTime("MW", 60).size());
+		assertEquals(1, ws.findFreeTime("H", 60).size());
+	}
+
+	/**
+	 * Tests that a conflicting add names the conflicting activity and the other
+	 * sections that fit.
+	 */
+	@Test
+	public void testAddCourseConflictAlternatives() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.addEventToSchedule("Practice", "TH", 1200, 1300, "");
+		ws.addEventToSchedule("Lab", "M", 900, 1000, "");
+
+		ScheduleConflictException e = assertThrows(ScheduleConflictException.class,
+				() -> ws.addCourseToSchedule("CSC 116", "003"));
+		assertEquals("The course cannot be added due to a conflict.", e.getMessage());
+		assertEquals("Practice", e.getConflictingActivity().getTitle());
+		// 001 conflicts with the lab
+		assertEquals(1, e.getAlternatives().size());
+		assertEquals("002", e.getAlternatives().get(0).getSection());
+
+		ws.resetSchedule();
+		ws.addEventToSchedule("Practice", "TH", 1200, 1300, "");
+		e = assertThrows(ScheduleConflictException.class, () -> ws.addCourseToSchedule("CSC 116", "003"));
+		assertEquals(2, e.getAlternatives().size());
+		assertEquals("001", e.getAlternatives().get(1).getSection());
+
+		// No alternatives once another section is scheduled
+		assertTrue(ws.addCourseToSchedule("CSC 116", "002"));
+		e = assertThrows(ScheduleConflictException.class, () -> ws.addCourseToSchedule("CSC 116", "003"));
+		assertEquals(0, e.getAlternatives().size());
+	}
+
+	/**
+	 * Tests that a scheduler records its operations in its metrics.
+	 */
+	@Test
+	public void testMetrics() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertSame(SchedulerMetrics.getDefault(), ws.getMetrics());
+		assertThrows(IllegalArgumentException.class, () -> ws.setMetrics(null));
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		ws.setMetrics(metrics);
+
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertFalse(ws.addCourseToSchedule("CSC 999", "001"));
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		assertThrows(IllegalArgumentException.class, () -> ws.addCourseToSchedule("CSC 116", "001"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+		assertEquals(2, metrics.getCoursesAdded());
+		assertEquals(1, metrics.getCoursesNotFound());
+		assertEquals(1, metrics.getCourseDuplicates());
+		assertEquals(1, metrics.getCourseConflicts());
+		assertEquals(5, metrics.getConflictChecks());
+		assertEquals(5, metrics.getAddCourseLatency().getCount());
+
+		String exportFile = tempDir.resolve("metrics_export.txt").toString();
+		ws.exportSchedule(exportFile);
+		assertEquals(1, metrics.getExports());
+		assertEquals(new File(exportFile).length(), metrics.getExportBytes());
+
+		ws.addCoursesToCatalog(new ArrayList<Course>());
+		assertEquals(13, metrics.getCatalogSize());
+	}
+
+	/**
+	 * Tests that registration rules are checked when courses are added and
+	 * imported.
+	 */
+	@Test
+	public void testStudentRules() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		ws.setMetrics(metrics);
+		RegistrationRules registrationRules = new RegistrationRules();
+		registrationRules.setCreditLimit(9);
+		registrationRules.addPrerequisite("CSC 216", "CSC 116");
+		registrationRules.addCorequisite("CSC 217", "CSC 216");
+		RulePlan plan = registrationRules.compile();
+		ws.setStudentRules(plan.forStudent(Arrays.asList("CSC 116")));
+		assertEquals(9, ws.getStudentRules().getCreditLimit());
+
+		RuleViolationException e = assertThrows(RuleViolationException.class,
+				() -> ws.addCourseToSchedule("CSC 217", "211"));
+		assertEquals(RuleViolationException.Rule.COREQUISITE, e.getRule());
+		assertEquals("CSC 217 must be taken with CSC 216.", e.getMessage());
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 217", "211"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		assertEquals(7, ws.getScheduledCredits());
+
+		e = assertThrows(RuleViolationException.class, () -> ws.addCourseToSchedule("CSC 230", "001"));
+		assertEquals(RuleViolationException.Rule.CREDIT_LIMIT, e.getRule());
+		assertEquals("Adding CSC 230 would exceed the credit limit of 9.", e.getMessage());
+		assertEquals(2, metrics.getCourseRuleViolations());
+		assertEquals(3, ws.getScheduledActivities().length);
+
+		// Undo drops CSC 226 and its credits
+		ws.undo();
+		assertEquals(4, ws.getScheduledCredits());
+		assertTrue(ws.addCourseToSchedule("CSC 230", "001"));
+
+		String exportFile = tempDir.resolve("rules_export.txt").toString();
+		ws.exportSchedule(exportFile);
+		ws.setStudentRules(plan.forStudent(new ArrayList<String>(), 4));
+		// CSC 216 needs CSC 116, and without it CSC 217 has no corequisite
+		assertEquals(2, ws.importSchedule(exportFile));
+		assertEquals(3, ws.getScheduledCredits());
+
+		ws.setStudentRules(null);
+		assertNull(ws.getStudentRules());
+		assertTrue(ws.addCourseToSchedule("CSC 216", "002"));
+	}
+
+	/**
+	 * Tests that a course cannot be removed while a scheduled course needs it as
+	 * a corequisite.
+	 */
+	@Test
+	public void testRemoveCorequisite() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		RegistrationRules registrationRules = new RegistrationRules();
+		registrationRules.addCorequisite("CSC 217", "CSC 216");
+		ws.setStudentRules(registrationRules.compile().forStudent(new ArrayList<String>()));
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 217", "211"));
+		ws.addEventToSchedule("Lunch", "MWF", 1200, 1300, "Food");
+
+		RuleViolationException e = assertThrows(RuleViolationException.class,
+				() -> ws.removeActivityFromSchedule(0));
+		assertEquals(RuleViolationException.Rule.COREQUISITE, e.getRule());
+		assertEquals("CSC 217 must be taken with CSC 216.", e.getMessage());
+		assertEquals(Arrays.asList("CSC 216"), e.getMissing());
+		assertEquals(3, ws.getScheduledActivities().length);
+
+		// The lab can go, and then the lecture
+		assertTrue(ws.removeActivityFromSchedule(1));
+		assertTrue(ws.removeActivityFromSchedule(0));
+		assertEquals(1, ws.getScheduledActivities().length);
+		ws.resetSchedule();
+
+		// A completed corequisite is not needed in the schedule
+		ws.setStudentRules(registrationRules.compile().forStudent(Arrays.asList("CSC 216")));
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 217", "211"));
+		assertTrue(ws.removeActivityFromSchedule(0));
 	}
 
 	/**
@@ -459,9 +914,6 @@ public class WolfSchedulerTest {
 			if (expScanner.hasNextLine()) {
 				fail();
 			}
-
-			expScanner.close();
-			actScanner.close();
 		} catch (IOException e) {
 			fail("Error reading files.");
 		}
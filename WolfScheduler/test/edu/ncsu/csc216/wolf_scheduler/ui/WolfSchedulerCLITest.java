@@ -0,0 +1,131 @@
+package edu.ncsu.csc216.wolf_scheduler.ui;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+
+/**
+ * Tests the WolfSchedulerCLI class.
+ *
+ * @author Anoushka Piduru
+ */
+public class WolfSchedulerCLITest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/course_records.txt";
+
+	/** Catalog loaded from the valid course records */
+	private CourseCatalog catalog;
+	/** Directory for files written by the tests */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Loads the catalog.
+	 *
+	 * @throws FileNotFoundException if the course records are missing
+	 */
+	@BeforeEach
+	public void setUp() throws FileNotFoundException {
+		catalog = new CourseCatalog();
+		catalog.addAll(CourseRecordIO.readCourseRecords(validTestFile, catalog.getStringPool()));
+	}
+
+	/**
+	 * Tests running single commands.
+	 */
+	@Test
+	public void testExecute() {
+		WolfSchedulerCLI cli = new WolfSchedulerCLI(catalog, new PrintStream(new ByteArrayOutputStream()), true);
+		assertEquals("ok", cli.execute("add,CSC 216,001"));
+		assertEquals("ok", cli.execute("event,Lunch,MWF,1200,1300,Food, with friends"));
+		assertEquals("error: You are already enrolled in CSC 216", cli.execute("add,CSC 216,001"));
+		assertEquals("error: Course doesn't exist.", cli.execute("add,CSC 999,001"));
+		assertEquals("error: Invalid number.", cli.execute("remove,one"));
+		assertEquals("error: Invalid index.", cli.execute("remove,5"));
+		assertEquals("error: Invalid command.", cli.execute("add,CSC 216"));
+		assertEquals("error: Unknown command.", cli.execute("drop,CSC 216,001"));
+		assertEquals("ok", cli.execute("remove,0"));
+		assertEquals("ok", cli.execute("undo"));
+		assertEquals("ok", cli.execute("title,Fall, 2026"));
+		assertEquals("ok", cli.execute("reset"));
+		assertEquals(12, cli.getOperations());
+		assertEquals(6, cli.getErrors());
+	}
+
+	/**
+	 * Tests exporting the schedule as a calendar.
+	 */
+	@Test
+	public void testCalendar() {
+		WolfSchedulerCLI cli = new WolfSchedulerCLI(catalog, new PrintStream(new ByteArrayOutputStream()), true);
+		String calendar = tempDir.resolve("calendar.ics").toString();
+		assertEquals("ok", cli.execute("add,CSC 216,001"));
+		assertEquals("ok", cli.execute("calendar," + calendar + ",2026-08-18,2026-12-02"));
+		assertEquals("error: Invalid date.", cli.execute("calendar," + calendar + ",Fall,2026-12-02"));
+		assertEquals("error: Invalid term.", cli.execute("calendar," + calendar + ",2026-12-02,2026-08-18"));
+		assertEquals(2, cli.getErrors());
+		// The rejected exports leave the earlier calendar in place
+		assertTrue(new File(calendar).length() > 0);
+	}
+
+	/**
+	 * Tests that each schedule keeps its own activities.
+	 */
+	@Test
+	public void testSchedules() {
+		WolfSchedulerCLI cli = new WolfSchedulerCLI(catalog, new PrintStream(new ByteArrayOutputStream()), true);
+		assertEquals("ok", cli.execute("add,CSC 216,001"));
+		assertEquals("ok", cli.execute("schedule,student2"));
+		assertEquals("ok", cli.execute("add,CSC 216,001"));
+		assertEquals("ok", cli.execute("remove,0"));
+		assertEquals("error: Invalid index.", cli.execute("remove,0"));
+		assertEquals("ok", cli.execute("schedule,default"));
+		assertEquals("ok", cli.execute("remove,0"));
+		assertEquals(1, cli.getErrors());
+	}
+
+	/**
+	 * Tests running a stream of commands.
+	 */
+	@Test
+	public void testRun() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		WolfSchedulerCLI cli = new WolfSchedulerCLI(catalog, new PrintStream(bytes), true);
+		String commands = "# a comment\nadd,CSC 216,001\n\nadd,CSC 999,001\nredo\n";
+		try {
+			cli.run(new BufferedReader(new StringReader(commands)));
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		String[] lines = bytes.toString().split("\\R");
+		assertEquals(4, lines.length);
+		assertEquals("2: ok", lines[0]);
+		assertEquals("4: error: Course doesn't exist.", lines[1]);
+		assertEquals("5: error: Nothing to redo.", lines[2]);
+		assertTrue(lines[3].startsWith("3 operations, 2 errors, 1 schedules in "));
+
+		bytes.reset();
+		cli = new WolfSchedulerCLI(catalog, new PrintStream(bytes), false);
+		try {
+			cli.run(new BufferedReader(new StringReader(commands)));
+		} catch (IOException e) {
+			fail("Unexpected IOException");
+		}
+		assertEquals(1, bytes.toString().split("\\R").length);
+	}
+}